@@ -28,6 +28,8 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.system.health.HealthCheckResult;
 import org.eclipse.edc.spi.system.health.HealthCheckService;
 
+import java.time.Clock;
+
 import static java.util.Optional.ofNullable;
 
 @Extension(value = CatalogCrawlerCoreExtension.NAME)
@@ -48,6 +50,8 @@ public class CatalogCrawlerCoreExtension implements ServiceExtension {
     private TargetNodeFilter nodeFilter;
     @Inject(required = false)
     private HealthCheckService healthCheckService;
+    @Inject
+    private Clock clock;
 
     private CatalogCrawlerManager manager;
 
@@ -63,6 +67,7 @@ public class CatalogCrawlerCoreExtension implements ServiceExtension {
                 .monitor(context.getMonitor().withPrefix(CatalogCrawlerManager.class.getSimpleName()))
                 .configuration(catalogCrawlerConfiguration)
                 .store(store)
+                .clock(clock)
                 .nodeQueryAdapterRegistry(crawlerActionRegistry)
                 .nodeDirectory(directory)
                 .nodeFilterFunction(nodeFilter)
@@ -28,6 +28,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.util.concurrency.LockManager;
 
+import java.time.Clock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
@@ -40,6 +41,8 @@ public class CatalogCrawlerDefaultServicesExtension implements ServiceExtension
 
     @Inject
     private FederatedCatalogCache store;
+    @Inject
+    private Clock clock;
 
     @Override
     public String name() {
@@ -48,7 +51,7 @@ public class CatalogCrawlerDefaultServicesExtension implements ServiceExtension
 
     @Provider(isDefault = true)
     public FederatedCatalogCache defaultCacheStore() {
-        return new InMemoryFederatedCatalogCache(new LockManager(new ReentrantReadWriteLock()), CriterionOperatorRegistryImpl.ofDefaults());
+        return new InMemoryFederatedCatalogCache(new LockManager(new ReentrantReadWriteLock()), CriterionOperatorRegistryImpl.ofDefaults(), clock);
     }
 
     @Provider(isDefault = true)
@@ -27,7 +27,9 @@ import org.eclipse.edc.crawler.spi.model.UpdateResponse;
 import org.eclipse.edc.spi.monitor.Monitor;
 
 import java.net.ConnectException;
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Objects;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -49,6 +51,8 @@ public class CatalogCrawlerManager {
     private CatalogCrawlerConfiguration configuration;
     private FederatedCatalogCache store;
     private ScheduledExecutorService scheduler;
+    private Clock clock = Clock.systemUTC();
+    private Instant previousCycleStart;
 
     private CatalogCrawlerManager() {
         nodeFilter = n -> true;
@@ -90,8 +94,12 @@ public class CatalogCrawlerManager {
     }
 
     private void crawlCatalogs() {
-        store.deleteExpired();
-        store.expireAll();
+        // catalogs that were not saved during the whole previous cycle are gone from their node
+        var cycleStart = clock.instant();
+        if (previousCycleStart != null) {
+            store.deleteNotSeenSince(previousCycleStart);
+        }
+        previousCycleStart = cycleStart;
 
         var workItems = directory.getAll().stream()
                 .filter(nodeFilter) // use all nodes EXCEPT self
@@ -206,6 +214,11 @@ public class CatalogCrawlerManager {
             return this;
         }
 
+        public Builder clock(Clock clock) {
+            instance.clock = clock;
+            return this;
+        }
+
         public CatalogCrawlerManager build() {
             Objects.requireNonNull(instance.configuration, "ExecutionManager.Builder: Configuration cannot be null");
             Objects.requireNonNull(instance.monitor, "ExecutionManager.Builder: Monitor cannot be null");
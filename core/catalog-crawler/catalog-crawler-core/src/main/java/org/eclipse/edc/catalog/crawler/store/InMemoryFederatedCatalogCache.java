@@ -23,6 +23,8 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.store.ReflectionBasedQueryResolver;
 import org.eclipse.edc.util.concurrency.LockManager;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -37,10 +39,16 @@ public class InMemoryFederatedCatalogCache implements FederatedCatalogCache {
     private final Map<String, MarkableEntry<Catalog>> cache = new ConcurrentHashMap<>();
     private final LockManager lockManager;
     private final QueryResolver<Catalog> queryResolver;
+    private final Clock clock;
 
 
     public InMemoryFederatedCatalogCache(LockManager lockManager, CriterionOperatorRegistry criterionOperatorRegistry) {
+        this(lockManager, criterionOperatorRegistry, Clock.systemUTC());
+    }
+
+    public InMemoryFederatedCatalogCache(LockManager lockManager, CriterionOperatorRegistry criterionOperatorRegistry, Clock clock) {
         this.lockManager = lockManager;
+        this.clock = clock;
         queryResolver = new ReflectionBasedQueryResolver<>(Catalog.class, criterionOperatorRegistry);
     }
 
@@ -50,7 +58,7 @@ public class InMemoryFederatedCatalogCache implements FederatedCatalogCache {
             var id = ofNullable(catalog.getProperties().get(CatalogConstants.PROPERTY_ORIGINATOR))
                     .map(Object::toString)
                     .orElse(catalog.getId());
-            return cache.put(id, new MarkableEntry<>(false, catalog));
+            return cache.put(id, new MarkableEntry<>(false, catalog, clock.instant()));
         });
     }
 
@@ -70,22 +78,36 @@ public class InMemoryFederatedCatalogCache implements FederatedCatalogCache {
 
     @Override
     public void expireAll() {
-        cache.replaceAll((k, v) -> new MarkableEntry<>(true, v.getEntry()));
+        cache.replaceAll((k, v) -> new MarkableEntry<>(true, v.getEntry(), v.getLastSeen()));
+    }
+
+    @Override
+    public void deleteNotSeenSince(Instant lastSeen) {
+        lockManager.writeLock(() -> {
+            cache.values().removeIf(entry -> entry.getLastSeen().isBefore(lastSeen));
+            return null;
+        });
     }
 
     private static class MarkableEntry<B> {
         private final B entry;
         private final boolean mark;
+        private final Instant lastSeen;
 
-        MarkableEntry(boolean isMarked, B catalog) {
+        MarkableEntry(boolean isMarked, B catalog, Instant lastSeen) {
             entry = catalog;
             mark = isMarked;
+            this.lastSeen = lastSeen;
         }
 
         public boolean isMarked() {
             return mark;
         }
 
+        public Instant getLastSeen() {
+            return lastSeen;
+        }
+
         public B getEntry() {
             return entry;
         }
@@ -29,6 +29,8 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
 import java.net.ConnectException;
+import java.time.Clock;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletionException;
@@ -42,6 +44,7 @@ import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -58,6 +61,7 @@ class CatalogCrawlerManagerTest {
     private final CrawlerAction queryAdapterMock = mock();
     private final Runnable postExecutionTask = mock();
     private final FederatedCatalogCache store = mock();
+    private final Clock clock = mock();
 
     private CatalogCrawlerManager manager = createManagerBuilder().build();
 
@@ -70,12 +74,21 @@ class CatalogCrawlerManagerTest {
 
         manager.start();
 
-        await().untilAsserted(() -> {
-            verify(store).expireAll();
-            verify(store).deleteExpired();
+        await().untilAsserted(() -> verify(store).save(catalog));
+        verify(store, never()).deleteNotSeenSince(any());
+    }
 
-            verify(store).save(catalog);
-        });
+    @Test
+    void shouldDeleteCatalogsNotSeenSincePreviousCycle() {
+        var firstCycle = Instant.parse("2026-01-01T00:00:00Z");
+        when(clock.instant()).thenReturn(firstCycle, firstCycle.plusSeconds(1));
+        when(nodeDirectoryMock.getAll()).thenReturn(List.of());
+        manager = createManagerBuilder().configuration(new CatalogCrawlerConfiguration(true, 5, 0, 0, 5, 5)).build();
+
+        manager.start();
+
+        await().untilAsserted(() -> verify(store).deleteNotSeenSince(firstCycle));
+        manager.stop();
     }
 
     @Test
@@ -170,6 +183,7 @@ class CatalogCrawlerManagerTest {
                 .nodeDirectory(nodeDirectoryMock)
                 .nodeQueryAdapterRegistry(crawlerActionRegistry)
                 .store(store)
+                .clock(clock)
                 .monitor(monitorMock);
     }
 
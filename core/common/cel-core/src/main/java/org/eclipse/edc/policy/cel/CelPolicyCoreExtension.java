@@ -43,6 +43,7 @@ import org.eclipse.edc.policy.model.Rule;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -84,6 +85,15 @@ public class CelPolicyCoreExtension implements ServiceExtension {
     @Inject
     private Monitor monitor;
 
+    @Setting(description = "Maximum number of compiled CEL programs, and of left operands and actions whose expressions are cached. 0 disables the caches.",
+            defaultValue = CelExpressionEngineImpl.DEFAULT_CACHE_MAX_ENTRIES + "", key = "edc.policy.cel.cache.max-entries")
+    private int cacheMaxEntries;
+
+    @Setting(description = "Time in milliseconds for which the expressions stored for a left operand are cached. Writes made by other runtimes on a shared store " +
+            "are visible after at most this time. 0 disables the cache, compiled programs are cached regardless.",
+            defaultValue = CelExpressionEngineImpl.DEFAULT_EXPRESSIONS_CACHE_TTL + "", key = "edc.policy.cel.cache.expressions.ttl")
+    private long expressionsCacheTtl;
+
     @Override
     public String name() {
         return NAME;
@@ -111,7 +121,8 @@ public class CelPolicyCoreExtension implements ServiceExtension {
     @Provider
     public CelExpressionEngine policyExpressionEngine() {
         if (celExpressionEngine == null) {
-            celExpressionEngine = new CelExpressionEngineImpl(transactionContext, celExpressionStore, monitor, celFunctionRegistry());
+            celExpressionEngine = new CelExpressionEngineImpl(transactionContext, celExpressionStore, monitor, celFunctionRegistry(),
+                    cacheMaxEntries, expressionsCacheTtl);
         }
         return celExpressionEngine;
     }
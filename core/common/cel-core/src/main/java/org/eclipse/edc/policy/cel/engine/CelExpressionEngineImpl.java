@@ -35,20 +35,40 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.util.collection.BoundedCache;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+/**
+ * Default {@link CelExpressionEngine}.
+ * <p>
+ * Compiled programs are cached by expression text, so that the expressions of a policy are parsed, type-checked and
+ * turned into a program only once. The expressions stored for a left operand or an action are cached as well, for
+ * the given time-to-live. Each entry records the version of the cache it was loaded with, and {@link #invalidate()}
+ * bumps that version, so that the writes made through this runtime are visible immediately. Writes made by other
+ * runtimes on a shared store become visible once the entries expire.
+ */
 public class CelExpressionEngineImpl implements CelExpressionEngine {
 
+    public static final int DEFAULT_CACHE_MAX_ENTRIES = 1000;
+    public static final long DEFAULT_EXPRESSIONS_CACHE_TTL = 30_000;
+
     private final TransactionContext ctx;
     private final CelExpressionStore store;
     private final Monitor monitor;
     private final CelFunctionRegistry functionRegistry;
+    private final long expressionsCacheTtl;
+    private final BoundedCache<String, Result<CelRuntime.Program>> programs;
+    private final BoundedCache<String, VersionedExpressions> expressionsByLeftOperand;
+    private final BoundedCache<String, VersionedExpressions> expressionsByAction;
+    private final AtomicLong version = new AtomicLong();
 
     // built lazily on first use: extensions register their custom functions during initialization, which happens
     // after this engine is constructed. Declarations and bindings are derived from a single snapshot of the registry,
@@ -56,10 +76,31 @@ public class CelExpressionEngineImpl implements CelExpressionEngine {
     private volatile CelEnvironment environment;
 
     public CelExpressionEngineImpl(TransactionContext ctx, CelExpressionStore store, Monitor monitor, CelFunctionRegistry functionRegistry) {
+        this(ctx, store, monitor, functionRegistry, DEFAULT_CACHE_MAX_ENTRIES, DEFAULT_EXPRESSIONS_CACHE_TTL);
+    }
+
+    /**
+     * Constructs the engine.
+     *
+     * @param ctx                 the transaction context
+     * @param store               the store of the expressions
+     * @param monitor             the monitor
+     * @param functionRegistry    the registry of the custom functions
+     * @param cacheMaxEntries     the maximum number of compiled programs, and of cached left operands and actions. 0
+     *                            disables the caches.
+     * @param expressionsCacheTtl how long the expressions of a left operand or an action are cached, in milliseconds.
+     *                            0 disables the cache, the compiled programs are cached regardless.
+     */
+    public CelExpressionEngineImpl(TransactionContext ctx, CelExpressionStore store, Monitor monitor, CelFunctionRegistry functionRegistry,
+                                   int cacheMaxEntries, long expressionsCacheTtl) {
         this.ctx = ctx;
         this.store = store;
         this.monitor = monitor;
         this.functionRegistry = functionRegistry;
+        this.expressionsCacheTtl = expressionsCacheTtl;
+        this.programs = new BoundedCache<>(cacheMaxEntries);
+        this.expressionsByLeftOperand = new BoundedCache<>(cacheMaxEntries);
+        this.expressionsByAction = new BoundedCache<>(cacheMaxEntries);
     }
 
     private CelEnvironment environment() {
@@ -90,6 +131,9 @@ public class CelExpressionEngineImpl implements CelExpressionEngine {
     private record CelEnvironment(CelCompiler compiler, CelRuntime runtime) {
     }
 
+    private record VersionedExpressions(long version, List<CelExpression> expressions) {
+    }
+
     @Override
     public ServiceResult<Void> validate(String expression) {
         return compile(expression)
@@ -112,14 +156,15 @@ public class CelExpressionEngineImpl implements CelExpressionEngine {
     @Override
     public ServiceResult<Boolean> test(String expression, Object leftOperand, Operator operator, Object rightOperand, Map<String, Object> params) {
         return compile(expression)
-                .compose(ast -> evaluateAst(ast, leftOperand, operator, rightOperand, params))
+                .compose(this::createProgram)
+                .compose(program -> evaluateProgram(program, leftOperand, operator, rightOperand, params))
                 .flatMap(ServiceResult::from);
 
     }
 
     @Override
     public ServiceResult<Boolean> evaluateExpression(Object leftOperand, Operator operator, Object rightOperand, Map<String, Object> params) {
-        var compileResult = fetchAndCompile(leftOperand.toString());
+        var compileResult = fetchPrograms(leftOperand.toString());
         if (compileResult.failed()) {
             monitor.severe("Failed to compile expressions for left operand: " + leftOperand + ". Reason: " + compileResult.getFailureDetail());
             return ServiceResult.badRequest("Failed to compile expressions for left operand: " + leftOperand + ". Reason: " + compileResult.getFailureDetail());
@@ -130,8 +175,8 @@ public class CelExpressionEngineImpl implements CelExpressionEngine {
             return ServiceResult.badRequest("No expressions registered for left operand: " + leftOperand);
         }
         var result = true;
-        for (var ast : expressions) {
-            var evaluationResult = evaluateAst(ast, leftOperand, operator, rightOperand, params);
+        for (var program : expressions) {
+            var evaluationResult = evaluateProgram(program, leftOperand, operator, rightOperand, params);
 
             if (evaluationResult.failed()) {
                 monitor.severe("Failed to evaluate expression for left operand: " + leftOperand + ". Reason: " + evaluationResult.getFailureDetail());
@@ -145,9 +190,13 @@ public class CelExpressionEngineImpl implements CelExpressionEngine {
         return ServiceResult.success(result);
     }
 
-    private Result<Boolean> evaluateAst(CelAbstractSyntaxTree ast, Object leftOperand, Operator operator, Object rightOperand, Map<String, Object> params) {
+    @Override
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    private Result<Boolean> evaluateProgram(CelRuntime.Program program, Object leftOperand, Operator operator, Object rightOperand, Map<String, Object> params) {
         try {
-            var program = environment().runtime().createProgram(ast);
             Map<String, Object> newParams = new HashMap<>();
             newParams.put("now", ProtoTimeUtils.now());
             newParams.put("this", Map.of("leftOperand", leftOperand, "operator", operator.name(), "rightOperand", rightOperand));
@@ -160,24 +209,56 @@ public class CelExpressionEngineImpl implements CelExpressionEngine {
         }
     }
 
-    private Result<List<CelAbstractSyntaxTree>> fetchAndCompile(String leftOperand) {
+    private Result<List<CelRuntime.Program>> fetchPrograms(String leftOperand) {
         return fetch(leftOperand).stream()
-                .map(expr -> compile(expr.getExpression()))
+                .map(expr -> program(expr.getExpression()))
                 .collect(Result.collector());
     }
 
+    private Result<CelRuntime.Program> program(String expression) {
+        var cached = programs.get(expression);
+        if (cached != null) {
+            return cached;
+        }
+        var program = compile(expression).compose(this::createProgram);
+        programs.put(expression, program);
+        return program;
+    }
+
+    private Result<CelRuntime.Program> createProgram(CelAbstractSyntaxTree ast) {
+        try {
+            return Result.success(environment().runtime().createProgram(ast));
+        } catch (CelEvaluationException e) {
+            return Result.failure("Failed to create program. Reason: " + e.getMessage());
+        }
+    }
+
     private List<CelExpression> fetch(String leftOperand) {
-        return ctx.execute(() -> store.query(QuerySpec.Builder.newInstance()
+        return cached(expressionsByLeftOperand, leftOperand, () -> ctx.execute(() -> store.query(QuerySpec.Builder.newInstance()
                 .filter(Criterion.criterion("leftOperand", "=", leftOperand))
-                .build()));
+                .build())));
 
     }
 
     private List<CelExpression> fetchByAction(String action) {
-        return ctx.execute(() -> store.query(QuerySpec.Builder.newInstance()
+        return cached(expressionsByAction, action, () -> ctx.execute(() -> store.query(QuerySpec.Builder.newInstance()
                 .filter(Criterion.criterion("actions", "contains", action))
-                .build()));
+                .build())));
+
+    }
 
+    private List<CelExpression> cached(BoundedCache<String, VersionedExpressions> cache, String key, Supplier<List<CelExpression>> loader) {
+        // the version is read before loading, so that an entry loaded concurrently with a write is never considered current
+        var currentVersion = version.get();
+        var cached = cache.get(key);
+        if (cached != null && cached.version() == currentVersion) {
+            return cached.expressions();
+        }
+        var expressions = loader.get();
+        if (expressionsCacheTtl > 0) {
+            cache.put(key, new VersionedExpressions(currentVersion, List.copyOf(expressions)), expressionsCacheTtl);
+        }
+        return expressions;
     }
 
     private Result<CelAbstractSyntaxTree> compile(String expression) {
@@ -43,6 +43,8 @@ import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class CelExpressionEngineImplTest {
@@ -83,6 +85,41 @@ public class CelExpressionEngineImplTest {
         assertThat(result).isSucceeded();
     }
 
+    @Test
+    void evaluateExpression_shouldCacheExpressions() {
+        when(store.query(any())).thenReturn(List.of(expression("ctx.agent.id == 'agent-123'")));
+        Map<String, Object> claims = Map.of("agent", Map.of("id", "agent-123"));
+
+        assertThat(registry.evaluateExpression("test", Operator.EQ, "null", claims)).isSucceeded().isEqualTo(true);
+        assertThat(registry.evaluateExpression("test", Operator.EQ, "null", claims)).isSucceeded().isEqualTo(true);
+
+        verify(store, times(1)).query(any());
+    }
+
+    @Test
+    void evaluateExpression_shouldReloadExpressions_whenInvalidated() {
+        when(store.query(any())).thenReturn(List.of(expression("ctx.agent.id == 'agent-123'")), List.of(expression("ctx.agent.id == 'other'")));
+        Map<String, Object> claims = Map.of("agent", Map.of("id", "agent-123"));
+        registry.evaluateExpression("test", Operator.EQ, "null", claims);
+
+        registry.invalidate();
+
+        assertThat(registry.evaluateExpression("test", Operator.EQ, "null", claims)).isSucceeded().isEqualTo(false);
+        verify(store, times(2)).query(any());
+    }
+
+    @Test
+    void evaluateExpression_shouldNotCacheExpressions_whenTtlIsZero() {
+        var engine = new CelExpressionEngineImpl(transactionContext, store, mock(), functionRegistry, 100, 0);
+        when(store.query(any())).thenReturn(List.of(expression("ctx.agent.id == 'agent-123'")));
+        Map<String, Object> claims = Map.of("agent", Map.of("id", "agent-123"));
+
+        engine.evaluateExpression("test", Operator.EQ, "null", claims);
+        engine.evaluateExpression("test", Operator.EQ, "null", claims);
+
+        verify(store, times(2)).query(any());
+    }
+
     @Test
     void evaluateExpression_credential() {
 
@@ -28,4 +28,7 @@ public interface ManagementApi {
     String MANAGEMENT_SCOPE_V4 = MANAGEMENT_SCOPE + ":" + MANAGEMENT_API_V_4;
     String MANAGEMENT_SCOPE_V5 = MANAGEMENT_SCOPE + ":" + MANAGEMENT_API_V_5;
 
+    // Response header carrying the continuation token of the next page of a sorted query
+    String CONTINUATION_TOKEN_HEADER = "Edc-Continuation-Token";
+
 }
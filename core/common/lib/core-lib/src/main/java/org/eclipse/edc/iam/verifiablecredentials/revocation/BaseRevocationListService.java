@@ -24,17 +24,20 @@ import org.eclipse.edc.iam.did.spi.resolution.DidPublicKeyResolver;
 import org.eclipse.edc.iam.verifiablecredentials.spi.RevocationListService;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialStatus;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.BitString;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.result.AbstractResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.token.spi.TokenValidationService;
-import org.eclipse.edc.util.collection.Cache;
+import org.eclipse.edc.util.collection.LoadingCache;
 
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -43,12 +46,17 @@ import java.util.stream.Collectors;
  * <p>
  * To achieve that, the {@link VerifiableCredential#getCredentialStatus()} object is inspected and checked against the status list credential referenced therein.
  * <p>
- * To limit traffic on the actual StatusList credential, it is cached in a thread-safe {@link Map}, and only re-downloaded if the cache is expired.
+ * To limit traffic on the actual StatusList credential, it is cached in a {@link LoadingCache}, and only re-downloaded if the cache is expired.
+ * Downloads are single-flight per status list URL, so an expired status list does not block the checks against other ones, and
+ * an expired status list keeps being used during the grace period while it gets downloaded again in the background, on the
+ * given refresh executor.
  * <p>
  * Currently, StatusList2021 and BitStringStatusList are supported.
  */
 public abstract class BaseRevocationListService<C extends VerifiableCredential, S> implements RevocationListService {
-    private final Cache<String, C> statusListCredentialCache;
+    public static final int DEFAULT_CACHE_MAX_ENTRIES = 1000;
+
+    private final LoadingCache<String, StatusList<C>> statusListCache;
     private final Collection<String> acceptedContentTypes;
     private final EdcHttpClient httpClient;
     private final Class<C> credentialClass;
@@ -59,10 +67,23 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
     protected BaseRevocationListService(ObjectMapper mapper, long cacheValidity, Collection<String> acceptedContentTypes,
                                         EdcHttpClient httpClient, TokenValidationService tokenValidationService,
                                         DidPublicKeyResolver didPublicKeyResolver, Class<C> credentialClass) {
+        this(mapper, cacheValidity, 0, DEFAULT_CACHE_MAX_ENTRIES, null, acceptedContentTypes, httpClient, tokenValidationService,
+                didPublicKeyResolver, credentialClass);
+    }
+
+    protected BaseRevocationListService(ObjectMapper mapper, long cacheValidity, long cacheGracePeriod, int cacheMaxEntries,
+                                        Executor refreshExecutor, Collection<String> acceptedContentTypes, EdcHttpClient httpClient,
+                                        TokenValidationService tokenValidationService, DidPublicKeyResolver didPublicKeyResolver,
+                                        Class<C> credentialClass) {
         this.objectMapper = mapper.copy()
                                     .enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY) // technically, credential subjects and credential status can be objects AND Arrays
                                     .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES); // let's make sure this is disabled, because the "@context" would cause problems
-        statusListCredentialCache = new Cache<>(this::downloadStatusListCredential, cacheValidity);
+        statusListCache = LoadingCache.Builder.<String, StatusList<C>>newInstance(this::downloadStatusList)
+                .validity(cacheValidity)
+                .gracePeriod(cacheGracePeriod)
+                .maxEntries(cacheMaxEntries)
+                .executor(refreshExecutor)
+                .build();
         this.acceptedContentTypes = acceptedContentTypes;
         this.httpClient = httpClient;
         this.tokenValidationService = tokenValidationService;
@@ -72,14 +93,17 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
 
     @Override
     public Result<Void> checkValidity(CredentialStatus credential) {
-        var credentialStatus = getCredentialStatus(credential);
-        var credentialIndex = getStatusIndex(credentialStatus);
-        return preliminaryChecks(credentialStatus)
-                       .compose(v -> validateStatusPurpose(credentialStatus))
-                       .compose(v -> getStatusEntryValue(credentialStatus))
-                       .compose(status -> status != null ?
-                                                  Result.failure("Credential status is '%s', status at index %d is '1'".formatted(status, credentialIndex)) :
-                                                  Result.success());
+        return checkValidity(credential, new HashMap<>());
+    }
+
+    @Override
+    public Result<Void> checkValidity(Collection<CredentialStatus> credentialStatuses) {
+        // every status list gets looked up once, then all the indices are checked against the same decoded bitstring
+        var statusLists = new HashMap<String, Result<StatusList<C>>>();
+        return credentialStatuses.stream()
+                       .map(credentialStatus -> checkValidity(credentialStatus, statusLists))
+                       .reduce(Result::merge)
+                       .orElse(Result.success());
     }
 
     @Override
@@ -88,9 +112,11 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
             return Result.success(null);
         }
 
+        var statusLists = new HashMap<String, Result<StatusList<C>>>();
         var res = credential.getCredentialStatus().stream()
                           .map(this::getCredentialStatus)
-                          .map(this::getStatusEntryValue)
+                          .map(credentialStatus -> getStatusList(credentialStatus, statusLists)
+                                                           .compose(statusList -> getStatusEntryValue(credentialStatus, statusList)))
                           .collect(Collectors.groupingBy(AbstractResult::succeeded));
 
         if (res.containsKey(false)) { //if any failed
@@ -104,6 +130,15 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
         return list.isEmpty() ? Result.success(null) : Result.success(String.join(", ", list));
     }
 
+    /**
+     * Statistics of the status list credential cache.
+     *
+     * @return the cache statistics.
+     */
+    public LoadingCache.Stats getCacheStats() {
+        return statusListCache.stats();
+    }
+
     /**
      * Hook to perform some preliminary checks before the actual status list validation is performed. Use this method to
      * perform length checks, shape validation, etc.
@@ -123,13 +158,26 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
      * @throws EdcException if it could not be downloaded
      */
     protected Result<C> getCredential(String credentialUrl) {
+        return getStatusList(credentialUrl).map(StatusList::credential);
+    }
+
+    /**
+     * Gets a statuslist credential together with its decoded bitstring from the cache, or if it's not there yet,
+     * downloads and decodes it.
+     *
+     * @param credentialUrl the URL from where to download the cred
+     * @return the status list
+     * @throws EdcException if it could not be downloaded
+     */
+    protected Result<StatusList<C>> getStatusList(String credentialUrl) {
         try {
-            var credential = statusListCredentialCache.get(credentialUrl);
+            var statusList = statusListCache.get(credentialUrl);
             // credential is cached, but expired -> download again
-            if (credential != null && credential.getExpirationDate() != null && credential.getExpirationDate().isBefore(Instant.now())) {
-                statusListCredentialCache.evict(credentialUrl);
+            if (statusList != null && statusList.isExpired()) {
+                statusListCache.evict(credentialUrl);
+                statusList = statusListCache.get(credentialUrl);
             }
-            return Result.success(statusListCredentialCache.get(credentialUrl));
+            return Result.success(statusList);
         } catch (IllegalArgumentException ex) {
             return Result.failure(ex.getMessage());
         }
@@ -140,15 +188,33 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
      * So, a successful result with a non-null content indicates, that the respective credentialStatus is set.
      *
      * @param credentialStatus the credentialStatus object of the VC (not the StatusList credential!)
+     * @param statusList       the status list referenced by the credentialStatus, with its decoded bitstring
      */
-    protected abstract Result<String> getStatusEntryValue(S credentialStatus);
+    protected abstract Result<String> getStatusEntryValue(S credentialStatus, StatusList<C> statusList);
 
     /**
      * Validates, that the statusPurpose of the credentialStatus is equal to the one found in the StatusList Credential
      *
+     * @param credentialStatus     the credentialStatus object of the VC (not the StatusList credential!)
+     * @param statusListCredential the status list credential referenced by the credentialStatus
+     */
+    protected abstract Result<Void> validateStatusPurpose(S credentialStatus, C statusListCredential);
+
+    /**
+     * Gets the URL of the status list credential referenced by the VC's credentialStatus object.
+     *
      * @param credentialStatus the credentialStatus object of the VC (not the StatusList credential!)
+     * @return the status list credential URL
      */
-    protected abstract Result<Void> validateStatusPurpose(S credentialStatus);
+    protected abstract String getStatusListCredentialUrl(S credentialStatus);
+
+    /**
+     * Gets the encoded bitstring of the status list credential.
+     *
+     * @param statusListCredential the status list credential
+     * @return the encoded bitstring
+     */
+    protected abstract String getEncodedList(C statusListCredential);
 
     /**
      * Gets the {@code statusIndex} entry of the VC's credentialStatus object.
@@ -168,6 +234,30 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
      */
     protected abstract S getCredentialStatus(CredentialStatus credentialStatus);
 
+    private Result<Void> checkValidity(CredentialStatus credential, Map<String, Result<StatusList<C>>> statusLists) {
+        var credentialStatus = getCredentialStatus(credential);
+        var credentialIndex = getStatusIndex(credentialStatus);
+        return preliminaryChecks(credentialStatus)
+                       .compose(v -> getStatusList(credentialStatus, statusLists))
+                       .compose(statusList -> validateStatusPurpose(credentialStatus, statusList.credential())
+                                                      .compose(v -> getStatusEntryValue(credentialStatus, statusList)))
+                       .compose(status -> status != null ?
+                                                  Result.failure("Credential status is '%s', status at index %d is '1'".formatted(status, credentialIndex)) :
+                                                  Result.success());
+    }
+
+    private Result<StatusList<C>> getStatusList(S credentialStatus, Map<String, Result<StatusList<C>>> statusLists) {
+        return statusLists.computeIfAbsent(getStatusListCredentialUrl(credentialStatus), this::getStatusList);
+    }
+
+    private StatusList<C> downloadStatusList(String credentialUrl) {
+        var credential = downloadStatusListCredential(credentialUrl);
+        if (credential == null) {
+            return null;
+        }
+        return new StatusList<>(credential, BitString.Parser.newInstance().parse(getEncodedList(credential)));
+    }
+
     private C downloadStatusListCredential(String credentialUrl) {
         var acceptHeader = String.join(",", acceptedContentTypes);
         var request = new Request.Builder()
@@ -198,4 +288,17 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
         var vc = result.getContent().getClaim("vc");
         return objectMapper.convertValue(vc, credentialClass);
     }
+
+    /**
+     * A status list credential together with its decoded bitstring, which is decoded once per download.
+     *
+     * @param credential the status list credential
+     * @param bitString  the decoded bitstring of the credential, or the failure of decoding it
+     */
+    protected record StatusList<T extends VerifiableCredential>(T credential, Result<BitString> bitString) {
+
+        boolean isExpired() {
+            return credential.getExpirationDate() != null && credential.getExpirationDate().isBefore(Instant.now());
+        }
+    }
 }
@@ -19,7 +19,6 @@ import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.iam.did.spi.resolution.DidPublicKeyResolver;
 import org.eclipse.edc.iam.verifiablecredentials.revocation.BaseRevocationListService;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialStatus;
-import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.BitString;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.bitstringstatuslist.BitstringStatusListCredential;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.bitstringstatuslist.BitstringStatusListStatus;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.bitstringstatuslist.StatusMessage;
@@ -27,6 +26,7 @@ import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.token.spi.TokenValidationService;
 
 import java.util.Collection;
+import java.util.concurrent.Executor;
 
 import static org.eclipse.edc.spi.result.Result.success;
 
@@ -42,6 +42,13 @@ public class BitstringStatusListRevocationService extends BaseRevocationListServ
         super(mapper, cacheValidity, acceptedContentTypes, httpClient, tokenValidationService, didPublicKeyResolver, BitstringStatusListCredential.class);
     }
 
+    public BitstringStatusListRevocationService(ObjectMapper mapper, long cacheValidity, long cacheGracePeriod, int cacheMaxEntries,
+                                                Executor refreshExecutor, Collection<String> acceptedContentTypes, EdcHttpClient httpClient,
+                                                TokenValidationService tokenValidationService, DidPublicKeyResolver didPublicKeyResolver) {
+        super(mapper, cacheValidity, cacheGracePeriod, cacheMaxEntries, refreshExecutor, acceptedContentTypes, httpClient,
+                tokenValidationService, didPublicKeyResolver, BitstringStatusListCredential.class);
+    }
+
     @Override
     protected Result<Void> preliminaryChecks(BitstringStatusListStatus credentialStatus) {
         var statusSize = credentialStatus.getStatusSize();
@@ -52,20 +59,12 @@ public class BitstringStatusListRevocationService extends BaseRevocationListServ
     }
 
     @Override
-    protected Result<String> getStatusEntryValue(BitstringStatusListStatus credentialStatus) {
-        var bitStringCredentialResult = getCredential(credentialStatus.getStatusListCredential());
-        if (bitStringCredentialResult.failed()) {
-            return bitStringCredentialResult.mapEmpty();
+    protected Result<String> getStatusEntryValue(BitstringStatusListStatus credentialStatus, StatusList<BitstringStatusListCredential> statusList) {
+        var bitstringResult = statusList.bitString();
+        if (bitstringResult.failed()) {
+            return bitstringResult.mapEmpty();
         }
-        var bitStringCredential = bitStringCredentialResult.getContent();
-
-        var bitString = bitStringCredential.encodedList();
-
-        var compressedBitstring = BitString.Parser.newInstance().parse(bitString);
-        if (compressedBitstring.failed()) {
-            return compressedBitstring.mapEmpty();
-        }
-        var bitstring = compressedBitstring.getContent();
+        var bitstring = bitstringResult.getContent();
 
         var statusFlag = bitstring.get(credentialStatus.getStatusListIndex());
 
@@ -85,15 +84,9 @@ public class BitstringStatusListRevocationService extends BaseRevocationListServ
     }
 
     @Override
-    protected Result<Void> validateStatusPurpose(BitstringStatusListStatus credentialStatus) {
+    protected Result<Void> validateStatusPurpose(BitstringStatusListStatus credentialStatus, BitstringStatusListCredential statusListCredential) {
         var statusPurpose = credentialStatus.getStatusListPurpose();
-
-        var credentialUrl = credentialStatus.getStatusListCredential();
-        var statusListCredential = getCredential(credentialUrl);
-        if (statusListCredential.failed()) {
-            return statusListCredential.mapEmpty();
-        }
-        var credentialStatusPurpose = statusListCredential.getContent().statusPurpose();
+        var credentialStatusPurpose = statusListCredential.statusPurpose();
 
         if (!statusPurpose.equalsIgnoreCase(credentialStatusPurpose)) {
             return Result.failure("Credential's statusPurpose value must match the statusPurpose of the Bitstring Credential: '%s' != '%s'".formatted(statusPurpose, credentialStatusPurpose));
@@ -102,6 +95,16 @@ public class BitstringStatusListRevocationService extends BaseRevocationListServ
         return success();
     }
 
+    @Override
+    protected String getStatusListCredentialUrl(BitstringStatusListStatus credentialStatus) {
+        return credentialStatus.getStatusListCredential();
+    }
+
+    @Override
+    protected String getEncodedList(BitstringStatusListCredential statusListCredential) {
+        return statusListCredential.encodedList();
+    }
+
     @Override
     protected int getStatusIndex(BitstringStatusListStatus credentialStatus) {
         return credentialStatus.getStatusListIndex();
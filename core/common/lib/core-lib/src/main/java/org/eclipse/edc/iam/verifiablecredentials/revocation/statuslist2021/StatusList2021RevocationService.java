@@ -19,13 +19,13 @@ import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.iam.did.spi.resolution.DidPublicKeyResolver;
 import org.eclipse.edc.iam.verifiablecredentials.revocation.BaseRevocationListService;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialStatus;
-import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.BitString;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.statuslist2021.StatusList2021Credential;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.statuslist2021.StatusList2021Status;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.token.spi.TokenValidationService;
 
 import java.util.Collection;
+import java.util.concurrent.Executor;
 
 import static org.eclipse.edc.spi.result.Result.success;
 
@@ -42,21 +42,22 @@ public class StatusList2021RevocationService extends BaseRevocationListService<S
         super(objectMapper, cacheValidity, acceptedContentTypes, httpClient, tokenValidationService, didPublicKeyResolver, StatusList2021Credential.class);
     }
 
+    public StatusList2021RevocationService(ObjectMapper objectMapper, long cacheValidity, long cacheGracePeriod, int cacheMaxEntries,
+                                           Executor refreshExecutor, Collection<String> acceptedContentTypes, EdcHttpClient httpClient,
+                                           TokenValidationService tokenValidationService, DidPublicKeyResolver didPublicKeyResolver) {
+        super(objectMapper, cacheValidity, cacheGracePeriod, cacheMaxEntries, refreshExecutor, acceptedContentTypes, httpClient,
+                tokenValidationService, didPublicKeyResolver, StatusList2021Credential.class);
+    }
+
     @Override
     protected StatusList2021Status getCredentialStatus(CredentialStatus credentialStatus) {
         return StatusList2021Status.from(credentialStatus);
     }
 
     @Override
-    protected Result<String> getStatusEntryValue(StatusList2021Status credentialStatus) {
+    protected Result<String> getStatusEntryValue(StatusList2021Status credentialStatus, StatusList<StatusList2021Credential> statusList) {
         var index = credentialStatus.getStatusListIndex();
-        var slCredUrl = credentialStatus.getStatusListCredential();
-        var credential = getCredential(slCredUrl);
-        if (credential.failed()) {
-            return credential.mapEmpty();
-        }
-
-        var bitStringResult = BitString.Parser.newInstance().parse(credential.getContent().encodedList());
+        var bitStringResult = statusList.bitString();
 
         if (bitStringResult.failed()) {
             return bitStringResult.mapEmpty();
@@ -71,15 +72,10 @@ public class StatusList2021RevocationService extends BaseRevocationListService<S
     }
 
     @Override
-    protected Result<Void> validateStatusPurpose(StatusList2021Status credentialStatus) {
-        var slCred = getCredential(credentialStatus.getStatusListCredential());
-        if (slCred.failed()) {
-            return slCred.mapEmpty();
-        }
-
+    protected Result<Void> validateStatusPurpose(StatusList2021Status credentialStatus, StatusList2021Credential statusListCredential) {
         // check that the "statusPurpose" values match
         var purpose = credentialStatus.getStatusListPurpose();
-        var slCredPurpose = slCred.getContent().statusPurpose();
+        var slCredPurpose = statusListCredential.statusPurpose();
         if (!purpose.equalsIgnoreCase(slCredPurpose)) {
             return Result.failure("Credential's statusPurpose value must match the status list's purpose: '%s' != '%s'".formatted(purpose, slCredPurpose));
         }
@@ -87,6 +83,16 @@ public class StatusList2021RevocationService extends BaseRevocationListService<S
         return success();
     }
 
+    @Override
+    protected String getStatusListCredentialUrl(StatusList2021Status credentialStatus) {
+        return credentialStatus.getStatusListCredential();
+    }
+
+    @Override
+    protected String getEncodedList(StatusList2021Credential statusListCredential) {
+        return statusListCredential.encodedList();
+    }
+
     @Override
     protected int getStatusIndex(StatusList2021Status credentialStatus) {
         return credentialStatus.getStatusListIndex();
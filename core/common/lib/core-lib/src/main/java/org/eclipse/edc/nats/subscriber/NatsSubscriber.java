@@ -25,7 +25,10 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -33,6 +36,15 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import static org.eclipse.edc.nats.NatsFunctions.createConsumer;
 import static org.eclipse.edc.nats.NatsFunctions.createStream;
 
+/**
+ * Pulls messages from a JetStream durable consumer and dispatches them to {@link #handleMessage(Message)}.
+ * <p>
+ * With a concurrency greater than 1, the messages of a fetched batch are distributed over a fixed number of lanes,
+ * each one backed by a single thread, by hashing their {@link #orderingKey(Message)}: messages with the same key are
+ * always handled in order on the same lane, while messages with different keys are handled concurrently. The next
+ * batch is fetched once the current one has been handled, so the number of in-flight messages is bounded by the
+ * batch size.
+ */
 public abstract class NatsSubscriber {
 
     private final AtomicBoolean active = new AtomicBoolean(false);
@@ -46,6 +58,8 @@ public abstract class NatsSubscriber {
     protected boolean autoCreateConsumer = false;
     protected Integer batchSize = 100;
     protected Integer maxWait = 100;
+    protected int concurrency = 1;
+    protected List<ExecutorService> lanes = List.of();
     // externally contributed connect options (e.g. NKey authentication); the server URL is overwritten
     protected Options authenticationOptions;
     private Connection connection;
@@ -113,34 +127,62 @@ public abstract class NatsSubscriber {
 
     protected abstract StatusResult<Void> handleMessage(Message message);
 
+    /**
+     * Returns the key used to keep messages in order when they are handled concurrently: messages with the same key
+     * are never handled at the same time. Defaults to the message subject.
+     *
+     * @param message the message.
+     * @return the ordering key.
+     */
+    protected String orderingKey(Message message) {
+        return message.getSubject();
+    }
+
     private void run(JetStreamSubscription sub) {
         while (active.get()) {
             var messages = sub.fetch(batchSize, maxWait);
-            for (var message : messages) {
-                try {
-                    var result = handleMessage(message);
-                    if (result.failed()) {
-                        if (result.fatalError()) {
-                            monitor.severe("Failed to handle Nats message, received a fatal error: " + result.getFailureMessages());
-                            message.term();
-                        } else {
-                            monitor.warning("Failed to handle Nats message: " + result.getFailureMessages());
-                            message.nak();
-                        }
-                        continue;
-                    }
-                    message.ack();
-                } catch (Exception e) {
-                    monitor.severe("Failed to process transfer message: " + e.getMessage(), e);
+            if (lanes.isEmpty()) {
+                messages.forEach(this::process);
+            } else {
+                var futures = messages.stream()
+                        .map(message -> CompletableFuture.runAsync(() -> process(message), laneFor(message)))
+                        .toArray(CompletableFuture[]::new);
+                CompletableFuture.allOf(futures).join();
+            }
+        }
+    }
+
+    private ExecutorService laneFor(Message message) {
+        var key = orderingKey(message);
+        var index = key == null ? 0 : Math.floorMod(key.hashCode(), lanes.size());
+        return lanes.get(index);
+    }
+
+    // acks, naks and terms are not waiting for the server confirmation, so they don't block the lane
+    private void process(Message message) {
+        try {
+            var result = handleMessage(message);
+            if (result.failed()) {
+                if (result.fatalError()) {
+                    monitor.severe("Failed to handle Nats message, received a fatal error: " + result.getFailureMessages());
+                    message.term();
+                } else {
+                    monitor.warning("Failed to handle Nats message: " + result.getFailureMessages());
                     message.nak();
                 }
+                return;
             }
+            message.ack();
+        } catch (Exception e) {
+            monitor.severe("Failed to process transfer message: " + e.getMessage(), e);
+            message.nak();
         }
     }
 
     public void stop() {
         active.set(false);
         executorService.shutdown();
+        lanes.forEach(ExecutorService::shutdown);
         try {
             if (connection != null) {
                 connection.close();
@@ -211,6 +253,18 @@ public abstract class NatsSubscriber {
             return self();
         }
 
+        /**
+         * Sets how many messages can be handled concurrently. With the default value of 1 messages are handled
+         * sequentially on the fetching thread.
+         *
+         * @param concurrency the number of lanes.
+         * @return the builder.
+         */
+        public B concurrency(int concurrency) {
+            subscriber.concurrency = concurrency;
+            return self();
+        }
+
         public B authenticationOptions(Options authenticationOptions) {
             subscriber.authenticationOptions = authenticationOptions;
             return self();
@@ -224,15 +278,30 @@ public abstract class NatsSubscriber {
             Objects.requireNonNull(subscriber.subject, "subject");
             Objects.requireNonNull(executorInstrumentation, "executorInstrumentation");
             Objects.requireNonNull(subscriber.monitor, "monitor");
+            if (subscriber.concurrency < 1) {
+                throw new IllegalArgumentException("concurrency must be greater than 0, got " + subscriber.concurrency);
+            }
 
             var name = "NatsSubscriber-" + subscriber.name;
-            subscriber.executorService = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(r -> {
+            subscriber.executorService = singleThreadExecutor(name);
+
+            if (subscriber.concurrency > 1) {
+                var lanes = new ArrayList<ExecutorService>();
+                for (var i = 0; i < subscriber.concurrency; i++) {
+                    lanes.add(singleThreadExecutor(name + "-lane-" + i));
+                }
+                subscriber.lanes = List.copyOf(lanes);
+            }
+
+            return subscriber;
+        }
+
+        private ExecutorService singleThreadExecutor(String name) {
+            return executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(r -> {
                 var thread = Executors.defaultThreadFactory().newThread(r);
                 thread.setName(name);
                 return thread;
             }), name);
-
-            return subscriber;
         }
     }
 }
@@ -26,6 +26,10 @@ import java.util.function.Supplier;
 
 import static java.lang.String.format;
 
+/**
+ * Publishes created tasks to JetStream. When a {@link NatsTaskRelay} is configured, tasks are handed over to it and
+ * published after their transaction commits, otherwise they are published synchronously on creation.
+ */
 public class NatsTaskPublisher implements TaskListener {
 
     private final String subjectPrefix;
@@ -33,14 +37,20 @@ public class NatsTaskPublisher implements TaskListener {
     private final JetStream js;
     private final Monitor monitor;
     private final Supplier<ObjectMapper> objectMapper;
+    private final NatsTaskRelay relay;
 
 
     public NatsTaskPublisher(String subjectPrefix, Class<? extends ProcessTaskPayload> target, JetStream js, Monitor monitor, Supplier<ObjectMapper> objectMapper) {
+        this(subjectPrefix, target, js, monitor, objectMapper, null);
+    }
+
+    public NatsTaskPublisher(String subjectPrefix, Class<? extends ProcessTaskPayload> target, JetStream js, Monitor monitor, Supplier<ObjectMapper> objectMapper, NatsTaskRelay relay) {
         this.subjectPrefix = subjectPrefix;
         this.target = target;
         this.js = js;
         this.monitor = monitor;
         this.objectMapper = objectMapper;
+        this.relay = relay;
     }
 
 
@@ -53,7 +63,12 @@ public class NatsTaskPublisher implements TaskListener {
         try {
             if (target.isAssignableFrom(task.getPayload().getClass())) {
                 var message = objectMapper.get().writeValueAsString(task);
-                js.publish(formatSubject((ProcessTaskPayload) task.getPayload()), message.getBytes());
+                var subject = formatSubject((ProcessTaskPayload) task.getPayload());
+                if (relay != null) {
+                    relay.enqueue(subject, task, message.getBytes());
+                } else {
+                    js.publish(subject, message.getBytes());
+                }
             }
         } catch (Exception e) {
             monitor.severe("Failed to publish task created event for task id " + task.getId(), e);
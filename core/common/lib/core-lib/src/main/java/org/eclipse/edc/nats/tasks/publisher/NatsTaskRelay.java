@@ -0,0 +1,421 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.nats.tasks.publisher;
+
+import io.nats.client.JetStream;
+import io.nats.client.api.PublishAck;
+import io.nats.client.impl.Headers;
+import io.nats.client.impl.NatsMessage;
+import org.eclipse.edc.controlplane.tasks.ProcessTaskPayload;
+import org.eclipse.edc.controlplane.tasks.Task;
+import org.eclipse.edc.controlplane.tasks.TaskListener;
+import org.eclipse.edc.controlplane.tasks.store.TaskStore;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Publishes tasks to JetStream out of the transaction that created them, using the {@link TaskStore} as outbox.
+ * <p>
+ * Tasks are enqueued when created and relayed in batches by a dedicated thread: a task gets published only once it
+ * is visible in the store, so only tasks whose transaction committed reach the subscribers, and tasks that are not
+ * visible within the visibility timeout (usually rolled back) are removed from the queue. Messages of a batch are published with
+ * {@code publishAsync} and their acknowledgements are awaited together; the task id is set as {@code Nats-Msg-Id}
+ * header, so a message that gets published again after a failure is deduplicated by the server.
+ * Tasks are relayed in creation order: at most one task per process is published in a batch, and a task that needs
+ * to wait holds back the following tasks of the same process. A task that is not visible yet or whose publication
+ * failed is retried with an exponential backoff.
+ * <p>
+ * Once acknowledged, a task is marked as published in the store. As enqueued tasks only live in memory, a recovery
+ * sweep runs at start and then periodically: the tasks of the configured group that are still unpublished after the
+ * visibility timeout (lost on a restart, committed after the timeout, or not marked after a failure) are handed to
+ * the recovery listener, which enqueues them again. The timeout should stay below the duplicate window of the stream,
+ * so that a task published concurrently by another runtime is deduplicated. A task published but not marked before
+ * that window elapsed may be delivered twice.
+ */
+public class NatsTaskRelay {
+
+    public static final String MESSAGE_ID_HEADER = "Nats-Msg-Id";
+
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+    private final Deque<Entry> deferred = new ArrayDeque<>();
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean active = new AtomicBoolean(false);
+    private JetStream js;
+    private TaskStore taskStore;
+    private TransactionContext transactionContext;
+    private Monitor monitor;
+    private Clock clock = Clock.systemUTC();
+    private ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
+    private ExecutorService executorService;
+    private String name = "NatsTaskRelay";
+    private int batchSize = 100;
+    private long flushIntervalMillis = 10;
+    private long visibilityTimeoutMillis = 30_000;
+    private long ackTimeoutMillis = 5_000;
+    private long retryBackoffMillis = 50;
+    private long maxRetryBackoffMillis = 5_000;
+    private String group;
+    private long recoveryIntervalMillis = 60_000;
+    private TaskListener recoveryListener;
+    private long nextRecoveryAt;
+
+    private NatsTaskRelay() {
+    }
+
+    /**
+     * Enqueues a task to be published on the given subject. It does not block on the broker.
+     *
+     * @param subject the subject.
+     * @param task the task.
+     * @param data the serialized task.
+     */
+    public void enqueue(String subject, Task task, byte[] data) {
+        pending.add(task.getId());
+        queue.add(new Entry(subject, task, data, 0, 0));
+    }
+
+    /**
+     * Sets the listener the unpublished tasks found by the recovery sweep are handed to, usually the publisher that
+     * enqueues tasks on this relay. Without it, or without a group, no recovery takes place.
+     *
+     * @param recoveryListener the listener.
+     */
+    public void recoverWith(TaskListener recoveryListener) {
+        this.recoveryListener = recoveryListener;
+    }
+
+    public void start() {
+        active.set(true);
+        executorService = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName(name);
+            return thread;
+        }), name);
+        executorService.submit(this::run);
+    }
+
+    /**
+     * Stops the relay, flushing the tasks that are already enqueued.
+     */
+    public void stop() {
+        active.set(false);
+        if (executorService == null) {
+            return;
+        }
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(ackTimeoutMillis + 1_000, MILLISECONDS)) {
+                executorService.shutdownNow();
+                monitor.warning("NatsTaskRelay [%s] stopped with %d tasks not published".formatted(name, queue.size() + deferred.size()));
+            }
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (active.get()) {
+            if (clock.millis() >= nextRecoveryAt) {
+                recover();
+            }
+            relayNextBatch();
+        }
+        while (!queue.isEmpty()) {
+            relayNextBatch();
+        }
+    }
+
+    private void relayNextBatch() {
+        var batch = new ArrayList<>(deferred);
+        deferred.clear();
+        try {
+            var next = queue.poll(flushIntervalMillis, MILLISECONDS);
+            if (next != null) {
+                batch.add(next);
+                queue.drainTo(batch, Math.max(0, batchSize - batch.size()));
+            }
+        } catch (InterruptedException e) {
+            deferred.addAll(batch);
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            relay(batch);
+        } catch (Exception e) {
+            monitor.severe("NatsTaskRelay [%s] failed to relay %d tasks, will retry".formatted(name, batch.size()), e);
+            var now = clock.millis();
+            batch.forEach(entry -> deferred.add(entry.nextAttemptAt() > now ? entry : retryLater(entry, now)));
+        }
+    }
+
+    private void recover() {
+        nextRecoveryAt = clock.millis() + recoveryIntervalMillis;
+        if (recoveryListener == null || group == null) {
+            return;
+        }
+        try {
+            var query = QuerySpec.Builder.newInstance()
+                    .filter(criterion("group", "=", group))
+                    .filter(criterion("published", "=", false))
+                    .filter(criterion("at", "<", clock.millis() - visibilityTimeoutMillis))
+                    .sortField("at")
+                    .limit(batchSize)
+                    .build();
+            var unpublished = transactionContext.execute(() -> taskStore.fetchForUpdate(query)).stream()
+                    .filter(task -> !pending.contains(task.getId()))
+                    .toList();
+            if (unpublished.isEmpty()) {
+                return;
+            }
+            monitor.info("NatsTaskRelay [%s] recovering %d unpublished tasks".formatted(name, unpublished.size()));
+            unpublished.forEach(recoveryListener::created);
+            if (unpublished.size() == batchSize) {
+                nextRecoveryAt = clock.millis();
+            }
+        } catch (Exception e) {
+            monitor.severe("NatsTaskRelay [%s] failed to recover unpublished tasks".formatted(name), e);
+        }
+    }
+
+    private void relay(List<Entry> batch) {
+        var now = clock.millis();
+        var due = batch.stream().filter(entry -> entry.nextAttemptAt() <= now).toList();
+        var visible = due.isEmpty() ? Set.<String>of() : transactionContext.execute(() -> due.stream()
+                .filter(entry -> taskStore.findById(entry.task().getId()) != null)
+                .map(Entry::id)
+                .collect(Collectors.toSet()));
+
+        // the entries to retry, by position in the batch, so that they are deferred in creation order
+        var retained = new Entry[batch.size()];
+        var heldProcesses = new HashSet<String>();
+        var publishing = new ArrayList<Integer>();
+        var acks = new ArrayList<CompletableFuture<PublishAck>>();
+        for (var i = 0; i < batch.size(); i++) {
+            var entry = batch.get(i);
+            if (heldProcesses.contains(entry.processId()) || entry.nextAttemptAt() > now) {
+                heldProcesses.add(entry.processId());
+                retained[i] = entry;
+            } else if (visible.contains(entry.id())) {
+                heldProcesses.add(entry.processId());
+                publishing.add(i);
+                acks.add(publish(entry));
+            } else if (now - entry.task().getAt() < visibilityTimeoutMillis) {
+                heldProcesses.add(entry.processId());
+                retained[i] = retryLater(entry, now);
+            } else {
+                pending.remove(entry.id());
+                monitor.warning("Task %s not visible in the store after %d ms, leaving it to the recovery".formatted(entry.id(), visibilityTimeoutMillis));
+            }
+        }
+
+        var acknowledged = new ArrayList<Entry>();
+
+        for (var i = 0; i < acks.size(); i++) {
+            var index = publishing.get(i);
+            var entry = batch.get(index);
+            try {
+                acks.get(i).get(ackTimeoutMillis, MILLISECONDS);
+                acknowledged.add(entry);
+            } catch (InterruptedException e) {
+                retained[index] = entry;
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                monitor.warning("Failed to publish task %s, will retry".formatted(entry.id()), e);
+                retained[index] = retryLater(entry, clock.millis());
+            }
+        }
+
+        for (var entry : retained) {
+            if (entry != null) {
+                deferred.add(entry);
+            }
+        }
+
+        if (!acknowledged.isEmpty()) {
+            markPublished(acknowledged);
+        }
+    }
+
+    private Entry retryLater(Entry entry, long now) {
+        var backoff = Math.min(retryBackoffMillis << Math.min(entry.attempts(), 20), maxRetryBackoffMillis);
+        return new Entry(entry.subject(), entry.task(), entry.data(), entry.attempts() + 1, now + backoff);
+    }
+
+    private void markPublished(List<Entry> acknowledged) {
+        try {
+            // a task that is already handled and deleted by a subscriber is not found, which is fine
+            transactionContext.execute(() -> acknowledged.forEach(entry -> taskStore.markPublished(entry.id())));
+        } catch (Exception e) {
+            monitor.warning("NatsTaskRelay [%s] failed to mark %d tasks as published, they will be recovered".formatted(name, acknowledged.size()), e);
+        } finally {
+            acknowledged.forEach(entry -> pending.remove(entry.id()));
+        }
+    }
+
+    private CompletableFuture<PublishAck> publish(Entry entry) {
+        var headers = new Headers().put(MESSAGE_ID_HEADER, entry.id());
+        var message = NatsMessage.builder()
+                .subject(entry.subject())
+                .headers(headers)
+                .data(entry.data())
+                .build();
+        return js.publishAsync(message);
+    }
+
+    private record Entry(String subject, Task task, byte[] data, int attempts, long nextAttemptAt) {
+
+        String id() {
+            return task.getId();
+        }
+
+        String processId() {
+            return task.getPayload() instanceof ProcessTaskPayload payload
+                    ? payload.getProcessId()
+                    : task.getId();
+        }
+    }
+
+    public static class Builder {
+
+        private final NatsTaskRelay relay;
+
+        private Builder() {
+            relay = new NatsTaskRelay();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder jetStream(JetStream js) {
+            relay.js = js;
+            return this;
+        }
+
+        public Builder taskStore(TaskStore taskStore) {
+            relay.taskStore = taskStore;
+            return this;
+        }
+
+        public Builder transactionContext(TransactionContext transactionContext) {
+            relay.transactionContext = transactionContext;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            relay.monitor = monitor;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            relay.clock = clock;
+            return this;
+        }
+
+        public Builder executorInstrumentation(ExecutorInstrumentation executorInstrumentation) {
+            relay.executorInstrumentation = executorInstrumentation;
+            return this;
+        }
+
+        public Builder name(String name) {
+            relay.name = name;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            relay.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder flushIntervalMillis(long flushIntervalMillis) {
+            relay.flushIntervalMillis = flushIntervalMillis;
+            return this;
+        }
+
+        public Builder visibilityTimeoutMillis(long visibilityTimeoutMillis) {
+            relay.visibilityTimeoutMillis = visibilityTimeoutMillis;
+            return this;
+        }
+
+        public Builder ackTimeoutMillis(long ackTimeoutMillis) {
+            relay.ackTimeoutMillis = ackTimeoutMillis;
+            return this;
+        }
+
+        /**
+         * The delay before the first retry of a task that is not visible yet or could not be published, doubled on
+         * every further retry.
+         */
+        public Builder retryBackoffMillis(long retryBackoffMillis) {
+            relay.retryBackoffMillis = retryBackoffMillis;
+            return this;
+        }
+
+        public Builder maxRetryBackoffMillis(long maxRetryBackoffMillis) {
+            relay.maxRetryBackoffMillis = maxRetryBackoffMillis;
+            return this;
+        }
+
+        /**
+         * The group of the tasks relayed, used to look up the unpublished tasks to recover.
+         */
+        public Builder group(String group) {
+            relay.group = group;
+            return this;
+        }
+
+        public Builder recoveryIntervalMillis(long recoveryIntervalMillis) {
+            relay.recoveryIntervalMillis = recoveryIntervalMillis;
+            return this;
+        }
+
+        public NatsTaskRelay build() {
+            Objects.requireNonNull(relay.js, "jetStream");
+            Objects.requireNonNull(relay.taskStore, "taskStore");
+            Objects.requireNonNull(relay.transactionContext, "transactionContext");
+            Objects.requireNonNull(relay.monitor, "monitor");
+            Objects.requireNonNull(relay.clock, "clock");
+            return relay;
+        }
+    }
+}
@@ -50,7 +50,7 @@ public abstract class AbstractTaskSubscriber<P extends ProcessTaskPayload> exten
         try {
             var task = mapperSupplier.get().readValue(message.getData(), Task.class);
             if (target.isAssignableFrom(task.getPayload().getClass())) {
-                return transactionContext.execute(() -> handleTask(message, task));
+                return handleTask(message, task);
             } else {
                 return StatusResult.failure(ResponseStatus.FATAL_ERROR, "Invalid task payload type");
             }
@@ -59,12 +59,29 @@ public abstract class AbstractTaskSubscriber<P extends ProcessTaskPayload> exten
         }
     }
 
+    /**
+     * Tasks referring to the same process must never be handled concurrently, so the process id is used as ordering key.
+     */
+    @Override
+    protected String orderingKey(Message message) {
+        try {
+            var task = mapperSupplier.get().readValue(message.getData(), Task.class);
+            if (task.getPayload() instanceof ProcessTaskPayload payload && payload.getProcessId() != null) {
+                return payload.getProcessId();
+            }
+        } catch (Exception ignored) {
+            // an unreadable message is rejected by handleMessage, any lane fits
+        }
+        return super.orderingKey(message);
+    }
+
     @SuppressWarnings("unchecked")
     private @NotNull StatusResult<Void> handleTask(Message message, Task task) {
-        var persistedTask = taskService.findById(task.getId());
+        // the payload handler manages its own transactions, so none is kept open across its remote interactions
+        var persistedTask = transactionContext.execute(() -> taskService.findById(task.getId()));
         if (persistedTask == null) {
-            // The task is published within the producer's transaction, before it commits, so a fast delivery can
-            // arrive before the task is visible in the store. Retry until it becomes visible, bounded by the NATS
+            // When published synchronously, the task is published within the producer's transaction, before it
+            // commits, so a fast delivery can arrive before the task is visible in the store. Retry until it becomes visible, bounded by the NATS
             // delivery count (which exists even though the task does not) so a task that never commits cannot be
             // redelivered forever.
             if (message.metaData().deliveredCount() >= maxRetries) {
@@ -76,7 +93,7 @@ public abstract class AbstractTaskSubscriber<P extends ProcessTaskPayload> exten
 
         var result = handlePayload((P) task.getPayload());
         if (result.succeeded() || result.fatalError()) {
-            taskService.delete(task.getId());
+            transactionContext.execute(() -> taskService.delete(task.getId()));
         }
         // On a retryable (ERROR_RETRY) failure the message is nak'd and redelivered. The retry/give-up decision is
         // owned by the processor (bounded by edc.<entity>.send.retry.limit), which terminates the entity on
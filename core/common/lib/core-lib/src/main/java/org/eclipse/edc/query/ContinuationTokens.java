@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.query;
+
+import org.eclipse.edc.spi.query.ContinuationToken;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.util.reflection.ReflectionUtil;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static org.eclipse.edc.spi.query.ContinuationToken.ID_FIELD;
+
+/**
+ * Creates the {@link ContinuationToken} that points to the page following a page of query results.
+ */
+public final class ContinuationTokens {
+
+    private ContinuationTokens() {
+    }
+
+    /**
+     * Returns the encoded token of the page that follows the given one, reading the sort field and the id of its last
+     * entity through reflection.
+     *
+     * @param querySpec the query that returned the page.
+     * @param page      the entities of the page.
+     * @return the encoded token, null if the query is not sorted, the page is the last one, or the sort value of its
+     *         last entity is null.
+     */
+    public static <T> @Nullable String next(QuerySpec querySpec, List<T> page) {
+        return next(querySpec, page, (entity, field) -> ReflectionUtil.getFieldValue(field, entity));
+    }
+
+    /**
+     * Returns the encoded token of the page that follows the given one.
+     *
+     * @param querySpec     the query that returned the page.
+     * @param page          the entities of the page.
+     * @param valueResolver resolves the value of a field, the sort field or the id, of an entity.
+     * @return the encoded token, null if the query is not sorted, the page is the last one, or the sort value of its
+     *         last entity is null.
+     */
+    public static <T> @Nullable String next(QuerySpec querySpec, List<T> page, BiFunction<T, String, Object> valueResolver) {
+        if (querySpec.getSortField() == null || page.isEmpty() || page.size() < querySpec.getLimit()) {
+            return null;
+        }
+
+        var last = page.get(page.size() - 1);
+        var id = valueResolver.apply(last, ID_FIELD);
+        var sortValue = valueResolver.apply(last, querySpec.getSortField());
+        if (id == null || sortValue == null) {
+            return null;
+        }
+        return new ContinuationToken(sortValue, id.toString()).encode();
+    }
+}
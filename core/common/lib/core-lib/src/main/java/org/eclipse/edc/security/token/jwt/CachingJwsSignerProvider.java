@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.security.token.jwt;
+
+import com.nimbusds.jose.JWSSigner;
+import org.eclipse.edc.jwt.spi.signer.JwsSignerProvider;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.LoadingCache;
+
+import java.time.Clock;
+import java.util.Objects;
+
+/**
+ * {@link JwsSignerProvider} that keeps the {@link JWSSigner}s created by a delegate per participant context and
+ * private key ID, so that the private key does not have to be resolved and converted for every token.
+ * <p>
+ * A signer is kept for the configured validity, after which the key is resolved again. Failures of the delegate are
+ * not cached. Note that the private keys are held in memory for as long as their signers are cached.
+ */
+public class CachingJwsSignerProvider implements JwsSignerProvider {
+
+    private final JwsSignerProvider delegate;
+    private final LoadingCache<SignerKey, JWSSigner> signers;
+
+    /**
+     * Constructs the provider.
+     *
+     * @param delegate       the provider that creates the signers
+     * @param validityMillis how long a signer is cached, in milliseconds
+     * @param maxEntries     the maximum number of cached signers
+     * @param clock          the clock
+     */
+    public CachingJwsSignerProvider(JwsSignerProvider delegate, long validityMillis, int maxEntries, Clock clock) {
+        this.delegate = delegate;
+        this.signers = LoadingCache.Builder.<SignerKey, JWSSigner>newInstance(this::load)
+                .validity(validityMillis)
+                .maxEntries(maxEntries)
+                .clock(clock)
+                .build();
+    }
+
+    @Override
+    public Result<JWSSigner> createJwsSigner(String participantContextId, String privateKeyId) {
+        try {
+            return Result.success(signers.get(new SignerKey(participantContextId, privateKeyId)));
+        } catch (SignerCreationException e) {
+            return Result.failure(e.getMessage());
+        }
+    }
+
+    @Override
+    public void invalidate(String privateKeyId) {
+        signers.evictIf(key -> Objects.equals(key.privateKeyId(), privateKeyId));
+        delegate.invalidate(privateKeyId);
+    }
+
+    /**
+     * Creates and caches the signer for the given private key ahead of its first use.
+     *
+     * @param participantContextId the ID of the participant context
+     * @param privateKeyId         the ID of the private key
+     * @return successful result if the signer could be created, failure otherwise
+     */
+    public Result<Void> warmUp(String participantContextId, String privateKeyId) {
+        return createJwsSigner(participantContextId, privateKeyId).mapEmpty();
+    }
+
+    private JWSSigner load(SignerKey key) {
+        var result = delegate.createJwsSigner(key.participantContextId(), key.privateKeyId());
+        if (result.failed()) {
+            throw new SignerCreationException(result.getFailureDetail());
+        }
+        return result.getContent();
+    }
+
+    private record SignerKey(String participantContextId, String privateKeyId) {
+    }
+
+    private static class SignerCreationException extends EdcException {
+        SignerCreationException(String message) {
+            super(message);
+        }
+    }
+}
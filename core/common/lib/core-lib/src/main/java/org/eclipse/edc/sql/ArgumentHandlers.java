@@ -14,18 +14,22 @@
 
 package org.eclipse.edc.sql;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.io.InputStream;
 import java.math.BigDecimal;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.Optional;
 
 enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code int} argument into its corresponding position of a statement
      */
-    INT {
+    INT(Integer.class) {
         @Override
         public boolean accepts(Object value) {
             return value instanceof Integer;
@@ -39,7 +43,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code long} argument into its corresponding position of a statement
      */
-    LONG {
+    LONG(Long.class) {
         @Override
         public boolean accepts(Object value) {
             return value instanceof Long;
@@ -53,7 +57,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code double} argument into its corresponding position of a statement
      */
-    DOUBLE {
+    DOUBLE(Double.class) {
         @Override
         public boolean accepts(Object value) {
             return value instanceof Double;
@@ -67,7 +71,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code float} argument into its corresponding position of a statement
      */
-    FLOAT {
+    FLOAT(Float.class) {
         @Override
         public boolean accepts(Object value) {
             return value instanceof Float;
@@ -81,7 +85,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code short} argument into its corresponding position of a statement
      */
-    SHORT {
+    SHORT(Short.class) {
         @Override
         public boolean accepts(Object value) {
             return value instanceof Short;
@@ -95,7 +99,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code java.math.BigDecimal} argument into its corresponding position of a statement
      */
-    BIG_DECIMAL {
+    BIG_DECIMAL(BigDecimal.class) {
         @Override
         public boolean accepts(Object value) {
             return value instanceof BigDecimal;
@@ -109,7 +113,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code java.lang.String} argument into its corresponding position of a statement
      */
-    STRING {
+    STRING(String.class) {
         @Override
         public boolean accepts(Object value) {
             return value instanceof String;
@@ -123,7 +127,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code boolean} argument into its corresponding position of a statement
      */
-    BOOLEAN {
+    BOOLEAN(Boolean.class) {
         @Override
         public boolean accepts(Object value) {
             return value instanceof Boolean;
@@ -137,7 +141,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code java.util.Date} argument into its corresponding position of a statement
      */
-    DATE {
+    DATE(Date.class) {
         @Override
         public boolean accepts(Object value) {
             return value instanceof Date;
@@ -151,7 +155,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code byte} argument into its corresponding position of a statement
      */
-    BYTE {
+    BYTE(Byte.class) {
         @Override
         public boolean accepts(Object value) {
             return value instanceof Byte;
@@ -165,7 +169,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code byte[]} array argument into its corresponding position of a statement
      */
-    BYTES {
+    BYTES(byte[].class) {
         @Override
         public boolean accepts(Object value) {
             return value instanceof byte[];
@@ -179,7 +183,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code java.io.InputStream} argument into its corresponding position of a statement
      */
-    INPUT_STREAM {
+    INPUT_STREAM(InputStream.class) {
         @Override
         public boolean accepts(Object value) {
             return value instanceof InputStream;
@@ -193,7 +197,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code null} argument into its corresponding position of a statement
      */
-    NULL {
+    NULL(Void.class) {
         @Override
         public boolean accepts(Object value) {
             return value == null;
@@ -203,5 +207,34 @@ enum ArgumentHandlers implements ArgumentHandler {
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setNull(position, java.sql.Types.NULL);
         }
+    };
+
+    private static final ClassValue<Optional<ArgumentHandler>> HANDLERS_BY_TYPE = new ClassValue<>() {
+        @Override
+        protected Optional<ArgumentHandler> computeValue(Class<?> type) {
+            return Arrays.stream(values())
+                    .filter(handler -> handler.type.isAssignableFrom(type))
+                    .map(ArgumentHandler.class::cast)
+                    .findFirst();
+        }
+    };
+
+    private final Class<?> type;
+
+    ArgumentHandlers(Class<?> type) {
+        this.type = type;
+    }
+
+    /**
+     * Returns the handler for the given argument. The lookup is resolved once per argument class.
+     *
+     * @param argument the argument
+     * @return the handler, or null if the argument should be set as a plain object
+     */
+    static @Nullable ArgumentHandler forArgument(@Nullable Object argument) {
+        if (argument == null) {
+            return NULL;
+        }
+        return HANDLERS_BY_TYPE.get(argument.getClass()).orElse(null);
     }
 }
@@ -15,6 +15,7 @@
 package org.eclipse.edc.sql;
 
 import java.sql.Connection;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -31,6 +32,30 @@ public interface QueryExecutor {
      */
     int execute(Connection connection, String sql, Object... arguments);
 
+    /**
+     * Intended for mutating queries that need the keys generated by the database, e.g. for auto-increment columns.
+     * Plain {@link #execute(Connection, String, Object...)} does not request them.
+     *
+     * @param connection the connection to be used to execute the query.
+     * @param keyMapper able to map a row of the generated keys to an object.
+     * @param sql the parametrized sql query
+     * @param arguments the parameters to interpolate with the parametrized sql query
+     * @param <T> generic type returned after mapping the generated keys
+     * @return the generated keys, one entry per inserted row
+     */
+    <T> List<T> executeReturningKeys(Connection connection, ResultSetMapper<T> keyMapper, String sql, Object... arguments);
+
+    /**
+     * Intended for mutating queries that are executed once per set of arguments. All the sets are sent to the database
+     * as a single JDBC batch on one prepared statement, instead of one round trip each.
+     *
+     * @param connection the connection to be used to execute the query.
+     * @param sql the parametrized sql query
+     * @param arguments the parameters to interpolate with the parametrized sql query, one array per execution
+     * @return rowsChanged per set of arguments, in order. Drivers may report {@link java.sql.Statement#SUCCESS_NO_INFO}
+     */
+    int[] executeBatch(Connection connection, String sql, List<Object[]> arguments);
+
     /**
      * Intended for reading queries.
      * The resulting {@link Stream} must be closed with the "close()" when a terminal operation is used on the stream
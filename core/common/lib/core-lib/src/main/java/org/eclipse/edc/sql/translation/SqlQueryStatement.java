@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.sql.translation;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 
@@ -23,11 +24,17 @@ import java.util.List;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.joining;
+import static org.eclipse.edc.spi.query.ContinuationToken.ID_FIELD;
 
 /**
  * Maps a {@link QuerySpec} to a single SQL {@code SELECT ... FROM ... WHERE ...} statement. The {@code SELECT ...} part
  * is passed in through the constructor, and the rest of the query is assembled dynamically, based on the
  * {@link QuerySpec} and the {@link TranslationMapping}.
+ * <p>
+ * When the query is sorted, the {@code id} field of the mapping, if any, is used as tie-breaker. A query that carries a
+ * {@link ContinuationToken} is translated to a keyset condition, e.g. {@code WHERE (sort_column, id_column) > (?, ?)},
+ * instead of an offset, so that the cost of a page does not depend on its position. Entities whose sort value is
+ * {@code null} are not reachable through a continuation token.
  */
 public class SqlQueryStatement {
 
@@ -130,6 +137,17 @@ public class SqlQueryStatement {
         return this;
     }
 
+    /**
+     * Set the ORDER BY clause, overriding the sort field of the query spec.
+     *
+     * @param orderBy the comma-separated sort expressions, e.g. {@code "column_a, column_b DESC"}.
+     * @return self.
+     */
+    public SqlQueryStatement orderBy(String orderBy) {
+        this.orderByClause = "ORDER BY %s ".formatted(orderBy);
+        return this;
+    }
+
     public SqlQueryStatement forUpdate(boolean skipLocked) {
         this.forUpdate = skipLocked ? " FOR UPDATE SKIP LOCKED" : " FOR UPDATE";
         return this;
@@ -148,6 +166,26 @@ public class SqlQueryStatement {
                 });
 
         orderByClause = parseSortField(query);
+
+        if (query.getContinuationToken() != null) {
+            addContinuationToken(query);
+        }
+    }
+
+    private void addContinuationToken(QuerySpec query) {
+        var token = ContinuationToken.decode(query.getContinuationToken());
+        var sortField = sortFieldConverter.convert(query.getSortField());
+        var idField = sortFieldConverter.convert(ID_FIELD);
+        if (idField == null) {
+            throw new IllegalArgumentException(format("Cannot use a continuation token because the %s field does not exist", ID_FIELD));
+        }
+
+        var operator = query.getSortOrder() == SortOrder.ASC ? ">" : "<";
+        if (idField.equals(sortField)) {
+            addWhereClause(format("%s %s ?", idField, operator), token.id());
+        } else {
+            addWhereClause(format("(%s, %s) %s (?, ?)", sortField, idField, operator), token.sortValue(), token.id());
+        }
     }
 
     private String parseSortField(QuerySpec query) {
@@ -159,6 +197,10 @@ public class SqlQueryStatement {
             if (sortField == null) {
                 throw new IllegalArgumentException(format("Cannot sort by %s because the field does not exist", query.getSortField()));
             }
+            var idField = sortFieldConverter.convert(ID_FIELD);
+            if (idField != null && !idField.equals(sortField)) {
+                return String.format(ORDER_BY_TOKEN + ", %s %s ", sortField, order, idField, order);
+            }
             return String.format(ORDER_BY_TOKEN + " ", sortField, order);
         }
     }
@@ -0,0 +1,225 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.collection;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe, bounded cache with optional per-entry expiry, meant for high read concurrency.
+ * <p>
+ * The entries are spread over independent stripes by key hash. Reads are lock-free: they only record the access time
+ * on the entry, without reordering any structure. Writes lock only the stripe of the key, and when the stripe is full
+ * they evict its expired entries first, then its least recently accessed one. As the capacity is split between the
+ * stripes, an entry can get evicted slightly before the total capacity is reached.
+ * <p>
+ * Expired entries are never returned, and they are removed lazily when read.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of mapped values
+ */
+public class BoundedCache<K, V> {
+    private static final int MAX_STRIPES = 16;
+    private static final int MIN_STRIPE_CAPACITY = 16;
+
+    private final Stripe<K, V>[] stripes;
+    private final Clock clock;
+
+    /**
+     * Constructs a cache with the specified capacity.
+     *
+     * @param capacity the maximum number of entries that the cache can hold. Pass 0 to effectively deactivate the cache.
+     */
+    public BoundedCache(int capacity) {
+        this(capacity, Clock.systemUTC());
+    }
+
+    /**
+     * Constructs a cache with the specified capacity.
+     *
+     * @param capacity the maximum number of entries that the cache can hold. Pass 0 to effectively deactivate the cache.
+     * @param clock    the clock used to expire the entries.
+     */
+    @SuppressWarnings("unchecked")
+    public BoundedCache(int capacity, Clock clock) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative");
+        }
+        this.clock = clock;
+        var stripeCount = stripeCount(capacity);
+        var stripeCapacity = (capacity + stripeCount - 1) / stripeCount;
+        stripes = new Stripe[stripeCount];
+        for (var i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe<>(stripeCapacity);
+        }
+    }
+
+    /**
+     * Gets the value associated with the key, if it is present and not expired.
+     *
+     * @param key the key
+     * @return the value, null if absent or expired
+     */
+    public V get(K key) {
+        var stripe = stripeFor(key);
+        var node = stripe.entries.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (node.isExpired(clock.millis())) {
+            stripe.entries.remove(key, node);
+            return null;
+        }
+        node.accessedAt = System.nanoTime();
+        return node.value;
+    }
+
+    /**
+     * Associates the value with the key, without expiry.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public void put(K key, V value) {
+        put(key, new Node<>(value, Long.MAX_VALUE));
+    }
+
+    /**
+     * Associates the value with the key, for the given time-to-live.
+     *
+     * @param key       the key
+     * @param value     the value
+     * @param ttlMillis the time-to-live of the entry in milliseconds
+     */
+    public void put(K key, V value, long ttlMillis) {
+        var now = clock.millis();
+        var expiresAt = ttlMillis > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + ttlMillis;
+        put(key, new Node<>(value, expiresAt));
+    }
+
+    /**
+     * Removes the entry associated with the key.
+     *
+     * @param key the key
+     * @return the value previously associated with the key, or null if no value was associated with it
+     */
+    public V remove(K key) {
+        var removed = stripeFor(key).entries.remove(key);
+        return removed == null ? null : removed.value;
+    }
+
+    /**
+     * Removes all the entries.
+     */
+    public void clear() {
+        for (var stripe : stripes) {
+            stripe.entries.clear();
+        }
+    }
+
+    /**
+     * The number of entries in the cache, including the expired ones that have not been removed yet.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        var size = 0;
+        for (var stripe : stripes) {
+            size += stripe.entries.size();
+        }
+        return size;
+    }
+
+    private void put(K key, Node<V> node) {
+        var stripe = stripeFor(key);
+        if (stripe.capacity == 0) {
+            return;
+        }
+
+        stripe.lock.lock();
+        try {
+            if (stripe.entries.put(key, node) == null && stripe.entries.size() > stripe.capacity) {
+                evict(stripe, key);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private void evict(Stripe<K, V> stripe, K retainedKey) {
+        var now = clock.millis();
+        stripe.entries.values().removeIf(node -> node.isExpired(now));
+
+        while (stripe.entries.size() > stripe.capacity) {
+            K eldestKey = null;
+            var eldestAccess = 0L;
+            for (var entry : stripe.entries.entrySet()) {
+                if (entry.getKey().equals(retainedKey)) {
+                    continue;
+                }
+                // nano times must be compared by their difference, as they can overflow
+                if (eldestKey == null || entry.getValue().accessedAt - eldestAccess < 0) {
+                    eldestKey = entry.getKey();
+                    eldestAccess = entry.getValue().accessedAt;
+                }
+            }
+            if (eldestKey == null) {
+                return;
+            }
+            stripe.entries.remove(eldestKey);
+        }
+    }
+
+    private Stripe<K, V> stripeFor(K key) {
+        var hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return stripes[hash & (stripes.length - 1)];
+    }
+
+    private static int stripeCount(int capacity) {
+        var count = 1;
+        while (count < MAX_STRIPES && (long) count * 2 * MIN_STRIPE_CAPACITY <= capacity) {
+            count *= 2;
+        }
+        return count;
+    }
+
+    private static final class Stripe<K, V> {
+        private final Map<K, Node<V>> entries = new ConcurrentHashMap<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int capacity;
+
+        private Stripe(int capacity) {
+            this.capacity = capacity;
+        }
+    }
+
+    private static final class Node<V> {
+        private final V value;
+        private final long expiresAt;
+        private volatile long accessedAt = System.nanoTime();
+
+        private Node(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
@@ -27,7 +27,9 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  *
  * @param <K> the type of keys maintained by this cache
  * @param <V> the type of mapped values
+ * @deprecated the access-ordered reads mutate the underlying list under the read lock, use {@link BoundedCache} instead.
  */
+@Deprecated(since = "0.19.0")
 public class ConcurrentLruCache<K, V> extends LinkedHashMap<K, V> {
     private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
     private final int capacity;
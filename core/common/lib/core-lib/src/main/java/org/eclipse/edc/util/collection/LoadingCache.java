@@ -0,0 +1,323 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.collection;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Bounded cache that loads missing values through a loader function, without holding any global lock while loading.
+ * <p>
+ * Loading is single-flight per key: concurrent callers that miss the same key wait for the one load in progress,
+ * while callers of other keys are not blocked. Optionally, a value that is about to expire gets refreshed ahead of its
+ * expiry, asynchronously on the configured {@link Executor}. Once a value is expired, it is still served during the
+ * grace period while it gets refreshed asynchronously. After the grace period, or when the refresh failed until then,
+ * the value is loaded synchronously again.
+ * <p>
+ * When the maximum number of entries is reached, the entries out of their grace period get evicted first, then the
+ * ones that expire the earliest. Hits, misses, loads and load times are recorded in the {@link Stats}.
+ * <p>
+ * This cache is thread-safe.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class LoadingCache<K, V> {
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Map<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder totalLoadTimeNanos = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private Function<K, V> loader;
+    private long validityMillis = TimestampedValue.DEFAULT_VALIDITY_MILLIS;
+    private long gracePeriodMillis;
+    private long refreshAheadMillis;
+    private int maxEntries = Integer.MAX_VALUE;
+    private Clock clock = Clock.systemUTC();
+    private Executor executor;
+
+    private LoadingCache() {
+    }
+
+    /**
+     * Gets the value for the key, loading it if it is missing or expired.
+     *
+     * @param key the key of the value.
+     * @return the value, can be null if the loader returned null.
+     * @throws RuntimeException the exception thrown by the loader, if the value had to be loaded and the load failed.
+     */
+    public V get(K key) {
+        var now = clock.millis();
+        var entry = entries.get(key);
+        if (entry != null) {
+            if (now < entry.expiresAt()) {
+                hits.increment();
+                if (refreshAheadMillis > 0 && now >= entry.expiresAt() - refreshAheadMillis) {
+                    refreshAsync(key);
+                }
+                return entry.value();
+            }
+            if (now < entry.expiresAt() + gracePeriodMillis) {
+                hits.increment();
+                refreshAsync(key);
+                return entry.value();
+            }
+        }
+
+        misses.increment();
+        return load(key);
+    }
+
+    /**
+     * Explicitly removes an entry from the cache.
+     *
+     * @param key the key
+     * @return the value previously associated with "key", or null if no value was associated with the key
+     */
+    public V evict(K key) {
+        var removed = entries.remove(key);
+        return removed == null ? null : removed.value();
+    }
+
+    /**
+     * Explicitly removes all the entries whose key matches the predicate.
+     *
+     * @param predicate the predicate on the keys
+     * @return the number of removed entries
+     */
+    public int evictIf(Predicate<K> predicate) {
+        var removed = 0;
+        for (var key : entries.keySet()) {
+            if (predicate.test(key) && entries.remove(key) != null) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return the statistics.
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), loads.sum(), loadFailures.sum(), totalLoadTimeNanos.sum(), evictions.sum(), entries.size());
+    }
+
+    private V load(K key) {
+        var future = new CompletableFuture<V>();
+        var inFlight = loading.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        try {
+            var value = loadAndStore(key);
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    private void refreshAsync(K key) {
+        var future = new CompletableFuture<V>();
+        if (loading.putIfAbsent(key, future) != null) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(loadAndStore(key));
+                } catch (RuntimeException e) {
+                    // the stale value keeps being served until the end of the grace period
+                    future.completeExceptionally(e);
+                } finally {
+                    loading.remove(key, future);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            loading.remove(key, future);
+            future.completeExceptionally(e);
+        }
+    }
+
+    private V loadAndStore(K key) {
+        var start = System.nanoTime();
+        try {
+            var value = loader.apply(key);
+            loads.increment();
+            var now = clock.millis();
+            evictIfFull(key, now);
+            entries.put(key, new Entry<>(value, now + validityMillis));
+            return value;
+        } catch (RuntimeException e) {
+            loadFailures.increment();
+            throw e;
+        } finally {
+            totalLoadTimeNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private void evictIfFull(K key, long now) {
+        if (entries.size() < maxEntries || entries.containsKey(key)) {
+            return;
+        }
+
+        entries.entrySet().removeIf(entry -> {
+            var outdated = entry.getValue().expiresAt() + gracePeriodMillis <= now;
+            if (outdated) {
+                evictions.increment();
+            }
+            return outdated;
+        });
+
+        while (entries.size() >= maxEntries) {
+            var earliest = entries.entrySet().stream()
+                    .min(Comparator.comparingLong(entry -> entry.getValue().expiresAt()));
+            if (earliest.isEmpty()) {
+                return;
+            }
+            if (entries.remove(earliest.get().getKey()) != null) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Statistics of the cache.
+     *
+     * @param hits               number of gets served from the cache, including stale values during the grace period.
+     * @param misses             number of gets that had to wait for a load.
+     * @param loads              number of successful loads.
+     * @param loadFailures       number of failed loads.
+     * @param totalLoadTimeNanos total time spent loading, in nanoseconds.
+     * @param evictions          number of entries evicted because the cache was full.
+     * @param size               number of entries in the cache.
+     */
+    public record Stats(long hits, long misses, long loads, long loadFailures, long totalLoadTimeNanos, long evictions, int size) {
+
+        /**
+         * The average time of a load, in nanoseconds.
+         *
+         * @return the average load time, 0 if nothing was loaded.
+         */
+        public double averageLoadTimeNanos() {
+            var total = loads + loadFailures;
+            return total == 0 ? 0 : (double) totalLoadTimeNanos / total;
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    public static class Builder<K, V> {
+        private final LoadingCache<K, V> cache = new LoadingCache<>();
+
+        private Builder() {
+        }
+
+        public static <K, V> Builder<K, V> newInstance(Function<K, V> loader) {
+            var builder = new Builder<K, V>();
+            builder.cache.loader = loader;
+            return builder;
+        }
+
+        /**
+         * How long a loaded value is valid, in milliseconds.
+         */
+        public Builder<K, V> validity(long validityMillis) {
+            cache.validityMillis = validityMillis;
+            return this;
+        }
+
+        /**
+         * How long an expired value keeps being served while it gets refreshed, in milliseconds. 0 disables the
+         * asynchronous refresh.
+         */
+        public Builder<K, V> gracePeriod(long gracePeriodMillis) {
+            cache.gracePeriodMillis = gracePeriodMillis;
+            return this;
+        }
+
+        /**
+         * How long before its expiry a value gets refreshed asynchronously while it is still served, in milliseconds.
+         * 0 disables the refresh ahead of expiry.
+         */
+        public Builder<K, V> refreshAhead(long refreshAheadMillis) {
+            cache.refreshAheadMillis = refreshAheadMillis;
+            return this;
+        }
+
+        public Builder<K, V> maxEntries(int maxEntries) {
+            cache.maxEntries = maxEntries;
+            return this;
+        }
+
+        public Builder<K, V> clock(Clock clock) {
+            cache.clock = clock;
+            return this;
+        }
+
+        /**
+         * The executor that runs the asynchronous refreshes, required when a grace period or a refresh ahead is set. Loaders usually block
+         * on I/O, so this should be a dedicated executor rather than a shared pool.
+         */
+        public Builder<K, V> executor(Executor executor) {
+            cache.executor = executor;
+            return this;
+        }
+
+        public LoadingCache<K, V> build() {
+            Objects.requireNonNull(cache.loader, "loader");
+            Objects.requireNonNull(cache.clock, "clock");
+            if (cache.gracePeriodMillis > 0 || cache.refreshAheadMillis > 0) {
+                Objects.requireNonNull(cache.executor, "executor");
+            }
+            if (cache.maxEntries < 1) {
+                throw new IllegalArgumentException("maxEntries must be greater than 0");
+            }
+            return cache;
+        }
+    }
+}
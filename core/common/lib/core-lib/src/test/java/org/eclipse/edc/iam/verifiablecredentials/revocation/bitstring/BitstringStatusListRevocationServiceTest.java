@@ -132,6 +132,31 @@ class BitstringStatusListRevocationServiceTest {
             server.verify(getRequestedFor(urlEqualTo("/credentials/status/3")));
         }
 
+        @Test
+        void checkValidity_multipleStatuses_shouldDownloadStatusListOnce() {
+            var bitstring = generateBitstring(REVOKED_INDEX, 1);
+            var bitstringCredential = TestData.BitstringStatusList.BITSTRING_STATUS_LIST_CREDENTIAL_SINGLE_SUBJECT_TEMPLATE.formatted(bitstring);
+
+            server.stubFor(get("/credentials/status/3").willReturn(ok(bitstringCredential)));
+
+            var statusListUrl = "http://localhost:%d/credentials/status/3".formatted(server.getPort());
+            var revoked = new CredentialStatus("test-id", BITSTRING_STATUSLIST_CREDENTIAL,
+                    Map.of(STATUS_LIST_PURPOSE, "revocation",
+                            STATUS_LIST_INDEX, REVOKED_INDEX,
+                            STATUS_LIST_SIZE, 1,
+                            STATUS_LIST_CREDENTIAL, statusListUrl));
+            var notRevoked = new CredentialStatus("test-id", BITSTRING_STATUSLIST_CREDENTIAL,
+                    Map.of(STATUS_LIST_PURPOSE, "revocation",
+                            STATUS_LIST_INDEX, NOT_REVOKED_INDEX,
+                            STATUS_LIST_SIZE, 1,
+                            STATUS_LIST_CREDENTIAL, statusListUrl));
+
+            assertThat(revocationService.checkValidity(List.of(notRevoked, revoked, notRevoked))).isFailed()
+                    .detail().isEqualTo("Credential status is 'revocation', status at index 10 is '1'");
+            assertThat(revocationService.checkValidity(notRevoked)).isSucceeded();
+            server.verify(1, getRequestedFor(urlEqualTo("/credentials/status/3")));
+        }
+
         @Test
         void checkValidity_notRevoked_notCached() {
             var bitstring = generateBitstring();
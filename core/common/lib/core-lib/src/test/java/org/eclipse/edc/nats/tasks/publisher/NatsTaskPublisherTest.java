@@ -83,6 +83,27 @@ class NatsTaskPublisherTest {
         verify(jetStream).publish(eq("transfers.consumer.transfer.prepare"), isA(byte[].class));
     }
 
+    @Test
+    void created_shouldEnqueueOnRelay_whenRelayIsConfigured() {
+        var relay = mock(NatsTaskRelay.class);
+        var publisher = new NatsTaskPublisher("transfers", TransferProcessTaskPayload.class, jetStream, monitor, ObjectMapper::new, relay);
+
+        var payload = PrepareTransfer.Builder.newInstance()
+                .processId("transfer-123")
+                .processState(100)
+                .processType("CONSUMER")
+                .build();
+        var task = Task.Builder.newInstance()
+                .at(System.currentTimeMillis())
+                .payload(payload)
+                .build();
+
+        publisher.created(task);
+
+        verify(relay).enqueue(eq("transfers.consumer.transfer.prepare"), eq(task), isA(byte[].class));
+        verifyNoInteractions(jetStream);
+    }
+
     @Test
     void created_shouldSerializeTaskAsJsonBytes() throws Exception {
         var publisher = new NatsTaskPublisher("negotiations", ContractNegotiationTaskPayload.class, jetStream, monitor, ObjectMapper::new);
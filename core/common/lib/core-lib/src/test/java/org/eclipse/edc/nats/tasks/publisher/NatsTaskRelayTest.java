@@ -0,0 +1,261 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.nats.tasks.publisher;
+
+import io.nats.client.JetStream;
+import io.nats.client.Message;
+import io.nats.client.api.PublishAck;
+import org.eclipse.edc.controlplane.tasks.ProcessTaskPayload;
+import org.eclipse.edc.controlplane.tasks.Task;
+import org.eclipse.edc.controlplane.tasks.TaskListener;
+import org.eclipse.edc.controlplane.tasks.store.TaskStore;
+import org.eclipse.edc.controlplane.transfer.spi.tasks.PrepareTransfer;
+import org.eclipse.edc.controlplane.transfer.spi.tasks.SendTransferRequest;
+import org.eclipse.edc.controlplane.transfer.spi.tasks.TransferProcessTaskPayload;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NatsTaskRelayTest {
+
+    private final JetStream jetStream = mock();
+    private final TaskStore taskStore = mock();
+    private final Monitor monitor = mock();
+    private NatsTaskRelay relay;
+
+    @AfterEach
+    void tearDown() {
+        if (relay != null) {
+            relay.stop();
+        }
+    }
+
+    @Test
+    void shouldPublishVisibleTaskWithMessageIdHeader() {
+        var task = task(PrepareTransfer.Builder.newInstance(), "process-1", System.currentTimeMillis());
+        when(taskStore.findById(task.getId())).thenReturn(task);
+        when(jetStream.publishAsync(any(Message.class))).thenReturn(completedFuture(mock(PublishAck.class)));
+        relay = relay(Clock.systemUTC());
+        relay.start();
+
+        relay.enqueue("transfers.consumer.transfer.prepare", task, new byte[]{ 1 });
+
+        var captor = ArgumentCaptor.forClass(Message.class);
+        await().untilAsserted(() -> verify(jetStream).publishAsync(captor.capture()));
+        assertThat(captor.getValue().getSubject()).isEqualTo("transfers.consumer.transfer.prepare");
+        assertThat(captor.getValue().getHeaders().getFirst(NatsTaskRelay.MESSAGE_ID_HEADER)).isEqualTo(task.getId());
+    }
+
+    @Test
+    void shouldWaitForTaskToBeVisible_andKeepProcessOrder() {
+        var first = task(PrepareTransfer.Builder.newInstance(), "process-1", System.currentTimeMillis());
+        var second = task(SendTransferRequest.Builder.newInstance(), "process-1", System.currentTimeMillis());
+        when(taskStore.findById(first.getId())).thenReturn(null, null, first);
+        when(taskStore.findById(second.getId())).thenReturn(second);
+        var published = new CopyOnWriteArrayList<String>();
+        when(jetStream.publishAsync(any(Message.class))).thenAnswer(i -> {
+            published.add(i.<Message>getArgument(0).getHeaders().getFirst(NatsTaskRelay.MESSAGE_ID_HEADER));
+            return completedFuture(mock(PublishAck.class));
+        });
+        relay = relay(Clock.systemUTC());
+        relay.start();
+
+        relay.enqueue("subject", first, new byte[]{ 1 });
+        relay.enqueue("subject", second, new byte[]{ 2 });
+
+        await().untilAsserted(() -> assertThat(published).containsExactly(first.getId(), second.getId()));
+    }
+
+    @Test
+    void shouldDropTask_whenNotVisibleAfterTimeout() {
+        var task = task(PrepareTransfer.Builder.newInstance(), "process-1", 0);
+        when(taskStore.findById(task.getId())).thenReturn(null);
+        relay = relay(Clock.fixed(Instant.ofEpochMilli(60_000), ZoneOffset.UTC));
+        relay.start();
+
+        relay.enqueue("subject", task, new byte[]{ 1 });
+
+        await().untilAsserted(() -> verify(monitor).warning(any(String.class)));
+        verify(jetStream, never()).publishAsync(any(Message.class));
+    }
+
+    @Test
+    void shouldRetryPublish_whenAckFails() {
+        var task = task(PrepareTransfer.Builder.newInstance(), "process-1", System.currentTimeMillis());
+        when(taskStore.findById(task.getId())).thenReturn(task);
+        when(jetStream.publishAsync(any(Message.class)))
+                .thenReturn(failedFuture(new RuntimeException("no ack")))
+                .thenReturn(completedFuture(mock(PublishAck.class)));
+        relay = relay(Clock.systemUTC());
+        relay.start();
+
+        relay.enqueue("subject", task, new byte[]{ 1 });
+
+        await().untilAsserted(() -> verify(jetStream, atLeast(2)).publishAsync(any(Message.class)));
+    }
+
+    @Test
+    void shouldKeepProcessOrder_whenAckOfEarlierTaskFails() {
+        var first = task(PrepareTransfer.Builder.newInstance(), "process-1", System.currentTimeMillis());
+        var second = task(SendTransferRequest.Builder.newInstance(), "process-1", System.currentTimeMillis());
+        when(taskStore.findById(first.getId())).thenReturn(first);
+        when(taskStore.findById(second.getId())).thenReturn(second);
+        var published = new CopyOnWriteArrayList<String>();
+        when(jetStream.publishAsync(any(Message.class))).thenAnswer(i -> {
+            var id = i.<Message>getArgument(0).getHeaders().getFirst(NatsTaskRelay.MESSAGE_ID_HEADER);
+            if (id.equals(first.getId()) && !published.contains("failed")) {
+                published.add("failed");
+                return failedFuture(new RuntimeException("no ack"));
+            }
+            published.add(id);
+            return completedFuture(mock(PublishAck.class));
+        });
+        relay = relay(Clock.systemUTC());
+        relay.enqueue("subject", first, new byte[]{ 1 });
+        relay.enqueue("subject", second, new byte[]{ 2 });
+        relay.start();
+
+        await().untilAsserted(() -> assertThat(published).containsExactly("failed", first.getId(), second.getId()));
+    }
+
+    @Test
+    void shouldNotRetryPublish_beforeBackoffElapsed() {
+        var task = task(PrepareTransfer.Builder.newInstance(), "process-1", System.currentTimeMillis());
+        when(taskStore.findById(task.getId())).thenReturn(task);
+        when(jetStream.publishAsync(any(Message.class))).thenReturn(failedFuture(new RuntimeException("no ack")));
+        relay = NatsTaskRelay.Builder.newInstance()
+                .jetStream(jetStream)
+                .taskStore(taskStore)
+                .transactionContext(new NoopTransactionContext())
+                .monitor(monitor)
+                .retryBackoffMillis(60_000)
+                .build();
+        relay.start();
+
+        relay.enqueue("subject", task, new byte[]{ 1 });
+
+        await().untilAsserted(() -> verify(jetStream).publishAsync(any(Message.class)));
+        await().during(Duration.ofMillis(300)).untilAsserted(() -> verify(jetStream, times(1)).publishAsync(any(Message.class)));
+    }
+
+    @Test
+    void shouldMarkTaskPublished_whenAcknowledged() {
+        var task = task(PrepareTransfer.Builder.newInstance(), "process-1", System.currentTimeMillis());
+        when(taskStore.findById(task.getId())).thenReturn(task);
+        when(jetStream.publishAsync(any(Message.class))).thenReturn(completedFuture(mock(PublishAck.class)));
+        relay = relay(Clock.systemUTC());
+        relay.start();
+
+        relay.enqueue("subject", task, new byte[]{ 1 });
+
+        await().untilAsserted(() -> verify(taskStore).markPublished(task.getId()));
+    }
+
+    @Test
+    void shouldNotMarkTaskPublished_whenAckFails() {
+        var task = task(PrepareTransfer.Builder.newInstance(), "process-1", System.currentTimeMillis());
+        when(taskStore.findById(task.getId())).thenReturn(task);
+        when(jetStream.publishAsync(any(Message.class))).thenReturn(failedFuture(new RuntimeException("no ack")));
+        relay = relay(Clock.systemUTC());
+        relay.start();
+
+        relay.enqueue("subject", task, new byte[]{ 1 });
+
+        await().untilAsserted(() -> verify(jetStream, atLeast(2)).publishAsync(any(Message.class)));
+        verify(taskStore, never()).markPublished(any());
+    }
+
+    @Test
+    void shouldRecoverUnpublishedTasks_onStart() {
+        var task = task(PrepareTransfer.Builder.newInstance(), "process-1", 0);
+        when(taskStore.fetchForUpdate(any())).thenReturn(List.of(task));
+        var listener = mock(TaskListener.class);
+        relay = relay(Clock.fixed(Instant.ofEpochMilli(60_000), ZoneOffset.UTC));
+        relay.recoverWith(listener);
+        relay.start();
+
+        await().untilAsserted(() -> verify(listener).created(task));
+        var captor = ArgumentCaptor.forClass(QuerySpec.class);
+        verify(taskStore).fetchForUpdate(captor.capture());
+        assertThat(captor.getValue().getFilterExpression()).contains(
+                criterion("group", "=", TransferProcessTaskPayload.GROUP),
+                criterion("published", "=", false),
+                criterion("at", "<", 50_000L));
+    }
+
+    @Test
+    void shouldNotRecoverTasks_whenStillEnqueued() {
+        var task = task(PrepareTransfer.Builder.newInstance(), "process-1", System.currentTimeMillis());
+        when(taskStore.findById(task.getId())).thenReturn(task);
+        when(taskStore.fetchForUpdate(any())).thenReturn(List.of(task));
+        when(jetStream.publishAsync(any(Message.class))).thenReturn(failedFuture(new RuntimeException("no ack")));
+        var listener = mock(TaskListener.class);
+        relay = NatsTaskRelay.Builder.newInstance()
+                .jetStream(jetStream)
+                .taskStore(taskStore)
+                .transactionContext(new NoopTransactionContext())
+                .monitor(monitor)
+                .group(TransferProcessTaskPayload.GROUP)
+                .recoveryIntervalMillis(0)
+                .build();
+        relay.enqueue("subject", task, new byte[]{ 1 });
+        relay.recoverWith(listener);
+        relay.start();
+
+        await().untilAsserted(() -> verify(taskStore, atLeast(2)).fetchForUpdate(any()));
+        verify(listener, never()).created(any());
+    }
+
+    private NatsTaskRelay relay(Clock clock) {
+        return NatsTaskRelay.Builder.newInstance()
+                .jetStream(jetStream)
+                .taskStore(taskStore)
+                .transactionContext(new NoopTransactionContext())
+                .monitor(monitor)
+                .clock(clock)
+                .visibilityTimeoutMillis(10_000)
+                .group(TransferProcessTaskPayload.GROUP)
+                .build();
+    }
+
+    private <T extends ProcessTaskPayload, B extends ProcessTaskPayload.Builder<T, B>> Task task(B builder, String processId, long at) {
+        return Task.Builder.newInstance().at(at)
+                .payload(builder.processId(processId).processState(100).processType("CONSUMER").build())
+                .build();
+    }
+}
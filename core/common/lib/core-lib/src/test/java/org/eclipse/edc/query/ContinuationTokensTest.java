@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.query;
+
+import org.eclipse.edc.spi.query.ContinuationToken;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContinuationTokensTest {
+
+    @Test
+    void next_shouldPointToLastEntity() {
+        var query = QuerySpec.Builder.newInstance().sortField("createdAt").limit(2).build();
+
+        var token = ContinuationTokens.next(query, List.of(new Item("id1", 10L), new Item("id2", 20L)));
+
+        assertThat(token).isNotNull();
+        assertThat(ContinuationToken.decode(token)).isEqualTo(new ContinuationToken(20, "id2"));
+    }
+
+    @Test
+    void next_shouldReturnNull_whenLastPage() {
+        var query = QuerySpec.Builder.newInstance().sortField("createdAt").limit(3).build();
+
+        assertThat(ContinuationTokens.next(query, List.of(new Item("id1", 10L), new Item("id2", 20L)))).isNull();
+        assertThat(ContinuationTokens.next(query, List.of())).isNull();
+    }
+
+    @Test
+    void next_shouldReturnNull_whenNotSorted() {
+        var query = QuerySpec.Builder.newInstance().limit(1).build();
+
+        assertThat(ContinuationTokens.next(query, List.of(new Item("id1", 10L)))).isNull();
+    }
+
+    private record Item(String id, long createdAt) {
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.security.token.jwt;
+
+import com.nimbusds.jose.JWSSigner;
+import org.eclipse.edc.jwt.spi.signer.JwsSignerProvider;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingJwsSignerProviderTest {
+
+    private final JwsSignerProvider delegate = mock();
+    private final Clock clock = mock();
+    private final CachingJwsSignerProvider signerProvider = new CachingJwsSignerProvider(delegate, 1000, 10, clock);
+
+    @Test
+    void createJwsSigner_shouldCacheSignerPerParticipantContextAndKey() {
+        JWSSigner signer = mock();
+        when(clock.millis()).thenReturn(0L);
+        when(delegate.createJwsSigner(anyString(), anyString())).thenReturn(Result.success(signer));
+
+        assertThat(signerProvider.createJwsSigner("context", "key")).isSucceeded().isSameAs(signer);
+        assertThat(signerProvider.createJwsSigner("context", "key")).isSucceeded().isSameAs(signer);
+        signerProvider.createJwsSigner("other-context", "key");
+
+        verify(delegate).createJwsSigner("context", "key");
+        verify(delegate).createJwsSigner("other-context", "key");
+    }
+
+    @Test
+    void createJwsSigner_shouldCreateSignerAgain_whenExpired() {
+        when(clock.millis()).thenReturn(0L, 0L, 1000L);
+        when(delegate.createJwsSigner(anyString(), anyString())).thenReturn(Result.success(mock()));
+
+        signerProvider.createJwsSigner("context", "key");
+        signerProvider.createJwsSigner("context", "key");
+
+        verify(delegate, times(2)).createJwsSigner("context", "key");
+    }
+
+    @Test
+    void createJwsSigner_shouldNotCacheFailure() {
+        when(clock.millis()).thenReturn(0L);
+        when(delegate.createJwsSigner(anyString(), anyString())).thenReturn(Result.failure("key not found"), Result.success(mock()));
+
+        assertThat(signerProvider.createJwsSigner("context", "key")).isFailed().detail().isEqualTo("key not found");
+        assertThat(signerProvider.createJwsSigner("context", "key")).isSucceeded();
+
+        verify(delegate, times(2)).createJwsSigner("context", "key");
+    }
+
+    @Test
+    void invalidate_shouldEvictSignersOfKeyInAllParticipantContexts() {
+        when(clock.millis()).thenReturn(0L);
+        when(delegate.createJwsSigner(anyString(), anyString())).thenReturn(Result.success(mock()));
+        signerProvider.createJwsSigner("context", "key");
+        signerProvider.createJwsSigner("other-context", "key");
+        signerProvider.createJwsSigner("context", "other-key");
+
+        signerProvider.invalidate("key");
+
+        signerProvider.createJwsSigner("context", "key");
+        signerProvider.createJwsSigner("other-context", "key");
+        signerProvider.createJwsSigner("context", "other-key");
+        verify(delegate, times(2)).createJwsSigner("context", "key");
+        verify(delegate, times(2)).createJwsSigner("other-context", "key");
+        verify(delegate).createJwsSigner("context", "other-key");
+        verify(delegate).invalidate("key");
+    }
+
+    @Test
+    void warmUp_shouldCacheSigner() {
+        when(clock.millis()).thenReturn(0L);
+        when(delegate.createJwsSigner(anyString(), anyString())).thenReturn(Result.success(mock()));
+
+        assertThat(signerProvider.warmUp("context", "key")).isSucceeded();
+        signerProvider.createJwsSigner("context", "key");
+
+        verify(delegate).createJwsSigner("context", "key");
+    }
+}
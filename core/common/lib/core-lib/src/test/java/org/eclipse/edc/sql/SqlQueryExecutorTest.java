@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.sql;
 
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -25,13 +27,19 @@ import java.io.InputStream;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.Date;
+import java.util.List;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class SqlQueryExecutorTest {
@@ -43,7 +51,7 @@ class SqlQueryExecutorTest {
     void setArgumentCorrectType(Object argument, MockitoPreparedStatementVerification verification) throws SQLException {
         var connection = Mockito.mock(Connection.class);
         var preparedStatement = Mockito.mock(PreparedStatement.class);
-        when(connection.prepareStatement(DUMMY_SQL, Statement.RETURN_GENERATED_KEYS)).thenReturn(preparedStatement);
+        when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
         when(preparedStatement.execute()).thenReturn(true);
 
         executor.execute(connection, DUMMY_SQL, argument);
@@ -51,6 +59,64 @@ class SqlQueryExecutorTest {
         verification.verify(preparedStatement);
     }
 
+    @Test
+    void executeBatch_shouldAddOneBatchEntryPerArguments() throws SQLException {
+        var connection = Mockito.mock(Connection.class);
+        var preparedStatement = Mockito.mock(PreparedStatement.class);
+        when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{ 1, 1 });
+
+        var result = executor.executeBatch(connection, DUMMY_SQL, List.of(new Object[]{ "id1", 1 }, new Object[]{ "id2", 2 }));
+
+        assertThat(result).containsExactly(1, 1);
+        verify(connection).prepareStatement(DUMMY_SQL);
+        verify(preparedStatement).setString(1, "id1");
+        verify(preparedStatement).setInt(2, 1);
+        verify(preparedStatement).setString(1, "id2");
+        verify(preparedStatement).setInt(2, 2);
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).executeBatch();
+    }
+
+    @Test
+    void executeBatch_shouldNotPrepareStatement_whenNoArguments() {
+        var connection = Mockito.mock(Connection.class);
+
+        var result = executor.executeBatch(connection, DUMMY_SQL, List.of());
+
+        assertThat(result).isEmpty();
+        verifyNoInteractions(connection);
+    }
+
+    @Test
+    void executeBatch_shouldWrapException() throws SQLException {
+        var connection = Mockito.mock(Connection.class);
+        var preparedStatement = Mockito.mock(PreparedStatement.class);
+        when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
+        when(preparedStatement.executeBatch()).thenThrow(new SQLException("batch failed"));
+
+        assertThatThrownBy(() -> executor.executeBatch(connection, DUMMY_SQL, List.<Object[]>of(new Object[]{ "id" })))
+                .isInstanceOf(EdcPersistenceException.class)
+                .hasMessage("batch failed");
+    }
+
+    @Test
+    void executeReturningKeys_shouldMapGeneratedKeys() throws SQLException {
+        var connection = Mockito.mock(Connection.class);
+        var preparedStatement = Mockito.mock(PreparedStatement.class);
+        var generatedKeys = Mockito.mock(ResultSet.class);
+        when(connection.prepareStatement(DUMMY_SQL, Statement.RETURN_GENERATED_KEYS)).thenReturn(preparedStatement);
+        when(preparedStatement.getGeneratedKeys()).thenReturn(generatedKeys);
+        when(generatedKeys.next()).thenReturn(true, false);
+        when(generatedKeys.getLong(1)).thenReturn(42L);
+
+        var keys = executor.executeReturningKeys(connection, resultSet -> resultSet.getLong(1), DUMMY_SQL, "value");
+
+        assertThat(keys).containsExactly(42L);
+        verify(preparedStatement).setString(1, "value");
+        verify(preparedStatement).executeUpdate();
+    }
+
     static class TestExecuteParametrizedArgumentProvider implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
@@ -69,6 +135,7 @@ class SqlQueryExecutorTest {
                     Arguments.of((byte) 1, (MockitoPreparedStatementVerification) (statement) -> verify(statement).setByte(1, (byte) 1)),
                     Arguments.of(BigDecimal.valueOf(1L), (MockitoPreparedStatementVerification) (statement) -> verify(statement).setBigDecimal(1, BigDecimal.valueOf(1L))),
                     Arguments.of(new Date(), (MockitoPreparedStatementVerification) (statement) -> verify(statement).setTimestamp(Mockito.eq(1), Mockito.any(Timestamp.class))),
+                    Arguments.of(new Timestamp(0), (MockitoPreparedStatementVerification) (statement) -> verify(statement).setTimestamp(Mockito.eq(1), Mockito.any(Timestamp.class))),
                     Arguments.of("bytes".getBytes(), (MockitoPreparedStatementVerification) (statement) -> verify(statement).setBytes(1, "bytes".getBytes())),
                     Arguments.of(inputStream, (MockitoPreparedStatementVerification) (statement) -> verify(statement).setBlob(1, inputStream)),
                     Arguments.of(object, (MockitoPreparedStatementVerification) (statement) -> verify(statement).setObject(1, object))
@@ -154,4 +154,54 @@ class JsonFieldTranslatorTest {
 
     }
 
+    @Nested
+    class ToWhereClauseWithJsonb {
+
+        private final JsonFieldTranslator translator = new JsonFieldTranslator("column_name", true);
+
+        @Test
+        void shouldUseContainment_whenOperatorIsEqualAndRightOperandIsString() {
+            var operator = new SqlOperator("=", Object.class);
+            var criterion = criterion("json.nested.field", "=", "value");
+
+            var result = translator.toWhereClause(PathItem.parse("nested.'https://w3id.org/field'"), criterion, operator);
+
+            assertThat(result.sql()).isEqualTo("column_name @> ?::jsonb");
+            assertThat(result.parameters()).containsExactly("{\"nested\":{\"https://w3id.org/field\":\"value\"}}");
+        }
+
+        @Test
+        void shouldExtractValue_whenRightOperandIsNotString() {
+            var operator = new SqlOperator("=", Object.class);
+            var criterion = criterion("json.field", "=", 100);
+
+            var result = translator.toWhereClause(PathItem.parse("field"), criterion, operator);
+
+            assertThat(result.sql()).isEqualTo("(column_name ->> 'field')::integer = ?");
+            assertThat(result.parameters()).containsExactly(100);
+        }
+
+        @Test
+        void shouldExtractValue_whenOperatorIsNotEqual() {
+            var operator = new SqlOperator("like", String.class);
+            var criterion = criterion("json.field", "like", "val%");
+
+            var result = translator.toWhereClause(PathItem.parse("field"), criterion, operator);
+
+            assertThat(result.sql()).isEqualTo("column_name ->> 'field' like ?");
+            assertThat(result.parameters()).containsExactly("val%");
+        }
+
+        @Test
+        void shouldNotCast_whenOperatorIsContains() {
+            var operator = new SqlOperator("??", Object.class);
+            var criterion = criterion("json.array", "contains", "value");
+
+            var result = translator.toWhereClause(PathItem.parse("array"), criterion, operator);
+
+            assertThat(result.sql()).isEqualTo("column_name -> 'array' ?? ?");
+            assertThat(result.parameters()).containsExactly("value");
+        }
+    }
+
 }
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.sql.translation;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -114,6 +115,57 @@ class SqlQueryStatementTest {
         assertThat(t.getParameters()).containsExactly("testid1", customParameter, 50, 0);
     }
 
+    @Test
+    void orderBy_shouldOverrideSortField() {
+        var builder = queryBuilder().sortField("description");
+        var t = new SqlQueryStatement(SELECT_STATEMENT, builder.sortOrder(SortOrder.ASC).build(), new TestMapping(), criterionToWhereClauseConverter)
+                .orderBy("edc_field_1, edc_description");
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " ORDER BY edc_field_1, edc_description LIMIT ? OFFSET ?;");
+    }
+
+    @Test
+    void orderBy_shouldAddIdAsTieBreaker_whenMappingHasId() {
+        var builder = queryBuilder().sortField("description");
+        var t = new SqlQueryStatement(SELECT_STATEMENT, builder.sortOrder(SortOrder.DESC).build(), new IdTestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " ORDER BY edc_description DESC, edc_id DESC LIMIT ? OFFSET ?;");
+    }
+
+    @Test
+    void continuationToken_shouldTranslateIntoKeysetCondition() {
+        var criterion = new Criterion("field1", "=", "testid1");
+        var token = new ContinuationToken("last-description", "last-id").encode();
+        var query = queryBuilder(criterion).sortField("description").continuationToken(token).limit(20).build();
+        when(criterionToWhereClauseConverter.convert(any())).thenReturn(new WhereClause("edc_field_1 = ?", "testid1"));
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new IdTestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE edc_field_1 = ? AND (edc_description, edc_id) > (?, ?) ORDER BY edc_description ASC, edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("testid1", "last-description", "last-id", 20, 0);
+    }
+
+    @Test
+    void continuationToken_shouldCompareIdOnly_whenSortedByIdDescending() {
+        var token = new ContinuationToken("last-id", "last-id").encode();
+        var query = queryBuilder().sortField("id").sortOrder(SortOrder.DESC).continuationToken(token).build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new IdTestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_id < ? ORDER BY edc_id DESC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("last-id", 50, 0);
+    }
+
+    @Test
+    void continuationToken_shouldThrow_whenMappingHasNoId() {
+        var token = new ContinuationToken("last-description", "last-id").encode();
+        var query = queryBuilder().sortField("description").continuationToken(token).build();
+
+        assertThatThrownBy(() -> new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping(), criterionToWhereClauseConverter))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void forUpdate() {
         var criterion = new Criterion("field1", "=", "testid1");
@@ -143,4 +195,10 @@ class SqlQueryStatementTest {
     private QuerySpec query(Criterion... criterion) {
         return queryBuilder(criterion).build();
     }
+
+    private static class IdTestMapping extends TestMapping {
+        IdTestMapping() {
+            add("id", "edc_id");
+        }
+    }
 }
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BoundedCacheTest {
+
+    private final Clock clock = mock();
+
+    @Test
+    void verifyEviction() {
+        var cache = new BoundedCache<String, String>(2, clock);
+
+        cache.put("foo", "foo");
+        cache.put("bar", "bar");
+        cache.get("foo");
+        cache.put("baz", "baz");
+
+        assertThat(cache.get("foo")).isEqualTo("foo");
+        assertThat(cache.get("baz")).isEqualTo("baz");
+        assertThat(cache.get("bar")).isNull();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void verifyEviction_expiredFirst() {
+        when(clock.millis()).thenReturn(0L, 0L, 0L, 200L, 200L);
+        var cache = new BoundedCache<String, String>(2, clock);
+
+        cache.put("foo", "foo", 1000);
+        cache.put("bar", "bar", 100);
+        cache.put("baz", "baz", 1000);
+
+        assertThat(cache.get("foo")).isEqualTo("foo");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.remove("bar")).isNull();
+    }
+
+    @Test
+    void get_whenExpired() {
+        when(clock.millis()).thenReturn(0L, 999L, 1000L);
+        var cache = new BoundedCache<String, String>(10, clock);
+
+        cache.put("foo", "foo", 1000);
+
+        assertThat(cache.get("foo")).isEqualTo("foo");
+        assertThat(cache.get("foo")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void put_whenCapacityZero() {
+        var cache = new BoundedCache<String, String>(0, clock);
+
+        cache.put("foo", "foo");
+
+        assertThat(cache.get("foo")).isNull();
+    }
+
+    @Test
+    void remove_shouldReturnValue() {
+        var cache = new BoundedCache<String, String>(10, clock);
+        cache.put("foo", "foo");
+
+        assertThat(cache.remove("foo")).isEqualTo("foo");
+        assertThat(cache.get("foo")).isNull();
+    }
+
+    @Test
+    void verifyConcurrentAccess_staysBounded() throws Exception {
+        var capacity = 100;
+        var cache = new BoundedCache<Integer, Integer>(capacity);
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var futures = IntStream.range(0, 8)
+                    .mapToObj(thread -> executor.submit(() -> {
+                        for (var i = 0; i < 10_000; i++) {
+                            var key = (i * 31 + thread) % 500;
+                            var value = cache.get(key);
+                            if (value != null) {
+                                assertThat(value).isEqualTo(key);
+                            } else {
+                                cache.put(key, key);
+                            }
+                        }
+                    }))
+                    .toList();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(capacity);
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class LoadingCacheTest {
+
+    private final Function<String, String> loader = mock();
+    private final Clock clock = mock();
+    private final Executor executor = mock();
+
+    @Test
+    void get_shouldLoadOnce_whenValid() {
+        when(clock.millis()).thenReturn(0L);
+        when(loader.apply(anyString())).thenReturn("value");
+        var cache = cacheBuilder().build();
+
+        assertThat(cache.get("key")).isEqualTo("value");
+        assertThat(cache.get("key")).isEqualTo("value");
+
+        verify(loader).apply("key");
+        assertThat(cache.stats()).satisfies(stats -> {
+            assertThat(stats.hits()).isEqualTo(1);
+            assertThat(stats.misses()).isEqualTo(1);
+            assertThat(stats.loads()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void get_shouldServeStaleValueAndRefreshAsync_whenInGracePeriod() {
+        when(clock.millis()).thenReturn(0L, 0L, 1500L, 1500L);
+        when(loader.apply(anyString())).thenReturn("old", "new");
+        var cache = cacheBuilder().gracePeriod(1000).build();
+        cache.get("key");
+
+        var result = cache.get("key");
+
+        assertThat(result).isEqualTo("old");
+        verify(executor).execute(isA(Runnable.class));
+    }
+
+    @Test
+    void get_shouldRefreshInBackground_whenInGracePeriod() {
+        when(clock.millis()).thenReturn(0L, 0L, 1500L, 1500L, 1600L);
+        when(loader.apply(anyString())).thenReturn("old", "new");
+        var cache = cacheBuilder().gracePeriod(1000).executor(Runnable::run).build();
+        cache.get("key");
+
+        assertThat(cache.get("key")).isEqualTo("old");
+        assertThat(cache.get("key")).isEqualTo("new");
+
+        verify(loader, times(2)).apply("key");
+    }
+
+    @Test
+    void get_shouldLoadSynchronously_whenGracePeriodElapsed() {
+        when(clock.millis()).thenReturn(0L, 0L, 2000L, 2000L);
+        when(loader.apply(anyString())).thenReturn("old", "new");
+        var cache = cacheBuilder().gracePeriod(1000).build();
+        cache.get("key");
+
+        var result = cache.get("key");
+
+        assertThat(result).isEqualTo("new");
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    void get_shouldRefreshAhead_whenAboutToExpire() {
+        when(clock.millis()).thenReturn(0L, 0L, 850L, 850L, 900L);
+        when(loader.apply(anyString())).thenReturn("old", "new");
+        var cache = cacheBuilder().refreshAhead(200).executor(Runnable::run).build();
+        cache.get("key");
+
+        assertThat(cache.get("key")).isEqualTo("old");
+        assertThat(cache.get("key")).isEqualTo("new");
+
+        verify(loader, times(2)).apply("key");
+    }
+
+    @Test
+    void get_shouldNotRefreshAhead_whenNotAboutToExpire() {
+        when(clock.millis()).thenReturn(0L, 0L, 700L);
+        when(loader.apply(anyString())).thenReturn("value");
+        var cache = cacheBuilder().refreshAhead(200).build();
+        cache.get("key");
+
+        assertThat(cache.get("key")).isEqualTo("value");
+
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    void get_shouldLoadOnce_whenConcurrentMisses() throws Exception {
+        when(clock.millis()).thenReturn(0L);
+        var loading = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var count = new AtomicInteger();
+        var cache = LoadingCache.Builder.<String, String>newInstance(key -> {
+            count.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "value";
+        }).clock(clock).validity(1000).build();
+
+        var first = CompletableFuture.supplyAsync(() -> cache.get("key"));
+        loading.await(5, TimeUnit.SECONDS);
+        var second = CompletableFuture.supplyAsync(() -> cache.get("key"));
+        Thread.sleep(50);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(count).hasValue(1);
+    }
+
+    @Test
+    void get_shouldPropagateFailure_whenLoadFails() {
+        when(clock.millis()).thenReturn(0L);
+        when(loader.apply(anyString())).thenThrow(new IllegalArgumentException("error"));
+        var cache = cacheBuilder().build();
+
+        assertThatThrownBy(() -> cache.get("key")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(cache.stats().loadFailures()).isEqualTo(1);
+    }
+
+    @Test
+    void get_shouldEvictEarliestExpiring_whenFull() {
+        when(clock.millis()).thenReturn(0L, 0L, 10L, 10L, 20L, 20L, 20L);
+        when(loader.apply(anyString())).thenAnswer(i -> i.getArgument(0));
+        var cache = cacheBuilder().maxEntries(2).build();
+
+        cache.get("first");
+        cache.get("second");
+        cache.get("third");
+
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+        assertThat(cache.stats().size()).isEqualTo(2);
+        assertThat(cache.evict("first")).isNull();
+        assertThat(cache.evict("second")).isEqualTo("second");
+    }
+
+    @Test
+    void evict_shouldReturnValue() {
+        when(clock.millis()).thenReturn(0L);
+        when(loader.apply(anyString())).thenReturn("value");
+        var cache = cacheBuilder().build();
+        cache.get("key");
+
+        assertThat(cache.evict("key")).isEqualTo("value");
+
+        cache.get("key");
+        verify(loader, times(2)).apply("key");
+    }
+
+    @Test
+    void evictIf_shouldRemoveMatchingEntries() {
+        when(clock.millis()).thenReturn(0L);
+        when(loader.apply(anyString())).thenAnswer(invocation -> invocation.getArgument(0) + "-value");
+        var cache = cacheBuilder().build();
+        cache.get("key1");
+        cache.get("key2");
+        cache.get("other");
+
+        assertThat(cache.evictIf(key -> key.startsWith("key"))).isEqualTo(2);
+
+        assertThat(cache.stats().size()).isEqualTo(1);
+        cache.get("key1");
+        cache.get("other");
+        verify(loader, times(2)).apply("key1");
+        verify(loader).apply("other");
+    }
+
+    @Test
+    void build_shouldRequireExecutor_whenGracePeriodSet() {
+        assertThatThrownBy(() -> LoadingCache.Builder.newInstance(loader).gracePeriod(1000).build())
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void build_shouldRequireExecutor_whenRefreshAheadSet() {
+        assertThatThrownBy(() -> LoadingCache.Builder.newInstance(loader).refreshAhead(200).build())
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    private LoadingCache.Builder<String, String> cacheBuilder() {
+        return LoadingCache.Builder.newInstance(loader).clock(clock).validity(1000).executor(executor);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
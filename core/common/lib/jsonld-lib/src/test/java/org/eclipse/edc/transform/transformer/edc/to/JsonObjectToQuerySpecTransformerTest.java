@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
 import static org.eclipse.edc.jsonld.test.TestJsonLd.expand;
+import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_CONTINUATION_TOKEN;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_FILTER_EXPRESSION;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_OFFSET;
@@ -48,6 +49,20 @@ class JsonObjectToQuerySpecTransformerTest {
         assertThat(transformer.getOutputType()).isEqualTo(QuerySpec.class);
     }
 
+    @Test
+    void transform_withContinuationToken() {
+        var json = Json.createObjectBuilder()
+                .add(TYPE, EDC_QUERY_SPEC_TYPE)
+                .add(EDC_QUERY_SPEC_SORT_FIELD, "fieldName")
+                .add(EDC_QUERY_SPEC_CONTINUATION_TOKEN, "token")
+                .build();
+
+        var result = transformer.transform(expand(json), context);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getContinuationToken()).isEqualTo("token");
+    }
+
     @Test
     void transform() {
         var filterExpressionJson = Json.createArrayBuilder()
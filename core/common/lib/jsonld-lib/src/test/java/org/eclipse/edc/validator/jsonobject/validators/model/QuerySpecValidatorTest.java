@@ -17,6 +17,7 @@ package org.eclipse.edc.validator.jsonobject.validators.model;
 import jakarta.json.Json;
 import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonObject;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.validator.spi.ValidationFailure;
 import org.eclipse.edc.validator.spi.Validator;
@@ -28,6 +29,7 @@ import static jakarta.json.Json.createObjectBuilder;
 import static org.assertj.core.api.InstanceOfAssertFactories.list;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VALUE;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_CONTINUATION_TOKEN;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_FILTER_EXPRESSION;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_OFFSET;
@@ -113,6 +115,51 @@ class QuerySpecValidatorTest {
                 .asString().contains("blank");
     }
 
+    @Test
+    void shouldSucceed_whenContinuationTokenWithSortField() {
+        var input = Json.createObjectBuilder()
+                .add(EDC_QUERY_SPEC_SORT_FIELD, value("createdAt"))
+                .add(EDC_QUERY_SPEC_CONTINUATION_TOKEN, value(new ContinuationToken(1L, "id").encode()))
+                .build();
+
+        var result = validator.validate(input);
+
+        assertThat(result).isSucceeded();
+    }
+
+    @Test
+    void shouldFail_whenContinuationTokenIsMalformed() {
+        var input = Json.createObjectBuilder()
+                .add(EDC_QUERY_SPEC_SORT_FIELD, value("createdAt"))
+                .add(EDC_QUERY_SPEC_CONTINUATION_TOKEN, value("malformed"))
+                .build();
+
+        var result = validator.validate(input);
+
+        assertThat(result).isFailed().extracting(ValidationFailure::getViolations).asInstanceOf(list(Violation.class))
+                .filteredOn(v -> v.path().equals(EDC_QUERY_SPEC_CONTINUATION_TOKEN))
+                .hasSize(1)
+                .first()
+                .extracting(Violation::message)
+                .asString().contains("not a valid");
+    }
+
+    @Test
+    void shouldFail_whenContinuationTokenWithoutSortFieldOrWithOffset() {
+        var token = new ContinuationToken(1L, "id").encode();
+        var withoutSortField = Json.createObjectBuilder()
+                .add(EDC_QUERY_SPEC_CONTINUATION_TOKEN, value(token))
+                .build();
+        var withOffset = Json.createObjectBuilder()
+                .add(EDC_QUERY_SPEC_SORT_FIELD, value("createdAt"))
+                .add(EDC_QUERY_SPEC_OFFSET, value(10))
+                .add(EDC_QUERY_SPEC_CONTINUATION_TOKEN, value(token))
+                .build();
+
+        assertThat(validator.validate(withoutSortField)).isFailed();
+        assertThat(validator.validate(withOffset)).isFailed();
+    }
+
     @Test
     void shouldFail_whenFilterExpressionEntryNotValid() {
         var input = Json.createObjectBuilder()
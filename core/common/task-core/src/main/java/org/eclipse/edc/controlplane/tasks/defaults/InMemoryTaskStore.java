@@ -59,13 +59,35 @@ public class InMemoryTaskStore implements TaskStore {
 
     @Override
     public StoreResult<Void> update(Task task) {
-        var prev = tasks.computeIfPresent(task.getId(), (k, v) -> task);
+        var prev = tasks.computeIfPresent(task.getId(), (k, v) -> withPublished(task, v.isPublished()));
         if (prev != null) return StoreResult.success();
         return StoreResult.notFound(format("Task with id %s not found", task.getId()));
     }
 
+    @Override
+    public StoreResult<Void> markPublished(String id) {
+        var prev = tasks.computeIfPresent(id, (k, v) -> withPublished(v, true));
+        if (prev != null) return StoreResult.success();
+        return StoreResult.notFound(format("Task with id %s not found", id));
+    }
+
     @Override
     public Task findById(String id) {
         return tasks.get(id);
     }
+
+    private Task withPublished(Task task, boolean published) {
+        if (task.isPublished() == published) {
+            return task;
+        }
+        return Task.Builder.newInstance()
+                .id(task.getId())
+                .at(task.getAt())
+                .payload(task.getPayload())
+                .retryCount(task.getRetryCount())
+                .name(task.getName())
+                .group(task.getGroup())
+                .published(published)
+                .build();
+    }
 }
@@ -20,12 +20,18 @@ import org.eclipse.edc.keys.spi.PrivateKeyResolver;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.security.token.jwt.CachingJwsSignerProvider;
 import org.eclipse.edc.security.token.jwt.DefaultJwsSignerProvider;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.token.spi.TokenDecoratorRegistry;
 import org.eclipse.edc.token.spi.TokenValidationRulesRegistry;
 import org.eclipse.edc.token.spi.TokenValidationService;
 
+import java.time.Clock;
+import java.util.Arrays;
+
 import static org.eclipse.edc.token.TokenServicesExtension.NAME;
 
 /**
@@ -36,8 +42,29 @@ import static org.eclipse.edc.token.TokenServicesExtension.NAME;
 public class TokenServicesExtension implements ServiceExtension {
     public static final String NAME = "Token Services Extension";
 
+    @Setting(description = "How long a JWS signer is cached per participant context and private key, in milliseconds. 0 disables the cache",
+            defaultValue = "300000", key = "edc.token.signer.cache.validity")
+    private long signerCacheValidity;
+
+    @Setting(description = "The maximum number of cached JWS signers", defaultValue = "1000", key = "edc.token.signer.cache.max-entries")
+    private int signerCacheMaxEntries;
+
+    @Setting(description = "Comma-separated IDs of the private keys whose JWS signers are created at startup",
+            key = "edc.token.signer.cache.prewarm.keys", required = false)
+    private String signerCachePrewarmKeys;
+
+    @Setting(description = "The participant context ID for which the JWS signers of the pre-warmed keys are created",
+            key = "edc.token.signer.cache.prewarm.participant-context-id", required = false)
+    private String signerCachePrewarmParticipantContextId;
+
     @Inject
     private PrivateKeyResolver privateKeyResolver;
+    @Inject
+    private Clock clock;
+    @Inject
+    private Monitor monitor;
+
+    private CachingJwsSignerProvider cachingSignerProvider;
 
     @Provider
     public TokenValidationRulesRegistry tokenValidationRulesRegistry() {
@@ -54,9 +81,27 @@ public class TokenServicesExtension implements ServiceExtension {
         return new TokenDecoratorRegistryImpl();
     }
 
+    @Override
+    public void start() {
+        if (cachingSignerProvider == null || signerCachePrewarmKeys == null) {
+            return;
+        }
+        Arrays.stream(signerCachePrewarmKeys.split(","))
+                .map(String::trim)
+                .filter(keyId -> !keyId.isEmpty())
+                .forEach(keyId -> cachingSignerProvider.warmUp(signerCachePrewarmParticipantContextId, keyId)
+                        .onFailure(failure -> monitor.warning("Failed to pre-warm the JWS signer for private key '%s': %s"
+                                .formatted(keyId, failure.getFailureDetail()))));
+    }
+
     @Provider(isDefault = true)
     public JwsSignerProvider defaultSignerProvider() {
-        return new DefaultJwsSignerProvider(privateKeyResolver);
+        var signerProvider = new DefaultJwsSignerProvider(privateKeyResolver);
+        if (signerCacheValidity <= 0) {
+            return signerProvider;
+        }
+        cachingSignerProvider = new CachingJwsSignerProvider(signerProvider, signerCacheValidity, signerCacheMaxEntries, clock);
+        return cachingSignerProvider;
     }
 
     @Provider(isDefault = true)
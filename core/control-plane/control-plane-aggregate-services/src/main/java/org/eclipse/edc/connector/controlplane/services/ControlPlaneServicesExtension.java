@@ -44,6 +44,7 @@ import org.eclipse.edc.connector.controlplane.services.policydefinition.PolicyDe
 import org.eclipse.edc.connector.controlplane.services.protocol.ProtocolTokenValidatorImpl;
 import org.eclipse.edc.connector.controlplane.services.protocol.VersionProtocolServiceImpl;
 import org.eclipse.edc.connector.controlplane.services.query.QueryValidators;
+import org.eclipse.edc.connector.controlplane.services.secret.JwsSignerInvalidationListener;
 import org.eclipse.edc.connector.controlplane.services.secret.SecretEventListener;
 import org.eclipse.edc.connector.controlplane.services.secret.SecretServiceImpl;
 import org.eclipse.edc.connector.controlplane.services.spi.asset.AssetService;
@@ -68,6 +69,7 @@ import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcess
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.DataAddressStore;
 import org.eclipse.edc.connector.secret.spi.observe.SecretObservableImpl;
 import org.eclipse.edc.connector.spi.service.SecretService;
+import org.eclipse.edc.jwt.spi.signer.JwsSignerProvider;
 import org.eclipse.edc.participant.spi.ParticipantAgentService;
 import org.eclipse.edc.participantcontext.spi.identity.ParticipantIdentityResolver;
 import org.eclipse.edc.policy.context.request.spi.RequestCatalogPolicyContext;
@@ -157,6 +159,8 @@ public class ControlPlaneServicesExtension implements ServiceExtension {
     private DataFlowController dataFlowController;
     @Inject
     private DataAddressStore dataAddressStore;
+    @Inject(required = false)
+    private JwsSignerProvider jwsSignerProvider;
 
     @Override
     public String name() {
@@ -182,6 +186,9 @@ public class ControlPlaneServicesExtension implements ServiceExtension {
     public SecretService secretService() {
         var secretObservable = new SecretObservableImpl();
         secretObservable.registerListener(new SecretEventListener(eventRouter));
+        if (jwsSignerProvider != null) {
+            secretObservable.registerListener(new JwsSignerInvalidationListener(jwsSignerProvider));
+        }
         return new SecretServiceImpl(vault, secretObservable);
     }
 
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.controlplane.services.query;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
@@ -55,7 +56,8 @@ public class QueryValidator {
     }
 
     /**
-     * Validates a {@link QuerySpec} whether it conforms to a particular schema (e.g. a Java class) or not
+     * Validates a {@link QuerySpec} whether it conforms to a particular schema (e.g. a Java class) or not. The sort value
+     * of the continuation token, if any, must be convertible to the type of the sort field.
      */
     public Result<Void> validate(QuerySpec query) {
         return query.getFilterExpression().stream()
@@ -63,7 +65,8 @@ public class QueryValidator {
                 .map(Object::toString)
                 .map(this::isValid)
                 .reduce(Result::merge)
-                .orElse(Result.success());
+                .orElse(Result.success())
+                .merge(isValidContinuationToken(query));
     }
 
     /**
@@ -103,6 +106,22 @@ public class QueryValidator {
         return Result.success();
     }
 
+    private Result<Void> isValidContinuationToken(QuerySpec query) {
+        if (query.getContinuationToken() == null || query.getSortField() == null) {
+            return Result.success();
+        }
+        var field = getFieldIncludingSubtypes(canonicalType, query.getSortField());
+        try {
+            var token = ContinuationToken.decode(query.getContinuationToken());
+            if (field != null) {
+                token.sortValueAs(field.getType());
+            }
+            return Result.success();
+        } catch (IllegalArgumentException e) {
+            return Result.failure(e.getMessage());
+        }
+    }
+
     private Field getFieldIncludingSubtypes(Class<?> type, String token) {
         var field = ReflectionUtil.getFieldRecursive(type, token);
         if (field == null) {
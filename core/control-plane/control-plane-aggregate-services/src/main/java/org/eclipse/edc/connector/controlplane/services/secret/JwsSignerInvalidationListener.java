@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.services.secret;
+
+import org.eclipse.edc.connector.secret.spi.observe.SecretListener;
+import org.eclipse.edc.jwt.spi.signer.JwsSignerProvider;
+import org.eclipse.edc.spi.types.domain.secret.Secret;
+
+/**
+ * Listener that invalidates the JWS signers of a secret when it gets updated or deleted, so that a rotated private
+ * key is not used for signing anymore.
+ */
+public class JwsSignerInvalidationListener implements SecretListener {
+    private final JwsSignerProvider jwsSignerProvider;
+
+    public JwsSignerInvalidationListener(JwsSignerProvider jwsSignerProvider) {
+        this.jwsSignerProvider = jwsSignerProvider;
+    }
+
+    @Override
+    public void deleted(Secret secret) {
+        jwsSignerProvider.invalidate(secret.getId());
+    }
+
+    @Override
+    public void updated(Secret secret) {
+        jwsSignerProvider.invalidate(secret.getId());
+    }
+
+}
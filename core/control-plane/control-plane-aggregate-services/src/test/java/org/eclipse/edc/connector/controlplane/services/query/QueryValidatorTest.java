@@ -14,8 +14,10 @@
 
 package org.eclipse.edc.connector.controlplane.services.query;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -124,6 +126,31 @@ class QueryValidatorTest {
         assertThat(result.succeeded()).isTrue();
     }
 
+    @Test
+    void validate_continuationTokenForEnumSortField() {
+        var queryValidator = new QueryValidator(TestObject.class);
+        var query = QuerySpec.Builder.newInstance().sortField("someEnum")
+                .continuationToken(new ContinuationToken(SortOrder.ASC, "id").encode())
+                .build();
+
+        var result = queryValidator.validate(query);
+
+        assertThat(result.succeeded()).isTrue();
+    }
+
+    @Test
+    void validate_continuationTokenNotMatchingEnumSortField() {
+        var queryValidator = new QueryValidator(TestObject.class);
+        var query = QuerySpec.Builder.newInstance().sortField("someEnum")
+                .continuationToken(new ContinuationToken("UNKNOWN", "id").encode())
+                .build();
+
+        var result = queryValidator.validate(query);
+
+        assertThat(result.succeeded()).isFalse();
+        assertThat(result.getFailureDetail()).contains("UNKNOWN");
+    }
+
     private static class InvalidFilters implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
@@ -147,6 +174,7 @@ class QueryValidatorTest {
         private int someInteger;
         private TestInterface nestedObject;
         private Map<String, String> someMap;
+        private SortOrder someEnum;
     }
 
     private static class NestedTestObject implements TestInterface {
@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.ContractDefinitionResolver;
+import org.eclipse.edc.connector.controlplane.catalog.spi.ResolvedContractDefinitions;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialSubject;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.participant.spi.ParticipantAgent;
+import org.eclipse.edc.participantcontext.spi.types.ParticipantContext;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.EXPIRATION_TIME;
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.ISSUED_AT;
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.JWT_ID;
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.NOT_BEFORE;
+
+/**
+ * Caches the {@link ResolvedContractDefinitions} per participant context and {@link ParticipantAgent}, so that
+ * repeated catalog requests from the same agent do not evaluate every access policy again.
+ * <p>
+ * Entries are keyed by what the access policies read: the agent identity and attributes, and the claims without
+ * the ones that change with every token (expiration, issuance, id), where verifiable credentials are represented by
+ * their id, types, issuer and subjects, as the credential objects do not implement equality. Entries expire after
+ * the configured time-to-live, and when the cache is full the entry that expires first is evicted. The whole cache is
+ * invalidated on every event it gets subscribed to, which are expected to be the contract definition and policy
+ * definition ones.
+ */
+public class CachingContractDefinitionResolver implements ContractDefinitionResolver, EventSubscriber {
+
+    private static final Set<String> TOKEN_CLAIMS = Set.of(EXPIRATION_TIME, ISSUED_AT, NOT_BEFORE, JWT_ID);
+
+    private final ContractDefinitionResolver delegate;
+    private final Clock clock;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Map<Key, Entry> cache = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public CachingContractDefinitionResolver(ContractDefinitionResolver delegate, Clock clock, long ttlMillis, int maxEntries) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public ResolvedContractDefinitions resolveFor(ParticipantContext participantContext, ParticipantAgent agent) {
+        var key = new Key(participantContext.getParticipantContextId(), agent.getIdentity(), policyClaims(agent.getClaims()), agent.getAttributes());
+        var now = clock.millis();
+        var cached = cache.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.resolved();
+        }
+
+        var currentGeneration = generation.get();
+        // the policies map gets filled with the contract policies by the callers, it needs to be shared safely
+        var delegateResolved = delegate.resolveFor(participantContext, agent);
+        var resolved = new ResolvedContractDefinitions(delegateResolved.contractDefinitions(), new ConcurrentHashMap<>(delegateResolved.policies()));
+        evictIfFull(now);
+        cache.put(key, new Entry(resolved, now + ttlMillis));
+        if (generation.get() != currentGeneration) {
+            // definitions changed during the resolution, the result could be stale
+            cache.remove(key);
+        }
+        return resolved;
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        invalidate();
+    }
+
+    /**
+     * Removes all the cached entries.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    private void evictIfFull(long now) {
+        if (cache.size() < maxEntries) {
+            return;
+        }
+        cache.values().removeIf(entry -> entry.expiresAt() <= now);
+        while (!cache.isEmpty() && cache.size() >= maxEntries) {
+            cache.entrySet().stream()
+                    .min(Comparator.comparingLong(entry -> entry.getValue().expiresAt()))
+                    .ifPresent(entry -> cache.remove(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    private Map<String, Object> policyClaims(Map<String, Object> claims) {
+        var result = new HashMap<String, Object>();
+        claims.forEach((name, value) -> {
+            if (!TOKEN_CLAIMS.contains(name)) {
+                result.put(name, keyOf(value));
+            }
+        });
+        return result;
+    }
+
+    private Object keyOf(Object value) {
+        if (value instanceof VerifiableCredential credential) {
+            return new CredentialKey(credential.getId(), credential.getType(),
+                    credential.getIssuer() == null ? null : credential.getIssuer().id(),
+                    credential.getCredentialSubject().stream().map(this::keyOf).toList());
+        }
+        if (value instanceof CredentialSubject subject) {
+            return new SubjectKey(subject.getId(), subject.getClaims());
+        }
+        if (value instanceof List<?> list) {
+            return list.stream().map(this::keyOf).toList();
+        }
+        return value;
+    }
+
+    private record Key(String participantContextId, String identity, Map<String, Object> claims, Map<String, String> attributes) {
+    }
+
+    private record CredentialKey(String id, List<String> types, String issuer, List<Object> subjects) {
+    }
+
+    private record SubjectKey(String id, Map<String, Object> claims) {
+    }
+
+    private record Entry(ResolvedContractDefinitions resolved, long expiresAt) {
+    }
+}
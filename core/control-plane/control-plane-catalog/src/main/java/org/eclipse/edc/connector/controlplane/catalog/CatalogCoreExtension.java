@@ -15,20 +15,27 @@
 package org.eclipse.edc.connector.controlplane.catalog;
 
 import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.connector.controlplane.catalog.spi.ContractDefinitionResolver;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DistributionResolver;
 import org.eclipse.edc.connector.controlplane.catalog.spi.policy.CatalogPolicyContext;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractdefinition.ContractDefinitionEvent;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.store.ContractDefinitionStore;
+import org.eclipse.edc.connector.controlplane.policy.spi.event.PolicyDefinitionEvent;
 import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.time.Clock;
+
 import static org.eclipse.edc.connector.controlplane.catalog.spi.policy.CatalogPolicyContext.CATALOG_SCOPE;
 
 @Extension(CatalogCoreExtension.NAME)
@@ -36,6 +43,17 @@ public class CatalogCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Catalog Core";
 
+    private static final long DEFAULT_CONTRACT_DEFINITION_CACHE_TTL = 5_000;
+    private static final int DEFAULT_CONTRACT_DEFINITION_CACHE_MAX_ENTRIES = 10_000;
+
+    @Setting(description = "Time-to-live in milliseconds of the contract definitions resolved for a participant agent on catalog requests. 0 disables the cache",
+            key = "edc.catalog.contract-definition.cache.ttl", defaultValue = DEFAULT_CONTRACT_DEFINITION_CACHE_TTL + "")
+    private long contractDefinitionCacheTtl;
+
+    @Setting(description = "Maximum number of participant agents for which the resolved contract definitions are cached",
+            key = "edc.catalog.contract-definition.cache.max-entries", defaultValue = DEFAULT_CONTRACT_DEFINITION_CACHE_MAX_ENTRIES + "")
+    private int contractDefinitionCacheMaxEntries;
+
     @Inject
     private AssetIndex assetIndex;
 
@@ -56,6 +74,12 @@ public class CatalogCoreExtension implements ServiceExtension {
     @Inject
     private Monitor monitor;
 
+    @Inject
+    private EventRouter eventRouter;
+
+    @Inject
+    private Clock clock;
+
     @Override
     public String name() {
         return NAME;
@@ -68,9 +92,20 @@ public class CatalogCoreExtension implements ServiceExtension {
 
     @Provider
     public DatasetResolver datasetResolver() {
-        var contractDefinitionResolver = new ContractDefinitionResolverImpl(contractDefinitionStore, policyEngine, policyDefinitionStore);
-        return new DatasetResolverImpl(contractDefinitionResolver, assetIndex, policyDefinitionStore,
+        return new DatasetResolverImpl(contractDefinitionResolver(), assetIndex, policyDefinitionStore,
                 distributionResolver, criterionOperatorRegistry, monitor);
     }
 
+    private ContractDefinitionResolver contractDefinitionResolver() {
+        var resolver = new ContractDefinitionResolverImpl(contractDefinitionStore, policyEngine, policyDefinitionStore);
+        if (contractDefinitionCacheTtl <= 0) {
+            return resolver;
+        }
+
+        var cachingResolver = new CachingContractDefinitionResolver(resolver, clock, contractDefinitionCacheTtl, contractDefinitionCacheMaxEntries);
+        eventRouter.registerSync(ContractDefinitionEvent.class, cachingResolver);
+        eventRouter.registerSync(PolicyDefinitionEvent.class, cachingResolver);
+        return cachingResolver;
+    }
+
 }
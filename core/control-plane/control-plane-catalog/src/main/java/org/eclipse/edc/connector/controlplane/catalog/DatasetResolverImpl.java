@@ -46,6 +46,7 @@ import static java.lang.Integer.MAX_VALUE;
 import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_ENDPOINT_URL_ATTRIBUTE;
 import static org.eclipse.edc.participantcontext.spi.types.ParticipantResource.filterByParticipantContextId;
 import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+import static org.eclipse.edc.spi.query.ContinuationToken.ID_FIELD;
 
 public class DatasetResolverImpl implements DatasetResolver {
 
@@ -76,16 +77,17 @@ public class DatasetResolverImpl implements DatasetResolver {
             return Stream.empty();
         }
 
-        var assetsQuery = QuerySpec.Builder.newInstance()
-                .offset(0).limit(MAX_VALUE).filter(querySpec.getFilterExpression())
+        var selectors = contractDefinitions.stream().map(ContractDefinition::getAssetsSelector).toList();
+        var pageQuery = keyset(querySpec, QuerySpec.Builder.newInstance())
+                .offset(querySpec.getOffset()).limit(querySpec.getLimit()).filter(querySpec.getFilterExpression())
                 .filter(filterByParticipantContextId(participantContext.getParticipantContextId()))
                 .build();
 
-        return assetIndex.queryAssets(assetsQuery)
-                .map(asset -> toDataset(contractDefinitions, asset, resolved.policies(), protocol))
-                .filter(Dataset::hasOffers)
-                .skip(querySpec.getOffset())
-                .limit(querySpec.getLimit());
+        return assetIndex.queryAssets(pageQuery, selectors)
+                .map(assets -> assets
+                        .map(asset -> toDataset(contractDefinitions, asset, resolved.policies(), protocol))
+                        .filter(Dataset::hasOffers))
+                .orElseGet(() -> queryInMemory(participantContext, querySpec, contractDefinitions, resolved.policies(), protocol));
     }
 
     @Override
@@ -103,6 +105,31 @@ public class DatasetResolverImpl implements DatasetResolver {
                 .orElse(null);
     }
 
+    private Stream<Dataset> queryInMemory(ParticipantContext participantContext, QuerySpec querySpec, List<ContractDefinition> contractDefinitions,
+                                          Map<String, Policy> policies, String protocol) {
+        var assetsQuery = keyset(querySpec, QuerySpec.Builder.newInstance())
+                .offset(0).limit(MAX_VALUE).filter(querySpec.getFilterExpression())
+                .filter(filterByParticipantContextId(participantContext.getParticipantContextId()))
+                .build();
+
+        return assetIndex.queryAssets(assetsQuery)
+                .map(asset -> toDataset(contractDefinitions, asset, policies, protocol))
+                .filter(Dataset::hasOffers)
+                .skip(querySpec.getOffset())
+                .limit(querySpec.getLimit());
+    }
+
+    /**
+     * Passes the sort order and the continuation token through to the asset index when the datasets are paged by id,
+     * as the id of a dataset is the id of its asset.
+     */
+    private QuerySpec.Builder keyset(QuerySpec querySpec, QuerySpec.Builder builder) {
+        if (!ID_FIELD.equals(querySpec.getSortField())) {
+            return builder;
+        }
+        return builder.sortField(ID_FIELD).sortOrder(querySpec.getSortOrder()).continuationToken(querySpec.getContinuationToken());
+    }
+
     private Dataset.Builder<?, ?> buildDataset(Asset asset) {
         if (!asset.isCatalog()) {
             return Dataset.Builder.newInstance();
@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.ContractDefinitionResolver;
+import org.eclipse.edc.connector.controlplane.catalog.spi.ResolvedContractDefinitions;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractdefinition.ContractDefinitionUpdated;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialSubject;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.Issuer;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.participant.spi.ParticipantAgent;
+import org.eclipse.edc.participantcontext.spi.types.ParticipantContext;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingContractDefinitionResolverTest {
+
+    private final ContractDefinitionResolver delegate = mock();
+    private final Clock clock = mock();
+    private final CachingContractDefinitionResolver resolver = new CachingContractDefinitionResolver(delegate, clock, 1000, 100);
+
+    private final ParticipantContext participantContext = ParticipantContext.Builder.newInstance()
+            .participantContextId("participantContextId")
+            .identity("participantId")
+            .build();
+
+    @Test
+    void shouldReturnCachedResult_whenSameAgent() {
+        when(clock.millis()).thenReturn(0L);
+        var resolved = new ResolvedContractDefinitions(List.of(), Map.of());
+        when(delegate.resolveFor(any(), any())).thenReturn(resolved);
+
+        var first = resolver.resolveFor(participantContext, new ParticipantAgent("identity", Map.of("claim", "value"), emptyMap()));
+        var second = resolver.resolveFor(participantContext, new ParticipantAgent("identity", Map.of("claim", "value"), emptyMap()));
+
+        assertThat(first).isEqualTo(resolved);
+        assertThat(second).isSameAs(first);
+        verify(delegate).resolveFor(any(), any());
+    }
+
+    @Test
+    void shouldResolveAgain_whenClaimsDiffer() {
+        when(clock.millis()).thenReturn(0L);
+        when(delegate.resolveFor(any(), any())).thenReturn(new ResolvedContractDefinitions(List.of(), Map.of()));
+
+        resolver.resolveFor(participantContext, new ParticipantAgent("identity", Map.of("claim", "value"), emptyMap()));
+        resolver.resolveFor(participantContext, new ParticipantAgent("identity", Map.of("claim", "other"), emptyMap()));
+
+        verify(delegate, times(2)).resolveFor(any(), any());
+    }
+
+    @Test
+    void shouldReturnCachedResult_whenSameCredentialsInNewToken() {
+        when(clock.millis()).thenReturn(0L);
+        when(delegate.resolveFor(any(), any())).thenReturn(new ResolvedContractDefinitions(List.of(), Map.of()));
+
+        resolver.resolveFor(participantContext, new ParticipantAgent("identity", Map.of("vc", List.of(credential("value")), "exp", 1L), emptyMap()));
+        resolver.resolveFor(participantContext, new ParticipantAgent("identity", Map.of("vc", List.of(credential("value")), "exp", 2L), emptyMap()));
+
+        verify(delegate).resolveFor(any(), any());
+    }
+
+    @Test
+    void shouldResolveAgain_whenCredentialSubjectDiffers() {
+        when(clock.millis()).thenReturn(0L);
+        when(delegate.resolveFor(any(), any())).thenReturn(new ResolvedContractDefinitions(List.of(), Map.of()));
+
+        resolver.resolveFor(participantContext, new ParticipantAgent("identity", Map.of("vc", List.of(credential("value"))), emptyMap()));
+        resolver.resolveFor(participantContext, new ParticipantAgent("identity", Map.of("vc", List.of(credential("other"))), emptyMap()));
+
+        verify(delegate, times(2)).resolveFor(any(), any());
+    }
+
+    @Test
+    void shouldEvictSingleEntry_whenFull() {
+        var resolver = new CachingContractDefinitionResolver(delegate, clock, 1000, 2);
+        when(clock.millis()).thenReturn(0L, 1L, 2L, 3L);
+        when(delegate.resolveFor(any(), any())).thenReturn(new ResolvedContractDefinitions(List.of(), Map.of()));
+
+        resolver.resolveFor(participantContext, new ParticipantAgent("first", emptyMap(), emptyMap()));
+        resolver.resolveFor(participantContext, new ParticipantAgent("second", emptyMap(), emptyMap()));
+        resolver.resolveFor(participantContext, new ParticipantAgent("third", emptyMap(), emptyMap()));
+        resolver.resolveFor(participantContext, new ParticipantAgent("second", emptyMap(), emptyMap()));
+
+        verify(delegate, times(3)).resolveFor(any(), any());
+    }
+
+    @Test
+    void shouldResolveAgain_whenEntryExpired() {
+        when(clock.millis()).thenReturn(0L, 1000L);
+        when(delegate.resolveFor(any(), any())).thenReturn(new ResolvedContractDefinitions(List.of(), Map.of()));
+        var agent = new ParticipantAgent("identity", emptyMap(), emptyMap());
+
+        resolver.resolveFor(participantContext, agent);
+        resolver.resolveFor(participantContext, agent);
+
+        verify(delegate, times(2)).resolveFor(any(), any());
+    }
+
+    @Test
+    void shouldResolveAgain_whenEventReceived() {
+        var fixedClock = Clock.fixed(Instant.EPOCH, ZoneOffset.UTC);
+        var resolver = new CachingContractDefinitionResolver(delegate, fixedClock, 1000, 100);
+        when(delegate.resolveFor(any(), any())).thenReturn(new ResolvedContractDefinitions(List.of(), Map.of()));
+        var agent = new ParticipantAgent("identity", emptyMap(), emptyMap());
+
+        resolver.resolveFor(participantContext, agent);
+        resolver.on(EventEnvelope.Builder.newInstance()
+                .at(0)
+                .payload(ContractDefinitionUpdated.Builder.newInstance().contractDefinitionId("id").build())
+                .build());
+        resolver.resolveFor(participantContext, agent);
+
+        verify(delegate, times(2)).resolveFor(any(), any());
+    }
+
+    private VerifiableCredential credential(String claim) {
+        return VerifiableCredential.Builder.newInstance()
+                .id("credential-id")
+                .type("MembershipCredential")
+                .issuer(new Issuer("issuer", emptyMap()))
+                .issuanceDate(Instant.EPOCH)
+                .credentialSubject(CredentialSubject.Builder.newInstance()
+                        .id("subject-id")
+                        .claim("membership", claim)
+                        .build())
+                .build();
+    }
+}
@@ -35,6 +35,7 @@ import org.eclipse.edc.participantcontext.spi.types.ParticipantContext;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
 import org.eclipse.edc.spi.message.Range;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.jetbrains.annotations.NotNull;
@@ -45,6 +46,7 @@ import org.junit.jupiter.api.Test;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyList;
@@ -208,6 +210,45 @@ class DatasetResolverImplTest {
             ));
         }
 
+        @Test
+        void shouldQueryPageWithSelectors_whenAssetIndexSupportsThem() {
+            var definitionCriterion = new Criterion(EDC_NAMESPACE + "id", "=", "id");
+            var contractDefinition = contractDefinitionBuilder("definitionId")
+                    .assetsSelector(List.of(definitionCriterion))
+                    .contractPolicyId("contractPolicyId")
+                    .build();
+            when(definitionResolver.resolveFor(any(), any())).thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition)));
+            when(assetIndex.queryAssets(isA(QuerySpec.class), any())).thenReturn(Optional.of(Stream.of(createAsset("id").build())));
+            when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+            var querySpec = QuerySpec.Builder.newInstance().range(new Range(10, 20)).build();
+
+            var datasets = datasetResolver.query(createParticipantContext(), createParticipantAgent(), querySpec, "protocol");
+
+            assertThat(datasets).hasSize(1).map(getId()).containsExactly("id");
+            verify(assetIndex).queryAssets(
+                    argThat(q -> q.getOffset() == 10 && q.getLimit() == 10),
+                    eq(List.of(List.of(definitionCriterion)))
+            );
+            verify(assetIndex, never()).queryAssets(isA(QuerySpec.class));
+        }
+
+        @Test
+        void shouldPassContinuationToken_whenPagedById() {
+            var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
+            when(definitionResolver.resolveFor(any(), any())).thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition)));
+            when(assetIndex.queryAssets(isA(QuerySpec.class), any())).thenReturn(Optional.of(Stream.of(createAsset("id").build())));
+            when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+            var token = new ContinuationToken("last-id", "last-id").encode();
+            var querySpec = QuerySpec.Builder.newInstance().sortField("id").continuationToken(token).limit(10).build();
+
+            datasetResolver.query(createParticipantContext(), createParticipantAgent(), querySpec, "protocol");
+
+            verify(assetIndex).queryAssets(
+                    argThat(q -> "id".equals(q.getSortField()) && token.equals(q.getContinuationToken()) && q.getLimit() == 10),
+                    any()
+            );
+        }
+
         @Test
         void shouldLimitDataset_whenSingleDefinitionAndMultipleAssets_contained() {
             var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
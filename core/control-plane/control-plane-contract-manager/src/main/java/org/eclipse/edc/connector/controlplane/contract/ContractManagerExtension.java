@@ -86,6 +86,7 @@ public class ContractManagerExtension implements ServiceExtension {
                 .executorInstrumentation(executorInstrumentation)
                 .store(store)
                 .batchSize(stateMachineConfiguration.batchSize())
+                .parallelism(stateMachineConfiguration.parallelism())
                 .entityRetryProcessConfiguration(stateMachineConfiguration.entityRetryProcessConfiguration())
                 .pendingGuard(pendingGuard)
                 .build();
@@ -99,6 +100,7 @@ public class ContractManagerExtension implements ServiceExtension {
                 .executorInstrumentation(executorInstrumentation)
                 .store(store)
                 .batchSize(stateMachineConfiguration.batchSize())
+                .parallelism(stateMachineConfiguration.parallelism())
                 .entityRetryProcessConfiguration(stateMachineConfiguration.entityRetryProcessConfiguration())
                 .pendingGuard(pendingGuard)
                 .build();
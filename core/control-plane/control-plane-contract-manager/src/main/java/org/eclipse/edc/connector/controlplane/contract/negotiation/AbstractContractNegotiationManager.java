@@ -41,7 +41,7 @@ public abstract class AbstractContractNegotiationManager extends AbstractStateEn
 
     protected Processor processNegotiationsInState(ContractNegotiationStates state, Function<ContractNegotiation, CompletableFuture<StatusResult<Void>>> function) {
         var filter = new Criterion[]{hasState(state.code()), isNotPending(), new Criterion("type", "=", type().name())};
-        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter), entityRetryProcessConfiguration, clock, monitor)
+        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, dueCondition(), filter), entityRetryProcessConfiguration, clock, monitor)
                 .process(telemetry.contextPropagationMiddleware(function))
                 .guard(pendingGuard, this::setPending)
                 .onNotProcessed(this::breakLease)
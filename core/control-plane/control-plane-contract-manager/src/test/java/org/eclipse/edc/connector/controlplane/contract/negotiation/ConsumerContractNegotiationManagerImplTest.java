@@ -20,6 +20,7 @@ import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.Negotiati
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.DueCondition;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
@@ -71,7 +72,7 @@ class ConsumerContractNegotiationManagerImplTest {
     void pendingGuard_shouldSetTheNegotiationPending_whenPendingGuardMatches() {
         when(pendingGuard.test(any())).thenReturn(true);
         var negotiation = contractNegotiationBuilder().state(INITIAL.code()).build();
-        when(store.nextNotLeased(anyInt(), stateIs(INITIAL.code()))).thenReturn(List.of(negotiation)).thenReturn(emptyList());
+        when(store.nextNotLeased(anyInt(), any(DueCondition.class), stateIs(INITIAL.code()))).thenReturn(List.of(negotiation)).thenReturn(emptyList());
         when(negotiationProcessors.processInitial(any())).thenReturn(completedFuture(success()));
 
         manager.start();
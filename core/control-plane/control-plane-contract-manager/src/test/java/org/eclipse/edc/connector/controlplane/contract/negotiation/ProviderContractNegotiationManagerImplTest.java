@@ -20,6 +20,7 @@ import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.ContractN
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.NegotiationProcessors;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.spi.persistence.DueCondition;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
@@ -71,7 +72,7 @@ class ProviderContractNegotiationManagerImplTest {
     void pendingGuard_shouldSetTheNegotiationPending_whenPendingGuardMatches() {
         when(pendingGuard.test(any())).thenReturn(true);
         var negotiation = contractNegotiationBuilder().state(AGREEING.code()).build();
-        when(store.nextNotLeased(anyInt(), stateIs(AGREEING.code()))).thenReturn(List.of(negotiation)).thenReturn(emptyList());
+        when(store.nextNotLeased(anyInt(), any(DueCondition.class), stateIs(AGREEING.code()))).thenReturn(List.of(negotiation)).thenReturn(emptyList());
         when(negotiationProcessors.processAgreeing(any())).thenReturn(completedFuture(success()));
 
         manager.start();
@@ -33,20 +33,27 @@ import org.eclipse.edc.controlplane.contract.spi.negotiation.tasks.SendTerminate
 import org.eclipse.edc.controlplane.contract.spi.negotiation.tasks.SendVerificationNegotiation;
 import org.eclipse.edc.controlplane.contract.spi.negotiation.tasks.VerifyNegotiation;
 import org.eclipse.edc.controlplane.tasks.ProcessTaskPayload;
-import org.eclipse.edc.controlplane.tasks.Task;
 import org.eclipse.edc.controlplane.tasks.TaskService;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.statemachine.StateTransitionStore;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.time.Clock;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import static java.util.Objects.requireNonNull;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.AGREEING;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.FINALIZING;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.REQUESTING;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.TERMINATING;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.VERIFYING;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.from;
+import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 
 public class ContractNegotiationTaskExecutorImpl implements ContractNegotiationTaskExecutor {
@@ -66,17 +73,21 @@ public class ContractNegotiationTaskExecutorImpl implements ContractNegotiationT
     }
 
     private void registerStateHandlers() {
-        handlers.put(RequestNegotiation.class, new Handler(this::handleRequest, ContractNegotiation.Type.CONSUMER));
-        handlers.put(SendRequestNegotiation.class, new Handler(this::handleSendRequest, ContractNegotiation.Type.CONSUMER));
-        handlers.put(AgreeNegotiation.class, new Handler(this::handleAgree, ContractNegotiation.Type.PROVIDER));
-        handlers.put(SendAgreement.class, new Handler(this::handleSendAgreement, ContractNegotiation.Type.PROVIDER));
-        handlers.put(SendAccept.class, new Handler(this::handleSendAccept, ContractNegotiation.Type.CONSUMER));
-        handlers.put(SendOffer.class, new Handler(this::handleSendOffer, ContractNegotiation.Type.PROVIDER));
-        handlers.put(SendTerminateNegotiation.class, new Handler(this::handleSendTermination, null));
-        handlers.put(VerifyNegotiation.class, new Handler(this::handleVerify, ContractNegotiation.Type.CONSUMER));
-        handlers.put(SendVerificationNegotiation.class, new Handler(this::handleSendVerification, ContractNegotiation.Type.CONSUMER));
-        handlers.put(FinalizeNegotiation.class, new Handler(this::handleFinalize, ContractNegotiation.Type.PROVIDER));
-        handlers.put(SendFinalizeNegotiation.class, new Handler(this::handleSendFinalize, ContractNegotiation.Type.PROVIDER));
+        handlers.put(RequestNegotiation.class, new Handler(this::handleRequest, ContractNegotiation.Type.CONSUMER,
+                n -> followUp(n, REQUESTING, SendRequestNegotiation.Builder.newInstance())));
+        handlers.put(SendRequestNegotiation.class, new Handler(this::handleSendRequest, ContractNegotiation.Type.CONSUMER, n -> null));
+        handlers.put(AgreeNegotiation.class, new Handler(this::handleAgree, ContractNegotiation.Type.PROVIDER,
+                n -> followUp(n, AGREEING, SendAgreement.Builder.newInstance())));
+        handlers.put(SendAgreement.class, new Handler(this::handleSendAgreement, ContractNegotiation.Type.PROVIDER, this::terminationFollowUp));
+        handlers.put(SendAccept.class, new Handler(this::handleSendAccept, ContractNegotiation.Type.CONSUMER, this::terminationFollowUp));
+        handlers.put(SendOffer.class, new Handler(this::handleSendOffer, ContractNegotiation.Type.PROVIDER, this::terminationFollowUp));
+        handlers.put(SendTerminateNegotiation.class, new Handler(this::handleSendTermination, null, n -> null));
+        handlers.put(VerifyNegotiation.class, new Handler(this::handleVerify, ContractNegotiation.Type.CONSUMER,
+                n -> followUp(n, VERIFYING, SendVerificationNegotiation.Builder.newInstance())));
+        handlers.put(SendVerificationNegotiation.class, new Handler(this::handleSendVerification, ContractNegotiation.Type.CONSUMER, this::terminationFollowUp));
+        handlers.put(FinalizeNegotiation.class, new Handler(this::handleFinalize, ContractNegotiation.Type.PROVIDER,
+                n -> followUp(n, FINALIZING, SendFinalizeNegotiation.Builder.newInstance())));
+        handlers.put(SendFinalizeNegotiation.class, new Handler(this::handleSendFinalize, ContractNegotiation.Type.PROVIDER, this::terminationFollowUp));
     }
 
     @Override
@@ -84,121 +95,124 @@ public class ContractNegotiationTaskExecutorImpl implements ContractNegotiationT
         return handleTask(task);
     }
 
-    private void storeTask(ContractNegotiationTaskPayload payload) {
-        var task = Task.Builder.newInstance().at(clock.millis())
-                .payload(payload)
-                .build();
-        taskService.create(task);
+    /**
+     * Handles the task so that no database connection is held while the remote interaction happens: the negotiation
+     * gets loaded and validated in a transaction, then the processor (that can call the counter-party) is invoked
+     * outside of it. Every transition the processor persists goes through a {@link StateTransitionStore},
+     * that saves the negotiation only if it has not been changed concurrently and creates the follow-up task in the
+     * same transaction.
+     */
+    private StatusResult<Void> handleTask(ContractNegotiationTaskPayload task) {
+        var preparation = transactionContext.execute(() -> prepare(task));
+        return preparation.compose(execution -> execution == null ? StatusResult.success() : execute(execution));
     }
 
-    private StatusResult<Void> handleTask(ContractNegotiationTaskPayload task) {
+    private StatusResult<Void> execute(Execution execution) {
+        var negotiation = execution.negotiation();
+        var handler = execution.handler();
+        var transitions = new StateTransitionStore<>(store, transactionContext, taskService, clock, negotiation, handler.followUp());
+
+        var result = handler.function().apply(negotiationProcessors.withStore(transitions), negotiation);
+
+        if (transitions.getFailure() != null) {
+            return StatusResult.failure(ERROR_RETRY, transitions.getFailure());
+        }
+        if (transitions.hasConflict()) {
+            monitor.warning("Transition of contract negotiation with id '%s' discarded because it changed concurrently".formatted(negotiation.getId()));
+            return StatusResult.success();
+        }
+        return result;
+    }
+
+    private StatusResult<Execution> prepare(ContractNegotiationTaskPayload task) {
         var expectedState = ContractNegotiationStates.from(task.getProcessState());
         var negotiationId = task.getProcessId();
-        return transactionContext.execute(() -> {
-            var negotiationResult = loadNegotiation(task.getProcessId());
-            if (negotiationResult.failed()) {
-                return StatusResult.failure(FATAL_ERROR, negotiationResult.getFailureDetail());
-            }
-
-            var negotiation = negotiationResult.getContent();
-            if (ContractNegotiationStates.isFinal(negotiation.getState())) {
-                monitor.debug("Skipping contract negotiation with id '%s' is in final state '%s'".formatted(task.getProcessId(), from(negotiation.getState())));
-                return StatusResult.success();
-            }
-
-            if (negotiation.getState() != expectedState.code()) {
-                monitor.warning("Skipping contract negotiation with id '%s' is in state '%s', expected '%s'".formatted(negotiationId, from(negotiation.getState()), expectedState));
-                return StatusResult.success();
-            }
-
-            var handler = handlers.get(task.getClass());
-            if (handler == null) {
-                monitor.debug("No handler for task '%s' in contract negotiation with id '%s'".formatted(task.getClass().getSimpleName(), negotiationId));
-                return StatusResult.success();
-            }
-
-            if (handler.type != null && handler.type != negotiation.getType()) {
-                monitor.debug("Skipping '%s' for contract negotiation with id '%s' due to type mismatch: expected '%s', got '%s'".formatted(expectedState, negotiationId, handler.type, negotiation.getType()));
-                return StatusResult.success();
-            }
-
-            if (pendingGuard.test(negotiation)) {
-                monitor.debug("Skipping '%s' for contract negotiation with id '%s' due matched guard".formatted(expectedState, negotiationId));
-                return StatusResult.success();
-            }
-            return handler.function.apply(negotiation);
-        });
+        var negotiationResult = loadNegotiation(task.getProcessId());
+        if (negotiationResult.failed()) {
+            return StatusResult.failure(FATAL_ERROR, negotiationResult.getFailureDetail());
+        }
+
+        var negotiation = negotiationResult.getContent();
+        if (ContractNegotiationStates.isFinal(negotiation.getState())) {
+            monitor.debug("Skipping contract negotiation with id '%s' is in final state '%s'".formatted(task.getProcessId(), from(negotiation.getState())));
+            return StatusResult.success(null);
+        }
+
+        if (negotiation.getState() != expectedState.code()) {
+            monitor.warning("Skipping contract negotiation with id '%s' is in state '%s', expected '%s'".formatted(negotiationId, from(negotiation.getState()), expectedState));
+            return StatusResult.success(null);
+        }
+
+        var handler = handlers.get(task.getClass());
+        if (handler == null) {
+            monitor.debug("No handler for task '%s' in contract negotiation with id '%s'".formatted(task.getClass().getSimpleName(), negotiationId));
+            return StatusResult.success(null);
+        }
+
+        if (handler.type != null && handler.type != negotiation.getType()) {
+            monitor.debug("Skipping '%s' for contract negotiation with id '%s' due to type mismatch: expected '%s', got '%s'".formatted(expectedState, negotiationId, handler.type, negotiation.getType()));
+            return StatusResult.success(null);
+        }
+
+        if (pendingGuard.test(negotiation)) {
+            monitor.debug("Skipping '%s' for contract negotiation with id '%s' due matched guard".formatted(expectedState, negotiationId));
+            return StatusResult.success(null);
+        }
+
+        return StatusResult.success(new Execution(handler, negotiation));
+    }
 
+    protected StatusResult<Void> handleSendAccept(NegotiationProcessors processors, ContractNegotiation negotiation) {
+        return invokeProcessor(negotiation, processors::processAccepting);
     }
 
-    protected StatusResult<Void> handleSendAccept(ContractNegotiation negotiation) {
-        return invokeProcessorTerminatingOnFatalError(negotiation, negotiationProcessors::processAccepting);
+    private StatusResult<Void> handleSendOffer(NegotiationProcessors processors, ContractNegotiation negotiation) {
+        return invokeProcessor(negotiation, processors::processOffering);
     }
 
-    private StatusResult<Void> handleSendOffer(ContractNegotiation negotiation) {
-        return invokeProcessorTerminatingOnFatalError(negotiation, negotiationProcessors::processOffering);
+    protected StatusResult<Void> handleSendTermination(NegotiationProcessors processors, ContractNegotiation negotiation) {
+        return invokeProcessor(negotiation, processors::processTerminating);
     }
 
-    protected StatusResult<Void> handleSendTermination(ContractNegotiation negotiation) {
-        return invokeProcessor(negotiation, negotiationProcessors::processTerminating);
+    private StatusResult<Void> handleSendRequest(NegotiationProcessors processors, ContractNegotiation negotiation) {
+        return invokeProcessor(negotiation, processors::processRequesting);
     }
 
-    private StatusResult<Void> handleSendRequest(ContractNegotiation negotiation) {
-        return invokeProcessor(negotiation, negotiationProcessors::processRequesting);
+    private StatusResult<Void> handleFinalize(NegotiationProcessors processors, ContractNegotiation negotiation) {
+        return invokeProcessor(negotiation, processors::processVerified);
     }
 
-    private StatusResult<Void> handleFinalize(ContractNegotiation negotiation) {
-        return invokeProcessor(negotiation, negotiationProcessors::processVerified).onSuccess(v -> {
-            var task = baseBuilder(SendFinalizeNegotiation.Builder.newInstance(), negotiation)
-                    .build();
-            storeTask(task);
-        });
+    protected StatusResult<Void> handleSendVerification(NegotiationProcessors processors, ContractNegotiation negotiation) {
+        return invokeProcessor(negotiation, processors::processVerifying);
     }
 
-    protected StatusResult<Void> handleSendVerification(ContractNegotiation negotiation) {
-        return invokeProcessorTerminatingOnFatalError(negotiation, negotiationProcessors::processVerifying);
+    private StatusResult<Void> handleAgree(NegotiationProcessors processors, ContractNegotiation negotiation) {
+        return invokeProcessor(negotiation, processors::processRequested);
     }
 
-    private StatusResult<Void> handleAgree(ContractNegotiation negotiation) {
-        return invokeProcessor(negotiation, negotiationProcessors::processRequested).onSuccess(v -> {
-            var task = baseBuilder(SendAgreement.Builder.newInstance(), negotiation)
-                    .build();
-            storeTask(task);
-        });
+    protected StatusResult<Void> handleSendAgreement(NegotiationProcessors processors, ContractNegotiation negotiation) {
+        return invokeProcessor(negotiation, processors::processAgreeing);
     }
 
-    protected StatusResult<Void> handleSendAgreement(ContractNegotiation negotiation) {
-        return invokeProcessorTerminatingOnFatalError(negotiation, negotiationProcessors::processAgreeing);
+    private StatusResult<Void> handleVerify(NegotiationProcessors processors, ContractNegotiation negotiation) {
+        return invokeProcessor(negotiation, processors::processAgreed);
     }
 
-    private StatusResult<Void> handleVerify(ContractNegotiation negotiation) {
-        return invokeProcessor(negotiation, negotiationProcessors::processAgreed).onSuccess(v -> {
-            var task = baseBuilder(SendVerificationNegotiation.Builder.newInstance(), negotiation)
-                    .build();
-            storeTask(task);
-        });
+    private StatusResult<Void> handleRequest(NegotiationProcessors processors, ContractNegotiation negotiation) {
+        return invokeProcessor(negotiation, processors::processInitial);
     }
 
-    private StatusResult<Void> handleRequest(ContractNegotiation negotiation) {
-        return invokeProcessor(negotiation, negotiationProcessors::processInitial).onSuccess(v -> {
-            var task = baseBuilder(SendRequestNegotiation.Builder.newInstance(), negotiation)
-                    .build();
-            storeTask(task);
-        });
+    private StatusResult<Void> handleSendFinalize(NegotiationProcessors processors, ContractNegotiation negotiation) {
+        return invokeProcessor(negotiation, processors::processFinalizing);
     }
 
-    private StatusResult<Void> handleSendFinalize(ContractNegotiation negotiation) {
-        return invokeProcessorTerminatingOnFatalError(negotiation, negotiationProcessors::processFinalizing);
+    private ContractNegotiationTaskPayload terminationFollowUp(ContractNegotiation negotiation) {
+        return followUp(negotiation, TERMINATING, SendTerminateNegotiation.Builder.newInstance());
     }
 
-    private StatusResult<Void> invokeProcessorTerminatingOnFatalError(ContractNegotiation negotiation, Function<ContractNegotiation, CompletableFuture<StatusResult<Void>>> processor) {
-        return invokeProcessor(negotiation, processor).onFailure(f -> {
-            if (f.isFatal()) {
-                var task = baseBuilder(SendTerminateNegotiation.Builder.newInstance(), negotiation)
-                        .build();
-                storeTask(task);
-            }
-        });
+    private <T extends ContractNegotiationTaskPayload, B extends ProcessTaskPayload.Builder<T, B>> ContractNegotiationTaskPayload followUp(
+            ContractNegotiation negotiation, ContractNegotiationStates state, B builder) {
+        return negotiation.getState() == state.code() ? baseBuilder(builder, negotiation).build() : null;
     }
 
     private StatusResult<Void> invokeProcessor(ContractNegotiation negotiation, Function<ContractNegotiation, CompletableFuture<StatusResult<Void>>> processor) {
@@ -223,7 +237,12 @@ public class ContractNegotiationTaskExecutorImpl implements ContractNegotiationT
                 .processType(negotiation.getType().name());
     }
 
-    private record Handler(Function<ContractNegotiation, StatusResult<Void>> function, ContractNegotiation.Type type) {
+    private record Handler(BiFunction<NegotiationProcessors, ContractNegotiation, StatusResult<Void>> function, ContractNegotiation.Type type,
+                           Function<ContractNegotiation, ContractNegotiationTaskPayload> followUp) {
+
+    }
+
+    private record Execution(Handler handler, ContractNegotiation negotiation) {
 
     }
 
@@ -45,11 +45,14 @@ import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.protocol.spi.ProtocolWebhookResolver;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+import org.eclipse.edc.transaction.local.LocalTransactionContext;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.transaction.spi.local.LocalTransactionResource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -60,6 +63,7 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.mockito.ArgumentCaptor;
 
 import java.time.Clock;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
@@ -80,6 +84,7 @@ import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiat
 import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -105,21 +110,15 @@ class ContractNegotiationTaskExecutorImplTest {
     void setUp() {
 
         when(negotiationStore.save(any())).thenReturn(StoreResult.success());
+        when(negotiationStore.findByIdAndLease(any())).thenAnswer(i -> StoreResult.success(negotiationStore.findById(i.getArgument(0))));
+        when(taskService.create(any())).thenReturn(ServiceResult.success());
         when(pendingGuard.test(any())).thenReturn(false);
         when(protocolWebhookResolver.getWebhook(any(), any())).thenReturn(() -> protocolWebhookUrl);
         var ack = ContractNegotiationAck.Builder.newInstance().providerPid("providerPid").build();
         when(messageDispatcher.dispatch(any(), any(), any())).thenReturn(completedFuture(StatusResult.success(ack)));
 
 
-        executor = ContractNegotiationTaskExecutorImpl.Builder.newInstance()
-                .store(negotiationStore)
-                .taskService(taskService)
-                .pendingGuard(pendingGuard)
-                .transactionContext(transactionContext)
-                .negotiationProcessors(negotiationProcessors)
-                .monitor(monitor)
-                .clock(clock)
-                .build();
+        executor = createExecutor(transactionContext);
     }
 
     @ParameterizedTest
@@ -129,7 +128,7 @@ class ContractNegotiationTaskExecutorImplTest {
         var negotiation = createContractNegotiation(payload.getProcessId(), ContractNegotiationStates.from(payload.getProcessState()),
                 ContractNegotiation.Type.valueOf(payload.getProcessType()));
 
-        when(negotiationStore.findById(payload.getProcessId())).thenReturn(negotiation);
+        persist(negotiation);
 
 
         var result = executor.handle(payload);
@@ -237,7 +236,7 @@ class ContractNegotiationTaskExecutorImplTest {
                 ContractNegotiationStates.from(payload.getProcessState()),
                 ContractNegotiation.Type.valueOf(payload.getProcessType()));
 
-        when(negotiationStore.findById(payload.getProcessId())).thenReturn(negotiation);
+        persist(negotiation);
         // a fatal dispatch failure makes the processor return a fatal error
         when(messageDispatcher.dispatch(any(), any(), any())).thenReturn(completedFuture(StatusResult.fatalError("boom")));
 
@@ -264,7 +263,7 @@ class ContractNegotiationTaskExecutorImplTest {
                 .processType(PROVIDER.name())
                 .build();
 
-        when(negotiationStore.findById("negotiation-123")).thenReturn(negotiation);
+        persist(negotiation);
         // a retryable dispatch failure yields a non-fatal error
         when(messageDispatcher.dispatch(any(), any(), any())).thenReturn(completedFuture(StatusResult.failure(ERROR_RETRY, "temporary failure")));
 
@@ -286,13 +285,85 @@ class ContractNegotiationTaskExecutorImplTest {
                 .processType(CONSUMER.name())
                 .build();
 
-        when(negotiationStore.findById("negotiation-123")).thenReturn(negotiation);
+        persist(negotiation);
 
         var result = executor.handle(task);
 
         assertThat(result.succeeded()).isTrue();
         verify(negotiationStore).save(any());
     }
+
+    @Test
+    void handle_shouldDiscardTransitionAndFollowUpTask_whenStateChangedConcurrently() {
+        var negotiation = createContractNegotiation("negotiation-123", INITIAL);
+        var concurrentlyTerminated = negotiation.copy();
+        concurrentlyTerminated.transitionTerminated();
+
+        var task = RequestNegotiation.Builder.newInstance()
+                .processId("negotiation-123")
+                .processState(INITIAL.code())
+                .processType(CONSUMER.name())
+                .build();
+
+        when(negotiationStore.findById("negotiation-123")).thenReturn(negotiation);
+        when(negotiationStore.findByIdAndLease("negotiation-123")).thenReturn(StoreResult.success(concurrentlyTerminated));
+
+        var result = executor.handle(task);
+
+        assertThat(result.succeeded()).isTrue();
+        verify(negotiationStore, never()).save(any());
+        verify(negotiationStore).breakLease(concurrentlyTerminated);
+        verify(taskService, never()).create(any());
+    }
+
+    @Test
+    void handle_shouldRollbackTransition_whenFollowUpTaskCannotBeCreated() {
+        var negotiation = createContractNegotiation("negotiation-123", INITIAL);
+
+        var task = RequestNegotiation.Builder.newInstance()
+                .processId("negotiation-123")
+                .processState(INITIAL.code())
+                .processType(CONSUMER.name())
+                .build();
+
+        var transactionalStore = new TransactionalStore(negotiation);
+        var localTransactionContext = new LocalTransactionContext(monitor);
+        localTransactionContext.registerResource(transactionalStore);
+        when(negotiationStore.findById("negotiation-123")).thenAnswer(i -> transactionalStore.committed.copy());
+        when(negotiationStore.findByIdAndLease("negotiation-123")).thenAnswer(i -> StoreResult.success(transactionalStore.committed.copy()));
+        when(negotiationStore.save(any())).thenAnswer(i -> transactionalStore.stage(i.getArgument(0)));
+        when(taskService.create(any())).thenReturn(ServiceResult.unexpected("cannot create task"));
+
+        var result = createExecutor(localTransactionContext).handle(task);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.fatalError()).isFalse();
+        verify(negotiationStore).save(argThat(n -> n.getState() == REQUESTING.code()));
+        verify(taskService).create(argThat(t -> t.getPayload() instanceof SendRequestNegotiation));
+        assertThat(transactionalStore.committed.getState()).isEqualTo(INITIAL.code());
+    }
+
+    private ContractNegotiationTaskExecutor createExecutor(TransactionContext transactionContext) {
+        return ContractNegotiationTaskExecutorImpl.Builder.newInstance()
+                .store(negotiationStore)
+                .taskService(taskService)
+                .pendingGuard(pendingGuard)
+                .transactionContext(transactionContext)
+                .negotiationProcessors(negotiationProcessors)
+                .monitor(monitor)
+                .clock(clock)
+                .build();
+    }
+
+    private void persist(ContractNegotiation negotiation) {
+        var persisted = new AtomicReference<>(negotiation.copy());
+        when(negotiationStore.findById(negotiation.getId())).thenAnswer(i -> persisted.get().copy());
+        when(negotiationStore.findByIdAndLease(negotiation.getId())).thenAnswer(i -> StoreResult.success(persisted.get().copy()));
+        when(negotiationStore.save(any())).thenAnswer(i -> {
+            persisted.set(i.<ContractNegotiation>getArgument(0).copy());
+            return StoreResult.success();
+        });
+    }
     
     private ContractNegotiation createContractNegotiation(String id, ContractNegotiationStates state) {
         return createContractNegotiation(id, state, CONSUMER);
@@ -322,6 +393,41 @@ class ContractNegotiationTaskExecutorImplTest {
                 .build();
     }
 
+    /**
+     * Keeps the negotiation saved in a local transaction staged until the transaction commits.
+     */
+    private static class TransactionalStore implements LocalTransactionResource {
+
+        private ContractNegotiation committed;
+        private ContractNegotiation staged;
+
+        TransactionalStore(ContractNegotiation committed) {
+            this.committed = committed;
+        }
+
+        StoreResult<Void> stage(ContractNegotiation negotiation) {
+            staged = negotiation.copy();
+            return StoreResult.success();
+        }
+
+        @Override
+        public void start() {
+            staged = null;
+        }
+
+        @Override
+        public void commit() {
+            if (staged != null) {
+                committed = staged;
+            }
+        }
+
+        @Override
+        public void rollback() {
+            staged = null;
+        }
+    }
+
     public static class StateTransitionProvider implements ArgumentsProvider {
 
         protected <T extends ProcessTaskPayload, B extends ProcessTaskPayload.Builder<T, B>> B baseBuilder(B builder, String id, ContractNegotiationStates state, ContractNegotiation.Type type) {
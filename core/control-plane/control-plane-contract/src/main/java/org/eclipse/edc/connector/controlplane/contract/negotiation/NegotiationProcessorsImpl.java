@@ -33,6 +33,7 @@ import org.eclipse.edc.participantcontext.spi.identity.ParticipantIdentityResolv
 import org.eclipse.edc.policy.model.PolicyType;
 import org.eclipse.edc.protocol.spi.ProtocolWebhookResolver;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.StateEntityStore;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
@@ -52,7 +53,7 @@ public class NegotiationProcessorsImpl implements NegotiationProcessors {
     private final Monitor monitor;
     private final ProtocolWebhookResolver protocolWebhookResolver;
     private final ContractNegotiationObservable observable;
-    private final ContractNegotiationStore store;
+    private final StateEntityStore<ContractNegotiation> store;
     private final EntityRetryProcessFactory entityRetryProcessFactory;
     private final ParticipantIdentityResolver identityResolver;
     private final Clock clock;
@@ -73,6 +74,17 @@ public class NegotiationProcessorsImpl implements NegotiationProcessors {
         this.entityRetryProcessFactory = new EntityRetryProcessFactory(monitor, clock, entityRetryProcessConfiguration);
     }
 
+    private NegotiationProcessorsImpl(NegotiationProcessorsImpl source, StateEntityStore<ContractNegotiation> store) {
+        this.monitor = source.monitor;
+        this.protocolWebhookResolver = source.protocolWebhookResolver;
+        this.observable = source.observable;
+        this.store = store;
+        this.identityResolver = source.identityResolver;
+        this.clock = source.clock;
+        this.messageDispatcher = source.messageDispatcher;
+        this.entityRetryProcessFactory = source.entityRetryProcessFactory;
+    }
+
     @WithSpan
     @Override
     public CompletableFuture<StatusResult<Void>> processInitial(ContractNegotiation negotiation) {
@@ -248,6 +260,11 @@ public class NegotiationProcessorsImpl implements NegotiationProcessors {
                 .execute();
     }
 
+    @Override
+    public NegotiationProcessors withStore(StateEntityStore<ContractNegotiation> store) {
+        return new NegotiationProcessorsImpl(this, store);
+    }
+
 
     private <T> RetryProcessor<ContractNegotiation, T> dispatch(ProcessRemoteMessage.Builder<?, ?> messageBuilder,
                                                                 ContractNegotiation negotiation, Class<T> responseType, String name) {
@@ -282,8 +299,7 @@ public class NegotiationProcessorsImpl implements NegotiationProcessors {
     private void transitionToRequested(ContractNegotiation negotiation, ContractNegotiationAck ack) {
         negotiation.transitionRequested();
         negotiation.setCorrelationId(ack.getProviderPid());
-        update(negotiation);
-        observable.invokeForEach(l -> l.requested(negotiation));
+        update(negotiation).onSuccess(i -> observable.invokeForEach(l -> l.requested(negotiation)));
     }
 
     private void transitionToAccepting(ContractNegotiation negotiation) {
@@ -293,8 +309,7 @@ public class NegotiationProcessorsImpl implements NegotiationProcessors {
 
     private void transitionToAccepted(ContractNegotiation negotiation) {
         negotiation.transitionAccepted();
-        update(negotiation);
-        observable.invokeForEach(l -> l.accepted(negotiation));
+        update(negotiation).onSuccess(i -> observable.invokeForEach(l -> l.accepted(negotiation)));
     }
 
     private void transitionToOffering(ContractNegotiation negotiation) {
@@ -305,8 +320,7 @@ public class NegotiationProcessorsImpl implements NegotiationProcessors {
     private void transitionToOffered(ContractNegotiation negotiation, ContractNegotiationAck ack) {
         negotiation.transitionOffered();
         negotiation.setCorrelationId(ack.getConsumerPid());
-        update(negotiation);
-        observable.invokeForEach(l -> l.offered(negotiation));
+        update(negotiation).onSuccess(i -> observable.invokeForEach(l -> l.offered(negotiation)));
     }
 
     private void transitionToAgreeing(ContractNegotiation negotiation) {
@@ -317,8 +331,7 @@ public class NegotiationProcessorsImpl implements NegotiationProcessors {
     private void transitionToAgreed(ContractNegotiation negotiation, ContractAgreement agreement) {
         negotiation.setContractAgreement(agreement);
         negotiation.transitionAgreed();
-        update(negotiation);
-        observable.invokeForEach(l -> l.agreed(negotiation));
+        update(negotiation).onSuccess(i -> observable.invokeForEach(l -> l.agreed(negotiation)));
     }
 
     private void transitionToVerifying(ContractNegotiation negotiation) {
@@ -328,8 +341,7 @@ public class NegotiationProcessorsImpl implements NegotiationProcessors {
 
     private void transitionToVerified(ContractNegotiation negotiation) {
         negotiation.transitionVerified();
-        update(negotiation);
-        observable.invokeForEach(l -> l.verified(negotiation));
+        update(negotiation).onSuccess(i -> observable.invokeForEach(l -> l.verified(negotiation)));
     }
 
     private void transitionToFinalizing(ContractNegotiation negotiation) {
@@ -339,8 +351,7 @@ public class NegotiationProcessorsImpl implements NegotiationProcessors {
 
     private void transitionToFinalized(ContractNegotiation negotiation) {
         negotiation.transitionFinalized();
-        update(negotiation);
-        observable.invokeForEach(l -> l.finalized(negotiation));
+        update(negotiation).onSuccess(i -> observable.invokeForEach(l -> l.finalized(negotiation)));
     }
 
     private void transitionToTerminating(ContractNegotiation negotiation, String message) {
@@ -360,8 +371,7 @@ public class NegotiationProcessorsImpl implements NegotiationProcessors {
 
     private void transitionToTerminated(ContractNegotiation negotiation) {
         negotiation.transitionTerminated();
-        update(negotiation);
-        observable.invokeForEach(l -> l.terminated(negotiation));
+        update(negotiation).onSuccess(i -> observable.invokeForEach(l -> l.terminated(negotiation)));
     }
 
     protected StoreResult<Void> update(ContractNegotiation entity) {
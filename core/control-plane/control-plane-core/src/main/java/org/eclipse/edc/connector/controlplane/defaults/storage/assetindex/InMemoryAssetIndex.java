@@ -16,11 +16,14 @@ package org.eclipse.edc.connector.controlplane.defaults.storage.assetindex;
 
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.util.reflection.ReflectionUtil;
 
 import java.util.Comparator;
 import java.util.List;
@@ -50,19 +53,16 @@ public class InMemoryAssetIndex implements AssetIndex {
 
     @Override
     public Stream<Asset> queryAssets(QuerySpec querySpec) {
-        lock.readLock().lock();
-        try {
-            Comparator<Asset> comparator = querySpec.getSortField() == null
-                    ? (o1, o2) -> 0
-                    : new AssetComparator(querySpec.getSortField(), querySpec.getSortOrder());
+        return query(querySpec, x -> true);
+    }
 
-            return filterBy(querySpec.getFilterExpression())
-                    .sorted(comparator)
-                    .skip(querySpec.getOffset()).limit(querySpec.getLimit());
+    @Override
+    public Optional<Stream<Asset>> queryAssets(QuerySpec querySpec, List<List<Criterion>> selectors) {
+        var selected = selectors.stream()
+                .map(this::toPredicate)
+                .reduce(x -> false, Predicate::or);
 
-        } finally {
-            lock.readLock().unlock();
-        }
+        return Optional.of(query(querySpec, selected));
     }
 
     @Override
@@ -138,13 +138,46 @@ public class InMemoryAssetIndex implements AssetIndex {
         }
     }
 
-    private Stream<Asset> filterBy(List<Criterion> criteria) {
-        var predicate = criteria.stream()
-                .map(criterionOperatorRegistry::toPredicate)
-                .reduce(x -> true, Predicate::and);
+    private Stream<Asset> query(QuerySpec querySpec, Predicate<Asset> selected) {
+        lock.readLock().lock();
+        try {
+            Comparator<Asset> comparator = (o1, o2) -> 0;
+            Predicate<Asset> afterToken = x -> true;
+            if (querySpec.getSortField() != null) {
+                var idComparator = Comparator.comparing(Asset::getId);
+                comparator = new AssetComparator(querySpec.getSortField(), querySpec.getSortOrder())
+                        .thenComparing(querySpec.getSortOrder() == SortOrder.ASC ? idComparator : idComparator.reversed());
+                if (querySpec.getContinuationToken() != null) {
+                    var token = ContinuationToken.decode(querySpec.getContinuationToken());
+                    afterToken = asset -> token.precedes(sortValue(asset, querySpec.getSortField()), asset.getId(), querySpec.getSortOrder());
+                }
+            }
 
+            return filterBy(querySpec.getFilterExpression())
+                    .filter(selected)
+                    .filter(afterToken)
+                    .sorted(comparator)
+                    .skip(querySpec.getOffset()).limit(querySpec.getLimit());
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Object sortValue(Asset asset, String sortField) {
+        return Optional.ofNullable(asset.getPropertyOrPrivate(sortField))
+                .orElseGet(() -> ReflectionUtil.getFieldValue(sortField, asset));
+    }
+
+    private Stream<Asset> filterBy(List<Criterion> criteria) {
         return cache.values().stream()
-                .filter(predicate);
+                .filter(toPredicate(criteria));
+    }
+
+    private Predicate<Asset> toPredicate(List<Criterion> criteria) {
+        return criteria.stream()
+                .<Predicate<Asset>>map(criterionOperatorRegistry::toPredicate)
+                .reduce(x -> true, Predicate::and);
     }
 
 }
@@ -80,6 +80,7 @@ public class TransferManagerExtension implements ServiceExtension {
                 .clock(clock)
                 .store(transferProcessStore)
                 .batchSize(stateMachineConfiguration.batchSize())
+                .parallelism(stateMachineConfiguration.parallelism())
                 .entityRetryProcessConfiguration(entityRetryProcessConfiguration)
                 .pendingGuard(pendingGuard)
                 .transferProcessors(transferProcessors)
@@ -115,7 +115,7 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
     }
 
     private ProcessorImpl<TransferProcess> createProcessor(Function<TransferProcess, CompletableFuture<StatusResult<Void>>> function, Criterion[] filter) {
-        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter), entityRetryProcessConfiguration, clock, monitor)
+        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, dueCondition(), filter), entityRetryProcessConfiguration, clock, monitor)
                 .process(telemetry.contextPropagationMiddleware(function))
                 .guard(pendingGuard, this::setPending)
                 .onNotProcessed(this::breakLease)
@@ -20,6 +20,7 @@ import org.eclipse.edc.connector.controlplane.transfer.spi.TransferProcessPendin
 import org.eclipse.edc.connector.controlplane.transfer.spi.TransferProcessors;
 import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.spi.persistence.DueCondition;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
@@ -80,7 +81,7 @@ class TransferProcessManagerImplTest {
     void pendingGuard_shouldSetTheTransferPending_whenPendingGuardMatches() {
         when(pendingGuard.test(any())).thenReturn(true);
         var process = createTransferProcessBuilder(STARTING).build();
-        when(transferProcessStore.nextNotLeased(anyInt(), providerStateIs(STARTING.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
+        when(transferProcessStore.nextNotLeased(anyInt(), any(DueCondition.class), providerStateIs(STARTING.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
         when(transferProcessors.processStarting(any())).thenReturn(completedFuture(success()));
 
         manager.start();
@@ -19,9 +19,10 @@ plugins {
 dependencies {
     api(project(":spi:control-plane-spi"))
     api(project(":spi:core-spi"))
+    implementation(project(":core:control-plane:lib:control-plane-lib"))
     implementation(libs.opentelemetry.instrumentation.annotations)
     testImplementation(project(":core:common:junit-base"))
     testImplementation(project(":core:control-plane:control-plane-transfer"))
-    testImplementation(project(":core:control-plane:lib:control-plane-lib"))
+    testImplementation(project(":extensions:common:transaction:transaction-local"))
 }
 
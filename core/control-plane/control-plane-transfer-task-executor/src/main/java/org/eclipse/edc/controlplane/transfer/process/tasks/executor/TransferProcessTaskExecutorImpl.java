@@ -20,7 +20,6 @@ import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcess
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates;
 import org.eclipse.edc.controlplane.tasks.ProcessTaskPayload;
-import org.eclipse.edc.controlplane.tasks.Task;
 import org.eclipse.edc.controlplane.tasks.TaskService;
 import org.eclipse.edc.controlplane.transfer.spi.TransferProcessTaskExecutor;
 import org.eclipse.edc.controlplane.transfer.spi.tasks.CompleteDataFlow;
@@ -34,6 +33,7 @@ import org.eclipse.edc.controlplane.transfer.spi.tasks.TerminateDataFlow;
 import org.eclipse.edc.controlplane.transfer.spi.tasks.TransferProcessTaskPayload;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.statemachine.StateTransitionStore;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.time.Clock;
@@ -41,13 +41,16 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess.Type.CONSUMER;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess.Type.PROVIDER;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.REQUESTING;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.STARTING;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.TERMINATING;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.from;
+import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 
 public class TransferProcessTaskExecutorImpl implements TransferProcessTaskExecutor {
@@ -66,14 +69,14 @@ public class TransferProcessTaskExecutorImpl implements TransferProcessTaskExecu
     }
 
     private void registerStateHandlers() {
-        handlers.put(PrepareTransfer.class, new Handler(this::handlePrepareTransfer, null));
-        handlers.put(SendTransferRequest.class, new Handler(this::handleSendRequest, CONSUMER));
-        handlers.put(SendTransferStart.class, new Handler(this::handleSendStartMessage, PROVIDER));
-        handlers.put(SignalDataflowStarted.class, new Handler(this::handleSignalStartedDataflow, CONSUMER));
-        handlers.put(SuspendDataFlow.class, new Handler(this::handleSuspendDataflow, null));
-        handlers.put(ResumeDataFlow.class, new Handler(this::handleResumeDataflow, null));
-        handlers.put(TerminateDataFlow.class, new Handler(this::handleTerminateDataflow, null));
-        handlers.put(CompleteDataFlow.class, new Handler(this::handleCompleteDataflow, null));
+        handlers.put(PrepareTransfer.class, new Handler(this::handlePrepareTransfer, null, this::prepareTransferFollowUp));
+        handlers.put(SendTransferRequest.class, new Handler(this::handleSendRequest, CONSUMER, p -> null));
+        handlers.put(SendTransferStart.class, new Handler(this::handleSendStartMessage, PROVIDER, this::terminationFollowUp));
+        handlers.put(SignalDataflowStarted.class, new Handler(this::handleSignalStartedDataflow, CONSUMER, this::terminationFollowUp));
+        handlers.put(SuspendDataFlow.class, new Handler(this::handleSuspendDataflow, null, this::terminationFollowUp));
+        handlers.put(ResumeDataFlow.class, new Handler(this::handleResumeDataflow, null, this::terminationFollowUp));
+        handlers.put(TerminateDataFlow.class, new Handler(this::handleTerminateDataflow, null, p -> null));
+        handlers.put(CompleteDataFlow.class, new Handler(this::handleCompleteDataflow, null, this::terminationFollowUp));
     }
 
     @Override
@@ -81,105 +84,130 @@ public class TransferProcessTaskExecutorImpl implements TransferProcessTaskExecu
         return handleTask(task);
     }
 
-    private void storeTask(TransferProcessTaskPayload payload) {
+    /**
+     * Handles the task so that no database connection is held while the remote interaction happens: the transfer
+     * process gets loaded and validated in a transaction, then the processor (that can call the counter-party or the
+     * data-plane) is invoked outside of it. Every transition the processor persists goes through a
+     * {@link StateTransitionStore}, that saves the transfer process only if it has not been changed
+     * concurrently and creates the follow-up task in the same transaction.
+     */
+    private StatusResult<Void> handleTask(TransferProcessTaskPayload task) {
+        var preparation = transactionContext.execute(() -> prepare(task));
+        return preparation.compose(execution -> execution == null ? StatusResult.success() : execute(execution));
+    }
+
+    private StatusResult<Void> execute(Execution execution) {
+        var transferProcess = execution.transferProcess();
+        var handler = execution.handler();
+        var transitions = new StateTransitionStore<>(store, transactionContext, taskService, clock, transferProcess, handler.followUp());
 
-        var task = Task.Builder.newInstance().at(clock.millis())
-                .payload(payload)
-                .build();
-        taskService.create(task);
+        var result = handler.function().apply(transferProcessors.withStore(transitions), transferProcess);
+
+        if (transitions.getFailure() != null) {
+            return StatusResult.failure(ERROR_RETRY, transitions.getFailure());
+        }
+        if (transitions.hasConflict()) {
+            monitor.warning("Transition of transfer process with id '%s' discarded because it changed concurrently".formatted(transferProcess.getId()));
+            return StatusResult.success();
+        }
+        return result;
     }
 
-    private StatusResult<Void> handleTask(TransferProcessTaskPayload task) {
+    private StatusResult<Execution> prepare(TransferProcessTaskPayload task) {
         var expectedState = TransferProcessStates.from(task.getProcessState());
         var transferId = task.getProcessId();
-        return transactionContext.execute(() -> {
-            var transferResult = loadTransferProcess(transferId);
-            if (transferResult.failed()) {
-                return StatusResult.failure(FATAL_ERROR, transferResult.getFailureDetail());
-            }
-
-            var transferProcess = transferResult.getContent();
-            if (TransferProcessStates.isFinal(transferProcess.getState())) {
-                monitor.debug("Skipping transfer process with id '%s' is in final state '%s'".formatted(transferId, from(transferProcess.getState())));
-                return StatusResult.success();
-            }
-
-            if (transferProcess.getState() != expectedState.code()) {
-                monitor.warning("Skipping transfer process with id '%s' is in state '%s', expected '%s'".formatted(transferId, from(transferProcess.getState()), expectedState));
-                return StatusResult.success();
-            }
-
-            var handler = handlers.get(task.getClass());
-            if (handler == null) {
-                monitor.debug("No handler for task '%s' in transfer process with id '%s'".formatted(task.getClass().getSimpleName(), transferId));
-                return StatusResult.success();
-            }
-
-            if (handler.type != null && handler.type != transferProcess.getType()) {
-                var msg = "Expected type '%s' for state '%s', but got '%s' for transfer process %s".formatted(handler.type, expectedState, transferProcess.getType(), transferId);
-                monitor.severe(msg);
-                return StatusResult.failure(FATAL_ERROR, msg);
-            }
-
-            if (transferProcess.isPending()) {
-                monitor.debug("Skipping transfer process with id '%s' is in pending state".formatted(transferId));
-                return StatusResult.success();
-            }
-
-            if (pendingGuard.test(transferProcess)) {
-                monitor.debug("Skipping '%s' for transfer process with id '%s' due matched guard".formatted(expectedState, transferId));
-                return StatusResult.success();
-            }
-
-            return handler.function.apply(transferProcess);
-        });
+        var transferResult = loadTransferProcess(transferId);
+        if (transferResult.failed()) {
+            return StatusResult.failure(FATAL_ERROR, transferResult.getFailureDetail());
+        }
+
+        var transferProcess = transferResult.getContent();
+        if (TransferProcessStates.isFinal(transferProcess.getState())) {
+            monitor.debug("Skipping transfer process with id '%s' is in final state '%s'".formatted(transferId, from(transferProcess.getState())));
+            return StatusResult.success(null);
+        }
+
+        if (transferProcess.getState() != expectedState.code()) {
+            monitor.warning("Skipping transfer process with id '%s' is in state '%s', expected '%s'".formatted(transferId, from(transferProcess.getState()), expectedState));
+            return StatusResult.success(null);
+        }
+
+        var handler = handlers.get(task.getClass());
+        if (handler == null) {
+            monitor.debug("No handler for task '%s' in transfer process with id '%s'".formatted(task.getClass().getSimpleName(), transferId));
+            return StatusResult.success(null);
+        }
+
+        if (handler.type != null && handler.type != transferProcess.getType()) {
+            var msg = "Expected type '%s' for state '%s', but got '%s' for transfer process %s".formatted(handler.type, expectedState, transferProcess.getType(), transferId);
+            monitor.severe(msg);
+            return StatusResult.failure(FATAL_ERROR, msg);
+        }
+
+        if (transferProcess.isPending()) {
+            monitor.debug("Skipping transfer process with id '%s' is in pending state".formatted(transferId));
+            return StatusResult.success(null);
+        }
 
+        if (pendingGuard.test(transferProcess)) {
+            monitor.debug("Skipping '%s' for transfer process with id '%s' due matched guard".formatted(expectedState, transferId));
+            return StatusResult.success(null);
+        }
+
+        return StatusResult.success(new Execution(handler, transferProcess));
     }
 
-    private StatusResult<Void> handlePrepareTransfer(TransferProcess process) {
+    private StatusResult<Void> handlePrepareTransfer(TransferProcessors processors, TransferProcess process) {
         if (process.getType() == CONSUMER) {
-            return invokeProcessor(process, transferProcessors::processConsumerInitial).onSuccess(v -> {
-                if (process.getState() == REQUESTING.code()) {
-                    var task = baseBuilder(SendTransferRequest.Builder.newInstance(), process).build();
-                    storeTask(task);
-                }
-            });
+            return invokeProcessor(process, processors::processConsumerInitial);
         } else {
-            return terminateOnFatalError(process, invokeProcessor(process, transferProcessors::processProviderInitial).onSuccess(v -> {
-                if (process.getState() == STARTING.code()) {
-                    var task = baseBuilder(SendTransferStart.Builder.newInstance(), process).build();
-                    storeTask(task);
-                }
-            }));
+            return invokeProcessor(process, processors::processProviderInitial);
         }
     }
 
-    private StatusResult<Void> handleSendStartMessage(TransferProcess process) {
-        return invokeProcessorTerminatingOnFatalError(process, transferProcessors::processStarting);
+    private StatusResult<Void> handleSendStartMessage(TransferProcessors processors, TransferProcess process) {
+        return invokeProcessor(process, processors::processStarting);
     }
 
-    private StatusResult<Void> handleSignalStartedDataflow(TransferProcess process) {
-        return invokeProcessorTerminatingOnFatalError(process, transferProcessors::processStartupRequested);
+    private StatusResult<Void> handleSignalStartedDataflow(TransferProcessors processors, TransferProcess process) {
+        return invokeProcessor(process, processors::processStartupRequested);
     }
 
-    private StatusResult<Void> handleSuspendDataflow(TransferProcess process) {
-        return invokeProcessorTerminatingOnFatalError(process, transferProcessors::processSuspending);
+    private StatusResult<Void> handleSuspendDataflow(TransferProcessors processors, TransferProcess process) {
+        return invokeProcessor(process, processors::processSuspending);
     }
 
-    private StatusResult<Void> handleResumeDataflow(TransferProcess process) {
-        return invokeProcessorTerminatingOnFatalError(process, transferProcessors::processResuming);
+    private StatusResult<Void> handleResumeDataflow(TransferProcessors processors, TransferProcess process) {
+        return invokeProcessor(process, processors::processResuming);
     }
 
-    private StatusResult<Void> handleTerminateDataflow(TransferProcess process) {
-        return invokeProcessor(process, transferProcessors::processTerminating);
+    private StatusResult<Void> handleTerminateDataflow(TransferProcessors processors, TransferProcess process) {
+        return invokeProcessor(process, processors::processTerminating);
     }
 
-    private StatusResult<Void> handleCompleteDataflow(TransferProcess process) {
-        return invokeProcessorTerminatingOnFatalError(process, transferProcessors::processCompleting);
+    private StatusResult<Void> handleCompleteDataflow(TransferProcessors processors, TransferProcess process) {
+        return invokeProcessor(process, processors::processCompleting);
     }
 
-    private StatusResult<Void> handleSendRequest(TransferProcess process) {
-        return invokeProcessor(process, transferProcessors::processRequesting);
+    private StatusResult<Void> handleSendRequest(TransferProcessors processors, TransferProcess process) {
+        return invokeProcessor(process, processors::processRequesting);
+    }
+
+    private TransferProcessTaskPayload prepareTransferFollowUp(TransferProcess process) {
+        if (process.getType() == CONSUMER) {
+            return process.getState() == REQUESTING.code() ? baseBuilder(SendTransferRequest.Builder.newInstance(), process).build() : null;
+        }
+        if (process.getState() == STARTING.code()) {
+            return baseBuilder(SendTransferStart.Builder.newInstance(), process).build();
+        }
+        return terminationFollowUp(process);
+    }
+
+    private TransferProcessTaskPayload terminationFollowUp(TransferProcess process) {
+        if (process.getState() == TERMINATING.code()) {
+            return baseBuilder(TerminateDataFlow.Builder.newInstance(), process).build();
+        }
+        return null;
     }
 
     private StatusResult<TransferProcess> loadTransferProcess(String transferProcessId) {
@@ -198,26 +226,18 @@ public class TransferProcessTaskExecutorImpl implements TransferProcessTaskExecu
         }
     }
 
-    private StatusResult<Void> invokeProcessorTerminatingOnFatalError(TransferProcess process, Function<TransferProcess, CompletableFuture<StatusResult<Void>>> processor) {
-        return terminateOnFatalError(process, invokeProcessor(process, processor));
-    }
-
-    private StatusResult<Void> terminateOnFatalError(TransferProcess process, StatusResult<Void> result) {
-        return result.onFailure(f -> {
-            if (f.isFatal()) {
-                var task = baseBuilder(TerminateDataFlow.Builder.newInstance(), process).build();
-                storeTask(task);
-            }
-        });
-    }
-
     protected <T extends ProcessTaskPayload, B extends ProcessTaskPayload.Builder<T, B>> B baseBuilder(B builder, TransferProcess transferProcess) {
         return builder.processId(transferProcess.getId())
                 .processState(transferProcess.getState())
                 .processType(transferProcess.getType().name());
     }
 
-    private record Handler(Function<TransferProcess, StatusResult<Void>> function, TransferProcess.Type type) {
+    private record Handler(BiFunction<TransferProcessors, TransferProcess, StatusResult<Void>> function, TransferProcess.Type type,
+                           Function<TransferProcess, TransferProcessTaskPayload> followUp) {
+
+    }
+
+    private record Execution(Handler handler, TransferProcess transferProcess) {
 
     }
 
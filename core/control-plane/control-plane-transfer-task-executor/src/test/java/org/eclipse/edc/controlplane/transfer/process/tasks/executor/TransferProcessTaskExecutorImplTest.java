@@ -45,13 +45,16 @@ import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.protocol.spi.ProtocolWebhookResolver;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessFactory;
+import org.eclipse.edc.transaction.local.LocalTransactionContext;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.transaction.spi.local.LocalTransactionResource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -63,6 +66,7 @@ import org.mockito.ArgumentCaptor;
 
 import java.time.Clock;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
@@ -88,6 +92,7 @@ import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -121,17 +126,11 @@ class TransferProcessTaskExecutorImplTest {
 
         when(pendingGuard.test(any())).thenReturn(false);
         when(transferStore.save(any())).thenReturn(StoreResult.success());
+        when(transferStore.findByIdAndLease(any())).thenAnswer(i -> StoreResult.success(transferStore.findById(i.getArgument(0))));
+        when(taskService.create(any())).thenReturn(ServiceResult.success());
         when(policyArchive.getAgreementIdForContract(any())).thenReturn("agreementId");
 
-        executor = TransferProcessTaskExecutorImpl.Builder.newInstance()
-                .store(transferStore)
-                .pendingGuard(pendingGuard)
-                .transactionContext(transactionContext)
-                .monitor(monitor)
-                .clock(clock)
-                .taskService(taskService)
-                .transferProcessors(transferProcessors)
-                .build();
+        executor = createExecutor(transactionContext);
     }
 
 
@@ -163,7 +162,7 @@ class TransferProcessTaskExecutorImplTest {
                 .contractId(contractId)
                 .build();
 
-        when(transferStore.findById(payload.getProcessId())).thenReturn(transferProcess);
+        persist(transferProcess);
         when(policyArchive.findPolicyForContract(any())).thenReturn(Policy.Builder.newInstance().build());
 
 
@@ -282,7 +281,7 @@ class TransferProcessTaskExecutorImplTest {
                 .state(TransferProcessStates.from(payload.getProcessState()).code())
                 .contractId("contractId")
                 .build();
-        when(transferStore.findById(payload.getProcessId())).thenReturn(process);
+        persist(process);
 
         var result = executor.handle(payload);
 
@@ -309,7 +308,7 @@ class TransferProcessTaskExecutorImplTest {
                 .state(REQUESTED.code())
                 .contractId("contractId")
                 .build();
-        when(transferStore.findById("transfer-123")).thenReturn(process);
+        persist(process);
         // a retryable failure yields a non-fatal error
         when(dataFlowController.started(any())).thenReturn(StatusResult.failure(ERROR_RETRY, "temporary"));
 
@@ -320,6 +319,65 @@ class TransferProcessTaskExecutorImplTest {
         verify(taskService, never()).create(any());
     }
 
+    @Test
+    void handle_shouldDiscardTransitionAndFollowUpTask_whenStateChangedConcurrently() {
+        var task = PrepareTransfer.Builder.newInstance()
+                .processId("transfer-123")
+                .processState(INITIAL.code())
+                .processType(PROVIDER.name())
+                .build();
+        var process = TransferProcess.Builder.newInstance()
+                .id("transfer-123")
+                .type(PROVIDER)
+                .state(INITIAL.code())
+                .contractId("contractId")
+                .build();
+        var concurrentlyTerminated = process.toBuilder().state(TERMINATED.code()).build();
+        when(transferStore.findById("transfer-123")).thenReturn(process);
+        when(transferStore.findByIdAndLease("transfer-123")).thenReturn(StoreResult.success(concurrentlyTerminated));
+        when(policyArchive.findPolicyForContract(any())).thenReturn(Policy.Builder.newInstance().build());
+        when(dataFlowController.start(any(), any())).thenReturn(StatusResult.success(DataFlowResponse.Builder.newInstance().build()));
+
+        var result = executor.handle(task);
+
+        assertThat(result).isSucceeded();
+        verify(transferStore, never()).save(any());
+        verify(transferStore).breakLease(concurrentlyTerminated);
+        verify(taskService, never()).create(any());
+    }
+
+    @Test
+    void handle_shouldRollbackTransition_whenFollowUpTaskCannotBeCreated() {
+        var task = PrepareTransfer.Builder.newInstance()
+                .processId("transfer-123")
+                .processState(INITIAL.code())
+                .processType(CONSUMER.name())
+                .build();
+        var process = TransferProcess.Builder.newInstance()
+                .id("transfer-123")
+                .type(CONSUMER)
+                .state(INITIAL.code())
+                .contractId("contractId")
+                .build();
+        var transactionalStore = new TransactionalStore(process);
+        var localTransactionContext = new LocalTransactionContext(monitor);
+        localTransactionContext.registerResource(transactionalStore);
+        when(transferStore.findById("transfer-123")).thenAnswer(i -> transactionalStore.committed.copy());
+        when(transferStore.findByIdAndLease("transfer-123")).thenAnswer(i -> StoreResult.success(transactionalStore.committed.copy()));
+        when(transferStore.save(any())).thenAnswer(i -> transactionalStore.stage(i.getArgument(0)));
+        when(policyArchive.findPolicyForContract(any())).thenReturn(Policy.Builder.newInstance().build());
+        when(dataFlowController.prepare(any(), any())).thenReturn(StatusResult.success(DataFlowResponse.Builder.newInstance().build()));
+        when(taskService.create(any())).thenReturn(ServiceResult.unexpected("cannot create task"));
+
+        var result = createExecutor(localTransactionContext).handle(task);
+
+        assertThat(result).isFailed();
+        assertThat(result.fatalError()).isFalse();
+        verify(transferStore).save(argThat(p -> p.getState() == REQUESTING.code()));
+        verify(taskService).create(argThat(t -> t.getPayload() instanceof SendTransferRequest));
+        assertThat(transactionalStore.committed.getState()).isEqualTo(INITIAL.code());
+    }
+
     @Test
     void handle_shouldTransitionWhenHandlerSucceeds() {
         var transferProcess = createTransferProcess("transfer-123", INITIAL);
@@ -345,6 +403,28 @@ class TransferProcessTaskExecutorImplTest {
         verify(transferStore).save(any());
     }
 
+    private TransferProcessTaskExecutor createExecutor(TransactionContext transactionContext) {
+        return TransferProcessTaskExecutorImpl.Builder.newInstance()
+                .store(transferStore)
+                .pendingGuard(pendingGuard)
+                .transactionContext(transactionContext)
+                .monitor(monitor)
+                .clock(clock)
+                .taskService(taskService)
+                .transferProcessors(transferProcessors)
+                .build();
+    }
+
+    private void persist(TransferProcess transferProcess) {
+        var persisted = new AtomicReference<>(transferProcess.copy());
+        when(transferStore.findById(transferProcess.getId())).thenAnswer(i -> persisted.get().copy());
+        when(transferStore.findByIdAndLease(transferProcess.getId())).thenAnswer(i -> StoreResult.success(persisted.get().copy()));
+        when(transferStore.save(any())).thenAnswer(i -> {
+            persisted.set(i.<TransferProcess>getArgument(0).copy());
+            return StoreResult.success();
+        });
+    }
+
     private TransferProcess createTransferProcess(String id, TransferProcessStates state) {
         var transferProcess = mock(TransferProcess.class);
         when(transferProcess.getId()).thenReturn(id);
@@ -360,6 +440,41 @@ class TransferProcessTaskExecutorImplTest {
         return transferProcess;
     }
 
+    /**
+     * Keeps the transfer process saved in a local transaction staged until the transaction commits.
+     */
+    private static class TransactionalStore implements LocalTransactionResource {
+
+        private TransferProcess committed;
+        private TransferProcess staged;
+
+        TransactionalStore(TransferProcess committed) {
+            this.committed = committed;
+        }
+
+        StoreResult<Void> stage(TransferProcess transferProcess) {
+            staged = transferProcess.copy();
+            return StoreResult.success();
+        }
+
+        @Override
+        public void start() {
+            staged = null;
+        }
+
+        @Override
+        public void commit() {
+            if (staged != null) {
+                committed = staged;
+            }
+        }
+
+        @Override
+        public void rollback() {
+            staged = null;
+        }
+    }
+
     public static class StateTransitionProvider implements ArgumentsProvider {
 
         protected <T extends ProcessTaskPayload, B extends ProcessTaskPayload.Builder<T, B>> B baseBuilder(B builder, String id, TransferProcessStates state, TransferProcess.Type type) {
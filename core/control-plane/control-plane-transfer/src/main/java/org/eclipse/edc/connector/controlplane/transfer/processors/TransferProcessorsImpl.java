@@ -36,6 +36,7 @@ import org.eclipse.edc.connector.controlplane.transfer.spi.types.protocol.Transf
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.protocol.TransferTerminationMessage;
 import org.eclipse.edc.protocol.spi.ProtocolWebhookResolver;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.StateEntityStore;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessFactory;
@@ -61,7 +62,7 @@ public class TransferProcessorsImpl implements TransferProcessors {
     private final DataFlowController dataFlowController;
     private final DataAddressStore dataAddressStore;
     private final TransferProcessObservable observable;
-    private final TransferProcessStore store;
+    private final StateEntityStore<TransferProcess> store;
     private final Monitor monitor;
     private final DataAddressResolver addressResolver;
     private final ProtocolWebhookResolver protocolWebhookResolver;
@@ -85,6 +86,19 @@ public class TransferProcessorsImpl implements TransferProcessors {
         this.messageDispatcher = messageDispatcher;
     }
 
+    private TransferProcessorsImpl(TransferProcessorsImpl source, StateEntityStore<TransferProcess> store) {
+        this.policyArchive = source.policyArchive;
+        this.entityRetryProcessFactory = source.entityRetryProcessFactory;
+        this.dataFlowController = source.dataFlowController;
+        this.dataAddressStore = source.dataAddressStore;
+        this.observable = source.observable;
+        this.store = store;
+        this.monitor = source.monitor;
+        this.addressResolver = source.addressResolver;
+        this.protocolWebhookResolver = source.protocolWebhookResolver;
+        this.messageDispatcher = source.messageDispatcher;
+    }
+
     @WithSpan
     @Override
     public CompletableFuture<StatusResult<Void>> processConsumerInitial(TransferProcess process) {
@@ -111,11 +125,11 @@ public class TransferProcessorsImpl implements TransferProcessors {
                     process.setDataPlaneId(response.getDataPlaneId());
                     if (response.isAsync()) {
                         process.transitionPreparationRequested();
-                        observable.invokeForEach(l -> l.preparationRequested(process));
+                        update(process).onSuccess(i -> observable.invokeForEach(l -> l.preparationRequested(process)));
                     } else {
                         process.transitionRequesting();
+                        update(process);
                     }
-                    update(process);
                 })
                 .onFailure((t, throwable) -> transitionToInitial(t))
                 .onFinalFailure(this::transitionToTerminated)
@@ -223,8 +237,8 @@ public class TransferProcessorsImpl implements TransferProcessors {
                 }))
                 .onSuccess((t, ignored) -> {
                     t.transitionStarted();
-                    update(t);
-                    observable.invokeForEach(l -> l.started(t, TransferProcessStartedData.Builder.newInstance().build()));
+                    update(t).onSuccess(i -> observable.invokeForEach(l ->
+                            l.started(t, TransferProcessStartedData.Builder.newInstance().build())));
                 })
                 .onFailure((t, throwable) -> transitionToStarting(t))
                 .onFinalFailure((t, throwable) -> transitionToTerminating(t, throwable.getMessage(), throwable))
@@ -265,8 +279,7 @@ public class TransferProcessorsImpl implements TransferProcessors {
                         transitionToStarted(t);
                     } else {
                         t.transitionResumed();
-                        update(t);
-                        observable.invokeForEach(l -> l.resumed(t));
+                        update(t).onSuccess(i -> observable.invokeForEach(l -> l.resumed(t)));
                     }
                 })
                 .onFailure((t, throwable) -> {
@@ -362,6 +375,11 @@ public class TransferProcessorsImpl implements TransferProcessors {
                 .execute();
     }
 
+    @Override
+    public TransferProcessors withStore(StateEntityStore<TransferProcess> store) {
+        return new TransferProcessorsImpl(this, store);
+    }
+
     /**
      * this is to support the legacy data plane signaling, it will be deleted when the legacy protocol will be dismissed
      *
@@ -419,8 +437,7 @@ public class TransferProcessorsImpl implements TransferProcessors {
     private void transitionToRequested(TransferProcess transferProcess, TransferProcessAck ack) {
         transferProcess.transitionRequested();
         transferProcess.setCorrelationId(ack.getProviderPid());
-        update(transferProcess);
-        observable.invokeForEach(l -> l.requested(transferProcess));
+        update(transferProcess).onSuccess(i -> observable.invokeForEach(l -> l.requested(transferProcess)));
     }
 
     private void transitionToStarting(TransferProcess transferProcess) {
@@ -430,11 +447,10 @@ public class TransferProcessorsImpl implements TransferProcessors {
 
     private void transitionToStarted(TransferProcess transferProcess) {
         transferProcess.transitionStarted();
-        update(transferProcess);
         var transferStartedData = TransferProcessStartedData.Builder.newInstance()
                 .dataAddress(transferProcess.getContentDataAddress())
                 .build();
-        observable.invokeForEach(l -> l.started(transferProcess, transferStartedData));
+        update(transferProcess).onSuccess(i -> observable.invokeForEach(l -> l.started(transferProcess, transferStartedData)));
     }
 
     private void transitionToStartupRequested(TransferProcess transferProcess) {
@@ -469,8 +485,7 @@ public class TransferProcessorsImpl implements TransferProcessors {
 
     private void transitionToSuspended(TransferProcess process) {
         process.transitionSuspended();
-        update(process);
-        observable.invokeForEach(l -> l.suspended(process));
+        update(process).onSuccess(i -> observable.invokeForEach(l -> l.suspended(process)));
     }
 
     private void transitionToTerminating(TransferProcess process, String message, Throwable... errors) {
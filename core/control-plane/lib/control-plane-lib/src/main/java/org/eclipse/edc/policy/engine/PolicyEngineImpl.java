@@ -35,10 +35,13 @@ import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import static org.eclipse.edc.spi.result.Result.failure;
@@ -46,6 +49,11 @@ import static org.eclipse.edc.spi.result.Result.success;
 
 /**
  * Default implementation of the policy engine.
+ * <p>
+ * The functions and validators that apply to a context type are resolved once and cached until a new one gets
+ * registered. The scope-filtered version of a policy is cached per policy instance, compared by identity, as long as
+ * the instance is reachable and the rule bindings did not change, so evaluating the same policy repeatedly only binds
+ * the functions to the {@link PolicyContext} of the call.
  */
 public class PolicyEngineImpl implements PolicyEngine {
 
@@ -58,6 +66,10 @@ public class PolicyEngineImpl implements PolicyEngine {
     private final List<ValidatorRuleEntry<? extends PolicyContext>> preValidators = new ArrayList<>();
     private final List<ValidatorRuleEntry<? extends PolicyContext>> postValidators = new ArrayList<>();
 
+    private final Map<Class<?>, ScopedFunctions> scopedFunctions = new ConcurrentHashMap<>();
+    private final Map<PolicyKey, FilteredPolicies> filteredPolicies = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Policy> collectedPolicies = new ReferenceQueue<>();
+
     private final ScopeFilter scopeFilter;
     private final RuleValidator ruleValidator;
 
@@ -73,10 +85,9 @@ public class PolicyEngineImpl implements PolicyEngine {
 
     @Override
     public <C extends PolicyContext> Result<Void> evaluate(Policy policy, C context) {
-        Predicate<FunctionEntry<?>> isScoped = entry -> entry.contextType().isAssignableFrom(context.getClass());
+        var functions = scopedFunctions(context.getClass());
 
-        var preValidationFailure = preValidators.stream()
-                .filter(isScoped)
+        var preValidationFailure = functions.preValidators().stream()
                 .map(it -> (PolicyValidatorRule<C>) it.rule())
                 .filter(it -> !it.apply(policy, context))
                 .findFirst();
@@ -87,9 +98,7 @@ public class PolicyEngineImpl implements PolicyEngine {
 
         var evalBuilder = PolicyEvaluator.Builder.newInstance();
 
-
-        ruleFunctions.stream()
-                .filter(isScoped)
+        functions.ruleFunctions()
                 .forEach(entry -> {
                     if (Duty.class.isAssignableFrom(entry.type)) {
                         evalBuilder.dutyRuleFunction((rule) ->
@@ -103,8 +112,7 @@ public class PolicyEngineImpl implements PolicyEngine {
                     }
                 });
 
-        constraintFunctions.stream()
-                .filter(isScoped)
+        functions.constraintFunctions()
                 .forEach(entry -> {
                     if (Duty.class.isAssignableFrom(entry.type)) {
                         evalBuilder.dutyFunction(entry.key, (operator, value, duty) ->
@@ -118,8 +126,7 @@ public class PolicyEngineImpl implements PolicyEngine {
                     }
                 });
 
-        dynamicConstraintFunctions.stream()
-                .filter(isScoped)
+        functions.dynamicConstraintFunctions()
                 .forEach(entry -> {
                     if (Duty.class.isAssignableFrom(entry.type)) {
                         evalBuilder.dynamicDutyFunction(entry.function::canHandle, (key, operator, value, duty) ->
@@ -135,14 +142,13 @@ public class PolicyEngineImpl implements PolicyEngine {
 
         var evaluator = evalBuilder.build();
 
-        var filteredPolicy = scopeFilter.applyScope(policy, context.scope());
+        var filteredPolicy = filteredPolicy(policy, context.scope());
 
         var result = evaluator.evaluate(filteredPolicy);
 
         if (result.valid()) {
 
-            var postValidationFailure = postValidators.stream()
-                    .filter(isScoped)
+            var postValidationFailure = functions.postValidators().stream()
                     .map(it -> (PolicyValidatorRule<C>) it.rule())
                     .filter(it -> !it.apply(policy, context))
                     .findFirst();
@@ -196,26 +202,65 @@ public class PolicyEngineImpl implements PolicyEngine {
     @Override
     public <R extends Rule, C extends PolicyContext> void registerFunction(Class<C> contextType, Class<R> type, String key, AtomicConstraintRuleFunction<R, C> function) {
         constraintFunctions.add(new ConstraintFunctionEntry(contextType, type, key, function));
+        scopedFunctions.clear();
     }
 
     @Override
     public <R extends Rule, C extends PolicyContext> void registerFunction(Class<C> contextType, Class<R> type, DynamicAtomicConstraintRuleFunction<R, C> function) {
         dynamicConstraintFunctions.add(new DynamicConstraintFunctionEntry(contextType, type, function));
+        scopedFunctions.clear();
     }
 
     @Override
     public <R extends Rule, C extends PolicyContext> void registerFunction(Class<C> contextType, Class<R> type, PolicyRuleFunction<R, C> function) {
         ruleFunctions.add(new RuleFunctionEntry(contextType, type, function));
+        scopedFunctions.clear();
     }
 
     @Override
     public <C extends PolicyContext> void registerPreValidator(Class<C> contextType, PolicyValidatorRule<C> validator) {
         preValidators.add(new ValidatorRuleEntry(contextType, validator));
+        scopedFunctions.clear();
     }
 
     @Override
     public <C extends PolicyContext> void registerPostValidator(Class<C> contextType, PolicyValidatorRule<C> validator) {
         postValidators.add(new ValidatorRuleEntry(contextType, validator));
+        scopedFunctions.clear();
+    }
+
+    private ScopedFunctions scopedFunctions(Class<? extends PolicyContext> contextType) {
+        return scopedFunctions.computeIfAbsent(contextType, type -> {
+            Predicate<FunctionEntry<?>> isScoped = entry -> entry.contextType().isAssignableFrom(type);
+            return new ScopedFunctions(
+                    preValidators.stream().filter(isScoped).toList(),
+                    postValidators.stream().filter(isScoped).toList(),
+                    ruleFunctions.stream().filter(isScoped).toList(),
+                    constraintFunctions.stream().filter(isScoped).toList(),
+                    dynamicConstraintFunctions.stream().filter(isScoped).toList()
+            );
+        });
+    }
+
+    private Policy filteredPolicy(Policy policy, String scope) {
+        var bindingsVersion = scopeFilter.bindingsVersion();
+        if (bindingsVersion < 0) {
+            return scopeFilter.applyScope(policy, scope);
+        }
+
+        removeCollectedPolicies();
+        var cached = filteredPolicies.get(new PolicyKey(policy, null));
+        if (cached == null || cached.bindingsVersion() != bindingsVersion) {
+            cached = new FilteredPolicies(bindingsVersion, new ConcurrentHashMap<>());
+            filteredPolicies.put(new PolicyKey(policy, collectedPolicies), cached);
+        }
+        return cached.byScope().computeIfAbsent(scope, s -> scopeFilter.applyScope(policy, s));
+    }
+
+    private void removeCollectedPolicies() {
+        for (var key = collectedPolicies.poll(); key != null; key = collectedPolicies.poll()) {
+            filteredPolicies.remove(key);
+        }
     }
 
     @NotNull
@@ -247,6 +292,46 @@ public class PolicyEngineImpl implements PolicyEngine {
             PolicyValidatorRule<C> rule
     ) implements FunctionEntry<C> { }
 
+    private record ScopedFunctions(
+            List<ValidatorRuleEntry<? extends PolicyContext>> preValidators,
+            List<ValidatorRuleEntry<? extends PolicyContext>> postValidators,
+            List<RuleFunctionEntry<Rule, ? extends PolicyContext>> ruleFunctions,
+            List<ConstraintFunctionEntry<Rule, ? extends PolicyContext>> constraintFunctions,
+            List<DynamicConstraintFunctionEntry<Rule, ? extends PolicyContext>> dynamicConstraintFunctions
+    ) { }
+
+    private record FilteredPolicies(long bindingsVersion, Map<String, Policy> byScope) { }
+
+    /**
+     * Weak reference to a policy, equal to the references to the same policy instance only: policies are hashed and
+     * compared by value, which walks the whole policy and lets distinct instances share an entry.
+     */
+    private static final class PolicyKey extends WeakReference<Policy> {
+        private final int hash;
+
+        PolicyKey(Policy policy, ReferenceQueue<Policy> queue) {
+            super(policy, queue);
+            hash = System.identityHashCode(policy);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PolicyKey other)) {
+                return false;
+            }
+            var policy = get();
+            return policy != null && policy == other.get();
+        }
+    }
+
     private interface FunctionEntry<C extends PolicyContext> {
         Class<C> contextType();
     }
@@ -22,6 +22,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -31,15 +32,23 @@ public class RuleBindingRegistryImpl implements RuleBindingRegistry {
 
     private final Map<String, Set<String>> ruleBindings = new HashMap<>();
     private final List<Function<String, Set<String>>> dynamicBinders = new ArrayList<>();
+    private final AtomicLong version = new AtomicLong();
 
     @Override
     public void bind(String ruleType, String scope) {
         ruleBindings.computeIfAbsent(ruleType, k -> new HashSet<>()).add(scope + DELIMITER);
+        version.incrementAndGet();
     }
 
     @Override
     public void dynamicBind(Function<String, Set<String>> binder) {
         dynamicBinders.add(binder);
+        version.incrementAndGet();
+    }
+
+    @Override
+    public long version() {
+        return version.get();
     }
 
     @Override
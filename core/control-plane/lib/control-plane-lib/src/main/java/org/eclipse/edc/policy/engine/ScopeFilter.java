@@ -54,6 +54,16 @@ public class ScopeFilter {
         this.registry = registry;
     }
 
+    /**
+     * Returns the version of the rule bindings used for filtering, or -1 when the registry does not track changes and
+     * the filtering results cannot be cached.
+     *
+     * @return the bindings version.
+     */
+    long bindingsVersion() {
+        return registry.version();
+    }
+
     public Policy applyScope(Policy policy, String scope) {
         var filteredObligations = filterBy(policy.getObligations(), d -> applyScope(d, scope));
         var filteredPermissions = filterBy(policy.getPermissions(), d -> applyScope(d, scope));
@@ -17,6 +17,7 @@ package org.eclipse.edc.statemachine;
 import org.eclipse.edc.spi.entity.StateEntityManager;
 import org.eclipse.edc.spi.entity.StatefulEntity;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.DueCondition;
 import org.eclipse.edc.spi.persistence.StateEntityStore;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
@@ -28,6 +29,7 @@ import org.eclipse.edc.statemachine.retry.EntityRetryProcessFactory;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -40,6 +42,7 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
 
     protected Monitor monitor;
     protected int batchSize = StateMachineConfiguration.DEFAULT_BATCH_SIZE;
+    protected int parallelism = StateMachineConfiguration.DEFAULT_PARALLELISM;
     protected WaitStrategy waitStrategy = () -> StateMachineConfiguration.DEFAULT_ITERATION_WAIT;
     protected ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
     protected Telemetry telemetry = new Telemetry();
@@ -48,11 +51,13 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     protected StateMachineManager stateMachineManager;
     protected Clock clock = Clock.systemUTC();
     protected S store;
+    private List<Long> retryDelays = List.of();
 
     @Override
     public void start() {
         var stateMachineManagerBuilder = StateMachineManager.Builder
-                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy);
+                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy)
+                .parallelism(parallelism);
         stateMachineManager = configureStateMachineManager(stateMachineManagerBuilder).build();
 
         stateMachineManager.start();
@@ -92,6 +97,16 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
                 });
     }
 
+    /**
+     * Returns the {@link DueCondition} that permits to fetch only the entities that are not waiting for a retry delay
+     * to expire, following the {@link EntityRetryProcessConfiguration}.
+     *
+     * @return the due condition evaluated at the current time.
+     */
+    protected DueCondition dueCondition() {
+        return new DueCondition(clock.millis(), retryDelays);
+    }
+
     protected void breakLease(E entity) {
         store.breakLease(entity);
     }
@@ -116,6 +131,11 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             return self();
         }
 
+        public B parallelism(int parallelism) {
+            manager.parallelism = parallelism;
+            return self();
+        }
+
         public B waitStrategy(WaitStrategy waitStrategy) {
             manager.waitStrategy = waitStrategy;
             return self();
@@ -151,6 +171,7 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             Objects.requireNonNull(manager.monitor, "monitor");
 
             manager.entityRetryProcessFactory = new EntityRetryProcessFactory(manager.monitor, manager.clock, manager.entityRetryProcessConfiguration);
+            manager.retryDelays = manager.entityRetryProcessConfiguration.retryDelays();
 
             return manager;
         }
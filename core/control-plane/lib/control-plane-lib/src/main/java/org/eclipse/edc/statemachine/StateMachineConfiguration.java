@@ -39,6 +39,13 @@ public record StateMachineConfiguration(
         )
         int batchSize,
 
+        @Setting(
+                description = "The number of processors that can run concurrently in the state machine. With 1 processors run sequentially.",
+                key = "state-machine.parallelism",
+                defaultValue = DEFAULT_PARALLELISM + ""
+        )
+        int parallelism,
+
         @Setting(
                 description = "How many times a specific operation must be tried before failing with error",
                 key = "send.retry.limit",
@@ -57,6 +64,7 @@ public record StateMachineConfiguration(
 
     public static final long DEFAULT_ITERATION_WAIT = 1000;
     public static final int DEFAULT_BATCH_SIZE = 20;
+    public static final int DEFAULT_PARALLELISM = 1;
     public static final int DEFAULT_SEND_RETRY_LIMIT = 7;
     public static final long DEFAULT_SEND_RETRY_BASE_DELAY = 1000L;
 
@@ -21,11 +21,15 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -33,8 +37,14 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
  * Handles a loop that processes entities continuously.
- * On every iteration it runs all the set processors sequentially,
- * applying a wait strategy in the case no entities are processed on the iteration.
+ * On every iteration it runs all the set processors, applying a wait strategy in the case no entities are processed
+ * on the iteration.
+ * <p>
+ * By default processors are run sequentially on the loop thread. When a parallelism greater than 1 is configured, they
+ * are submitted to a bounded worker pool and the iteration completes when all of them have finished, so processors
+ * for different states progress concurrently while the entity lease still guarantees exclusivity on every entity.
+ * The worker pool is passed through the {@link ExecutorInstrumentation}, so its queue depth and active (in-flight)
+ * count are reported as executor metrics when instrumentation is available.
  */
 public class StateMachineManager {
 
@@ -44,12 +54,16 @@ public class StateMachineManager {
     private final WaitStrategy waitStrategy;
     private final Monitor monitor;
     private final String name;
+    private final ExecutorInstrumentation instrumentation;
     private int shutdownTimeout = 10;
+    private int parallelism = 1;
+    private ExecutorService workers;
 
     private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
         this.name = name;
         this.monitor = monitor;
         this.waitStrategy = waitStrategy;
+        this.instrumentation = instrumentation;
         executor = instrumentation.instrument(
                 Executors.newSingleThreadScheduledExecutor(r -> {
                     var thread = Executors.defaultThreadFactory().newThread(r);
@@ -73,21 +87,10 @@ public class StateMachineManager {
      */
     public void stop() {
         active.set(false);
-        executor.shutdown();
-
-        try {
-            if (!executor.awaitTermination(shutdownTimeout, SECONDS)) {
-                executor.shutdownNow();
-                if (!executor.awaitTermination(shutdownTimeout, SECONDS)) {
-                    monitor.severe("StateMachineManager [%s] await termination timeout");
-                }
-            }
-        } catch (InterruptedException e) {
-            monitor.severe(format("StateMachineManager [%s] await termination failed", name), e);
-            executor.shutdownNow();
-            Thread.currentThread().interrupt();
+        shutdown(executor);
+        if (workers != null) {
+            shutdown(workers);
         }
-
     }
 
     /**
@@ -109,16 +112,7 @@ public class StateMachineManager {
     }
 
     private void performLogic() {
-        var processed = processors.stream()
-                .mapToLong(processor -> {
-                    try {
-                        return processor.process();
-                    } catch (Exception e) {
-                        monitor.severe("StateMachineManager [%s] error caught during processor".formatted(name), e);
-                        return 0;
-                    }
-                })
-                .sum();
+        var processed = workers == null ? runSequentially() : runConcurrently();
 
         waitStrategy.success();
 
@@ -130,11 +124,59 @@ public class StateMachineManager {
 
     }
 
+    private long runSequentially() {
+        return processors.stream().mapToLong(this::runProcessor).sum();
+    }
+
+    private long runConcurrently() {
+        var futures = processors.stream()
+                .map(processor -> CompletableFuture.supplyAsync(() -> runProcessor(processor), workers))
+                .toList();
+
+        return futures.stream().mapToLong(CompletableFuture::join).sum();
+    }
+
+    private long runProcessor(Processor processor) {
+        try {
+            return processor.process();
+        } catch (Exception e) {
+            monitor.severe("StateMachineManager [%s] error caught during processor".formatted(name), e);
+            return 0;
+        }
+    }
+
     @NotNull
     private Future<?> scheduleNextIterationIn(long delayMillis) {
         return executor.schedule(this::logic, delayMillis, MILLISECONDS);
     }
 
+    private void shutdown(ExecutorService executorService) {
+        executorService.shutdown();
+
+        try {
+            if (!executorService.awaitTermination(shutdownTimeout, SECONDS)) {
+                executorService.shutdownNow();
+                if (!executorService.awaitTermination(shutdownTimeout, SECONDS)) {
+                    monitor.severe("StateMachineManager [%s] await termination timeout".formatted(name));
+                }
+            }
+        } catch (InterruptedException e) {
+            monitor.severe(format("StateMachineManager [%s] await termination failed", name), e);
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ExecutorService createWorkers() {
+        var threadCount = new AtomicInteger();
+        var pool = new ThreadPoolExecutor(parallelism, parallelism, 0L, MILLISECONDS, new LinkedBlockingQueue<>(), r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName("StateMachineManager-%s-worker-%d".formatted(name, threadCount.incrementAndGet()));
+            return thread;
+        });
+        return instrumentation.instrument(pool, name + "-workers");
+    }
+
     public static class Builder {
 
         private final StateMachineManager loop;
@@ -157,7 +199,25 @@ public class StateMachineManager {
             return this;
         }
 
+        /**
+         * Sets how many processors can run concurrently. With the default value of 1 processors run sequentially on
+         * the state machine loop thread.
+         *
+         * @param parallelism the maximum number of concurrently running processors.
+         * @return the builder.
+         */
+        public Builder parallelism(int parallelism) {
+            loop.parallelism = parallelism;
+            return this;
+        }
+
         public StateMachineManager build() {
+            if (loop.parallelism < 1) {
+                throw new IllegalArgumentException("StateMachineManager parallelism must be greater than 0, got " + loop.parallelism);
+            }
+            if (loop.parallelism > 1) {
+                loop.workers = loop.createWorkers();
+            }
             return loop;
         }
     }
@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+import org.eclipse.edc.controlplane.tasks.Task;
+import org.eclipse.edc.controlplane.tasks.TaskPayload;
+import org.eclipse.edc.controlplane.tasks.TaskService;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.entity.StatefulEntity;
+import org.eclipse.edc.spi.persistence.DueCondition;
+import org.eclipse.edc.spi.persistence.StateEntityStore;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * {@link StateEntityStore} handed to the processors while a task is executed. Every save is an optimistic
+ * compare-and-set: in a single transaction the stored entity gets leased, its state and state timestamp are compared
+ * with the ones observed last, the entity is saved and the follow-up task for the new state, if any, is created. If the
+ * task cannot be created the transaction is rolled back, so the transition is not persisted without the task that
+ * continues it. All the other operations are delegated.
+ * <p>
+ * Instances are bound to the execution of a single task and are not meant to be shared.
+ *
+ * @param <T> the entity type
+ */
+public class StateTransitionStore<T extends StatefulEntity<T>> implements StateEntityStore<T> {
+
+    private final StateEntityStore<T> delegate;
+    private final TransactionContext transactionContext;
+    private final TaskService taskService;
+    private final Clock clock;
+    private final Function<T, ? extends TaskPayload> followUp;
+    private int expectedState;
+    private long expectedStateTimestamp;
+    private boolean conflict;
+    private String failure;
+
+    /**
+     * Constructs the store.
+     *
+     * @param delegate           the store that persists the entities
+     * @param transactionContext the transaction context
+     * @param taskService        the task service used to create the follow-up tasks
+     * @param clock              the clock
+     * @param observed           the entity as it was loaded before executing the task
+     * @param followUp           provides the follow-up task for a saved entity, or null if there is none
+     */
+    public StateTransitionStore(StateEntityStore<T> delegate, TransactionContext transactionContext, TaskService taskService,
+                                Clock clock, T observed, Function<T, ? extends TaskPayload> followUp) {
+        this.delegate = delegate;
+        this.transactionContext = transactionContext;
+        this.taskService = taskService;
+        this.clock = clock;
+        this.followUp = followUp;
+        this.expectedState = observed.getState();
+        this.expectedStateTimestamp = observed.getStateTimestamp();
+    }
+
+    @Override
+    public StoreResult<Void> save(T entity) {
+        try {
+            return transactionContext.execute(() -> compareAndSave(entity));
+        } catch (FollowUpTaskException e) {
+            failure = e.getMessage();
+            return StoreResult.generalError(e.getMessage());
+        }
+    }
+
+    /**
+     * Whether a save has been discarded because the entity was changed or leased concurrently.
+     */
+    public boolean hasConflict() {
+        return conflict;
+    }
+
+    /**
+     * The reason why a save failed, null if all the saves succeeded or were discarded because of a conflict.
+     */
+    @Nullable
+    public String getFailure() {
+        return failure;
+    }
+
+    @Override
+    public @Nullable T findById(String id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public @NotNull List<T> nextNotLeased(int max, Criterion... criteria) {
+        return delegate.nextNotLeased(max, criteria);
+    }
+
+    @Override
+    public @NotNull List<T> nextNotLeased(int max, DueCondition dueCondition, Criterion... criteria) {
+        return delegate.nextNotLeased(max, dueCondition, criteria);
+    }
+
+    @Override
+    public StoreResult<T> findByIdAndLease(String id) {
+        return delegate.findByIdAndLease(id);
+    }
+
+    @Override
+    public StoreResult<Void> breakLease(T entity) {
+        return delegate.breakLease(entity);
+    }
+
+    private StoreResult<Void> compareAndSave(T entity) {
+        var leased = delegate.findByIdAndLease(entity.getId());
+        if (leased.failed()) {
+            conflict = true;
+            return leased.mapEmpty();
+        }
+
+        var stored = leased.getContent();
+        if (stored.getState() != expectedState || stored.getStateTimestamp() != expectedStateTimestamp) {
+            delegate.breakLease(stored);
+            conflict = true;
+            return StoreResult.generalError("%s %s has been changed concurrently".formatted(entity.getClass().getSimpleName(), entity.getId()));
+        }
+
+        var saved = delegate.save(entity);
+        if (saved.failed()) {
+            failure = saved.getFailureDetail();
+            return saved;
+        }
+
+        var payload = followUp.apply(entity);
+        if (payload != null) {
+            var task = Task.Builder.newInstance().at(clock.millis())
+                    .payload(payload)
+                    .build();
+            taskService.create(task).orElseThrow(f -> new FollowUpTaskException("Cannot create task '%s' for %s %s: %s"
+                    .formatted(payload.getClass().getSimpleName(), entity.getClass().getSimpleName(), entity.getId(), f.getFailureDetail())));
+        }
+
+        expectedState = entity.getState();
+        expectedStateTimestamp = entity.getStateTimestamp();
+        return saved;
+    }
+
+    private static class FollowUpTaskException extends EdcException {
+        FollowUpTaskException(String message) {
+            super(message);
+        }
+    }
+}
@@ -18,11 +18,28 @@ package org.eclipse.edc.statemachine.retry;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.statemachine.retry.processor.RetryProcessor;
 
+import java.util.List;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 /**
  * Configure a {@link RetryProcessor}
  */
 public record EntityRetryProcessConfiguration(int retryLimit, Supplier<WaitStrategy> delayStrategySupplier) {
 
+    /**
+     * Calculates the delay to be waited before every retry, up to the one that exceeds the retry limit.
+     * The element at index {@code n - 1} is the delay that follows {@code n} failures.
+     *
+     * @return the list of retry delays in milliseconds.
+     */
+    public List<Long> retryDelays() {
+        return IntStream.rangeClosed(1, retryLimit + 1)
+                .mapToObj(failures -> {
+                    var delayStrategy = delayStrategySupplier.get();
+                    delayStrategy.failures(failures);
+                    return delayStrategy.retryInMillis();
+                })
+                .toList();
+    }
 }
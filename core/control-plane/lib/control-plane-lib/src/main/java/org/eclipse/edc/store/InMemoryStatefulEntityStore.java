@@ -16,6 +16,7 @@ package org.eclipse.edc.store;
 
 import org.eclipse.edc.spi.entity.StateResolver;
 import org.eclipse.edc.spi.entity.StatefulEntity;
+import org.eclipse.edc.spi.persistence.DueCondition;
 import org.eclipse.edc.spi.persistence.Lease;
 import org.eclipse.edc.spi.persistence.StateEntityStore;
 import org.eclipse.edc.spi.query.Criterion;
@@ -74,10 +75,16 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
 
     @Override
     public @NotNull List<T> nextNotLeased(int max, Criterion... criteria) {
+        return nextNotLeased(max, DueCondition.always(), criteria);
+    }
+
+    @Override
+    public @NotNull List<T> nextNotLeased(int max, DueCondition dueCondition, Criterion... criteria) {
         return lockManager.writeLock(() -> {
             var filterPredicate = Arrays.stream(criteria).map(criterionOperatorRegistry::toPredicate).reduce(x -> true, Predicate::and);
             var entities = entitiesById.values().stream()
                     .filter(filterPredicate)
+                    .filter(e -> dueCondition.isDue(e.getStateCount(), e.getStateTimestamp()))
                     .filter(e -> !isLeased(e.getId()))
                     .sorted(comparingLong(StatefulEntity::getStateTimestamp)) //order by state timestamp, oldest first
                     .limit(max)
@@ -14,15 +14,18 @@
 
 package org.eclipse.edc.store;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.CriteriaToPredicate;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.util.reflection.ReflectionUtil;
 
+import java.util.Comparator;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
+import static org.eclipse.edc.spi.query.ContinuationToken.ID_FIELD;
 
 /**
  * Default implementation of {@link QueryResolver} that applies query on a stream. Uses reflection to fetch object fields. Used in stores implementations.
@@ -52,8 +55,8 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
     /**
      * Method to query a stream by provided specification.
      * Converts the criterion into 'and' predicate.
-     * Applies sorting. When sort field is not found returns empty stream.
-     * Applies offset and limit on the query result.
+     * Applies sorting, using the id as tie-breaker. When sort field is not found returns empty stream.
+     * Applies the continuation token, if any, offset and limit on the query result.
      *
      * @param stream      stream to be queried.
      * @param spec        query specification.
@@ -72,11 +75,18 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
                 throw new IllegalArgumentException(format("Cannot sort by %s, the field does not exist in %s", sortField, typeParameterClass));
             }
 
-            var comparator = new FieldComparator<>(sortField, spec.getSortOrder());
+            if (spec.getContinuationToken() != null) {
+                var token = ContinuationToken.decode(spec.getContinuationToken());
+                filteredStream = filteredStream.filter(it -> token.precedes(ReflectionUtil.getFieldValue(sortField, it), ReflectionUtil.getFieldValue(ID_FIELD, it), spec.getSortOrder()));
+            }
+
+            Comparator<T> comparator = new FieldComparator<>(sortField, spec.getSortOrder());
+            if (ReflectionUtil.getFieldRecursive(typeParameterClass, ID_FIELD) != null) {
+                comparator = comparator.thenComparing(new FieldComparator<>(ID_FIELD, spec.getSortOrder()));
+            }
             filteredStream = filteredStream.sorted(comparator);
         }
 
         return filteredStream.skip(spec.getOffset()).limit(spec.getLimit());
     }
-
 }
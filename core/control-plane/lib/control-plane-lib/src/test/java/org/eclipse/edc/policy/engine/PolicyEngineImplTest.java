@@ -54,6 +54,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -106,6 +108,67 @@ class PolicyEngineImplTest {
         assertThat(result).isFailed();
     }
 
+    @Test
+    void evaluate_shouldApplyValidatorRegisteredAfterPreviousEvaluation() {
+        var context = new TestContext();
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        policyEngine.registerFunction(TestContext.class, Duty.class, "foo", (op, rv, duty, ctx) -> true);
+        var constraint = AtomicConstraint.Builder.newInstance().leftExpression(new LiteralExpression("foo"))
+                .operator(EQ).rightExpression(new LiteralExpression("bar")).build();
+        var policy = Policy.Builder.newInstance().duty(Duty.Builder.newInstance().constraint(constraint).build()).build();
+
+        assertThat(policyEngine.evaluate(policy, context)).isSucceeded();
+
+        policyEngine.registerPreValidator(TestContext.class, (p, c) -> false);
+
+        assertThat(policyEngine.evaluate(policy, context)).isFailed();
+    }
+
+    @Test
+    void evaluate_shouldApplyBindingRegisteredAfterPreviousEvaluation() {
+        var context = new TestContext();
+        policyEngine.registerFunction(TestContext.class, Duty.class, "foo", (op, rv, duty, ctx) -> false);
+        var constraint = AtomicConstraint.Builder.newInstance().leftExpression(new LiteralExpression("foo"))
+                .operator(EQ).rightExpression(new LiteralExpression("bar")).build();
+        var policy = Policy.Builder.newInstance().duty(Duty.Builder.newInstance().constraint(constraint).build()).build();
+
+        // the constraint is not bound, so it gets filtered out
+        assertThat(policyEngine.evaluate(policy, context)).isSucceeded();
+
+        bindingRegistry.bind("foo", ALL_SCOPES);
+
+        assertThat(policyEngine.evaluate(policy, context)).isFailed();
+    }
+
+    @Test
+    void evaluate_shouldFilterPolicyOnce_whenEvaluatedRepeatedly() {
+        var scopeFilter = spy(new ScopeFilter(bindingRegistry));
+        var engine = new PolicyEngineImpl(scopeFilter, new RuleValidator(bindingRegistry));
+        engine.registerScope(TEST_SCOPE, TestContext.class);
+        var policy = Policy.Builder.newInstance().build();
+
+        for (var i = 0; i < 3; i++) {
+            assertThat(engine.evaluate(policy, new TestContext())).isSucceeded();
+        }
+
+        verify(scopeFilter, times(1)).applyScope(same(policy), eq(TEST_SCOPE));
+    }
+
+    @Test
+    void evaluate_shouldFilterEqualPolicyInstancesSeparately() {
+        var scopeFilter = spy(new ScopeFilter(bindingRegistry));
+        var engine = new PolicyEngineImpl(scopeFilter, new RuleValidator(bindingRegistry));
+        engine.registerScope(TEST_SCOPE, TestContext.class);
+        var policy = Policy.Builder.newInstance().build();
+        var equalPolicy = Policy.Builder.newInstance().build();
+
+        assertThat(engine.evaluate(policy, new TestContext())).isSucceeded();
+        assertThat(engine.evaluate(equalPolicy, new TestContext())).isSucceeded();
+
+        verify(scopeFilter).applyScope(same(policy), eq(TEST_SCOPE));
+        verify(scopeFilter).applyScope(same(equalPolicy), eq(TEST_SCOPE));
+    }
+
     @Test
     void validateRuleOutOfScope() {
         // Verifies that a rule will be filtered if its action is not registered. The constraint is registered but should be filtered since it is contained in the permission.
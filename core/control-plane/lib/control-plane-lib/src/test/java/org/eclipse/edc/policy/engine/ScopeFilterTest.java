@@ -28,6 +28,8 @@ import org.eclipse.edc.policy.model.Prohibition;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
 
 class ScopeFilterTest {
 
@@ -188,4 +190,21 @@ class ScopeFilterTest {
         assertThat(filteredConstraint.getConstraints().size()).isEqualTo(2);
     }
 
+    @Test
+    void bindingsVersion_shouldChange_whenBindingRegistered() {
+        var before = scopeFilter.bindingsVersion();
+
+        registry.bind(REPORT_ACTION.getType(), BOUND_SCOPE);
+
+        assertThat(before).isNotNegative();
+        assertThat(scopeFilter.bindingsVersion()).isNotEqualTo(before);
+    }
+
+    @Test
+    void bindingsVersion_shouldBeNegative_whenRegistryDoesNotTrackChanges() {
+        var untracked = new ScopeFilter(mock(RuleBindingRegistry.class, CALLS_REAL_METHODS));
+
+        assertThat(untracked.bindingsVersion()).isNegative();
+    }
+
 }
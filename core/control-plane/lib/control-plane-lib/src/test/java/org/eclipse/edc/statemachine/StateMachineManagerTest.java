@@ -21,8 +21,11 @@ import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CountDownLatch;
+
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -172,4 +175,58 @@ class StateMachineManagerTest {
 
         verify(monitor, never()).severe(anyString(), any());
     }
+
+    @Test
+    void shouldRunProcessorsConcurrently_whenParallelismIsGreaterThanOne() {
+        var latch = new CountDownLatch(2);
+        var processor = mock(Processor.class);
+        when(processor.process()).thenAnswer(i -> {
+            latch.countDown();
+            return latch.await(1, SECONDS) ? 1L : 0L;
+        });
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .processor(processor)
+                .parallelism(2)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> {
+            assertThat(latch.getCount()).isZero();
+            verify(waitStrategy, atLeastOnce()).success();
+            verify(waitStrategy, never()).waitForMillis();
+        });
+
+        stateMachine.stop();
+    }
+
+    @Test
+    void shouldNotThrowException_whenStoppedDuringConcurrentProcessorRunning() {
+        var slowProcessor = mock(Processor.class);
+        when(slowProcessor.process()).thenAnswer(i -> {
+            Thread.sleep(200L);
+            return 1L;
+        });
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(slowProcessor)
+                .processor(slowProcessor)
+                .parallelism(2)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> verify(slowProcessor, atLeastOnce()).process());
+        stateMachine.stop();
+
+        verify(monitor, never()).severe(anyString(), any());
+    }
+
+    @Test
+    void shouldFailBuild_whenParallelismIsNotPositive() {
+        var builder = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .parallelism(0);
+
+        assertThatThrownBy(builder::build).isInstanceOf(IllegalArgumentException.class);
+    }
 }
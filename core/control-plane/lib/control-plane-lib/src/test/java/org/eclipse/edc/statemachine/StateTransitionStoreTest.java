@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+import org.eclipse.edc.controlplane.tasks.TaskPayload;
+import org.eclipse.edc.controlplane.tasks.TaskService;
+import org.eclipse.edc.spi.persistence.StateEntityStore;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.statemachine.retry.TestEntity;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StateTransitionStoreTest {
+
+    private final StateEntityStore<TestEntity> delegate = mock();
+    private final TaskService taskService = mock();
+    private final TaskPayload payload = mock();
+
+    @BeforeEach
+    void setUp() {
+        when(payload.name()).thenReturn("name");
+        when(payload.group()).thenReturn("group");
+        when(delegate.save(any())).thenReturn(StoreResult.success());
+        when(taskService.create(any())).thenReturn(ServiceResult.success());
+    }
+
+    @Test
+    void save_shouldPersistAndCreateFollowUpTask() {
+        var observed = entity(100, 1L);
+        when(delegate.findByIdAndLease("id")).thenReturn(StoreResult.success(entity(100, 1L)));
+        var store = transitionStore(observed);
+        var transitioned = entity(200, 2L);
+
+        var result = store.save(transitioned);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(store.hasConflict()).isFalse();
+        assertThat(store.getFailure()).isNull();
+        verify(delegate).save(transitioned);
+        verify(taskService).create(argThat(task -> task.getPayload() == payload));
+    }
+
+    @Test
+    void save_shouldCompareWithLastSavedState_whenSavedMoreThanOnce() {
+        var observed = entity(100, 1L);
+        when(delegate.findByIdAndLease("id")).thenReturn(StoreResult.success(entity(100, 1L)), StoreResult.success(entity(200, 2L)));
+        var store = transitionStore(observed);
+
+        store.save(entity(200, 2L));
+        var result = store.save(entity(300, 3L));
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(store.hasConflict()).isFalse();
+    }
+
+    @Test
+    void save_shouldDiscard_whenStateChangedConcurrently() {
+        var stored = entity(900, 5L);
+        when(delegate.findByIdAndLease("id")).thenReturn(StoreResult.success(stored));
+        var store = transitionStore(entity(100, 1L));
+
+        var result = store.save(entity(200, 2L));
+
+        assertThat(result.failed()).isTrue();
+        assertThat(store.hasConflict()).isTrue();
+        assertThat(store.getFailure()).isNull();
+        verify(delegate).breakLease(stored);
+        verify(delegate, never()).save(any());
+        verify(taskService, never()).create(any());
+    }
+
+    @Test
+    void save_shouldDiscard_whenEntityIsLeased() {
+        when(delegate.findByIdAndLease("id")).thenReturn(StoreResult.alreadyLeased("leased"));
+        var store = transitionStore(entity(100, 1L));
+
+        var result = store.save(entity(200, 2L));
+
+        assertThat(result.failed()).isTrue();
+        assertThat(store.hasConflict()).isTrue();
+        verify(delegate, never()).save(any());
+    }
+
+    @Test
+    void save_shouldFail_whenFollowUpTaskCannotBeCreated() {
+        when(delegate.findByIdAndLease("id")).thenReturn(StoreResult.success(entity(100, 1L)));
+        when(taskService.create(any())).thenReturn(ServiceResult.unexpected("error"));
+        var store = transitionStore(entity(100, 1L));
+
+        var result = store.save(entity(200, 2L));
+
+        assertThat(result.failed()).isTrue();
+        assertThat(store.hasConflict()).isFalse();
+        assertThat(store.getFailure()).contains("error");
+    }
+
+    private StateTransitionStore<TestEntity> transitionStore(TestEntity observed) {
+        return new StateTransitionStore<>(delegate, new NoopTransactionContext(), taskService, Clock.systemUTC(), observed, e -> payload);
+    }
+
+    private TestEntity entity(int state, long stateTimestamp) {
+        return TestEntity.Builder.newInstance().id("id").state(state).stateTimestamp(stateTimestamp).build();
+    }
+}
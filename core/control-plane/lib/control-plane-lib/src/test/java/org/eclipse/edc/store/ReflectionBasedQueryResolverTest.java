@@ -15,6 +15,7 @@
 package org.eclipse.edc.store;
 
 import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -108,6 +109,35 @@ class ReflectionBasedQueryResolverTest {
         assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(8, 7);
     }
 
+    @Test
+    void verifyQuery_continuationToken() {
+        var items = Stream.concat(
+                IntStream.range(0, 5).mapToObj(i -> new FakeItem(i, "Alice")),
+                IntStream.range(5, 10).mapToObj(i -> new FakeItem(i, "Bob"))).toList();
+        var token = new ContinuationToken("Alice", "3").encode();
+
+        var spec = QuerySpec.Builder.newInstance().sortField("name").continuationToken(token).limit(3).build();
+        assertThat(queryResolver.query(items.stream(), spec)).extracting(FakeItem::getId).containsExactly(4, 5, 6);
+    }
+
+    @Test
+    void verifyQuery_continuationToken_sortDesc() {
+        var items = IntStream.range(0, 10).mapToObj(i -> new FakeItem(i, "Alice")).toList();
+        var token = new ContinuationToken("Alice", "5").encode();
+
+        var spec = QuerySpec.Builder.newInstance().sortField("name").sortOrder(SortOrder.DESC).continuationToken(token).limit(2).build();
+        assertThat(queryResolver.query(items.stream(), spec)).extracting(FakeItem::getId).containsExactly(4, 3);
+    }
+
+    @Test
+    void verifyQuery_continuationToken_enumSortField() {
+        var items = IntStream.range(0, 10).mapToObj(i -> new FakeItem(i, "Alice", i < 5 ? Kind.FIRST : Kind.SECOND)).toList();
+        var token = new ContinuationToken(Kind.FIRST, "3").encode();
+
+        var spec = QuerySpec.Builder.newInstance().sortField("kind").continuationToken(token).limit(3).build();
+        assertThat(queryResolver.query(items.stream(), spec)).extracting(FakeItem::getId).containsExactly(4, 5, 6);
+    }
+
     @Test
     void verifyExceptionThrown_invalidCriterion() {
         var stream = Stream.concat(
@@ -123,6 +153,7 @@ class ReflectionBasedQueryResolverTest {
     private static class FakeItem {
         private final int id;
         private String name;
+        private Kind kind;
 
         private FakeItem(int id) {
             this.id = id;
@@ -133,6 +164,12 @@ class ReflectionBasedQueryResolverTest {
             this.name = name;
         }
 
+        private FakeItem(int id, String name, Kind kind) {
+            this.id = id;
+            this.name = name;
+            this.kind = kind;
+        }
+
         public int getId() {
             return id;
         }
@@ -141,6 +178,10 @@ class ReflectionBasedQueryResolverTest {
             return name;
         }
 
+        public Kind getKind() {
+            return kind;
+        }
+
         @Override
         public int hashCode() {
             return Objects.hash(id, name);
@@ -155,4 +196,8 @@ class ReflectionBasedQueryResolverTest {
         }
     }
 
+    private enum Kind {
+        FIRST, SECOND
+    }
+
 }
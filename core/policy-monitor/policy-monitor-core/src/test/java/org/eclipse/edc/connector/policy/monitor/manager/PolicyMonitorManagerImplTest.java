@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.policy.monitor.manager;
 import org.eclipse.edc.connector.policy.monitor.PolicyMonitorConfiguration;
 import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntry;
 import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorStore;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.junit.jupiter.api.Test;
 
@@ -49,26 +50,26 @@ class PolicyMonitorManagerImplTest {
 
     @Test
     void shouldStopProcessing_whenNoItemsAreReturned() {
-        when(store.nextNotLeased(anyInt(), any(), any())).thenReturn(emptyList());
+        when(store.nextNotLeased(anyInt(), any(Criterion.class), any(Criterion.class))).thenReturn(emptyList());
 
         manager.start();
 
         await().pollDelay(1, SECONDS).untilAsserted(() -> {
-            verify(store, only()).nextNotLeased(eq(BATCH_SIZE), any(), any());
+            verify(store, only()).nextNotLeased(eq(BATCH_SIZE), any(Criterion.class), any(Criterion.class));
             verifyNoInteractions(policyMonitor);
         });
     }
 
     @Test
     void shouldProcessUntilItemsAreReturned() {
-        when(store.nextNotLeased(anyInt(), any(), any()))
+        when(store.nextNotLeased(anyInt(), any(Criterion.class), any(Criterion.class)))
                 .thenReturn(List.of(entry(), entry()))
                 .thenReturn(List.of(entry()));
 
         manager.start();
 
         await().pollDelay(1, SECONDS).untilAsserted(() -> {
-            verify(store, times(2)).nextNotLeased(eq(BATCH_SIZE), any(), any());
+            verify(store, times(2)).nextNotLeased(eq(BATCH_SIZE), any(Criterion.class), any(Criterion.class));
             verify(policyMonitor, times(3)).monitor(any());
         });
     }
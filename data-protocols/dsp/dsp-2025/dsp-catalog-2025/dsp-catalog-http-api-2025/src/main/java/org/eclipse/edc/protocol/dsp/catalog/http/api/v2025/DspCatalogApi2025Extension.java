@@ -22,6 +22,7 @@ import org.eclipse.edc.participantcontext.single.spi.SingleParticipantContextSup
 import org.eclipse.edc.protocol.dsp.catalog.http.api.decorator.Base64continuationTokenSerDes;
 import org.eclipse.edc.protocol.dsp.catalog.http.api.decorator.ContinuationTokenManagerImpl;
 import org.eclipse.edc.protocol.dsp.catalog.http.api.v2025.controller.DspCatalogApiController20251;
+import org.eclipse.edc.protocol.dsp.catalog.http.api.v2025.writer.StreamingCatalogWriter;
 import org.eclipse.edc.protocol.dsp.catalog.validation.CatalogRequestMessageValidator;
 import org.eclipse.edc.protocol.dsp.http.spi.message.ContinuationTokenManager;
 import org.eclipse.edc.protocol.dsp.http.spi.message.DspRequestHandler;
@@ -29,6 +30,7 @@ import org.eclipse.edc.protocol.spi.DataspaceProfileContextRegistry;
 import org.eclipse.edc.protocol.spi.ProtocolWebhookResolver;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.system.ServiceExtension;
@@ -86,6 +88,10 @@ public class DspCatalogApi2025Extension implements ServiceExtension {
     @Inject
     private ProtocolWebhookResolver protocolWebhookResolver;
 
+    @Setting(description = "Whether the catalog responses are written incrementally, dataset by dataset, instead of being built in memory as a whole",
+            key = "edc.dsp.catalog.streaming", defaultValue = "true")
+    private boolean streaming;
+
     @Override
     public String name() {
         return NAME;
@@ -95,7 +101,9 @@ public class DspCatalogApi2025Extension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         registerValidators();
 
-        webService.registerResource(ApiContext.PROTOCOL, new DspCatalogApiController20251(service, dspRequestHandler, continuationTokenManager(monitor), participantContextSupplier));
+        var catalogEntityProvider = streaming ? new StreamingCatalogWriter(jsonLd, DSP_SCOPE_V_2025_1, monitor) : null;
+        webService.registerResource(ApiContext.PROTOCOL, new DspCatalogApiController20251(service, dspRequestHandler, continuationTokenManager(monitor),
+                participantContextSupplier, catalogEntityProvider));
         webService.registerDynamicResource(ApiContext.PROTOCOL, DspCatalogApiController20251.class, new JerseyJsonLdInterceptor(jsonLd, typeManager, JSON_LD, DSP_SCOPE_V_2025_1));
     }
 
@@ -17,11 +17,13 @@ package org.eclipse.edc.protocol.dsp.catalog.http.api.v2025.controller;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.connector.controlplane.services.spi.catalog.CatalogProtocolService;
 import org.eclipse.edc.participantcontext.single.spi.SingleParticipantContextSupplier;
 import org.eclipse.edc.protocol.dsp.catalog.http.api.controller.BaseDspCatalogApiController;
 import org.eclipse.edc.protocol.dsp.http.spi.message.ContinuationTokenManager;
 import org.eclipse.edc.protocol.dsp.http.spi.message.DspRequestHandler;
+import org.eclipse.edc.protocol.dsp.http.spi.message.ResponseEntityProvider;
 
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static org.eclipse.edc.protocol.dsp.catalog.http.api.CatalogApiPaths.BASE_PATH;
@@ -39,6 +41,13 @@ public class DspCatalogApiController20251 extends BaseDspCatalogApiController {
 
     public DspCatalogApiController20251(CatalogProtocolService service, DspRequestHandler dspRequestHandler,
                                         ContinuationTokenManager responseDecorator, SingleParticipantContextSupplier participantContextSupplier) {
-        super(service, dspRequestHandler, responseDecorator, participantContextSupplier, DATASPACE_PROTOCOL_HTTP_V_2025_1, DSP_NAMESPACE_V_2025_1);
+        this(service, dspRequestHandler, responseDecorator, participantContextSupplier, null);
+    }
+
+    public DspCatalogApiController20251(CatalogProtocolService service, DspRequestHandler dspRequestHandler,
+                                        ContinuationTokenManager responseDecorator, SingleParticipantContextSupplier participantContextSupplier,
+                                        ResponseEntityProvider<Catalog> catalogEntityProvider) {
+        super(service, dspRequestHandler, responseDecorator, participantContextSupplier, DATASPACE_PROTOCOL_HTTP_V_2025_1, DSP_NAMESPACE_V_2025_1,
+                catalogEntityProvider);
     }
 }
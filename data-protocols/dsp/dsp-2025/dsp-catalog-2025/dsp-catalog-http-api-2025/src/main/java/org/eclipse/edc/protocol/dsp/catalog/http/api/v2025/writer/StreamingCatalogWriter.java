@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.catalog.http.api.v2025.writer;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.protocol.dsp.http.spi.message.ResponseEntityProvider;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_CATALOG_TYPE;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_ATTRIBUTE;
+
+/**
+ * Writes the catalog response incrementally instead of compacting the whole catalog in memory.
+ * <p>
+ * The catalog envelope (data services, distributions, properties) is transformed and compacted once, then the
+ * datasets and sub-catalogs are compacted and written one by one into the single compacted {@code dataset} array, so
+ * the compacted catalog is never held as a whole and the first bytes reach the client before the last dataset gets
+ * compacted. Catalogs with less than two datasets are transformed as a whole, as the compaction of a single element
+ * array depends on the context.
+ * <p>
+ * As the status line is sent with the first bytes, every dataset is transformed before the response is returned, so
+ * that a dataset that cannot be transformed fails the request with an error status instead of a truncated catalog.
+ * The transformed datasets are kept and streamed, so each dataset is transformed only once. Should a dataset still
+ * fail later on, e.g. when compacting it, the JSON document is left unterminated and the exception is propagated, so
+ * the response is aborted rather than completed with a partial catalog.
+ */
+public class StreamingCatalogWriter implements ResponseEntityProvider<Catalog> {
+
+    private static final JsonGeneratorFactory GENERATOR_FACTORY = Json.createGeneratorFactory(Map.of());
+
+    private final JsonLd jsonLd;
+    private final String scope;
+    private final Monitor monitor;
+    private volatile String datasetTerm;
+
+    public StreamingCatalogWriter(JsonLd jsonLd, String scope, Monitor monitor) {
+        this.jsonLd = jsonLd;
+        this.scope = scope;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public Result<Object> provide(Catalog catalog, TypeTransformerRegistry registry) {
+        var datasets = catalog.getDatasets();
+        if (datasets.size() < 2) {
+            return registry.transform(catalog, JsonObject.class).map(it -> it);
+        }
+
+        var envelope = Catalog.Builder.newInstance()
+                .id(catalog.getId())
+                .properties(catalog.getProperties())
+                .offers(catalog.getOffers())
+                .distributions(catalog.getDistributions())
+                .dataServices(catalog.getDataServices())
+                .participantId(catalog.getParticipantId())
+                .build();
+
+        var compactedEnvelope = registry.transform(envelope, JsonObject.class).compose(json -> jsonLd.compact(json, scope));
+        if (compactedEnvelope.failed()) {
+            return Result.failure(compactedEnvelope.getFailureMessages());
+        }
+
+        var term = datasetTerm();
+        if (term.failed()) {
+            return Result.failure(term.getFailureMessages());
+        }
+
+        var transformedDatasets = new ArrayList<JsonObject>(datasets.size());
+        for (var dataset : datasets) {
+            var transformed = registry.transform(dataset, JsonObject.class);
+            if (transformed.failed()) {
+                return Result.failure(transformed.getFailureMessages());
+            }
+            transformedDatasets.add(transformed.getContent());
+        }
+
+        StreamingOutput output = outputStream -> {
+            var generator = GENERATOR_FACTORY.createGenerator(outputStream);
+            write(generator, compactedEnvelope.getContent(), term.getContent(), transformedDatasets);
+            generator.close();
+        };
+        return Result.success(output);
+    }
+
+    /**
+     * Writes the catalog. The generator is only closed by the caller once all datasets are written, as closing it
+     * would terminate the document.
+     */
+    private void write(JsonGenerator generator, JsonObject compactedEnvelope, String term, List<JsonObject> datasets) {
+        generator.writeStartObject();
+        compactedEnvelope.entrySet().stream()
+                .filter(entry -> !term.equals(entry.getKey()))
+                .forEach(entry -> generator.write(entry.getKey(), entry.getValue()));
+        generator.writeStartArray(term);
+        for (var dataset : datasets) {
+            var id = dataset.getString(ID, null);
+            var compacted = jsonLd.compact(dataset, scope)
+                    .orElseThrow(failure -> {
+                        monitor.warning("Error writing dataset %s of the catalog: %s".formatted(id, failure.getFailureDetail()));
+                        return new EdcException("Error writing dataset %s of the catalog".formatted(id));
+                    });
+            generator.writeStartObject();
+            compacted.entrySet().stream()
+                    .filter(entry -> !CONTEXT.equals(entry.getKey()))
+                    .forEach(entry -> generator.write(entry.getKey(), entry.getValue()));
+            generator.writeEnd();
+            generator.flush();
+        }
+        generator.writeEnd();
+        generator.writeEnd();
+    }
+
+    /**
+     * The compacted term of the dataset attribute, derived from the context of the scope once.
+     */
+    private Result<String> datasetTerm() {
+        if (datasetTerm != null) {
+            return Result.success(datasetTerm);
+        }
+
+        var probe = Json.createObjectBuilder()
+                .add(ID, "catalog")
+                .add(TYPE, DCAT_CATALOG_TYPE)
+                .add(DCAT_DATASET_ATTRIBUTE, Json.createArrayBuilder()
+                        .add(Json.createObjectBuilder().add(ID, "first"))
+                        .add(Json.createObjectBuilder().add(ID, "second")))
+                .build();
+
+        return jsonLd.compact(probe, scope)
+                .compose(compacted -> compacted.entrySet().stream()
+                        .filter(entry -> entry.getValue().getValueType() == JsonValue.ValueType.ARRAY)
+                        .map(Map.Entry::getKey)
+                        .findFirst()
+                        .map(Result::success)
+                        .orElseGet(() -> Result.failure("Cannot determine the compacted term of %s".formatted(DCAT_DATASET_ATTRIBUTE))))
+                .onSuccess(term -> datasetTerm = term);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.catalog.http.api.v2025.writer;
+
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_ATTRIBUTE;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StreamingCatalogWriterTest {
+
+    private static final String SCOPE = "scope";
+
+    private final JsonLd jsonLd = mock();
+    private final TypeTransformerRegistry registry = mock();
+    private final StreamingCatalogWriter writer = new StreamingCatalogWriter(jsonLd, SCOPE, mock());
+
+    @BeforeEach
+    void setUp() {
+        when(jsonLd.compact(any(), eq(SCOPE))).thenAnswer(i -> Result.success(compact(i.getArgument(0))));
+        when(registry.transform(isA(Catalog.class), eq(JsonObject.class))).thenAnswer(i -> Result.success(toJson(i.getArgument(0))));
+        when(registry.transform(argThat(it -> it != null && it.getClass() == Dataset.class), eq(JsonObject.class)))
+                .thenAnswer(i -> Result.success(toJson(i.getArgument(0))));
+    }
+
+    @Test
+    void shouldWriteDatasetsIncrementally() throws IOException {
+        var catalog = Catalog.Builder.newInstance().id("catalogId")
+                .dataset(Dataset.Builder.newInstance().id("dataset-1").build())
+                .dataset(Dataset.Builder.newInstance().id("dataset-2").build())
+                .dataset(Dataset.Builder.newInstance().id("dataset-3").build())
+                .build();
+
+        var result = writer.provide(catalog, registry);
+
+        assertThat(result).isSucceeded().isInstanceOf(StreamingOutput.class);
+        var json = write((StreamingOutput) result.getContent());
+        assertThat(json.getString(ID)).isEqualTo("catalogId");
+        assertThat(json.containsKey(CONTEXT)).isTrue();
+        assertThat(json.getJsonArray("dataset")).hasSize(3).allSatisfy(dataset -> {
+            assertThat(dataset.asJsonObject().containsKey(CONTEXT)).isFalse();
+        });
+        assertThat(json.getJsonArray("dataset").getJsonObject(0).getString(ID)).isEqualTo("dataset-1");
+    }
+
+    @Test
+    void shouldWriteSubCatalogsAndDatasetsIntoSingleArray() throws IOException {
+        var catalog = Catalog.Builder.newInstance().id("catalogId")
+                .dataset(Catalog.Builder.newInstance().id("sub-catalog").build())
+                .dataset(Dataset.Builder.newInstance().id("dataset-1").build())
+                .dataset(Dataset.Builder.newInstance().id("dataset-2").build())
+                .build();
+
+        var result = writer.provide(catalog, registry);
+
+        assertThat(result).isSucceeded().isInstanceOf(StreamingOutput.class);
+        var outputStream = new ByteArrayOutputStream();
+        ((StreamingOutput) result.getContent()).write(outputStream);
+        assertThat(outputStream.toString()).containsOnlyOnce("\"dataset\"");
+        var json = Json.createReader(new ByteArrayInputStream(outputStream.toByteArray())).readObject();
+        assertThat(json.getJsonArray("dataset")).hasSize(3)
+                .map(dataset -> dataset.asJsonObject().getString(ID))
+                .containsExactly("sub-catalog", "dataset-1", "dataset-2");
+    }
+
+    @Test
+    void shouldTransformEachDatasetOnce() throws IOException {
+        var dataset = Dataset.Builder.newInstance().id("dataset-1").build();
+        var catalog = Catalog.Builder.newInstance().id("catalogId")
+                .dataset(dataset)
+                .dataset(Dataset.Builder.newInstance().id("dataset-2").build())
+                .build();
+
+        var result = writer.provide(catalog, registry);
+        write((StreamingOutput) result.getContent());
+
+        verify(registry, times(1)).transform(dataset, JsonObject.class);
+    }
+
+    @Test
+    void shouldTransformCatalog_whenLessThanTwoDatasets() {
+        var catalog = Catalog.Builder.newInstance().id("catalogId")
+                .dataset(Dataset.Builder.newInstance().id("dataset-1").build())
+                .build();
+
+        var result = writer.provide(catalog, registry);
+
+        assertThat(result).isSucceeded().isInstanceOf(JsonObject.class);
+    }
+
+    @Test
+    void shouldFail_whenDatasetCannotBeTransformed() {
+        when(registry.transform(argThat(it -> it instanceof Dataset dataset && "dataset-2".equals(dataset.getId())), eq(JsonObject.class)))
+                .thenReturn(Result.failure("error"));
+        var catalog = Catalog.Builder.newInstance().id("catalogId")
+                .dataset(Dataset.Builder.newInstance().id("dataset-1").build())
+                .dataset(Dataset.Builder.newInstance().id("dataset-2").build())
+                .build();
+
+        var result = writer.provide(catalog, registry);
+
+        assertThat(result).isFailed();
+    }
+
+    @Test
+    void shouldLeaveDocumentUnterminated_whenDatasetCannotBeCompacted() {
+        when(jsonLd.compact(argThat(it -> it != null && "dataset-2".equals(it.getString(ID, null))), eq(SCOPE)))
+                .thenReturn(Result.failure("error"));
+        var catalog = Catalog.Builder.newInstance().id("catalogId")
+                .dataset(Dataset.Builder.newInstance().id("dataset-1").build())
+                .dataset(Dataset.Builder.newInstance().id("dataset-2").build())
+                .build();
+
+        var result = writer.provide(catalog, registry);
+
+        assertThat(result).isSucceeded();
+        var outputStream = new ByteArrayOutputStream();
+        assertThatThrownBy(() -> ((StreamingOutput) result.getContent()).write(outputStream))
+                .isInstanceOf(EdcException.class);
+        assertThat(outputStream.toString()).contains("dataset-1");
+        assertThatThrownBy(() -> Json.createReader(new ByteArrayInputStream(outputStream.toByteArray())).readObject())
+                .isInstanceOf(JsonException.class);
+    }
+
+    private JsonObject write(StreamingOutput output) throws IOException {
+        var outputStream = new ByteArrayOutputStream();
+        output.write(outputStream);
+        try (var reader = Json.createReader(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            return reader.readObject();
+        }
+    }
+
+    private JsonObject toJson(Dataset dataset) {
+        var builder = Json.createObjectBuilder().add(ID, dataset.getId());
+        if (dataset instanceof Catalog catalog && !catalog.getDatasets().isEmpty()) {
+            var datasets = Json.createArrayBuilder();
+            catalog.getDatasets().forEach(it -> datasets.add(toJson(it)));
+            builder.add(DCAT_DATASET_ATTRIBUTE, datasets);
+        }
+        return builder.build();
+    }
+
+    private JsonObject compact(JsonObject expanded) {
+        var builder = Json.createObjectBuilder().add(CONTEXT, "context");
+        expanded.forEach((key, value) -> builder.add(DCAT_DATASET_ATTRIBUTE.equals(key) ? "dataset" : key, value));
+        return builder.build();
+    }
+}
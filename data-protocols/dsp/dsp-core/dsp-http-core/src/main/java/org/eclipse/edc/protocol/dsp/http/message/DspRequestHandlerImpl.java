@@ -21,6 +21,7 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.controlplane.ProcessRemoteMessage;
 import org.eclipse.edc.controlplane.ProtocolRemoteMessage;
+import org.eclipse.edc.protocol.dsp.http.spi.message.DspRequest;
 import org.eclipse.edc.protocol.dsp.http.spi.message.DspRequestHandler;
 import org.eclipse.edc.protocol.dsp.http.spi.message.GetDspRequest;
 import org.eclipse.edc.protocol.dsp.http.spi.message.PostDspRequest;
@@ -33,6 +34,7 @@ import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceFailure;
 import org.eclipse.edc.spi.types.domain.message.ErrorMessage;
 import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 import org.jetbrains.annotations.NotNull;
 
@@ -86,7 +88,7 @@ public class DspRequestHandlerImpl implements DspRequestHandler {
         }
         var registry = registryResult.getContent();
 
-        var transformation = registry.transform(resource, JsonObject.class);
+        var transformation = toEntity(request, resource, registry);
         if (transformation.failed()) {
             var errorCode = UUID.randomUUID();
             monitor.warning("Error transforming %s, error id %s: %s".formatted(request.getResultClass().getSimpleName(), errorCode, transformation.getFailureDetail()));
@@ -153,7 +155,7 @@ public class DspRequestHandlerImpl implements DspRequestHandler {
 
         var resource = serviceResult.getContent();
 
-        var outputTransformation = registry.transform(resource, JsonObject.class);
+        var outputTransformation = toEntity(request, resource, registry);
         if (outputTransformation.failed()) {
             var errorCode = UUID.randomUUID();
             monitor.warning("Error transforming %s, error id %s: %s".formatted(request.getResultClass().getSimpleName(), errorCode, outputTransformation.getFailureDetail()));
@@ -231,6 +233,14 @@ public class DspRequestHandlerImpl implements DspRequestHandler {
                 });
     }
 
+    private <R> Result<?> toEntity(DspRequest<?, R, ?> request, R resource, TypeTransformerRegistry registry) {
+        var responseEntityProvider = request.getResponseEntityProvider();
+        if (responseEntityProvider != null) {
+            return responseEntityProvider.provide(resource, registry);
+        }
+        return registry.transform(resource, JsonObject.class);
+    }
+
     private <I extends RemoteMessage, R, E extends ErrorMessage> Response forFailure(ServiceFailure failure, PostDspRequest<I, R, E> request) {
         return forFailure(failure, request.getProtocol(), request.getErrorProvider().get().processId(request.getProcessId()));
     }
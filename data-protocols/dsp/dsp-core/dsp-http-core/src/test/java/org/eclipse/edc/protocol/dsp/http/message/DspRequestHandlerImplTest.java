@@ -55,6 +55,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -420,6 +421,33 @@ class DspRequestHandlerImplTest {
             assertThat(result.getHeaderString("test")).isEqualTo("test");
         }
 
+        @Test
+        void shouldUseResponseEntityProvider_whenSpecified() {
+            var message = mock(TestProcessRemoteMessage.class);
+            var content = new Object();
+            var entity = new Object();
+            ServiceCall<TestProcessRemoteMessage, Object> serviceCall = (ctx, m, t) -> ServiceResult.success(content);
+            when(dspTransformerRegistry.forProtocol(protocol)).thenReturn(Result.success(transformerRegistry));
+            when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+            when(transformerRegistry.transform(any(), eq(TestProcessRemoteMessage.class))).thenReturn(Result.success(message));
+            var request = PostDspRequest.Builder.newInstance(TestProcessRemoteMessage.class, Object.class, TestError.class)
+                    .token("token")
+                    .expectedMessageType("expected-message-type")
+                    .message(Json.createObjectBuilder().build())
+                    .serviceCall(serviceCall)
+                    .protocol(protocol)
+                    .participantContextProvider(participantContextSupplier)
+                    .errorProvider(TestError.Builder::newInstance)
+                    .responseEntityProvider((resource, registry) -> Result.success(entity))
+                    .build();
+
+            var result = handler.createResource(request);
+
+            assertThat(result.getStatus()).isEqualTo(200);
+            assertThat(result.getEntity()).isSameAs(entity);
+            verify(transformerRegistry, never()).transform(content, JsonObject.class);
+        }
+
         private PostDspRequest.Builder<TestProcessRemoteMessage, Object, TestError> postDspRequestBuilder() {
             return PostDspRequest.Builder
                     .newInstance(TestProcessRemoteMessage.class, Object.class, TestError.class)
@@ -32,6 +32,7 @@ public class DspRequest<I, R, E extends ErrorMessage> {
     protected ServiceCall<I, R> serviceCall;
     protected Supplier<? extends ErrorMessage.Builder<E, ?>> errorProvider;
     protected ParticipantContextSupplier participantContextProvider;
+    protected ResponseEntityProvider<R> responseEntityProvider;
 
     public DspRequest(Class<I> inputClass, Class<R> resultClass, Class<E> errorClass) {
         this.inputClass = inputClass;
@@ -67,6 +68,10 @@ public class DspRequest<I, R, E extends ErrorMessage> {
         return participantContextProvider;
     }
 
+    public ResponseEntityProvider<R> getResponseEntityProvider() {
+        return responseEntityProvider;
+    }
+
     public abstract static class Builder<I, R, M extends DspRequest<I, R, E>, E extends ErrorMessage, B extends Builder<I, R, M, E, B>> {
 
         protected final M message;
@@ -100,6 +105,11 @@ public class DspRequest<I, R, E extends ErrorMessage> {
             return self();
         }
 
+        public B responseEntityProvider(ResponseEntityProvider<R> responseEntityProvider) {
+            message.responseEntityProvider = responseEntityProvider;
+            return self();
+        }
+
         public M build() {
             requireNonNull(message.serviceCall);
             requireNonNull(message.protocol);
@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.http.spi.message;
+
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+
+/**
+ * Provides the entity of a DSP response out of the resource returned by the service, in place of the default
+ * transformation to {@link jakarta.json.JsonObject}, e.g. to stream large responses.
+ */
+@FunctionalInterface
+public interface ResponseEntityProvider<R> {
+
+    /**
+     * Provide the response entity.
+     *
+     * @param resource the resource returned by the service.
+     * @param registry the transformer registry of the protocol.
+     * @return the response entity, failure if it cannot be provided.
+     */
+    Result<Object> provide(R resource, TypeTransformerRegistry registry);
+}
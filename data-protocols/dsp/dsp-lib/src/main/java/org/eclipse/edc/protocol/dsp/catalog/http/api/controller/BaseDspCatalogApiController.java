@@ -38,6 +38,7 @@ import org.eclipse.edc.protocol.dsp.http.spi.message.ContinuationTokenManager;
 import org.eclipse.edc.protocol.dsp.http.spi.message.DspRequestHandler;
 import org.eclipse.edc.protocol.dsp.http.spi.message.GetDspRequest;
 import org.eclipse.edc.protocol.dsp.http.spi.message.PostDspRequest;
+import org.eclipse.edc.protocol.dsp.http.spi.message.ResponseEntityProvider;
 
 import static jakarta.ws.rs.core.HttpHeaders.AUTHORIZATION;
 import static org.eclipse.edc.protocol.dsp.catalog.http.api.CatalogApiPaths.CATALOG_REQUEST;
@@ -53,16 +54,24 @@ public abstract class BaseDspCatalogApiController {
     private final SingleParticipantContextSupplier participantContextSupplier;
     private final String protocol;
     private final JsonLdNamespace namespace;
+    private final ResponseEntityProvider<Catalog> catalogEntityProvider;
 
 
     public BaseDspCatalogApiController(CatalogProtocolService service, DspRequestHandler dspRequestHandler, ContinuationTokenManager continuationTokenManager,
                                        SingleParticipantContextSupplier participantContextSupplier, String protocol, JsonLdNamespace namespace) {
+        this(service, dspRequestHandler, continuationTokenManager, participantContextSupplier, protocol, namespace, null);
+    }
+
+    public BaseDspCatalogApiController(CatalogProtocolService service, DspRequestHandler dspRequestHandler, ContinuationTokenManager continuationTokenManager,
+                                       SingleParticipantContextSupplier participantContextSupplier, String protocol, JsonLdNamespace namespace,
+                                       ResponseEntityProvider<Catalog> catalogEntityProvider) {
         this.service = service;
         this.dspRequestHandler = dspRequestHandler;
         this.continuationTokenManager = continuationTokenManager;
         this.participantContextSupplier = participantContextSupplier;
         this.protocol = protocol;
         this.namespace = namespace;
+        this.catalogEntityProvider = catalogEntityProvider;
     }
 
     @POST
@@ -85,6 +94,7 @@ public abstract class BaseDspCatalogApiController {
                 .errorProvider(CatalogError.Builder::newInstance)
                 .protocol(protocol)
                 .participantContextProvider(participantContextSupplier)
+                .responseEntityProvider(catalogEntityProvider)
                 .build();
 
         var responseDecorator = continuationTokenManager.createResponseDecorator(uriInfo.getAbsolutePath().toString());
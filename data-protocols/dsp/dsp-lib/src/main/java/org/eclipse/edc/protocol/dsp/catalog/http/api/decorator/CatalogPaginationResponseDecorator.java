@@ -20,11 +20,17 @@ import org.eclipse.edc.connector.controlplane.catalog.spi.CatalogRequestMessage;
 import org.eclipse.edc.protocol.dsp.http.spi.message.ContinuationTokenSerDes;
 import org.eclipse.edc.protocol.dsp.http.spi.message.ResponseDecorator;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.QuerySpec;
 
 import java.net.URI;
-import java.util.function.IntBinaryOperator;
 
+import static org.eclipse.edc.spi.query.ContinuationToken.ID_FIELD;
+
+/**
+ * Adds the next and prev links to a paged catalog response. When the datasets are sorted by id, the next link points
+ * to the datasets following the last dataset of the page, otherwise the links point to the next and previous offsets.
+ */
 public class CatalogPaginationResponseDecorator implements ResponseDecorator<CatalogRequestMessage, Catalog> {
 
     private static final String NEXT = "next";
@@ -43,20 +49,38 @@ public class CatalogPaginationResponseDecorator implements ResponseDecorator<Cat
     @Override
     public Response.ResponseBuilder decorate(Response.ResponseBuilder responseBuilder, CatalogRequestMessage requestBody, Catalog responseBody) {
         var currentQuerySpec = requestBody.getQuerySpec();
-        if (responseBody.getDatasets().size() == currentQuerySpec.getLimit()) {
-            addLink(NEXT, responseBuilder, currentQuerySpec, (offset, limit) -> offset + limit);
+        var datasets = responseBody.getDatasets();
+        if (datasets.size() == currentQuerySpec.getLimit()) {
+            var nextQuerySpec = ID_FIELD.equals(currentQuerySpec.getSortField()) && !datasets.isEmpty()
+                    ? after(currentQuerySpec, datasets.get(datasets.size() - 1).getId())
+                    : atOffset(currentQuerySpec, currentQuerySpec.getOffset() + currentQuerySpec.getLimit());
+            addLink(NEXT, responseBuilder, nextQuerySpec);
         }
 
         if (currentQuerySpec.getOffset() >= currentQuerySpec.getLimit()) {
-            addLink(PREV, responseBuilder, currentQuerySpec, (offset, limit) -> offset - limit);
+            addLink(PREV, responseBuilder, atOffset(currentQuerySpec, currentQuerySpec.getOffset() - currentQuerySpec.getLimit()));
         }
 
         return responseBuilder;
     }
 
-    private void addLink(String rel, Response.ResponseBuilder responseBuilder, QuerySpec currentQuerySpec, IntBinaryOperator newOffsetOperator) {
-        var newOffset = newOffsetOperator.applyAsInt(currentQuerySpec.getOffset(), currentQuerySpec.getLimit());
-        continuationTokenSerDes.serialize(currentQuerySpec.toBuilder().offset(newOffset).build())
+    private QuerySpec after(QuerySpec currentQuerySpec, String lastId) {
+        return currentQuerySpec.toBuilder()
+                .offset(0)
+                .continuationToken(new ContinuationToken(lastId, lastId).encode())
+                .build();
+    }
+
+    private QuerySpec atOffset(QuerySpec currentQuerySpec, int offset) {
+        // a continuation token is only honoured when sorting by id and cannot be combined with an offset
+        return currentQuerySpec.toBuilder()
+                .offset(offset)
+                .continuationToken(null)
+                .build();
+    }
+
+    private void addLink(String rel, Response.ResponseBuilder responseBuilder, QuerySpec querySpec) {
+        continuationTokenSerDes.serialize(querySpec)
                 .onSuccess(token -> responseBuilder.link(URI.create(requestUrl + "?continuationToken=" + token), rel))
                 .onFailure(failure -> monitor.warning("Cannot serialize continuationToken for catalog pagination: " + failure.getFailureDetail()));
     }
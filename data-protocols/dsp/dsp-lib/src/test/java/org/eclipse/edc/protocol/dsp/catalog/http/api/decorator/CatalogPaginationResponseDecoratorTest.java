@@ -20,6 +20,7 @@ import org.eclipse.edc.connector.controlplane.catalog.spi.CatalogRequestMessage;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.protocol.dsp.http.spi.message.ContinuationTokenSerDes;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.junit.jupiter.api.Nested;
@@ -56,6 +57,21 @@ class CatalogPaginationResponseDecoratorTest {
             verify(continuationTokenSerDes).serialize(argThat(q -> q.getOffset() == 1));
         }
 
+        @Test
+        void shouldSetLinkWithContinuationToken_whenSortedById() {
+            var responseBuilder = Response.ok();
+            var querySpec = QuerySpec.Builder.newInstance().sortField("id").limit(1).build();
+            var message = CatalogRequestMessage.Builder.newInstance().querySpec(querySpec).build();
+            var catalog = Catalog.Builder.newInstance().dataset(Dataset.Builder.newInstance().id("last-id").build()).build();
+            when(continuationTokenSerDes.serialize(any())).thenReturn(Result.success("serializedToken"));
+
+            var response = decorator.decorate(responseBuilder, message, catalog).build();
+
+            assertThat(response.hasLink("next")).isTrue();
+            var expectedToken = new ContinuationToken("last-id", "last-id").encode();
+            verify(continuationTokenSerDes).serialize(argThat(q -> q.getOffset() == 0 && expectedToken.equals(q.getContinuationToken())));
+        }
+
         @Test
         void shouldNotSetLink_whenDatasetSizeSmallerThanLimit() {
             var responseBuilder = Response.ok();
@@ -19,6 +19,7 @@ plugins {
 dependencies {
     // entity stores
     api(project(":extensions:control-plane:store:sql:asset-index-sql"))
+    api(project(":extensions:control-plane:store:sql:callback-outbox-store-sql"))
     api(project(":extensions:control-plane:store:sql:contract-definition-store-sql"))
     api(project(":extensions:control-plane:store:sql:contract-negotiation-store-sql"))
     api(project(":extensions:control-plane:store:sql:control-plane-sql"))
@@ -70,6 +70,8 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import static org.eclipse.edc.iam.verifiablecredentials.spi.VcConstants.STATUSLIST_2021_URL;
+import static org.eclipse.edc.iam.verifiablecredentials.spi.model.RevocationServiceRegistry.DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS;
+import static org.eclipse.edc.iam.verifiablecredentials.spi.model.RevocationServiceRegistry.REVOCATION_CACHE_VALIDITY;
 import static org.eclipse.edc.spi.constants.CoreConstants.JSON_LD;
 import static org.eclipse.edc.verifiablecredentials.jwt.Constants.JWT_VC_TOKEN_CONTEXT;
 
@@ -79,6 +81,8 @@ public class DcpCoreExtension implements ServiceExtension {
     public static final String DCP_SELF_ISSUED_TOKEN_CONTEXT = "dcp-si";
     public static final String JSON_2020_SIGNATURE_SUITE = "JsonWebSignature2020";
     public static final long DEFAULT_CLEANUP_PERIOD_SECONDS = 60;
+    public static final long DEFAULT_PRESENTATION_CACHE_TTL_MILLIS = 60 * 1000L;
+    public static final int DEFAULT_PRESENTATION_CACHE_MAX_ENTRIES = 1000;
 
     @Setting(description = "DID of the participant, only needed if different from the value in edc.participant.id", required = false)
     public static final String PARTICIPANT_DID = "edc.participant.did";
@@ -99,6 +103,19 @@ public class DcpCoreExtension implements ServiceExtension {
             defaultValue = "true")
     private boolean activateJtiValidation;
 
+    @Setting(
+            key = "edc.iam.dcp.presentation.cache.ttl",
+            description = "Time-to-live in milliseconds of the claims obtained from verified presentations, per counterparty and scopes. " +
+                    "It is capped by the revocation list cache validity and the earliest credential expiration. 0 or less disables the cache",
+            defaultValue = DEFAULT_PRESENTATION_CACHE_TTL_MILLIS + "")
+    private long presentationCacheTtl;
+
+    @Setting(
+            key = "edc.iam.dcp.presentation.cache.max-entries",
+            description = "Maximum number of cached claims obtained from verified presentations",
+            defaultValue = DEFAULT_PRESENTATION_CACHE_MAX_ENTRIES + "")
+    private int presentationCacheMaxEntries;
+
     @Inject
     private SecureTokenService secureTokenService;
     @Inject
@@ -202,8 +219,13 @@ public class DcpCoreExtension implements ServiceExtension {
 
         var credentialValidationService = new VerifiableCredentialValidationServiceImpl(createPresentationVerifier(context), rules);
 
+        // a credential could get revoked after the revocation list has been refreshed, cached claims must not outlive it
+        var revocationCacheValidity = context.getSetting(REVOCATION_CACHE_VALIDITY, DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS);
+        var cacheTtl = Math.min(presentationCacheTtl, revocationCacheValidity);
+
         return new DcpIdentityService(secureTokenService, didConfigProvider, validationAction,
-                presentationRequestService, claimTokenFunction, credentialValidationService);
+                presentationRequestService, claimTokenFunction, credentialValidationService,
+                clock, cacheTtl, presentationCacheMaxEntries);
     }
 
     @Provider
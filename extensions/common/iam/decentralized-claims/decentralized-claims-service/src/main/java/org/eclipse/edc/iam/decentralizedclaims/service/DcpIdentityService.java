@@ -23,6 +23,7 @@ import org.eclipse.edc.iam.verifiablecredentials.spi.VerifiableCredentialValidat
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiablePresentation;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiablePresentationContainer;
+import org.eclipse.edc.protocol.spi.DataspaceProfileContext;
 import org.eclipse.edc.spi.iam.ClaimToken;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.iam.TokenParameters;
@@ -31,10 +32,15 @@ import org.eclipse.edc.spi.iam.VerificationContext;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.util.string.StringUtils;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import static org.eclipse.edc.iam.decentralizedclaims.spi.SelfIssuedTokenConstants.PRESENTATION_TOKEN_CLAIM;
@@ -53,6 +59,11 @@ import static org.eclipse.edc.spi.result.Result.success;
  *     <li>Performs a presentation request against a CredentialService</li>
  *     <li>Validates and verifies the VerifiablePresentation</li>
  * </ul>
+ * Optionally, the claims obtained from verified presentations are cached per participant context, issuer, requested
+ * scopes and dataspace profile, so that repeated requests of the same counterparty skip the presentation request and
+ * the credential verification. The SI token is validated on every request. A cache entry expires after the configured
+ * time-to-live, or earlier, when one of the presented credentials expires.
+ * <p>
  * This service is intended to be used together with the Decentralized Claims Protocols.
  * Details about the scope string can be found <a href="https://github.com/eclipse-tractusx/identity-trust/blob/main/specifications/M1/verifiable.presentation.protocol.md#31-access-scopes">here</a>
  */
@@ -65,6 +76,10 @@ public class DcpIdentityService implements IdentityService {
     private final PresentationRequestService presentationRequestService;
     private final ClaimTokenCreatorFunction claimTokenCreatorFunction;
     private final VerifiableCredentialValidationService verifiableCredentialValidationService;
+    private final Clock clock;
+    private final long cacheTtlMillis;
+    private final int cacheMaxEntries;
+    private final Map<CacheKey, CacheEntry> cache = new ConcurrentHashMap<>();
 
     /**
      * Constructs a new instance of the {@link DcpIdentityService}.
@@ -77,12 +92,34 @@ public class DcpIdentityService implements IdentityService {
                               PresentationRequestService presentationRequestService,
                               ClaimTokenCreatorFunction claimTokenCreatorFunction,
                               VerifiableCredentialValidationService verifiableCredentialValidationService) {
+        this(secureTokenService, didResolver, tokenValidationAction, presentationRequestService, claimTokenCreatorFunction,
+                verifiableCredentialValidationService, Clock.systemUTC(), 0, 0);
+    }
+
+    /**
+     * Constructs a new instance of the {@link DcpIdentityService} that caches the claims of verified presentations.
+     *
+     * @param secureTokenService Instance of an STS, which can create SI tokens
+     * @param didResolver        Function that resolves the DID for a given participant context id
+     * @param clock              the clock used to expire the cache entries
+     * @param cacheTtlMillis     time-to-live of the cached claims, caching is disabled if 0 or less
+     * @param cacheMaxEntries    maximum number of cached claims
+     */
+    public DcpIdentityService(SecureTokenService secureTokenService, Function<String, String> didResolver,
+                              TokenValidationAction tokenValidationAction,
+                              PresentationRequestService presentationRequestService,
+                              ClaimTokenCreatorFunction claimTokenCreatorFunction,
+                              VerifiableCredentialValidationService verifiableCredentialValidationService,
+                              Clock clock, long cacheTtlMillis, int cacheMaxEntries) {
         this.secureTokenService = secureTokenService;
         this.didResolver = didResolver;
         this.tokenValidationAction = tokenValidationAction;
         this.presentationRequestService = presentationRequestService;
         this.claimTokenCreatorFunction = claimTokenCreatorFunction;
         this.verifiableCredentialValidationService = verifiableCredentialValidationService;
+        this.clock = clock;
+        this.cacheTtlMillis = cacheTtlMillis;
+        this.cacheMaxEntries = cacheMaxEntries;
     }
 
     @Override
@@ -137,6 +174,13 @@ public class DcpIdentityService implements IdentityService {
         var accessToken = claimToken.getStringClaim(PRESENTATION_TOKEN_CLAIM);
         var issuer = claimToken.getStringClaim(ISSUER);
 
+        var cacheKey = new CacheKey(participantContextId, issuer, Set.copyOf(context.getScopes()), context.getDataspaceProfileContext());
+        var now = clock.millis();
+        var cached = cache.get(cacheKey);
+        if (cached != null && cached.expiresAt() > now) {
+            return success(cached.claimToken());
+        }
+
         var myOwnDid = didResolver.apply(participantContextId);
         var requestedScopes = context.getScopes().stream().toList();
 
@@ -150,14 +194,38 @@ public class DcpIdentityService implements IdentityService {
         var result = validateRequestedCredentials(presentations, requestedScopes)
                 .compose(unused -> verifiableCredentialValidationService.validate(presentations, myOwnDid, context.getDataspaceProfileContext()));
 
+        var credentials = presentations.stream()
+                .flatMap(p -> p.presentation().getCredentials().stream())
+                .toList();
+
         return result
                 .compose(u -> verifyPresentationIssuer(issuer, presentations))
-                .compose(u -> {
-                    var credentials = presentations.stream()
-                            .flatMap(p -> p.presentation().getCredentials().stream())
-                            .toList();
-                    return claimTokenCreatorFunction.apply(credentials);
-                });
+                .compose(u -> claimTokenCreatorFunction.apply(credentials))
+                .onSuccess(verifiedClaimToken -> cache(cacheKey, verifiedClaimToken, credentials, now));
+    }
+
+    private void cache(CacheKey key, ClaimToken claimToken, List<VerifiableCredential> credentials, long now) {
+        if (cacheTtlMillis <= 0) {
+            return;
+        }
+
+        var expiresAt = credentials.stream()
+                .map(VerifiableCredential::getExpirationDate)
+                .filter(Objects::nonNull)
+                .map(Instant::toEpochMilli)
+                .reduce(now + cacheTtlMillis, Math::min);
+
+        if (expiresAt <= now) {
+            return;
+        }
+
+        if (cache.size() >= cacheMaxEntries) {
+            cache.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (cache.size() >= cacheMaxEntries) {
+                cache.clear();
+            }
+        }
+        cache.put(key, new CacheEntry(claimToken, expiresAt));
     }
 
     /**
@@ -210,4 +278,10 @@ public class DcpIdentityService implements IdentityService {
                 success() :
                 failure("Scope string invalid: '%s' does not match regex %s".formatted(scope, SCOPE_STRING_REGEX));
     }
+
+    private record CacheKey(String participantContextId, String issuer, Set<String> scopes, DataspaceProfileContext profileContext) {
+    }
+
+    private record CacheEntry(ClaimToken claimToken, long expiresAt) {
+    }
 }
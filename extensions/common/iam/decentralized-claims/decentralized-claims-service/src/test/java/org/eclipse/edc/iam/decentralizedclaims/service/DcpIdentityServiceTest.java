@@ -39,6 +39,8 @@ import org.junit.jupiter.params.provider.EmptySource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -58,6 +60,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -399,5 +402,82 @@ class DcpIdentityServiceTest {
         }
     }
 
+    @Nested
+    class VerifyJwtTokenWithCache {
+
+        private final Clock clock = mock();
+        private final DcpIdentityService cachingService = new DcpIdentityService(mockedSts, (it) -> EXPECTED_OWN_DID, actionMock,
+                presentationRequestServiceMock, vcs -> Result.success(ClaimToken.Builder.newInstance().claim("vc", vcs).build()),
+                credentialValidationServiceMock, clock, 1000, 100);
+
+        @Test
+        void shouldReturnCachedClaims_whenSameIssuerAndScopes() {
+            when(clock.millis()).thenReturn(0L, 500L);
+            when(presentationRequestServiceMock.requestPresentation(any(), any(), any(), any(), isA(List.class)))
+                    .thenReturn(success(List.of(presentationContainer(null))));
+            var token = TestFunctions.createToken(CONSUMER_DID, EXPECTED_OWN_DID);
 
+            var first = cachingService.verifyJwtToken(PARTICIPANT_CONTEXT_ID, token, verificationContext());
+            var second = cachingService.verifyJwtToken(PARTICIPANT_CONTEXT_ID, token, verificationContext());
+
+            assertThat(first).isSucceeded();
+            assertThat(second).isSucceeded().isSameAs(first.getContent());
+            verify(actionMock, times(2)).validate(any(), any());
+            verify(presentationRequestServiceMock).requestPresentation(any(), any(), any(), any(), anyList());
+            verify(credentialValidationServiceMock).validate(anyList(), anyString(), any());
+        }
+
+        @Test
+        void shouldVerifyAgain_whenScopesDiffer() {
+            when(clock.millis()).thenReturn(0L);
+            when(presentationRequestServiceMock.requestPresentation(any(), any(), any(), any(), isA(List.class)))
+                    .thenReturn(success(List.of(presentationContainer(null))));
+            var token = TestFunctions.createToken(CONSUMER_DID, EXPECTED_OWN_DID);
+            var otherContext = VerificationContext.Builder.newInstance()
+                    .scopes(List.of("org.eclipse.dspace.dcp.vc.type:test-type:read", "org.eclipse.dspace.dcp.vc.type:test-type:write"))
+                    .build();
+
+            cachingService.verifyJwtToken(PARTICIPANT_CONTEXT_ID, token, verificationContext());
+            cachingService.verifyJwtToken(PARTICIPANT_CONTEXT_ID, token, otherContext);
+
+            verify(presentationRequestServiceMock, times(2)).requestPresentation(any(), any(), any(), any(), anyList());
+        }
+
+        @Test
+        void shouldVerifyAgain_whenCredentialExpired() {
+            when(clock.millis()).thenReturn(0L, 500L);
+            when(presentationRequestServiceMock.requestPresentation(any(), any(), any(), any(), isA(List.class)))
+                    .thenReturn(success(List.of(presentationContainer(Instant.ofEpochMilli(400)))));
+            var token = TestFunctions.createToken(CONSUMER_DID, EXPECTED_OWN_DID);
+
+            cachingService.verifyJwtToken(PARTICIPANT_CONTEXT_ID, token, verificationContext());
+            cachingService.verifyJwtToken(PARTICIPANT_CONTEXT_ID, token, verificationContext());
+
+            verify(presentationRequestServiceMock, times(2)).requestPresentation(any(), any(), any(), any(), anyList());
+        }
+
+        @Test
+        void shouldNotCache_whenVerificationFails() {
+            when(clock.millis()).thenReturn(0L);
+            when(presentationRequestServiceMock.requestPresentation(any(), any(), any(), any(), isA(List.class)))
+                    .thenReturn(success(List.of(presentationContainer(null))));
+            when(credentialValidationServiceMock.validate(anyList(), anyString(), any())).thenReturn(failure("error"));
+            var token = TestFunctions.createToken(CONSUMER_DID, EXPECTED_OWN_DID);
+
+            cachingService.verifyJwtToken(PARTICIPANT_CONTEXT_ID, token, verificationContext());
+            var result = cachingService.verifyJwtToken(PARTICIPANT_CONTEXT_ID, token, verificationContext());
+
+            assertThat(result).isFailed();
+            verify(presentationRequestServiceMock, times(2)).requestPresentation(any(), any(), any(), any(), anyList());
+        }
+
+        private VerifiablePresentationContainer presentationContainer(Instant expirationDate) {
+            var presentation = createPresentationBuilder()
+                    .holder(CONSUMER_DID)
+                    .type("VerifiablePresentation")
+                    .credentials(List.of(createCredentialBuilder().expirationDate(expirationDate).build()))
+                    .build();
+            return new VerifiablePresentationContainer("test-vp", CredentialFormat.VC1_0_LD, presentation);
+        }
+    }
 }
@@ -23,10 +23,13 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
 import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 
 @Provides({DidResolverRegistry.class, DidPublicKeyResolver.class})
@@ -36,12 +39,25 @@ public class IdentityDidCoreExtension implements ServiceExtension {
     public static final String NAME = "Identity Did Core";
     @Setting(description = "Expiry time for caching DID Documents in milliseconds", key = "edc.did.resolver.cache.expiry", defaultValue = 1000 * 60 * 5 + "")
     private long didCacheExpiryMillis;
+    @Setting(description = "Maximum number of cached DID Documents", key = "edc.did.resolver.cache.size", defaultValue = "1000")
+    private int didCacheSize;
+    @Setting(description = "Time in milliseconds after the expiry of a cached DID Document, during which it is still used while it gets resolved again in the background",
+            key = "edc.did.resolver.cache.grace-period", defaultValue = 1000 * 60 * 10 + "")
+    private long didCacheGracePeriodMillis;
+    @Setting(description = "Expiry time for caching failed DID resolutions in milliseconds. 0 disables it",
+            key = "edc.did.resolver.cache.negative.expiry", defaultValue = 1000 * 30 + "")
+    private long didNegativeCacheExpiryMillis;
     @Inject
     private KeyParserRegistry keyParserRegistry;
 
     @Inject
     private Clock clock;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService refreshExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -49,11 +65,20 @@ public class IdentityDidCoreExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var didResolverRegistry = new DidResolverRegistryImpl(clock, didCacheExpiryMillis);
+        refreshExecutor = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), NAME);
+        var didResolverRegistry = new DidResolverRegistryImpl(didCacheSize, didCacheExpiryMillis, didCacheGracePeriodMillis,
+                didNegativeCacheExpiryMillis, clock, refreshExecutor);
         context.registerService(DidResolverRegistry.class, didResolverRegistry);
 
         var publicKeyResolver = new DidPublicKeyResolverImpl(keyParserRegistry, didResolverRegistry);
         context.registerService(DidPublicKeyResolver.class, publicKeyResolver);
     }
 
+    @Override
+    public void shutdown() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
 }
@@ -18,29 +18,36 @@ package org.eclipse.edc.iam.did.resolution;
 import org.eclipse.edc.iam.did.spi.document.DidDocument;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolver;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.result.Result;
-import org.eclipse.edc.util.collection.ConcurrentLruCache;
-import org.eclipse.edc.util.collection.TimestampedValue;
-import org.jetbrains.annotations.NotNull;
+import org.eclipse.edc.util.collection.BoundedCache;
+import org.eclipse.edc.util.collection.LoadingCache;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
- * Default implementation, that delegates to several {@link DidResolver} objects, caching the results in a {@link ConcurrentLruCache}
+ * Default implementation, that delegates to several {@link DidResolver} objects, caching the results in a {@link LoadingCache}
+ * <p>
+ * Concurrent resolutions of the same DID share a single call to the resolver. When a refresh executor is set, a cached
+ * document gets resolved again in the background during the last fifth of its validity, and an expired document is
+ * still returned during the grace period while it gets resolved again, also when that resolution fails. Failed
+ * resolutions are cached for the negative cache validity.
  */
 public class DidResolverRegistryImpl implements DidResolverRegistry {
     public static final String DID_SEPARATOR = ":";
     private static final String DID = "did";
     private static final int DID_PREFIX = 0;
     private static final int DID_METHOD_NAME = 1;
-    private final ConcurrentLruCache<String, TimestampedValue<DidDocument>> didCache;
+    private static final int REFRESH_AHEAD_DIVISOR = 5;
+    private final LoadingCache<String, DidDocument> didCache;
+    private final BoundedCache<String, String> failureCache;
     private final Map<String, DidResolver> resolvers = new HashMap<>();
-    private final long cacheValidity; // clean up cache every 5 minutes
-    private final Clock clock;
+    private final long negativeCacheValidity;
 
 
     public DidResolverRegistryImpl(Clock clock, long cacheValidityMillis) {
@@ -55,9 +62,31 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
      * @param clock         the {@link Clock}
      */
     public DidResolverRegistryImpl(int cacheSize, long cacheValidity, Clock clock) {
-        didCache = new ConcurrentLruCache<>(cacheSize);
-        this.cacheValidity = cacheValidity;
-        this.clock = clock;
+        this(cacheSize, cacheValidity, 0, 0, clock, null);
+    }
+
+    /**
+     * Constructs a DidResolverRegistryImpl object with the specified cache size.
+     *
+     * @param cacheSize             the maximum number of entries that the cache can hold. Pass 0 to effectively deactivate the cache.
+     * @param cacheValidity         expiry time for cached DID Documents in milliseconds
+     * @param gracePeriod           time in milliseconds after the expiry, during which the last resolved DID Document is returned while it gets resolved again
+     * @param negativeCacheValidity expiry time for cached resolution failures in milliseconds. Pass 0 to not cache failures.
+     * @param clock                 the {@link Clock}
+     * @param refreshExecutor       executor of the background resolutions, null to resolve DID Documents only once they are expired
+     */
+    public DidResolverRegistryImpl(int cacheSize, long cacheValidity, long gracePeriod, long negativeCacheValidity, Clock clock,
+                                   @Nullable Executor refreshExecutor) {
+        didCache = LoadingCache.Builder.<String, DidDocument>newInstance(this::resolveDocument)
+                .validity(cacheSize > 0 ? cacheValidity : 0)
+                .gracePeriod(refreshExecutor != null ? gracePeriod : 0)
+                .refreshAhead(refreshExecutor != null && cacheSize > 0 ? cacheValidity / REFRESH_AHEAD_DIVISOR : 0)
+                .maxEntries(Math.max(cacheSize, 1))
+                .clock(clock)
+                .executor(refreshExecutor)
+                .build();
+        failureCache = new BoundedCache<>(cacheSize, clock);
+        this.negativeCacheValidity = negativeCacheValidity;
     }
 
 
@@ -74,8 +103,19 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
             return Result.failure("This DID is not supported by any of the resolvers: %s".formatted(didKey));
         }
 
-        var resolver = getResolverFor(didKey);
-        return resolveCachedDocument(didKey, resolver);
+        var failure = negativeCacheValidity > 0 ? failureCache.get(didKey) : null;
+        if (failure != null) {
+            return Result.failure(failure);
+        }
+
+        try {
+            return Result.success(didCache.get(didKey));
+        } catch (DidResolutionException e) {
+            if (negativeCacheValidity > 0) {
+                failureCache.put(didKey, e.getMessage(), negativeCacheValidity);
+            }
+            return Result.failure(e.getMessage());
+        }
     }
 
     @Override
@@ -97,28 +137,21 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
         return resolvers.get(methodName);
     }
 
-    @NotNull
-    private Result<DidDocument> resolveCachedDocument(String didKey, DidResolver resolver) {
-        var cacheEntry = didCache.get(didKey);
-        DidDocument didDocument = null;
-
-        if (cacheEntry != null) {
-            if (cacheEntry.isExpired(clock)) { // lazy evict expired values
-                didCache.remove(didKey);
-            } else {
-                didDocument = cacheEntry.value();
-            }
+    private DidDocument resolveDocument(String didKey) {
+        var resolver = getResolverFor(didKey);
+        if (resolver == null) {
+            throw new DidResolutionException("This DID is not supported by any of the resolvers: %s".formatted(didKey));
         }
-        if (didDocument == null) { //resolve the did document again, put in cache
-
-            var resolveResult = resolver.resolve(didKey);
-            if (resolveResult.failed()) {
-                return resolveResult;
-            }
-            didDocument = resolveResult.getContent();
-            didCache.put(didKey, new TimestampedValue<>(didDocument, cacheValidity));
+        var result = resolver.resolve(didKey);
+        if (result.failed()) {
+            throw new DidResolutionException(result.getFailureDetail());
         }
+        return result.getContent();
+    }
 
-        return Result.success(didDocument);
+    private static class DidResolutionException extends EdcException {
+        DidResolutionException(String message) {
+            super(message);
+        }
     }
 }
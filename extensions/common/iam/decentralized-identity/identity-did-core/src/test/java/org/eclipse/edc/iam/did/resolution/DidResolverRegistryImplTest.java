@@ -24,9 +24,9 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
 import java.time.Instant;
-import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
@@ -37,6 +37,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -102,18 +103,85 @@ class DidResolverRegistryImplTest {
 
     @Test
     void resolve_whenCacheExpired() {
-        registry = new DidResolverRegistryImpl(Clock.fixed(Instant.now().plus(1, ChronoUnit.DAYS), ZoneId.systemDefault()), CACHE_VALIDITY);
+        var clock = mock(Clock.class);
+        var now = Instant.now();
+        when(clock.millis()).thenReturn(now.toEpochMilli());
+        registry = new DidResolverRegistryImpl(clock, CACHE_VALIDITY);
         var resolver = mock(DidResolver.class);
         when(resolver.getMethod()).thenReturn(FOO_METHOD);
         when(resolver.resolve(any())).thenReturn(Result.success(DidDocument.Builder.newInstance().build()));
         registry.register(resolver);
 
         assertThat(registry.resolve("did:foo:id")).isSucceeded();
+        when(clock.millis()).thenReturn(now.plus(1, ChronoUnit.DAYS).toEpochMilli());
         assertThat(registry.resolve("did:foo:id")).isSucceeded(); //cache entry is expired
 
         verify(resolver, times(2)).resolve(anyString());
     }
 
+    @Test
+    void resolve_whenInGracePeriod_shouldReturnLastDocumentAndResolveInBackground() {
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        Executor executor = mock();
+        registry = new DidResolverRegistryImpl(50, 1000, 1000, 0, clock, executor);
+        var resolver = mock(DidResolver.class);
+        when(resolver.getMethod()).thenReturn(FOO_METHOD);
+        var document = DidDocument.Builder.newInstance().id("did:foo:id").build();
+        when(resolver.resolve(any())).thenReturn(Result.success(document), Result.failure("unreachable"));
+        registry.register(resolver);
+
+        assertThat(registry.resolve("did:foo:id")).isSucceeded();
+        when(clock.millis()).thenReturn(1500L);
+        assertThat(registry.resolve("did:foo:id")).isSucceeded().isSameAs(document);
+        verify(executor).execute(any());
+        when(clock.millis()).thenReturn(2500L);
+        assertThat(registry.resolve("did:foo:id")).isFailed().detail().isEqualTo("unreachable");
+
+        verify(resolver, times(2)).resolve(anyString());
+    }
+
+    @Test
+    void resolve_whenInLastFifthOfValidity_shouldResolveInBackground() {
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        Executor executor = mock();
+        registry = new DidResolverRegistryImpl(50, 1000, 1000, 0, clock, executor);
+        var resolver = mock(DidResolver.class);
+        when(resolver.getMethod()).thenReturn(FOO_METHOD);
+        var document = DidDocument.Builder.newInstance().id("did:foo:id").build();
+        when(resolver.resolve(any())).thenReturn(Result.success(document));
+        registry.register(resolver);
+
+        assertThat(registry.resolve("did:foo:id")).isSucceeded();
+        when(clock.millis()).thenReturn(700L);
+        assertThat(registry.resolve("did:foo:id")).isSucceeded().isSameAs(document);
+        verifyNoInteractions(executor);
+        when(clock.millis()).thenReturn(850L);
+        assertThat(registry.resolve("did:foo:id")).isSucceeded().isSameAs(document);
+
+        verify(executor).execute(any());
+        verify(resolver).resolve(anyString());
+    }
+
+    @Test
+    void resolve_whenResolutionFails_shouldCacheFailure() {
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        registry = new DidResolverRegistryImpl(50, 1000, 0, 100, clock, null);
+        var resolver = mock(DidResolver.class);
+        when(resolver.getMethod()).thenReturn(FOO_METHOD);
+        when(resolver.resolve(any())).thenReturn(Result.failure("not found"));
+        registry.register(resolver);
+
+        assertThat(registry.resolve("did:foo:id")).isFailed().detail().isEqualTo("not found");
+        assertThat(registry.resolve("did:foo:id")).isFailed().detail().isEqualTo("not found");
+        when(clock.millis()).thenReturn(100L);
+        assertThat(registry.resolve("did:foo:id")).isFailed();
+
+        verify(resolver, times(2)).resolve(anyString());
+    }
+
     /**
      * Mock resolver class.
      */
@@ -26,26 +26,48 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.token.spi.TokenValidationService;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.eclipse.edc.iam.verifiablecredentials.RevocationServiceRegistryExtension.NAME;
+import static org.eclipse.edc.iam.verifiablecredentials.spi.model.RevocationServiceRegistry.DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS;
+import static org.eclipse.edc.iam.verifiablecredentials.spi.model.RevocationServiceRegistry.REVOCATION_CACHE_VALIDITY;
 
 @Extension(value = NAME)
 public class RevocationServiceRegistryExtension implements ServiceExtension {
 
     public static final String NAME = "Revocation Service Registry";
-    public static final long DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS = 15 * 60 * 1000L;
+    public static final long DEFAULT_REVOCATION_CACHE_GRACE_PERIOD_MILLIS = 60 * 1000L;
+    public static final int DEFAULT_REVOCATION_CACHE_MAX_ENTRIES = 1000;
+    public static final int DEFAULT_REVOCATION_CACHE_REFRESH_THREADS = 2;
 
     @Setting(
-            key = "edc.iam.credential.revocation.cache.validity",
+            key = REVOCATION_CACHE_VALIDITY,
             description = "Validity period of cached StatusList2021 credential entries in milliseconds.",
             defaultValue = DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS + "")
     private long revocationCacheValidity;
+    @Setting(
+            key = "edc.iam.credential.revocation.cache.grace-period",
+            description = "Period in milliseconds during which an expired status list credential is still used while it gets downloaded again in the background. 0 disables it.",
+            defaultValue = DEFAULT_REVOCATION_CACHE_GRACE_PERIOD_MILLIS + "")
+    private long revocationCacheGracePeriod;
+    @Setting(
+            key = "edc.iam.credential.revocation.cache.max-entries",
+            description = "Maximum number of cached status list credentials.",
+            defaultValue = DEFAULT_REVOCATION_CACHE_MAX_ENTRIES + "")
+    private int revocationCacheMaxEntries;
+    @Setting(
+            key = "edc.iam.credential.revocation.cache.refresh-threads",
+            description = "Number of threads that download expired status list credentials in the background during the grace period.",
+            defaultValue = DEFAULT_REVOCATION_CACHE_REFRESH_THREADS + "")
+    private int revocationCacheRefreshThreads;
     @Setting(
             key = "edc.iam.credential.revocation.mimetype",
             description = "A comma-separated list of accepted content types of the revocation list credential.",
@@ -60,6 +82,10 @@ public class RevocationServiceRegistryExtension implements ServiceExtension {
     private TokenValidationService tokenValidationService;
     @Inject
     private DidPublicKeyResolver didPublicKeyResolver;
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService refreshExecutor;
 
     @Override
     public String name() {
@@ -70,11 +96,19 @@ public class RevocationServiceRegistryExtension implements ServiceExtension {
     public RevocationServiceRegistry createRevocationListService(ServiceExtensionContext context) {
         var revocationServiceRegistry = new RevocationServiceRegistryImpl(context.getMonitor());
         var acceptedContentTypes = List.of(contentTypes.split(","));
+        refreshExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(revocationCacheRefreshThreads), "StatusListRefresh");
         revocationServiceRegistry.addService(StatusList2021Status.TYPE, new StatusList2021RevocationService(typeManager.getMapper(),
-                revocationCacheValidity, acceptedContentTypes, httpClient, tokenValidationService, didPublicKeyResolver));
+                revocationCacheValidity, revocationCacheGracePeriod, revocationCacheMaxEntries, refreshExecutor, acceptedContentTypes, httpClient, tokenValidationService, didPublicKeyResolver));
         revocationServiceRegistry.addService(BitstringStatusListStatus.TYPE, new BitstringStatusListRevocationService(typeManager.getMapper(),
-                revocationCacheValidity, acceptedContentTypes, httpClient, tokenValidationService, didPublicKeyResolver));
+                revocationCacheValidity, revocationCacheGracePeriod, revocationCacheMaxEntries, refreshExecutor, acceptedContentTypes, httpClient, tokenValidationService, didPublicKeyResolver));
         return revocationServiceRegistry;
     }
 
+    @Override
+    public void shutdown() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
 }
@@ -22,6 +22,8 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -44,9 +46,14 @@ public class RevocationServiceRegistryImpl implements RevocationServiceRegistry
 
     @Override
     public Result<Void> checkValidity(VerifiableCredential credential) {
+        // statuses of the same type are checked together, so that every status list is looked up only once
         return credential.getCredentialStatus()
                 .stream()
-                .map(this::checkRevocation)
+                .filter(this::hasType)
+                .collect(Collectors.groupingBy(CredentialStatus::type, LinkedHashMap::new, Collectors.toList()))
+                .entrySet()
+                .stream()
+                .map(entry -> checkRevocation(entry.getKey(), entry.getValue()))
                 .reduce(Result::merge)
                 .orElse(Result.success());
     }
@@ -71,12 +78,20 @@ public class RevocationServiceRegistryImpl implements RevocationServiceRegistry
                 .orElse(Result.success(null));
     }
 
-    private Result<Void> checkRevocation(CredentialStatus credentialStatus) {
-        var service = entries.get(credentialStatus.type());
+    private boolean hasType(CredentialStatus credentialStatus) {
+        if (credentialStatus.type() == null) {
+            monitor.warning("Credential status '%s' has no type, will not check revocation.".formatted(credentialStatus.id()));
+            return false;
+        }
+        return true;
+    }
+
+    private Result<Void> checkRevocation(String type, List<CredentialStatus> credentialStatuses) {
+        var service = entries.get(type);
         if (service == null) {
-            monitor.warning("No revocation service registered for type '%s', will not check revocation.".formatted(credentialStatus.type()));
+            monitor.warning("No revocation service registered for type '%s', will not check revocation.".formatted(type));
             return Result.success();
         }
-        return service.checkValidity(credentialStatus);
+        return service.checkValidity(credentialStatuses);
     }
 }
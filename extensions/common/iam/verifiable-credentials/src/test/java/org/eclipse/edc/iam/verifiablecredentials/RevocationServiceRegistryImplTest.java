@@ -22,11 +22,15 @@ import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
 import org.eclipse.edc.spi.result.Result;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collection;
 import java.util.Map;
 
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -40,7 +44,7 @@ class RevocationServiceRegistryImplTest {
     void checkValidity() {
         var mockService = mock(RevocationListService.class);
         registry.addService("test-type", mockService);
-        when(mockService.checkValidity(any(CredentialStatus.class))).thenReturn(Result.success());
+        when(mockService.checkValidity(anyCollection())).thenReturn(Result.success());
 
         var cred = TestFunctions.createCredentialBuilder().credentialStatus(new CredentialStatus("test-id", "test-type", Map.of())).build();
         assertThat(registry.checkValidity(cred)).isSucceeded();
@@ -50,7 +54,7 @@ class RevocationServiceRegistryImplTest {
     void checkValidity_whenNoCredentialStatus() {
         var mockService = mock(RevocationListService.class);
         registry.addService("test-type", mockService);
-        when(mockService.checkValidity(any(CredentialStatus.class))).thenReturn(Result.success());
+        when(mockService.checkValidity(anyCollection())).thenReturn(Result.success());
 
         var cred = TestFunctions.createCredentialBuilder().build();
         assertThat(registry.checkValidity(cred)).isSucceeded();
@@ -60,33 +64,65 @@ class RevocationServiceRegistryImplTest {
     void checkValidity_noServiceFound_shouldReturnSuccess() {
         var mockService = mock(RevocationListService.class);
         registry.addService("test-type", mockService);
-        when(mockService.checkValidity(any(CredentialStatus.class))).thenReturn(Result.success());
+        when(mockService.checkValidity(anyCollection())).thenReturn(Result.success());
 
         var cred = TestFunctions.createCredentialBuilder().credentialStatus(new CredentialStatus("test-id", "not-exist", Map.of())).build();
         assertThat(registry.checkValidity(cred)).isSucceeded();
     }
 
+    @Test
+    void checkValidity_statusWithoutType_shouldSkipIt() {
+        var mockService = mock(RevocationListService.class);
+        registry.addService("test-type", mockService);
+        when(mockService.checkValidity(anyCollection())).thenReturn(Result.success());
+
+        var cred = TestFunctions.createCredentialBuilder()
+                .credentialStatus(new CredentialStatus("test-id-1", null, Map.of()))
+                .credentialStatus(new CredentialStatus("test-id-2", "test-type", Map.of()))
+                .build();
+
+        assertThat(registry.checkValidity(cred)).isSucceeded();
+        verify(mockService).checkValidity(argThat((Collection<CredentialStatus> statuses) -> statuses.size() == 1));
+    }
+
     @Test
     void checkValidity_oneInvalid_shouldReturnFailure() {
         var mockService = mock(RevocationListService.class);
         registry.addService("test-type", mockService);
-        when(mockService.checkValidity(any(CredentialStatus.class)))
-                .thenReturn(Result.success())
-                .thenReturn(Result.failure("test failure"));
+        var otherService = mock(RevocationListService.class);
+        registry.addService("other-type", otherService);
+        when(mockService.checkValidity(anyCollection())).thenReturn(Result.success());
+        when(otherService.checkValidity(anyCollection())).thenReturn(Result.failure("test failure"));
 
         var cred = TestFunctions.createCredentialBuilder()
                 .credentialStatus(new CredentialStatus("test-id", "test-type", Map.of()))
-                .credentialStatus(new CredentialStatus("test-id", "test-type", Map.of()))
+                .credentialStatus(new CredentialStatus("test-id", "other-type", Map.of()))
                 .build();
         assertThat(registry.checkValidity(cred)).isFailed()
                 .detail().isEqualTo("test failure");
     }
 
+    @Test
+    void checkValidity_shouldCheckStatusesOfSameTypeTogether() {
+        var mockService = mock(RevocationListService.class);
+        registry.addService("test-type", mockService);
+        when(mockService.checkValidity(anyCollection())).thenReturn(Result.success());
+
+        var cred = TestFunctions.createCredentialBuilder()
+                .credentialStatus(new CredentialStatus("test-id-1", "test-type", Map.of()))
+                .credentialStatus(new CredentialStatus("test-id-2", "test-type", Map.of()))
+                .build();
+
+        assertThat(registry.checkValidity(cred)).isSucceeded();
+        verify(mockService).checkValidity(argThat((Collection<CredentialStatus> statuses) -> statuses.size() == 2));
+        verify(mockService, never()).checkValidity(any(CredentialStatus.class));
+    }
+
     @Test
     void checkValidity_allInvalid_shouldReturnFailure() {
         var mockService = mock(RevocationListService.class);
         registry.addService("test-type", mockService);
-        when(mockService.checkValidity(any(CredentialStatus.class)))
+        when(mockService.checkValidity(anyCollection()))
                 .thenReturn(Result.failure("test failure"));
 
         var cred = TestFunctions.createCredentialBuilder()
@@ -52,6 +52,18 @@ public interface SqlSchemaBootstrapper {
      */
     void addStatementFromResource(String datasourceName, String resourceName, ClassLoader classLoader);
 
+    /**
+     * Extensions that operate a store based on an SQL database can use this method to queue DDL statements that depend on
+     * their configuration, such as indexes.
+     * <p>
+     * Note that all DDL statements <strong>must</strong> be queued during the {@link ServiceExtension#initialize(ServiceExtensionContext)} phase and
+     * individual statements <strong>must not</strong> rely on ordering, since that depends on extension ordering.
+     *
+     * @param datasourceName The name of the datasource against which the statements are to be run
+     * @param sql            An SQL DDL statement. Cannot contain prepared statements. Do not add DML statements here!
+     */
+    void addStatement(String datasourceName, String sql);
+
     /**
      * Gets all registered DML statements as a map where the datasource name is the key, and the SQL statement(s) is the value.
      */
@@ -41,6 +41,11 @@ public class SqlSchemaBootstrapperImpl implements SqlSchemaBootstrapper {
         }
     }
 
+    @Override
+    public void addStatement(String datasourceName, String sql) {
+        statements.add(new QueuedStatementRecord("inline", datasourceName, sql));
+    }
+
     @Override
     public Map<String, List<String>> getStatements() {
         return statements.stream().collect(groupingBy(QueuedStatementRecord::datasourceName, mapping(QueuedStatementRecord::sql, toList())));
@@ -16,6 +16,9 @@ package org.eclipse.edc.sql.bootstrapper;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -35,5 +38,12 @@ class SqlSchemaBootstrapperImplTest {
                 .isInstanceOf(NullPointerException.class);
     }
 
+    @Test
+    void addStatement() {
+        bootstrapper.addStatement("foosource", "CREATE INDEX foo ON bar (baz);");
+
+        assertThat(bootstrapper.getStatements()).containsEntry("foosource", List.of("CREATE INDEX foo ON bar (baz);"));
+    }
+
 
 }
\ No newline at end of file
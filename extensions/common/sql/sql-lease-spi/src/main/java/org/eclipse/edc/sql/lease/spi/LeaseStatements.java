@@ -38,6 +38,19 @@ public interface LeaseStatements extends SqlStatements {
                 .upsertInto(getLeaseTableName(), format("%s, %s", getResourceIdColumn(), getResourceKindColumn()), "%s.%s + %s.%s < ?".formatted(getLeaseTableName(), getLeasedAtColumn(), getLeaseTableName(), getLeaseDurationColumn()));
     }
 
+    /**
+     * Statement that acquires the leases for multiple entities of the same kind in a single round trip. The ids are
+     * passed as a single array parameter, the statement returns the ids for which the lease was actually acquired.
+     * Parameters: ids (array), leased by, resource kind, leased at, lease duration, now.
+     */
+    default String getUpsertLeasesTemplate() {
+        return ("INSERT INTO %1$s (%2$s, %3$s, %4$s, %5$s, %6$s) SELECT unnest(?::varchar[]), ?, ?, ?, ? " +
+                "ON CONFLICT (%2$s, %4$s) DO UPDATE SET %3$s = EXCLUDED.%3$s, %5$s = EXCLUDED.%5$s, %6$s = EXCLUDED.%6$s " +
+                "WHERE %1$s.%5$s + %1$s.%6$s < ? RETURNING %1$s.%2$s;")
+                .formatted(getLeaseTableName(), getResourceIdColumn(), getLeasedByColumn(), getResourceKindColumn(),
+                        getLeasedAtColumn(), getLeaseDurationColumn());
+    }
+
     default String getFindLeaseByEntityTemplate() {
         return "SELECT * FROM %s WHERE %s = ? and %s = ?".formatted(getLeaseTableName(), getResourceIdColumn(), getResourceKindColumn());
     }
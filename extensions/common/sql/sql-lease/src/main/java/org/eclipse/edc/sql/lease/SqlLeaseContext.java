@@ -16,6 +16,7 @@
 package org.eclipse.edc.sql.lease;
 
 
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.persistence.LeaseContext;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.sql.QueryExecutor;
@@ -23,12 +24,17 @@ import org.eclipse.edc.sql.lease.spi.LeaseStatements;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.Nullable;
 
+import java.sql.Array;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Objects;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toSet;
 
 /**
  * SQL-based implementation of the LeaseContext.
@@ -80,9 +86,8 @@ public class SqlLeaseContext implements LeaseContext {
     public StoreResult<Void> acquireLease(String entityId) {
         return trxContext.execute(() -> {
             var now = clock.millis();
-            var duration = leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
             var upsertStmt = statements.getUpsertLeaseTemplate();
-            var result = queryExecutor.execute(connection, upsertStmt, entityId, leaseHolder, resourceKind, now, duration, now);
+            var result = queryExecutor.execute(connection, upsertStmt, entityId, leaseHolder, resourceKind, now, getLeaseDurationMillis(), now);
             if (result == 0) {
                 return StoreResult.alreadyLeased("Entity %s of kind %s is currently leased!".formatted(entityId, resourceKind));
             } else {
@@ -91,6 +96,29 @@ public class SqlLeaseContext implements LeaseContext {
         });
     }
 
+    /**
+     * Acquires the leases for all the passed entities with a single statement. Entities that are currently leased by
+     * someone else are skipped.
+     *
+     * @param entityIds The leased entities' IDs
+     * @return the IDs of the entities for which the lease was acquired.
+     */
+    @Override
+    public Set<String> acquireLeases(Collection<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return Set.of();
+        }
+
+        return trxContext.execute(() -> {
+            var now = clock.millis();
+            var upsertStmt = statements.getUpsertLeasesTemplate();
+            try (var leased = queryExecutor.query(connection, false, rs -> rs.getString(1), upsertStmt,
+                    createIdArray(entityIds), leaseHolder, resourceKind, now, getLeaseDurationMillis(), now)) {
+                return leased.collect(toSet());
+            }
+        });
+    }
+
     /**
      * Fetches a lease for a particular entity
      *
@@ -102,6 +130,18 @@ public class SqlLeaseContext implements LeaseContext {
         return queryExecutor.single(connection, false, this::mapLease, stmt, entityId, resourceKind);
     }
 
+    private long getLeaseDurationMillis() {
+        return leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
+    }
+
+    private Array createIdArray(Collection<String> entityIds) {
+        try {
+            return connection.createArrayOf("varchar", entityIds.toArray());
+        } catch (SQLException e) {
+            throw new EdcPersistenceException(e);
+        }
+    }
+
     private SqlLease mapLease(ResultSet resultSet) throws SQLException {
         return new SqlLease(resultSet.getString(statements.getLeasedByColumn()),
                 resultSet.getString(statements.getResourceIdColumn()),
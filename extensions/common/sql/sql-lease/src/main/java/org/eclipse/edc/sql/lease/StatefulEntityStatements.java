@@ -14,6 +14,14 @@
 
 package org.eclipse.edc.sql.lease;
 
+import org.eclipse.edc.spi.persistence.DueCondition;
+import org.eclipse.edc.sql.translation.WhereClause;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.joining;
+
 public interface StatefulEntityStatements {
 
     String getIdColumn();
@@ -45,4 +53,26 @@ public interface StatefulEntityStatements {
     default String getUpdatedAtColumn() {
         return "updated_at";
     }
+
+    /**
+     * Creates the where clause that excludes the entities that are still waiting for their retry delay to expire,
+     * following the passed {@link DueCondition}.
+     *
+     * @param dueCondition the due condition.
+     * @return the where clause, null if the condition does not filter out any entity.
+     */
+    default @Nullable WhereClause createDueClause(DueCondition dueCondition) {
+        var delays = dueCondition.retryDelays();
+        if (delays.isEmpty()) {
+            return null;
+        }
+
+        var parameters = IntStream.rangeClosed(1, delays.size()).<Object>mapToObj(dueCondition::dueBefore).toList();
+        var dueBefore = delays.size() == 1 ? "?" : IntStream.range(1, delays.size())
+                .mapToObj(failures -> "WHEN %d THEN ?".formatted(failures + 1))
+                .collect(joining(" ", "CASE %s ".formatted(getStateCountColumn()), " ELSE ? END"));
+
+        var sql = "(%s <= 1 OR %s <= %s)".formatted(getStateCountColumn(), getStateTimestampColumn(), dueBefore);
+        return new WhereClause(sql, parameters);
+    }
 }
@@ -36,6 +36,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.Executors;
@@ -148,6 +149,53 @@ class PostgresLeaseContextTest {
                 .isEqualTo(StoreFailure.Reason.ALREADY_LEASED);
     }
 
+    @Test
+    void acquireLeases(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        insertTestEntity("id3", connection);
+
+        var leased = leaseContext.acquireLeases(List.of("id1", "id2", "id3"));
+
+        assertThat(leased).containsExactlyInAnyOrder("id1", "id2", "id3");
+        assertThat(leaseContext.getLease("id2")).isNotNull().satisfies(lease -> {
+            assertThat(lease.getLeasedBy()).isEqualTo(LEASE_HOLDER);
+            assertThat(lease.getLeaseDuration()).isEqualTo(60_000L);
+        });
+    }
+
+    @Test
+    void acquireLeases_shouldSkipLeasedByOther(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1").orElseThrow(f -> new AssertionError(f.getFailureDetail()));
+
+        var leased = builder.by(LEASE_HOLDER).withConnection(connection).acquireLeases(List.of("id1", "id2"));
+
+        assertThat(leased).containsExactly("id2");
+        assertThat(leaseContext.getLease("id1")).isNotNull().extracting(SqlLease::getLeasedBy).isEqualTo("someone-else");
+    }
+
+    @Test
+    void acquireLeases_shouldReplaceExpiredLeases(Connection connection) {
+        insertTestEntity("id1", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1").orElseThrow(f -> new AssertionError(f.getFailureDetail()));
+
+        var twoMinutesAheadClock = Clock.offset(Clock.fixed(now, UTC), Duration.of(2, ChronoUnit.MINUTES));
+        var twoMinutesAheadContext = SqlLeaseContextBuilderImpl.with(transactionContext, LEASE_HOLDER, "TestTarget", dialect, twoMinutesAheadClock, queryExecutor)
+                .withConnection(connection);
+
+        var leased = twoMinutesAheadContext.acquireLeases(List.of("id1"));
+
+        assertThat(leased).containsExactly("id1");
+        assertThat(twoMinutesAheadContext.getLease("id1")).isNotNull().extracting(SqlLease::getLeasedBy).isEqualTo(LEASE_HOLDER);
+    }
+
+    @Test
+    void acquireLeases_whenEmpty() {
+        assertThat(leaseContext.acquireLeases(List.of())).isEmpty();
+    }
+
     @Test
     void getLease(Connection connection) {
         var id = "test-id";
@@ -32,6 +32,7 @@ public class BaseSqlDialectStatementsTask implements TaskStatements {
                 .jsonColumn(getPayloadColumn())
                 .column(getRetryCountColumn())
                 .column(getTimestampColumn())
+                .column(getPublishedColumn())
                 .insertInto(getTaskTable());
     }
 
@@ -46,6 +47,13 @@ public class BaseSqlDialectStatementsTask implements TaskStatements {
                 .update(getTaskTable(), getIdColumn());
     }
 
+    @Override
+    public String getMarkPublishedTemplate() {
+        return executeStatement()
+                .column(getPublishedColumn())
+                .update(getTaskTable(), getIdColumn());
+    }
+
     @Override
     public String findByIdTemplate() {
         return format("SELECT * FROM %s WHERE %s = ?", getTaskTable(), getIdColumn());
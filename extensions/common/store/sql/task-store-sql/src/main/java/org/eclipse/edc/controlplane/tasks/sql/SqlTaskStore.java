@@ -53,7 +53,8 @@ public class SqlTaskStore extends AbstractSqlStore implements TaskStore {
                         task.getGroup(),
                         toJson(task.getPayload()),
                         task.getRetryCount(),
-                        task.getAt()
+                        task.getAt(),
+                        task.isPublished()
                 );
                 return StoreResult.success();
             } catch (SQLException e) {
@@ -85,6 +86,22 @@ public class SqlTaskStore extends AbstractSqlStore implements TaskStore {
         });
     }
 
+    @Override
+    public StoreResult<Void> markPublished(String id) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var stmt = statements.getMarkPublishedTemplate();
+                var count = queryExecutor.execute(connection, stmt, true, id);
+                if (count == 0) {
+                    return StoreResult.notFound("Task with id %s not found".formatted(id));
+                }
+                return StoreResult.success();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public List<Task> fetchForUpdate(QuerySpec querySpec) {
         return transactionContext.execute(() -> {
@@ -135,6 +152,7 @@ public class SqlTaskStore extends AbstractSqlStore implements TaskStore {
                 .group(resultSet.getString(statements.getGroupColumn()))
                 .retryCount(resultSet.getInt(statements.getRetryCountColumn()))
                 .at(resultSet.getLong(statements.getTimestampColumn()))
+                .published(resultSet.getBoolean(statements.getPublishedColumn()))
                 .build();
     }
 }
@@ -52,10 +52,16 @@ public interface TaskStatements extends SqlStatements {
         return "task_group";
     }
 
+    default String getPublishedColumn() {
+        return "published";
+    }
+
     String getInsertTemplate();
 
     String getUpdateTemplate();
 
+    String getMarkPublishedTemplate();
+
     String findByIdTemplate();
 
     String getDeleteStatement();
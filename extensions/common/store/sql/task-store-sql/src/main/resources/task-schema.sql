@@ -20,6 +20,9 @@ CREATE TABLE IF NOT EXISTS edc_tasks
     task_group              VARCHAR             NOT NULL,
     payload                 JSON DEFAULT '{}',
     retry_count             INT                 NOT NULL,
-    timestamp               BIGINT              NOT NULL
+    timestamp               BIGINT              NOT NULL,
+    published               BOOLEAN             NOT NULL DEFAULT FALSE
 );
 
+ALTER TABLE edc_tasks ADD COLUMN IF NOT EXISTS published BOOLEAN NOT NULL DEFAULT FALSE;
+
@@ -21,17 +21,26 @@ import org.eclipse.edc.participantcontext.spi.config.ParticipantContextConfig;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.util.collection.BoundedCache;
+import org.eclipse.edc.util.string.StringUtils;
 import org.eclipse.edc.vault.hashicorp.client.HashicorpVaultConfig;
 import org.eclipse.edc.vault.hashicorp.spi.auth.HashicorpVaultTokenProviderFactory;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import static org.eclipse.edc.vault.hashicorp.HashicorpVaultSettings.forParticipant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.eclipse.edc.vault.hashicorp.VaultConstants.VAULT_CONFIG;
 
 /**
  * Vault implementation for Hashicorp Vault. The actual interaction with the vault is delegated to a {@link HashicorpVaultClient} via HTTP.
  * Each vault partition is mapped to its own {@link HashicorpVaultClient} instance with specific configuration / authentication settings, taken
  * from a {@link ParticipantContextConfig}. So theoretically, each participant context's vault could be a separate instance.
+ * <p>
+ * The {@link HashicorpVaultClient} instances are reused for as long as the configuration of their partition does not change.
+ * Optionally, resolved secrets are cached in memory for a configurable time-to-live, and removed from the cache before and
+ * after they get stored or deleted through this vault.
  */
 class HashicorpVault implements Vault {
     private final ParticipantContextConfig participantContextConfig;
@@ -40,18 +49,36 @@ class HashicorpVault implements Vault {
     private final HashicorpVaultTokenProviderFactory tokenProviderFactory;
     private final EdcHttpClient edcHttpClient;
     private final ObjectMapper mapper;
+    private final Map<String, PartitionClient> partitionClients = new ConcurrentHashMap<>();
+    private final BoundedCache<SecretKey, String> secretCache;
+    private final long secretCacheTtl;
+    private volatile HashicorpVaultClient defaultClient;
 
     HashicorpVault(ParticipantContextConfig participantContextConfig,
                    Monitor monitor,
                    HashicorpVaultConfig vaultConfig, HashicorpVaultTokenProviderFactory tokenProviderFactory,
                    EdcHttpClient edcHttpClient) {
+        this(participantContextConfig, monitor, vaultConfig, tokenProviderFactory, edcHttpClient, 0, 0);
+    }
+
+    /**
+     * Constructs a vault that caches the resolved secrets.
+     *
+     * @param secretCacheTtl        time-to-live of the cached secrets in milliseconds, 0 or less disables the cache
+     * @param secretCacheMaxEntries maximum number of cached secrets
+     */
+    HashicorpVault(ParticipantContextConfig participantContextConfig,
+                   Monitor monitor,
+                   HashicorpVaultConfig vaultConfig, HashicorpVaultTokenProviderFactory tokenProviderFactory,
+                   EdcHttpClient edcHttpClient, long secretCacheTtl, int secretCacheMaxEntries) {
         this.participantContextConfig = participantContextConfig;
         this.monitor = monitor;
         this.vaultConfig = vaultConfig;
         this.tokenProviderFactory = tokenProviderFactory;
         this.edcHttpClient = edcHttpClient;
         this.mapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
-
+        this.secretCacheTtl = secretCacheTtl;
+        this.secretCache = new BoundedCache<>(secretCacheTtl > 0 ? secretCacheMaxEntries : 0);
     }
 
     @Override
@@ -71,48 +98,96 @@ class HashicorpVault implements Vault {
 
     @Override
     public String resolveSecret(String vaultPartition, String key) {
+        var client = getVaultClient(vaultPartition);
+        var secretKey = new SecretKey(vaultPartition, key);
+        var cached = secretCache.get(secretKey);
+        if (cached != null) {
+            return cached;
+        }
 
-        return getVaultClient(vaultPartition)
-                .resolveSecret(key);
+        var secret = client.resolveSecret(key);
+        if (secret != null) {
+            secretCache.put(secretKey, secret, secretCacheTtl);
+        }
+        return secret;
     }
 
     @Override
     public Result<Void> storeSecret(String vaultPartition, String key, String value) {
-        return getVaultClient(vaultPartition)
-                .storeSecret(key, value);
+        var client = getVaultClient(vaultPartition);
+        var secretKey = new SecretKey(vaultPartition, key);
+        secretCache.remove(secretKey);
+        try {
+            return client.storeSecret(key, value);
+        } finally {
+            // a concurrent resolution could have cached the previous value while the secret was written
+            secretCache.remove(secretKey);
+        }
     }
 
     @Override
     public Result<Void> deleteSecret(String vaultPartition, String key) {
-        return getVaultClient(vaultPartition)
-                .deleteSecret(key);
+        var client = getVaultClient(vaultPartition);
+        var secretKey = new SecretKey(vaultPartition, key);
+        secretCache.remove(secretKey);
+        try {
+            return client.deleteSecret(key);
+        } finally {
+            // a concurrent resolution could have cached the previous value while the secret was written
+            secretCache.remove(secretKey);
+        }
     }
 
     /**
-     * creates a new HashicorpVaultClient specific configuration / auth settings for the given vault partition.
-     * If no vault config is found for the given partition, the default is returned.
+     * gets the HashicorpVaultClient with the specific configuration / auth settings for the given vault partition, creating it
+     * if the partition has no client yet or if its configuration changed. If no vault config is found for the given partition,
+     * the default is returned.
      */
     private @NotNull HashicorpVaultClient getVaultClient(String vaultPartition) {
         if (vaultPartition == null) {
-            return createDefault();
+            return getDefault();
         }
 
-        var settings = forParticipant(vaultPartition, participantContextConfig);
-        if (settings != null) {
-            return new HashicorpVaultClient(monitor, settings.config(), edcHttpClient, mapper, tokenProviderFactory.create(vaultPartition));
+        var vaultConfigJson = participantContextConfig.getSensitiveString(vaultPartition, VAULT_CONFIG);
+        if (!StringUtils.isNullOrBlank(vaultConfigJson)) {
+            var partitionClient = partitionClients.get(vaultPartition);
+            if (partitionClient == null || !partitionClient.vaultConfigJson().equals(vaultConfigJson)) {
+                var settings = HashicorpVaultSettings.fromJson(vaultConfigJson);
+                var client = new HashicorpVaultClient(monitor, settings.config(), edcHttpClient, mapper, tokenProviderFactory.create(vaultPartition));
+                partitionClient = new PartitionClient(vaultConfigJson, client);
+                partitionClients.put(vaultPartition, partitionClient);
+            }
+            return partitionClient.client();
         }
 
+        partitionClients.remove(vaultPartition);
         if (vaultConfig.isAllowFallback()) {
-            return createDefault();
+            return getDefault();
         }
         throw new IllegalArgumentException("No vault config found for partition '%s' and falling back to the default vault is not allowed".formatted(vaultPartition));
     }
 
     /**
-     * creates a new HashicorpVaultClient with the "global" configuration / auth-settings taken from the runtime configuration.
+     * gets the HashicorpVaultClient with the "global" configuration / auth-settings taken from the runtime configuration.
      */
-    private HashicorpVaultClient createDefault() {
-        return new HashicorpVaultClient(monitor, vaultConfig, edcHttpClient, mapper, tokenProviderFactory.create(null));
+    private HashicorpVaultClient getDefault() {
+        var client = defaultClient;
+        if (client == null) {
+            synchronized (this) {
+                client = defaultClient;
+                if (client == null) {
+                    client = new HashicorpVaultClient(monitor, vaultConfig, edcHttpClient, mapper, tokenProviderFactory.create(null));
+                    defaultClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    private record PartitionClient(String vaultConfigJson, HashicorpVaultClient client) {
+    }
+
+    private record SecretKey(String vaultPartition, String key) {
     }
 
 }
@@ -0,0 +1,187 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.hashicorp;
+
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.security.SignatureService;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Signature service that coalesces concurrent sign requests for the same vault partition and key into a single call to
+ * the Transit {@code batch_input} API of the {@link HashicorpVaultSignatureService}.
+ * <p>
+ * A batch is sent once the batch window has elapsed since its first request, or as soon as it contains the maximum
+ * number of payloads, whichever comes first. The callers of {@link #sign} block until the signature of their payload
+ * is available. Verification and key rotation are passed through to the delegate.
+ */
+public class HashicorpVaultBatchingSignatureService implements SignatureService {
+
+    private final HashicorpVaultSignatureService delegate;
+    private final ScheduledExecutorService scheduler;
+    private final long batchWindowMillis;
+    private final int maxBatchSize;
+    private final Map<BatchKey, Batch> batches = new HashMap<>();
+
+    /**
+     * Constructs the batching signature service.
+     *
+     * @param delegate          the signature service that sends the requests to the vault
+     * @param scheduler         the executor that sends the batches once their window has elapsed
+     * @param batchWindowMillis how long a batch waits for more requests, in milliseconds
+     * @param maxBatchSize      the maximum number of payloads in a batch
+     */
+    public HashicorpVaultBatchingSignatureService(HashicorpVaultSignatureService delegate, ScheduledExecutorService scheduler,
+                                                  long batchWindowMillis, int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be greater than 0");
+        }
+        this.delegate = delegate;
+        this.scheduler = scheduler;
+        this.batchWindowMillis = batchWindowMillis;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public Result<byte[]> sign(String key, byte[] payload, String signatureAlgorithm) {
+        return sign(null, key, payload, signatureAlgorithm);
+    }
+
+    @Override
+    public Result<Void> verify(String key, byte[] signingInput, byte[] signature, String signatureAlgorithm) {
+        return delegate.verify(key, signingInput, signature, signatureAlgorithm);
+    }
+
+    @Override
+    public Result<Void> rotate(String key, Map<String, Object> keyProperties) {
+        return delegate.rotate(key, keyProperties);
+    }
+
+    /**
+     * Signs the given payload with the key identified by the key parameter, within the given vault partition, together
+     * with the other payloads that are signed concurrently with the same key. The signature algorithm is ignored, as
+     * it is by {@link HashicorpVaultSignatureService}.
+     */
+    @Override
+    public Result<byte[]> sign(@Nullable String vaultPartition, String key, byte[] payload, String signatureAlgorithm) {
+        Objects.requireNonNull(key, "key cannot be null");
+        Objects.requireNonNull(payload, "payload cannot be null");
+
+        var batchKey = new BatchKey(vaultPartition, key);
+        var request = new SignRequest(payload, new CompletableFuture<>());
+        Batch full = null;
+        synchronized (batches) {
+            var batch = batches.get(batchKey);
+            if (batch == null) {
+                batch = new Batch();
+                try {
+                    var newBatch = batch;
+                    batch.scheduledFlush = scheduler.schedule(() -> flush(batchKey, newBatch), batchWindowMillis, MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    // the scheduler is shut down, sign without batching
+                    return delegate.sign(vaultPartition, key, payload, signatureAlgorithm);
+                }
+                batches.put(batchKey, batch);
+            }
+            batch.requests.add(request);
+            if (batch.requests.size() >= maxBatchSize) {
+                batches.remove(batchKey);
+                batch.scheduledFlush.cancel(false);
+                full = batch;
+            }
+        }
+
+        if (full != null) {
+            send(batchKey, full.requests);
+        }
+        return await(request.result());
+    }
+
+    @Override
+    public Result<Void> verify(@Nullable String vaultPartition, String key, byte[] signingInput, byte[] signature, String signatureAlgorithm) {
+        return delegate.verify(vaultPartition, key, signingInput, signature, signatureAlgorithm);
+    }
+
+    @Override
+    public Result<Void> rotate(@Nullable String vaultPartition, String key, Map<String, Object> keyProperties) {
+        return delegate.rotate(vaultPartition, key, keyProperties);
+    }
+
+    private void flush(BatchKey batchKey, Batch batch) {
+        synchronized (batches) {
+            if (!batches.remove(batchKey, batch)) {
+                return;
+            }
+        }
+        send(batchKey, batch.requests);
+    }
+
+    private void send(BatchKey batchKey, List<SignRequest> requests) {
+        try {
+            if (requests.size() == 1) {
+                var request = requests.get(0);
+                request.result().complete(delegate.sign(batchKey.vaultPartition(), batchKey.key(), request.payload(), null));
+                return;
+            }
+
+            var payloads = requests.stream().map(SignRequest::payload).toList();
+            var result = delegate.signBatch(batchKey.vaultPartition(), batchKey.key(), payloads);
+            if (result.failed()) {
+                requests.forEach(request -> request.result().complete(Result.failure(result.getFailureMessages())));
+                return;
+            }
+            var signatures = result.getContent();
+            for (var i = 0; i < requests.size(); i++) {
+                requests.get(i).result().complete(signatures.get(i));
+            }
+        } catch (RuntimeException e) {
+            requests.forEach(request -> request.result().completeExceptionally(e));
+        }
+    }
+
+    private Result<byte[]> await(CompletableFuture<Result<byte[]>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private record BatchKey(@Nullable String vaultPartition, String key) {
+    }
+
+    private record SignRequest(byte[] payload, CompletableFuture<Result<byte[]>> result) {
+    }
+
+    private static final class Batch {
+        private final List<SignRequest> requests = new ArrayList<>();
+        private ScheduledFuture<?> scheduledFlush;
+    }
+}
@@ -23,6 +23,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.security.SignatureService;
 import org.eclipse.edc.spi.security.Vault;
@@ -36,6 +37,9 @@ import org.eclipse.edc.vault.hashicorp.client.HashicorpVaultTokenRenewTask;
 import org.eclipse.edc.vault.hashicorp.spi.auth.HashicorpVaultTokenProviderFactory;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
 
 @Extension(value = HashicorpVaultExtension.NAME)
@@ -43,6 +47,20 @@ public class HashicorpVaultExtension implements ServiceExtension {
     public static final String NAME = "Hashicorp Vault";
     public static final ObjectMapper MAPPER = new ObjectMapper().configure(FAIL_ON_UNKNOWN_PROPERTIES, false);
 
+    @Setting(description = "Time-to-live of the secrets cached in memory, in milliseconds. 0 disables the secret cache",
+            defaultValue = "0", key = "edc.vault.hashicorp.secret.cache.ttl")
+    private long secretCacheTtl;
+
+    @Setting(description = "Maximum number of secrets cached in memory", defaultValue = "1000", key = "edc.vault.hashicorp.secret.cache.max-entries")
+    private int secretCacheMaxEntries;
+
+    @Setting(description = "How long concurrent sign requests for the same key are collected into a single Transit batch request, in milliseconds. 0 disables batching",
+            defaultValue = "0", key = "edc.vault.hashicorp.transit.batch.window")
+    private long signBatchWindow;
+
+    @Setting(description = "Maximum number of payloads signed in a single Transit batch request", defaultValue = "100", key = "edc.vault.hashicorp.transit.batch.max-size")
+    private int signBatchMaxSize;
+
     @Inject
     private EdcHttpClient httpClient;
 
@@ -64,6 +82,7 @@ public class HashicorpVaultExtension implements ServiceExtension {
     private HashicorpVaultTokenRenewTask tokenRenewalTask;
     private Monitor monitor;
     private HashicorpVaultHealthService healthService;
+    private ScheduledExecutorService signBatchScheduler;
 
     @Override
     public String name() {
@@ -72,12 +91,18 @@ public class HashicorpVaultExtension implements ServiceExtension {
 
     @Provider
     public Vault hashicorpVault() {
-        return new HashicorpVault(participantContextConfig, monitor, defaultVaultConfig, tokenProviderFactory, httpClient);
+        return new HashicorpVault(participantContextConfig, monitor, defaultVaultConfig, tokenProviderFactory, httpClient,
+                secretCacheTtl, secretCacheMaxEntries);
     }
 
     @Provider
     public SignatureService signatureService() {
-        return new HashicorpVaultSignatureService(monitor, participantContextConfig, defaultVaultConfig, httpClient, MAPPER, tokenProviderFactory);
+        var signatureService = new HashicorpVaultSignatureService(monitor, participantContextConfig, defaultVaultConfig, httpClient, MAPPER, tokenProviderFactory);
+        if (signBatchWindow <= 0) {
+            return signatureService;
+        }
+        signBatchScheduler = executorInstrumentation.instrument(Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors()), "HashicorpVaultSignBatch");
+        return new HashicorpVaultBatchingSignatureService(signatureService, signBatchScheduler, signBatchWindow, signBatchMaxSize);
     }
 
     @Override
@@ -113,5 +138,8 @@ public class HashicorpVaultExtension implements ServiceExtension {
         if (tokenRenewalTask.isRunning()) {
             tokenRenewalTask.stop();
         }
+        if (signBatchScheduler != null) {
+            signBatchScheduler.shutdown();
+        }
     }
 }
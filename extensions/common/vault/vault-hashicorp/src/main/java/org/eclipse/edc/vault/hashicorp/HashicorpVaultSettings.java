@@ -44,7 +44,16 @@ public record HashicorpVaultSettings(HashicorpVaultConfig config) {
      * @return The vault configuration for the given participant context id, or null if not found.
      */
     public static @Nullable HashicorpVaultSettings forParticipant(String participantContextId, ParticipantContextConfig config) {
-        var vaultConfigJson = config.getSensitiveString(participantContextId, VAULT_CONFIG);
+        return fromJson(config.getSensitiveString(participantContextId, VAULT_CONFIG));
+    }
+
+    /**
+     * Parses the vault configuration serialized as JSON.
+     *
+     * @param vaultConfigJson The vault configuration JSON.
+     * @return The vault configuration, or null if the JSON is null or blank.
+     */
+    public static @Nullable HashicorpVaultSettings fromJson(@Nullable String vaultConfigJson) {
         if (StringUtils.isNullOrBlank(vaultConfigJson)) {
             return null;
         }
@@ -33,6 +33,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.util.Base64;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -133,6 +134,57 @@ public class HashicorpVaultSignatureService implements SignatureService {
         }
     }
 
+    /**
+     * Signs all the given payloads with the key identified by the key parameter, within the given vault partition, using
+     * a single request to the Transit {@code batch_input} API.
+     *
+     * @param vaultPartition The vault partition to use, for example, a participant context ID. This might be null, which
+     *                       indicates that the default partition should be used.
+     * @param key            The key that is used for signing. This key must be available and accessible by this {@link SignatureService}
+     * @param payloads       The non-empty, non-null byte arrays to be signed. Note that this implementation will base64-encode the payloads.
+     * @return A Result containing one Result per payload, in the same order as the payloads, each one containing the signature
+     *         in the form {@code "vault:<key-version>:<base64-string>"} in bytes, or an error. A failed Result if the whole batch failed.
+     */
+    public Result<List<Result<byte[]>>> signBatch(@Nullable String vaultPartition, String key, List<byte[]> payloads) {
+        Objects.requireNonNull(key, "key cannot be null");
+        Objects.requireNonNull(payloads, "payloads cannot be null");
+
+        var resolved = resolve(vaultPartition);
+        var url = resolved.config().getVaultUrl() + resolved.config().getSecretsEnginePath() + "/sign/" + key;
+
+        var batchInput = payloads.stream()
+                .map(payload -> Map.of("input", Base64.getEncoder().encodeToString(payload)))
+                .toList();
+
+        var request = new Request.Builder()
+                .url(url)
+                .header(VaultConstants.VAULT_TOKEN_HEADER, resolved.tokenProvider().vaultToken())
+                .post(jsonBody(Map.of("batch_input", batchInput)))
+                .build();
+
+        try (var response = httpClient.execute(request)) {
+            if (response.isSuccessful()) {
+                if (response.body() != null) {
+                    var r = objectMapper.readValue(response.body().string(), VaultConstants.MAP_TYPE_REFERENCE);
+
+                    return ofNullable(r.get("data"))
+                            .map(o -> (Map<?, ?>) o)
+                            .map(dataObj -> dataObj.get("batch_results"))
+                            .map(o -> (List<?>) o)
+                            .filter(results -> results.size() == payloads.size())
+                            .map(results -> results.stream().map(this::toSignatureResult).toList())
+                            .map(Result::success)
+                            .orElseGet(() -> Result.failure("JSON response did not contain a signature for each payload"));
+                }
+                return Result.failure("Received empty body from Vault");
+            }
+            return Result.failure("Failed to sign payloads with status %d, %s".formatted(response.code(), response.message()));
+        } catch (IOException e) {
+            monitor.warning("Error signing content: %s".formatted(e.getMessage()));
+            return Result.failure("Error signing content: %s".formatted(e.getMessage()));
+        }
+    }
+
     /**
      * Verifies the given input data with the given signature within the given vault partition. Instead of transmitting the key
      * out of the Vault and performing the verification locally, the input and signature are transmitted to the remote service
@@ -246,6 +298,19 @@ public class HashicorpVaultSignatureService implements SignatureService {
         return new ResolvedConfig(defaultConfig, tokenProviderFactory.create(null));
     }
 
+    private Result<byte[]> toSignatureResult(Object batchResult) {
+        var result = (Map<?, ?>) batchResult;
+        var error = result.get("error");
+        if (error != null && !error.toString().isBlank()) {
+            return Result.failure("Failed to sign payload: %s".formatted(error));
+        }
+        return ofNullable(result.get("signature"))
+                .map(Object::toString)
+                .map(String::getBytes)
+                .map(Result::success)
+                .orElseGet(() -> Result.failure("JSON response did not contain signature"));
+    }
+
     private RequestBody jsonBody(Object body) {
         String jsonRepresentation;
         try {
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.hashicorp;
+
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HashicorpVaultBatchingSignatureServiceTest {
+
+    private static final String KEY = "signing-key";
+
+    private final HashicorpVaultSignatureService delegate = mock();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void sign_shouldSendOneBatch_whenMaxBatchSizeReached() throws Exception {
+        when(delegate.signBatch(any(), eq(KEY), anyList())).thenReturn(Result.success(List.of(
+                Result.success("signature1".getBytes()), Result.success("signature2".getBytes()))));
+        var service = new HashicorpVaultBatchingSignatureService(delegate, scheduler, 10_000, 2);
+
+        var first = CompletableFuture.supplyAsync(() -> service.sign(KEY, "payload1".getBytes(), null));
+        var second = CompletableFuture.supplyAsync(() -> service.sign(KEY, "payload2".getBytes(), null));
+
+        var results = List.of(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        assertThat(results).allSatisfy(result -> assertThat(result).isSucceeded());
+        assertThat(results).extracting(result -> new String(result.getContent()))
+                .containsExactlyInAnyOrder("signature1", "signature2");
+        verify(delegate).signBatch(isNull(), eq(KEY), anyList());
+        verify(delegate, never()).sign(any(), any(), any(), any());
+    }
+
+    @Test
+    void sign_shouldSignSingleRequest_whenWindowElapsed() {
+        when(delegate.sign(isNull(), eq(KEY), any(), any())).thenReturn(Result.success("signature".getBytes()));
+        var service = new HashicorpVaultBatchingSignatureService(delegate, scheduler, 10, 100);
+
+        var result = service.sign(KEY, "payload".getBytes(), null);
+
+        assertThat(result).isSucceeded().isEqualTo("signature".getBytes());
+        verify(delegate, never()).signBatch(any(), any(), anyList());
+    }
+
+    @Test
+    void sign_shouldFailAllRequests_whenBatchFails() throws Exception {
+        when(delegate.signBatch(any(), eq(KEY), anyList())).thenReturn(Result.failure("error"));
+        var service = new HashicorpVaultBatchingSignatureService(delegate, scheduler, 10_000, 2);
+
+        var first = CompletableFuture.supplyAsync(() -> service.sign("partition", KEY, "payload1".getBytes(), null));
+        var second = CompletableFuture.supplyAsync(() -> service.sign("partition", KEY, "payload2".getBytes(), null));
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isFailed().detail().contains("error");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isFailed().detail().contains("error");
+        verify(delegate).signBatch(eq("partition"), eq(KEY), anyList());
+    }
+
+    @Test
+    void sign_shouldSignWithoutBatching_whenSchedulerShutDown() {
+        when(delegate.sign(isNull(), eq(KEY), any(), any())).thenReturn(Result.success("signature".getBytes()));
+        scheduler.shutdown();
+        var service = new HashicorpVaultBatchingSignatureService(delegate, scheduler, 10_000, 100);
+
+        var result = service.sign(KEY, "payload".getBytes(), null);
+
+        assertThat(result).isSucceeded();
+    }
+
+    @Test
+    void verify_shouldDelegate() {
+        when(delegate.verify(any(), eq(KEY), any(), any(), any())).thenReturn(Result.success());
+        var service = new HashicorpVaultBatchingSignatureService(delegate, scheduler, 10, 100);
+
+        assertThat(service.verify("partition", KEY, "input".getBytes(), "signature".getBytes(), null)).isSucceeded();
+
+        verify(delegate).verify(eq("partition"), eq(KEY), any(), any(), any());
+    }
+}
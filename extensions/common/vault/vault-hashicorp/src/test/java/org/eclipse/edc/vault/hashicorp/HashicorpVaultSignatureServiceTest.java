@@ -30,14 +30,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
+import java.util.List;
 import java.util.Map;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
 import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.vault.hashicorp.VaultConstants.VAULT_CONFIG;
@@ -145,6 +148,36 @@ class HashicorpVaultSignatureServiceTest {
         wireMock.verify(0, postRequestedFor(urlPathEqualTo("/v1/transit/sign/" + KEY)));
     }
 
+    @Test
+    void signBatch_shouldSendBatchInput() {
+        wireMock.stubFor(post(urlPathEqualTo("/v1/transit/sign/" + KEY))
+                .willReturn(okJson("""
+                        { "data": { "batch_results": [ { "signature": "vault:v1:abc" }, { "error": "invalid input" } ] } }
+                        """)));
+
+        var result = service.signBatch(null, KEY, List.of("payload1".getBytes(), "payload2".getBytes()));
+
+        assertThat(result).isSucceeded().satisfies(results -> {
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0)).isSucceeded().isEqualTo("vault:v1:abc".getBytes());
+            assertThat(results.get(1)).isFailed().detail().contains("invalid input");
+        });
+        wireMock.verify(postRequestedFor(urlPathEqualTo("/v1/transit/sign/" + KEY))
+                .withRequestBody(matchingJsonPath("$.batch_input.length()", equalTo("2"))));
+    }
+
+    @Test
+    void signBatch_whenResultCountDoesNotMatch_shouldFail() {
+        wireMock.stubFor(post(urlPathEqualTo("/v1/transit/sign/" + KEY))
+                .willReturn(okJson("""
+                        { "data": { "batch_results": [ { "signature": "vault:v1:abc" } ] } }
+                        """)));
+
+        var result = service.signBatch(null, KEY, List.of("payload1".getBytes(), "payload2".getBytes()));
+
+        assertThat(result).isFailed();
+    }
+
     @Test
     void verify_forPartition_usesPartitionConfigAndToken() {
         wireMock.stubFor(post(urlPathEqualTo("/v1/transit/verify/" + KEY))
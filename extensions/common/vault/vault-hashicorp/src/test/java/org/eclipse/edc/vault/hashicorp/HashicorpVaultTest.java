@@ -34,6 +34,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.concurrent.CompletableFuture;
+
 import static com.github.tomakehurst.wiremock.client.WireMock.delete;
 import static com.github.tomakehurst.wiremock.client.WireMock.deleteRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
@@ -41,15 +43,18 @@ import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.notFound;
 import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.status;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.vault.hashicorp.VaultConstants.VAULT_CONFIG;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -316,6 +321,115 @@ class HashicorpVaultTest {
         wireMock.verify(0, deleteRequestedFor(urlPathMatching("/v1/secret/metadata/baz/foo.*")));
     }
 
+    @Test
+    void resolveSecret_whenSecretCacheEnabled_shouldResolveOnce() {
+        wireMock.stubFor(get(urlPathMatching("/v1/secret/data/baz/cached"))
+                .willReturn(okJson("""
+                        {
+                            "data": {
+                                "data": {
+                                    "content": "bar"
+                                }
+                            }
+                        }
+                        """)));
+        vault = new HashicorpVault(participantContextConfig, mock(), defaultVaultConfig(), tokenProviderFactory, httpClient, 60_000, 10);
+
+        assertThat(vault.resolveSecret("cached")).isEqualTo("bar");
+        assertThat(vault.resolveSecret("cached")).isEqualTo("bar");
+
+        wireMock.verify(1, getRequestedFor(urlPathMatching("/v1/secret/data/baz/cached")));
+    }
+
+    @Test
+    void storeSecret_whenSecretCacheEnabled_shouldInvalidateCachedSecret() {
+        wireMock.stubFor(get(urlPathMatching("/v1/secret/data/baz/stored"))
+                .willReturn(okJson("""
+                        {
+                            "data": {
+                                "data": {
+                                    "content": "bar"
+                                }
+                            }
+                        }
+                        """)));
+        wireMock.stubFor(post(urlPathMatching("/v1/secret/data/baz/stored.*"))
+                .willReturn(okJson("{}")));
+        vault = new HashicorpVault(participantContextConfig, mock(), defaultVaultConfig(), tokenProviderFactory, httpClient, 60_000, 10);
+        vault.resolveSecret("stored");
+
+        assertThat(vault.storeSecret("stored", "baz")).isSucceeded();
+        vault.resolveSecret("stored");
+
+        wireMock.verify(2, getRequestedFor(urlPathMatching("/v1/secret/data/baz/stored")));
+    }
+
+    @Test
+    void storeSecret_whenSecretCacheEnabled_shouldInvalidateSecretResolvedDuringStore() {
+        wireMock.stubFor(get(urlPathMatching("/v1/secret/data/baz/concurrent"))
+                .willReturn(okJson("""
+                        {
+                            "data": {
+                                "data": {
+                                    "content": "bar"
+                                }
+                            }
+                        }
+                        """)));
+        wireMock.stubFor(post(urlPathMatching("/v1/secret/data/baz/concurrent.*"))
+                .willReturn(okJson("{}").withFixedDelay(500)));
+        vault = new HashicorpVault(participantContextConfig, mock(), defaultVaultConfig(), tokenProviderFactory, httpClient, 60_000, 10);
+
+        var stored = CompletableFuture.supplyAsync(() -> vault.storeSecret("concurrent", "baz"));
+        await().untilAsserted(() -> wireMock.verify(1, postRequestedFor(urlPathMatching("/v1/secret/data/baz/concurrent.*"))));
+        vault.resolveSecret("concurrent");
+        assertThat(stored.join()).isSucceeded();
+        vault.resolveSecret("concurrent");
+
+        wireMock.verify(2, getRequestedFor(urlPathMatching("/v1/secret/data/baz/concurrent")));
+    }
+
+    @Test
+    void resolveSecret_forPartition_shouldReuseClient() {
+        var tokenProviderFactory = mock(HashicorpVaultTokenProviderFactory.class);
+        when(tokenProviderFactory.create(anyString())).thenReturn(tokenProvider);
+        wireMock.stubFor(get(urlPathMatching("/v1/participants/data/participant1/quizz"))
+                .willReturn(okJson("""
+                        {
+                            "data": {
+                                "data": {
+                                    "content": "bar"
+                                }
+                            }
+                        }
+                        """)));
+        var vaultConfig = HashicorpVaultConfig.Builder.newInstance()
+                .vaultUrl(wireMock.baseUrl())
+                .folderPath("participant1/")
+                .secretPath("v1/participants")
+                .healthCheckPath("/healthcheck")
+                .ttl(10)
+                .build();
+        when(participantContextConfig.getSensitiveString("partition1", VAULT_CONFIG)).thenReturn(asJson(new HashicorpVaultSettings(vaultConfig)));
+        vault = new HashicorpVault(participantContextConfig, mock(), defaultVaultConfig(), tokenProviderFactory, httpClient);
+
+        assertThat(vault.resolveSecret("partition1", "quizz")).isEqualTo("bar");
+        assertThat(vault.resolveSecret("partition1", "quizz")).isEqualTo("bar");
+
+        verify(tokenProviderFactory, times(1)).create("partition1");
+        verify(participantContextConfig, times(2)).getSensitiveString("partition1", VAULT_CONFIG);
+    }
+
+    private HashicorpVaultConfig defaultVaultConfig() {
+        return HashicorpVaultConfig.Builder.newInstance()
+                .vaultUrl(wireMock.baseUrl())
+                .folderPath(DEFAULT_FOLDERPATH)
+                .secretPath("v1/secret")
+                .healthCheckPath("/healthcheck")
+                .ttl(10)
+                .build();
+    }
+
     private String asJson(Object obj) {
         try {
             return mapper.writeValueAsString(obj);
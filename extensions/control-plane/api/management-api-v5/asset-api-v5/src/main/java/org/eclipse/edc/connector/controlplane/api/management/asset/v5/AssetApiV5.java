@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.controlplane.api.management.asset.v5;
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.info.Info;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -23,12 +24,14 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 import org.eclipse.edc.api.management.schema.ManagementApiJsonSchema;
 import org.eclipse.edc.api.model.ApiCoreSchema;
 
+import static org.eclipse.edc.api.management.ManagementApi.CONTINUATION_TOKEN_HEADER;
+
 @OpenAPIDefinition(
         info = @Info(description = "This contains both the current and the new Asset API, which accepts JSON-LD and will " +
                 "become the standard API once the Dataspace Protocol is stable.", title = "Asset API", version = "v5beta"))
@@ -52,11 +55,13 @@ public interface AssetApiV5 {
             ),
             responses = {
                     @ApiResponse(responseCode = "200", description = "The assets matching the query",
-                            content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.ASSET)))),
+                            content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.ASSET))),
+                            headers = @Header(name = CONTINUATION_TOKEN_HEADER, description = "Continuation token of the next page, " +
+                                    "set when the query has a sort field and the page is full")),
                     @ApiResponse(responseCode = "400", description = "Request body was malformed",
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class))))
             })
-    JsonArray queryAssetsV5(String participantContextId, JsonObject querySpecJson, SecurityContext securityContext);
+    Response queryAssetsV5(String participantContextId, JsonObject querySpecJson, SecurityContext securityContext);
 
     @Operation(description = "Gets an asset with the given ID",
             responses = {
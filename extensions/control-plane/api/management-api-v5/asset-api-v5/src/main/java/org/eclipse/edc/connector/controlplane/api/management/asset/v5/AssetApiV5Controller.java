@@ -14,7 +14,6 @@
 
 package org.eclipse.edc.connector.controlplane.api.management.asset.v5;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
@@ -25,6 +24,7 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 import org.eclipse.edc.api.auth.spi.AuthorizationService;
 import org.eclipse.edc.api.auth.spi.RequiredScope;
@@ -32,12 +32,14 @@ import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.services.spi.asset.AssetService;
 import org.eclipse.edc.participantcontext.spi.types.ParticipantContext;
+import org.eclipse.edc.query.ContinuationTokens;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.eclipse.edc.util.reflection.ReflectionUtil;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
@@ -47,6 +49,7 @@ import org.eclipse.edc.web.spi.validation.SchemaType;
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static java.util.Optional.ofNullable;
+import static org.eclipse.edc.api.management.ManagementApi.CONTINUATION_TOKEN_HEADER;
 import static org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset.EDC_ASSET_TYPE;
 import static org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset.EDC_ASSET_TYPE_TERM;
 import static org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset.EDC_CATALOG_ASSET_TYPE_TERM;
@@ -106,9 +109,9 @@ public class AssetApiV5Controller implements AssetApiV5 {
     @Path("/request")
     @Override
     @RequiredScope("management-api:assets:read")
-    public JsonArray queryAssetsV5(@PathParam("participantContextId") String participantContextId,
-                                   @SchemaType(value = EDC_QUERY_SPEC_TYPE_TERM, version = "v4") JsonObject querySpecJson,
-                                   @Context SecurityContext securityContext) {
+    public Response queryAssetsV5(@PathParam("participantContextId") String participantContextId,
+                                  @SchemaType(value = EDC_QUERY_SPEC_TYPE_TERM, version = "v4") JsonObject querySpecJson,
+                                  @Context SecurityContext securityContext) {
         authorizationService.authorize(securityContext, participantContextId, participantContextId, ParticipantContext.class)
                 .orElseThrow(exceptionMapper(ParticipantContext.class, participantContextId));
 
@@ -126,13 +129,17 @@ public class AssetApiV5Controller implements AssetApiV5 {
                 .filter(new Criterion("participantContextId", "=", participantContextId))
                 .build();
 
-        return assetService.search(query).orElseThrow(exceptionMapper(QuerySpec.class, null))
-                .stream()
+        var assets = assetService.search(query).orElseThrow(exceptionMapper(QuerySpec.class, null));
+        var assetsJson = assets.stream()
                 .map(it -> typeTransformerRegistry.transform(it, JsonObject.class))
                 .peek(r -> r.onFailure(f -> monitor.warning(f.getFailureDetail())))
                 .filter(Result::succeeded)
                 .map(Result::getContent)
                 .collect(toJsonArray());
+
+        return Response.ok(assetsJson)
+                .header(CONTINUATION_TOKEN_HEADER, ContinuationTokens.next(query, assets, this::sortValue))
+                .build();
     }
 
     @GET
@@ -186,4 +193,11 @@ public class AssetApiV5Controller implements AssetApiV5 {
 
     }
 
+    private Object sortValue(Asset asset, String field) {
+        if (ReflectionUtil.getFieldRecursive(Asset.class, field) != null) {
+            return ReflectionUtil.getFieldValue(field, asset);
+        }
+        // asset properties are compared as text by the SQL asset index
+        return ofNullable(asset.getPropertyOrPrivate(field)).map(Object::toString).orElse(null);
+    }
 }
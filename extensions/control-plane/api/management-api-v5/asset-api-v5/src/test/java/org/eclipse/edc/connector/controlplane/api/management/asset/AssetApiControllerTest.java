@@ -22,6 +22,7 @@ import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.services.spi.asset.AssetService;
 import org.eclipse.edc.junit.annotations.ApiTest;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
@@ -39,6 +40,7 @@ import java.util.List;
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
 import static jakarta.json.Json.createObjectBuilder;
+import static org.eclipse.edc.api.management.ManagementApi.CONTINUATION_TOKEN_HEADER;
 import static org.eclipse.edc.api.model.IdResponse.ID_RESPONSE_CREATED_AT;
 import static org.eclipse.edc.api.model.IdResponse.ID_RESPONSE_TYPE;
 import static org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset.EDC_ASSET_TYPE;
@@ -485,6 +487,26 @@ public abstract class AssetApiControllerTest extends RestControllerTestBase {
                     .body("size()", is(0));
         }
 
+        @Test
+        void requestAsset_shouldReturnContinuationToken_whenPageIsFull() {
+            when(assetService.search(any()))
+                    .thenReturn(ServiceResult.success(List.of(Asset.Builder.newInstance().id("id1").createdAt(10).build())));
+            when(transformerRegistry.transform(isA(Asset.class), eq(JsonObject.class)))
+                    .thenReturn(Result.success(createAssetJson().build()));
+            when(transformerRegistry.transform(isA(JsonObject.class), eq(QuerySpec.class)))
+                    .thenReturn(Result.success(QuerySpec.Builder.newInstance().sortField("createdAt").limit(1).build()));
+            when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+
+            baseRequest(participantContextId)
+                    .contentType(JSON)
+                    .body(createObjectBuilder().add(TYPE, EDC_QUERY_SPEC_TYPE_TERM).build())
+                    .post("/assets/request")
+                    .then()
+                    .statusCode(200)
+                    .header(CONTINUATION_TOKEN_HEADER, new ContinuationToken(10, "id1").encode())
+                    .body("size()", is(1));
+        }
+
         @Test
         void requestAsset_shouldReturnBadRequest_whenQueryIsInvalid() {
             when(transformerRegistry.transform(any(JsonObject.class), eq(QuerySpec.class))).thenReturn(Result.success(QuerySpec.Builder.newInstance().build()));
@@ -14,14 +14,15 @@
 
 package org.eclipse.edc.connector.controlplane.api.management.contractagreement;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 import org.eclipse.edc.api.auth.spi.AuthorizationService;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.connector.controlplane.services.spi.contractagreement.ContractAgreementService;
 import org.eclipse.edc.participantcontext.spi.types.ParticipantContext;
+import org.eclipse.edc.query.ContinuationTokens;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -35,6 +36,7 @@ import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 import java.util.Optional;
 
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
+import static org.eclipse.edc.api.management.ManagementApi.CONTINUATION_TOKEN_HEADER;
 import static org.eclipse.edc.participantcontext.spi.types.ParticipantResource.filterByParticipantContextId;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE;
 import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMapper;
@@ -55,7 +57,7 @@ public abstract class BaseContractAgreementApiV5Controller {
         this.validatorRegistry = validatorRegistry;
     }
 
-    public JsonArray queryAgreements(String participantContextId, JsonObject querySpecJson, SecurityContext securityContext) {
+    public Response queryAgreements(String participantContextId, JsonObject querySpecJson, SecurityContext securityContext) {
         authorizationService.authorize(securityContext, participantContextId, participantContextId, ParticipantContext.class)
                 .orElseThrow(exceptionMapper(ParticipantContext.class, participantContextId));
 
@@ -73,12 +75,17 @@ public abstract class BaseContractAgreementApiV5Controller {
                 .filter(filterByParticipantContextId(participantContextId))
                 .build();
 
-        return service.search(query).orElseThrow(exceptionMapper(ContractDefinition.class, null)).stream()
+        var agreements = service.search(query).orElseThrow(exceptionMapper(ContractDefinition.class, null));
+        var agreementsJson = agreements.stream()
                 .map(it -> transformerRegistry.transform(it, JsonObject.class))
                 .peek(r -> r.onFailure(f -> monitor.warning(f.getFailureDetail())))
                 .filter(Result::succeeded)
                 .map(Result::getContent)
                 .collect(toJsonArray());
+
+        return Response.ok(agreementsJson)
+                .header(CONTINUATION_TOKEN_HEADER, ContinuationTokens.next(query, agreements))
+                .build();
     }
 
     public JsonObject getAgreementById(String participantContextId, String id, SecurityContext securityContext) {
@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.controlplane.api.management.contractagreement.
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.info.Info;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -23,11 +24,13 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 import org.eclipse.edc.api.management.schema.ManagementApiJsonSchema;
 
+import static org.eclipse.edc.api.management.ManagementApi.CONTINUATION_TOKEN_HEADER;
+
 @OpenAPIDefinition(info = @Info(version = "v5beta"))
 @Tag(name = "Contract Agreement v5beta")
 public interface ContractAgreementApiV5 {
@@ -36,12 +39,14 @@ public interface ContractAgreementApiV5 {
             requestBody = @RequestBody(content = @Content(schema = @Schema(ref = ManagementApiJsonSchema.V4.QUERY_SPEC))),
             responses = {
                     @ApiResponse(responseCode = "200", description = "The contract agreements matching the query",
-                            content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.CONTRACT_AGREEMENT)))),
+                            content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.CONTRACT_AGREEMENT))),
+                            headers = @Header(name = CONTINUATION_TOKEN_HEADER, description = "Continuation token of the next page, " +
+                                    "set when the query has a sort field and the page is full")),
                     @ApiResponse(responseCode = "400", description = "Request body was malformed",
                             content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.API_ERROR))))
             }
     )
-    JsonArray queryAgreementsV5(String participantContextId, JsonObject querySpecJson, SecurityContext securityContext);
+    Response queryAgreementsV5(String participantContextId, JsonObject querySpecJson, SecurityContext securityContext);
 
     @Operation(description = "Gets an contract agreement with the given ID",
             responses = {
@@ -14,7 +14,6 @@
 
 package org.eclipse.edc.connector.controlplane.api.management.contractagreement.v5;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
@@ -23,6 +22,7 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 import org.eclipse.edc.api.auth.spi.AuthorizationService;
 import org.eclipse.edc.api.auth.spi.RequiredScope;
@@ -48,9 +48,9 @@ public class ContractAgreementApiV5Controller extends BaseContractAgreementApiV5
     @Path("/request")
     @RequiredScope("management-api:agreements:read")
     @Override
-    public JsonArray queryAgreementsV5(@PathParam("participantContextId") String participantContextId,
-                                       @SchemaType(value = EDC_QUERY_SPEC_TYPE_TERM, version = "v4") JsonObject querySpecJson,
-                                       @Context SecurityContext securityContext) {
+    public Response queryAgreementsV5(@PathParam("participantContextId") String participantContextId,
+                                      @SchemaType(value = EDC_QUERY_SPEC_TYPE_TERM, version = "v4") JsonObject querySpecJson,
+                                      @Context SecurityContext securityContext) {
         return queryAgreements(participantContextId, querySpecJson, securityContext);
     }
 
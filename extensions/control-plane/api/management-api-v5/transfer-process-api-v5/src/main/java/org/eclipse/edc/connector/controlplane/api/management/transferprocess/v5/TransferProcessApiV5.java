@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.controlplane.api.management.transferprocess.v5
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.info.Info;
 import io.swagger.v3.oas.annotations.links.Link;
 import io.swagger.v3.oas.annotations.links.LinkParameter;
@@ -25,11 +26,13 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 import org.eclipse.edc.api.management.schema.ManagementApiJsonSchema;
 
+import static org.eclipse.edc.api.management.ManagementApi.CONTINUATION_TOKEN_HEADER;
+
 @OpenAPIDefinition(info = @Info(version = "v5beta"))
 @Tag(name = "Transfer Process v5beta")
 public interface TransferProcessApiV5 {
@@ -42,11 +45,13 @@ public interface TransferProcessApiV5 {
             requestBody = @RequestBody(content = @Content(schema = @Schema(ref = ManagementApiJsonSchema.V4.QUERY_SPEC))),
             responses = {
                     @ApiResponse(responseCode = "200", description = "The transfer processes matching the query",
-                            content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.TRANSFER_PROCESS)))),
+                            content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.TRANSFER_PROCESS))),
+                            headers = @Header(name = CONTINUATION_TOKEN_HEADER, description = "Continuation token of the next page, " +
+                                    "set when the query has a sort field and the page is full")),
                     @ApiResponse(responseCode = "400", description = "Request was malformed",
                             content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.API_ERROR))))}
     )
-    JsonArray queryTransferProcessesV5(String participantContextId, JsonObject querySpecJson, SecurityContext securityContext);
+    Response queryTransferProcessesV5(String participantContextId, JsonObject querySpecJson, SecurityContext securityContext);
 
     @Operation(description = "Gets an transfer process with the given ID",
             responses = {
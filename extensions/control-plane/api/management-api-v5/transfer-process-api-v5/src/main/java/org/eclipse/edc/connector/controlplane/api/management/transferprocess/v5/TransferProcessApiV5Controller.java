@@ -14,7 +14,6 @@
 
 package org.eclipse.edc.connector.controlplane.api.management.transferprocess.v5;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
@@ -23,6 +22,7 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 import org.eclipse.edc.api.auth.spi.AuthorizationService;
 import org.eclipse.edc.api.auth.spi.RequiredScope;
@@ -39,6 +39,7 @@ import org.eclipse.edc.connector.controlplane.transfer.spi.types.command.Termina
 import org.eclipse.edc.participantcontext.spi.service.ParticipantContextService;
 import org.eclipse.edc.participantcontext.spi.types.ParticipantContext;
 import org.eclipse.edc.protocol.spi.ParticipantProfileService;
+import org.eclipse.edc.query.ContinuationTokens;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -55,6 +56,7 @@ import java.util.Optional;
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static java.lang.String.format;
+import static org.eclipse.edc.api.management.ManagementApi.CONTINUATION_TOKEN_HEADER;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.SuspendTransfer.SUSPEND_TRANSFER_TYPE_TERM;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TerminateTransfer.TERMINATE_TRANSFER_TYPE_TERM;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferRequest.TRANSFER_REQUEST_TYPE_TERM;
@@ -90,9 +92,9 @@ public class TransferProcessApiV5Controller implements TransferProcessApiV5 {
     @Path("request")
     @RequiredScope("management-api:transfers:read")
     @Override
-    public JsonArray queryTransferProcessesV5(@PathParam("participantContextId") String participantContextId,
-                                              @SchemaType(value = EDC_QUERY_SPEC_TYPE_TERM, version = "v4") JsonObject querySpecJson,
-                                              @Context SecurityContext securityContext) {
+    public Response queryTransferProcessesV5(@PathParam("participantContextId") String participantContextId,
+                                             @SchemaType(value = EDC_QUERY_SPEC_TYPE_TERM, version = "v4") JsonObject querySpecJson,
+                                             @Context SecurityContext securityContext) {
 
         authorizationService.authorize(securityContext, participantContextId, participantContextId, ParticipantContext.class)
                 .orElseThrow(exceptionMapper(ParticipantContext.class, participantContextId));
@@ -109,12 +111,17 @@ public class TransferProcessApiV5Controller implements TransferProcessApiV5 {
                 .filter(filterByParticipantContextId(participantContextId))
                 .build();
 
-        return service.search(query).orElseThrow(exceptionMapper(TransferProcess.class)).stream()
+        var transferProcesses = service.search(query).orElseThrow(exceptionMapper(TransferProcess.class));
+        var transferProcessesJson = transferProcesses.stream()
                 .map(transferProcess -> transformerRegistry.transform(transferProcess, JsonObject.class)
                         .onFailure(f -> monitor.warning(f.getFailureDetail())))
                 .filter(Result::succeeded)
                 .map(Result::getContent)
                 .collect(toJsonArray());
+
+        return Response.ok(transferProcessesJson)
+                .header(CONTINUATION_TOKEN_HEADER, ContinuationTokens.next(query, transferProcesses))
+                .build();
     }
 
     @GET
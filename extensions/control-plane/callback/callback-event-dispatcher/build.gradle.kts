@@ -8,5 +8,7 @@ dependencies {
 
     testImplementation(project(":core:common:junit"))
     testImplementation(testFixtures(project(":core:common:lib:core-lib")))
+    testImplementation(testFixtures(project(":spi:control-plane-spi")))
+    testImplementation(libs.awaitility)
     testImplementation(libs.wiremock)
 }
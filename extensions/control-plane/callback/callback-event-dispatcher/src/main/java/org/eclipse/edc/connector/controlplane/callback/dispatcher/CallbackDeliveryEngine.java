@@ -0,0 +1,417 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackClient;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * {@link CallbackClient} that delivers the events of non-transactional callbacks asynchronously.
+ * <p>
+ * The events are queued per callback URI and sent by a bounded pool of workers, with at most a configured number of
+ * concurrent requests per URI. The events queued for the same URI and credentials are coalesced into a single call to
+ * {@link CallbackClient#dispatchBatch} of the delegate, up to the maximum batch size. A failed delivery is put back at the
+ * head of its queue after an exponential backoff, until the maximum number of retries is reached, and no other event is
+ * sent to the same URI in the meantime. The events reach a URI in the order they were dispatched only with at most one
+ * concurrent request per URI, the default: with more, a later batch can overtake an earlier one that is still in flight.
+ * <p>
+ * Every event is written to the {@link CallbackOutboxStore} before it is queued, its failed attempts are recorded there,
+ * and it is removed once it is delivered or given up. The events still in the outbox when the runtime stops, e.g.
+ * queued or waiting for a retry, are queued again by {@link #start()}. Delivery is at least once: an event delivered
+ * right before the runtime stops may be delivered again.
+ */
+public class CallbackDeliveryEngine implements CallbackClient {
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private CallbackClient delegate;
+    private CallbackOutboxStore outbox;
+    private ObjectMapper mapper;
+    private ExecutorService workers;
+    private ScheduledExecutorService retryScheduler;
+    private Monitor monitor;
+    private Clock clock = Clock.systemUTC();
+    private int maxConcurrencyPerEndpoint = 1;
+    private int maxBatchSize = 1;
+    private int maxRetries;
+    private long retryDelayMillis;
+
+    private CallbackDeliveryEngine() {
+    }
+
+    /**
+     * Queues the events left in the outbox by a previous run. Meant to be called once, before events get dispatched.
+     */
+    public void start() {
+        List<CallbackOutboxEntry> entries;
+        try {
+            entries = outbox.findAll();
+        } catch (EdcException e) {
+            monitor.severe("Cannot load the callback outbox, the events left by a previous run are not delivered", e);
+            return;
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        monitor.info(format("Delivering %d events left in the callback outbox", entries.size()));
+        var deliveriesByUri = new LinkedHashMap<String, List<PendingDelivery>>();
+        for (var entry : entries) {
+            sequence.accumulateAndGet(entry.getSequence(), Math::max);
+            var delivery = restore(entry);
+            if (delivery != null) {
+                deliveriesByUri.computeIfAbsent(entry.getCallbackAddress().getUri(), uri -> new ArrayList<>())
+                        .add(new PendingDelivery(delivery, entry.getAttempts()));
+            }
+        }
+        deliveriesByUri.values().forEach(this::enqueue);
+    }
+
+    /**
+     * Queues the event for delivery and returns immediately. Delivery failures are logged, not thrown.
+     */
+    @Override
+    public <E extends Event> void dispatch(CallbackAddress callbackAddress, EventEnvelope<E> eventEnvelope) {
+        enqueue(List.of(new PendingDelivery(persist(callbackAddress, eventEnvelope), 0)));
+    }
+
+    /**
+     * Queues the events for delivery and returns immediately. Delivery failures are logged, not thrown.
+     */
+    @Override
+    public void dispatchBatch(CallbackAddress callbackAddress, List<EventEnvelope<?>> eventEnvelopes) {
+        enqueue(eventEnvelopes.stream().map(eventEnvelope -> new PendingDelivery(persist(callbackAddress, eventEnvelope), 0)).toList());
+    }
+
+    private Delivery persist(CallbackAddress callbackAddress, EventEnvelope<?> eventEnvelope) {
+        try {
+            var entry = CallbackOutboxEntry.Builder.newInstance()
+                    .id(UUID.randomUUID().toString())
+                    .callbackAddress(callbackAddress)
+                    .eventName(eventEnvelope.getPayload().name())
+                    .eventEnvelope(mapper.writeValueAsString(eventEnvelope))
+                    .sequence(sequence.updateAndGet(last -> Math.max(last + 1, clock.millis())))
+                    .build();
+            var result = outbox.create(entry);
+            if (result.succeeded()) {
+                return new Delivery(callbackAddress, eventEnvelope, entry);
+            }
+            monitor.warning(format("Cannot store event %s in the callback outbox, it is not delivered again after a restart: %s",
+                    eventEnvelope.getId(), result.getFailureDetail()));
+        } catch (JsonProcessingException | EdcException e) {
+            monitor.warning(format("Cannot store event %s in the callback outbox, it is not delivered again after a restart",
+                    eventEnvelope.getId()), e);
+        }
+        return new Delivery(callbackAddress, eventEnvelope, null);
+    }
+
+    private Delivery restore(CallbackOutboxEntry entry) {
+        try {
+            var eventEnvelope = new StoredEventEnvelope(mapper.readTree(entry.getEventEnvelope()), entry.getEventName());
+            return new Delivery(entry.getCallbackAddress(), eventEnvelope, entry);
+        } catch (JsonProcessingException e) {
+            monitor.severe(format("Cannot read the event of the callback outbox entry %s, it is dropped", entry.getId()), e);
+            outboxCall(entry, () -> outbox.delete(entry.getId()));
+            return null;
+        }
+    }
+
+    private void enqueue(List<PendingDelivery> deliveries) {
+        if (deliveries.isEmpty()) {
+            return;
+        }
+        var uri = deliveries.get(0).delivery().callbackAddress().getUri();
+        while (true) {
+            var endpoint = endpoints.computeIfAbsent(uri, key -> new Endpoint());
+            synchronized (endpoint) {
+                if (endpoint.retired) {
+                    // the endpoint got idle and was removed in the meantime, the next lookup creates a new one
+                    continue;
+                }
+                endpoint.pending.addAll(deliveries);
+            }
+            drain(endpoint);
+            return;
+        }
+    }
+
+    private void drain(Endpoint endpoint) {
+        synchronized (endpoint) {
+            while (endpoint.retrying == 0 && endpoint.inFlight < maxConcurrencyPerEndpoint && !endpoint.pending.isEmpty()) {
+                var batch = nextBatch(endpoint.pending);
+                endpoint.inFlight++;
+                try {
+                    workers.execute(() -> deliver(endpoint, batch));
+                } catch (RejectedExecutionException e) {
+                    endpoint.inFlight--;
+                    monitor.warning(format("Callback delivery is shut down, %d events for the callback at URI %s are left in the outbox",
+                            endpoint.pending.size() + batch.size(), batch.get(0).delivery().callbackAddress().getUri()));
+                    endpoint.pending.clear();
+                    return;
+                }
+            }
+        }
+    }
+
+    private List<PendingDelivery> nextBatch(Deque<PendingDelivery> pending) {
+        var first = pending.poll();
+        var batch = new ArrayList<PendingDelivery>();
+        batch.add(first);
+        var iterator = pending.iterator();
+        while (batch.size() < maxBatchSize && iterator.hasNext()) {
+            var next = iterator.next();
+            if (sameCredentials(first.delivery().callbackAddress(), next.delivery().callbackAddress())) {
+                batch.add(next);
+                iterator.remove();
+            }
+        }
+        return batch;
+    }
+
+    private void deliver(Endpoint endpoint, List<PendingDelivery> batch) {
+        var callbackAddress = batch.get(0).delivery().callbackAddress();
+        try {
+            if (batch.size() == 1) {
+                delegate.dispatch(callbackAddress, batch.get(0).delivery().eventEnvelope());
+            } else {
+                delegate.dispatchBatch(callbackAddress, batch.stream().<EventEnvelope<?>>map(it -> it.delivery().eventEnvelope()).toList());
+            }
+            batch.forEach(it -> removeFromOutbox(it.delivery()));
+        } catch (Exception e) {
+            retry(endpoint, batch, e);
+        } finally {
+            synchronized (endpoint) {
+                endpoint.inFlight--;
+                if (endpoint.inFlight == 0 && endpoint.retrying == 0 && endpoint.pending.isEmpty()) {
+                    endpoint.retired = true;
+                    endpoints.remove(callbackAddress.getUri(), endpoint);
+                }
+            }
+            drain(endpoint);
+        }
+    }
+
+    private void retry(Endpoint endpoint, List<PendingDelivery> batch, Exception failure) {
+        var uri = batch.get(0).delivery().callbackAddress().getUri();
+        var attempt = batch.stream().mapToInt(PendingDelivery::attempt).max().orElse(0);
+        if (attempt >= maxRetries) {
+            monitor.severe(format("Failed to invoke callback at URI: %s, %d events are dropped after %d attempts", uri, batch.size(), attempt + 1), failure);
+            batch.forEach(it -> removeFromOutbox(it.delivery()));
+            return;
+        }
+
+        batch.forEach(it -> recordAttempts(it.delivery(), attempt + 1));
+        var delay = retryDelayMillis << Math.min(attempt, 30);
+        monitor.warning(format("Failed to invoke callback at URI: %s, retrying %d events in %d ms", uri, batch.size(), delay), failure);
+        synchronized (endpoint) {
+            endpoint.retrying++;
+        }
+        try {
+            retryScheduler.schedule(() -> requeue(endpoint, batch, attempt + 1), delay, MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            synchronized (endpoint) {
+                endpoint.retrying--;
+            }
+            monitor.warning(format("Callback delivery is shut down, %d events for the callback at URI %s are left in the outbox", batch.size(), uri));
+        }
+    }
+
+    private void requeue(Endpoint endpoint, List<PendingDelivery> batch, int attempt) {
+        synchronized (endpoint) {
+            endpoint.retrying--;
+            for (var i = batch.size() - 1; i >= 0; i--) {
+                endpoint.pending.addFirst(new PendingDelivery(batch.get(i).delivery(), attempt));
+            }
+        }
+        drain(endpoint);
+    }
+
+    private void removeFromOutbox(Delivery delivery) {
+        var entry = delivery.entry();
+        if (entry != null) {
+            outboxCall(entry, () -> outbox.delete(entry.getId()));
+        }
+    }
+
+    private void recordAttempts(Delivery delivery, int attempts) {
+        var entry = delivery.entry();
+        if (entry != null) {
+            outboxCall(entry, () -> outbox.update(entry.toBuilder().attempts(attempts).build()));
+        }
+    }
+
+    private void outboxCall(CallbackOutboxEntry entry, Supplier<StoreResult<Void>> call) {
+        try {
+            var result = call.get();
+            if (result.failed()) {
+                monitor.warning(format("Cannot update the callback outbox entry %s: %s", entry.getId(), result.getFailureDetail()));
+            }
+        } catch (EdcException e) {
+            monitor.warning(format("Cannot update the callback outbox entry %s", entry.getId()), e);
+        }
+    }
+
+    private boolean sameCredentials(CallbackAddress first, CallbackAddress other) {
+        return Objects.equals(first.getAuthKey(), other.getAuthKey()) && Objects.equals(first.getAuthCodeId(), other.getAuthCodeId());
+    }
+
+    /**
+     * An event to deliver, with its outbox entry, null if the event could not be stored in the outbox.
+     */
+    private record Delivery(CallbackAddress callbackAddress, EventEnvelope<?> eventEnvelope, @Nullable CallbackOutboxEntry entry) {
+    }
+
+    private record PendingDelivery(Delivery delivery, int attempt) {
+    }
+
+    private static final class Endpoint {
+        private final Deque<PendingDelivery> pending = new ArrayDeque<>();
+        private int inFlight;
+        private int retrying;
+        private boolean retired;
+    }
+
+    public static class Builder {
+
+        private final CallbackDeliveryEngine engine;
+
+        private Builder() {
+            engine = new CallbackDeliveryEngine();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        /**
+         * The client that sends the events to the callback endpoints.
+         */
+        public Builder delegate(CallbackClient delegate) {
+            engine.delegate = delegate;
+            return this;
+        }
+
+        public Builder outbox(CallbackOutboxStore outbox) {
+            engine.outbox = outbox;
+            return this;
+        }
+
+        /**
+         * The mapper that serializes the event envelopes stored in the outbox.
+         */
+        public Builder mapper(ObjectMapper mapper) {
+            engine.mapper = mapper;
+            return this;
+        }
+
+        /**
+         * The executor that sends the events.
+         */
+        public Builder workers(ExecutorService workers) {
+            engine.workers = workers;
+            return this;
+        }
+
+        /**
+         * The executor that queues the failed deliveries again.
+         */
+        public Builder retryScheduler(ScheduledExecutorService retryScheduler) {
+            engine.retryScheduler = retryScheduler;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            engine.monitor = monitor;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            engine.clock = clock;
+            return this;
+        }
+
+        public Builder maxConcurrencyPerEndpoint(int maxConcurrencyPerEndpoint) {
+            engine.maxConcurrencyPerEndpoint = maxConcurrencyPerEndpoint;
+            return this;
+        }
+
+        /**
+         * The maximum number of events sent in one request, 1 disables the batching.
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+            engine.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        public Builder maxRetries(int maxRetries) {
+            engine.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * The delay before the first retry, in milliseconds, doubled on every retry.
+         */
+        public Builder retryDelayMillis(long retryDelayMillis) {
+            engine.retryDelayMillis = retryDelayMillis;
+            return this;
+        }
+
+        public CallbackDeliveryEngine build() {
+            Objects.requireNonNull(engine.delegate, "delegate");
+            Objects.requireNonNull(engine.outbox, "outbox");
+            Objects.requireNonNull(engine.mapper, "mapper");
+            Objects.requireNonNull(engine.workers, "workers");
+            Objects.requireNonNull(engine.retryScheduler, "retryScheduler");
+            Objects.requireNonNull(engine.monitor, "monitor");
+            Objects.requireNonNull(engine.clock, "clock");
+            if (engine.maxConcurrencyPerEndpoint < 1) {
+                throw new IllegalArgumentException("maxConcurrencyPerEndpoint must be greater than 0");
+            }
+            if (engine.maxBatchSize < 1) {
+                throw new IllegalArgumentException("maxBatchSize must be greater than 0");
+            }
+            return engine;
+        }
+    }
+}
@@ -32,7 +32,8 @@ import static java.lang.String.format;
 
 /**
  * Subscriber for invoking callbacks associated to {@link Event}. If the {@link CallbackAddress#getEvents()} matches
- * the {@link Event#name()}, the callback is invoked using a {@link CallbackClient}.
+ * the {@link Event#name()}, the callback is invoked using a {@link CallbackClient}. Non-transactional callbacks are
+ * usually invoked through a {@link CallbackDeliveryEngine}, which returns without waiting for the callback endpoint.
  */
 public class CallbackEventDispatcher implements EventSubscriber {
     private final CallbackClient callbackClient;
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.controlplane.callback.dispatcher;
 
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackClient;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -44,4 +45,9 @@ public class CallbackEventDispatcherDefaultExtension implements ServiceExtension
     public CallbackClient callbackClient() {
         return new CallbackHttpClient(edcHttpClient, typeManager.getMapper(), vault);
     }
+
+    @Provider(isDefault = true)
+    public CallbackOutboxStore callbackOutboxStore() {
+        return new InMemoryCallbackOutboxStore();
+    }
 }
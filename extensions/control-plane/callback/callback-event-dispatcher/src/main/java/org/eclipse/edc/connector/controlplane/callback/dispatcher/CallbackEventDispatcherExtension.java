@@ -15,20 +15,48 @@
 package org.eclipse.edc.connector.controlplane.callback.dispatcher;
 
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackClient;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+
+import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 @Extension(value = CallbackEventDispatcherExtension.NAME)
 public class CallbackEventDispatcherExtension implements ServiceExtension {
 
     public static final String NAME = "Callback event dispatcher";
 
+    @Setting(description = "Number of threads that deliver the events of non-transactional callbacks", defaultValue = "4", key = "edc.callbacks.delivery.workers")
+    private int deliveryWorkers;
+
+    @Setting(description = "Maximum number of concurrent requests to the same non-transactional callback URI. " +
+            "The events reach the URI in the order they were published only with 1", defaultValue = "1",
+            key = "edc.callbacks.delivery.endpoint.max-concurrency")
+    private int maxConcurrencyPerEndpoint;
+
+    @Setting(description = "Maximum number of events posted as a JSON array in a single request to a non-transactional callback. " +
+            "1 disables the batching, every request then contains a single event", defaultValue = "1", key = "edc.callbacks.delivery.batch.max-size")
+    private int maxBatchSize;
+
+    @Setting(description = "Maximum number of retries of a failed delivery to a non-transactional callback", defaultValue = "3", key = "edc.callbacks.delivery.retry.max")
+    private int maxRetries;
+
+    @Setting(description = "Delay before the first retry of a failed delivery to a non-transactional callback, in milliseconds, doubled on every retry",
+            defaultValue = "1000", key = "edc.callbacks.delivery.retry.delay")
+    private long retryDelay;
+
     @Inject
     EventRouter router;
     @Inject
@@ -37,6 +65,18 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
     CallbackRegistry callbackRegistry;
     @Inject
     CallbackClient callbackClient;
+    @Inject
+    ExecutorInstrumentation executorInstrumentation;
+    @Inject
+    CallbackOutboxStore callbackOutboxStore;
+    @Inject
+    TypeManager typeManager;
+    @Inject
+    Clock clock;
+
+    private CallbackDeliveryEngine deliveryEngine;
+    private ExecutorService deliveryExecutor;
+    private ScheduledExecutorService retryScheduler;
 
     @Override
     public String name() {
@@ -46,6 +86,37 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         router.registerSync(Event.class, new CallbackEventDispatcher(callbackClient, callbackRegistry, true, monitor));
-        router.register(Event.class, new CallbackEventDispatcher(callbackClient, callbackRegistry, false, monitor));
+
+        deliveryExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(deliveryWorkers), "CallbackDelivery");
+        retryScheduler = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "CallbackDeliveryRetry");
+        deliveryEngine = CallbackDeliveryEngine.Builder.newInstance()
+                .delegate(callbackClient)
+                .outbox(callbackOutboxStore)
+                .mapper(typeManager.getMapper())
+                .workers(deliveryExecutor)
+                .retryScheduler(retryScheduler)
+                .monitor(monitor)
+                .clock(clock)
+                .maxConcurrencyPerEndpoint(maxConcurrencyPerEndpoint)
+                .maxBatchSize(maxBatchSize)
+                .maxRetries(maxRetries)
+                .retryDelayMillis(retryDelay)
+                .build();
+        router.register(Event.class, new CallbackEventDispatcher(deliveryEngine, callbackRegistry, false, monitor));
+    }
+
+    @Override
+    public void start() {
+        deliveryEngine.start();
+    }
+
+    @Override
+    public void shutdown() {
+        if (retryScheduler != null) {
+            retryScheduler.shutdownNow();
+        }
+        if (deliveryExecutor != null) {
+            deliveryExecutor.shutdown();
+        }
     }
 }
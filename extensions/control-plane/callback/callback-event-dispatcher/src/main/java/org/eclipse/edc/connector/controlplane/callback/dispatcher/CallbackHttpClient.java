@@ -29,6 +29,7 @@ import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static java.lang.String.format;
@@ -49,8 +50,21 @@ public class CallbackHttpClient implements CallbackClient {
 
     @Override
     public <E extends Event> void dispatch(CallbackAddress callbackAddress, EventEnvelope<E> eventEnvelope) {
-        var request = buildRequest(callbackAddress, eventEnvelope);
+        execute(buildRequest(callbackAddress, eventEnvelope.getPayload().name(), eventEnvelope));
+    }
+
+    /**
+     * Posts the events to the callback endpoint in a single request, whose body is the JSON array of the envelopes.
+     */
+    @Override
+    public void dispatchBatch(CallbackAddress callbackAddress, List<EventEnvelope<?>> eventEnvelopes) {
+        if (eventEnvelopes.isEmpty()) {
+            return;
+        }
+        execute(buildRequest(callbackAddress, eventEnvelopes.get(0).getPayload().name(), eventEnvelopes));
+    }
 
+    private void execute(Request request) {
         try (var response = httpClient.execute(request, Collections.emptyList())) {
             if (!response.isSuccessful()) {
                 throw new EdcException(format("Received error code %s when calling the callback endpoint at uri: %s",
@@ -61,15 +75,15 @@ public class CallbackHttpClient implements CallbackClient {
         }
     }
 
-    private <E extends Event> Request buildRequest(CallbackAddress callbackAddress, EventEnvelope<E> eventEnvelope) {
+    private Request buildRequest(CallbackAddress callbackAddress, String eventName, Object payload) {
         try {
-            var body = mapper.writeValueAsString(eventEnvelope);
+            var body = mapper.writeValueAsString(payload);
             var builder = new Request.Builder()
                     .url(callbackAddress.getUri())
                     .post(RequestBody.create(body, MediaType.get(APPLICATION_JSON)));
 
             if (callbackAddress.getAuthKey() != null) {
-                var authCode = resolveAuthCode(eventEnvelope.getPayload().name(), callbackAddress.getAuthCodeId());
+                var authCode = resolveAuthCode(eventName, callbackAddress.getAuthCodeId());
                 builder.addHeader(callbackAddress.getAuthKey(), authCode);
             }
             return builder.build();
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.spi.result.StoreResult;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.String.format;
+
+/**
+ * In-memory implementation of the {@link CallbackOutboxStore}. The entries do not survive a restart, a persistent
+ * store is needed for that.
+ */
+public class InMemoryCallbackOutboxStore implements CallbackOutboxStore {
+
+    private final Map<String, CallbackOutboxEntry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public StoreResult<Void> create(CallbackOutboxEntry entry) {
+        if (entries.putIfAbsent(entry.getId(), entry) != null) {
+            return StoreResult.alreadyExists(format(ENTRY_ALREADY_EXISTS, entry.getId()));
+        }
+        return StoreResult.success();
+    }
+
+    @Override
+    public StoreResult<Void> update(CallbackOutboxEntry entry) {
+        if (entries.replace(entry.getId(), entry) == null) {
+            return StoreResult.notFound(format(ENTRY_NOT_FOUND, entry.getId()));
+        }
+        return StoreResult.success();
+    }
+
+    @Override
+    public StoreResult<Void> delete(String id) {
+        if (entries.remove(id) == null) {
+            return StoreResult.notFound(format(ENTRY_NOT_FOUND, id));
+        }
+        return StoreResult.success();
+    }
+
+    @Override
+    public List<CallbackOutboxEntry> findAll() {
+        return entries.values().stream()
+                .sorted(Comparator.comparingLong(CallbackOutboxEntry::getSequence))
+                .toList();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+
+/**
+ * {@link EventEnvelope} reloaded from the callback outbox. The event types are not registered for deserialization,
+ * so the stored JSON is not turned back into the original event: the envelope is serialized exactly as it was stored,
+ * and its payload only carries the name of the event.
+ */
+class StoredEventEnvelope extends EventEnvelope<StoredEventEnvelope.StoredEvent> {
+
+    private final JsonNode json;
+
+    StoredEventEnvelope(JsonNode json, String eventName) {
+        this.json = json;
+        this.id = json.path("id").asText(null);
+        this.at = json.path("at").asLong();
+        this.payload = new StoredEvent(eventName);
+    }
+
+    @JsonValue
+    public JsonNode toJson() {
+        return json;
+    }
+
+    static final class StoredEvent extends Event {
+
+        private final String name;
+
+        private StoredEvent(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+    }
+}
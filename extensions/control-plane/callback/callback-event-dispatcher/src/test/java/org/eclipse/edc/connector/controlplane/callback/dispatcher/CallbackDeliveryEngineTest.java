@@ -0,0 +1,330 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackClient;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessCompleted;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CallbackDeliveryEngineTest {
+
+    private final CallbackClient delegate = mock();
+    private final Monitor monitor = mock();
+    private final CallbackOutboxStore outbox = new InMemoryCallbackOutboxStore();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final ExecutorService workers = Executors.newFixedThreadPool(4);
+    private final ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor();
+    private final CallbackAddress callback = CallbackAddress.Builder.newInstance()
+            .uri("http://test")
+            .events(Set.of("transfer.process"))
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        workers.shutdownNow();
+        retryScheduler.shutdownNow();
+    }
+
+    @Test
+    void dispatch_shouldDeliverAsynchronously() {
+        var engine = engine(1, 1, 0);
+        var envelope = envelope("id");
+
+        engine.dispatch(callback, envelope);
+
+        verify(delegate, timeout(1000)).dispatch(callback, envelope);
+    }
+
+    @Test
+    void dispatch_shouldLimitConcurrentRequestsPerEndpoint() throws InterruptedException {
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        var delivered = new CountDownLatch(5);
+        doAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(10);
+            inFlight.decrementAndGet();
+            delivered.countDown();
+            return null;
+        }).when(delegate).dispatch(any(), any());
+        var engine = engine(2, 1, 0);
+
+        for (var i = 0; i < 5; i++) {
+            engine.dispatch(callback, envelope("id" + i));
+        }
+
+        assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void dispatch_shouldCoalesceQueuedEvents_whenBatchingEnabled() throws InterruptedException {
+        var release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(delegate).dispatch(any(), any());
+        var engine = engine(1, 10, 0);
+
+        engine.dispatch(callback, envelope("first"));
+        engine.dispatch(callback, envelope("second"));
+        engine.dispatch(callback, envelope("third"));
+        release.countDown();
+
+        verify(delegate, timeout(1000)).dispatchBatch(eq(callback), argThat(envelopes -> envelopes.size() == 2));
+        verify(delegate).dispatch(eq(callback), argThat(envelope -> envelope.getId().equals("first")));
+    }
+
+    @Test
+    void dispatch_shouldRetry_whenDeliveryFails() {
+        var envelope = envelope("id");
+        doThrow(new EdcException("error")).doNothing().when(delegate).dispatch(callback, envelope);
+        var engine = engine(1, 1, 3);
+
+        engine.dispatch(callback, envelope);
+
+        verify(delegate, timeout(1000).times(2)).dispatch(callback, envelope);
+        verify(monitor, never()).severe(any(String.class), any(Throwable.class));
+    }
+
+    @Test
+    void dispatch_shouldRetryBeforeDeliveringLaterEvents() {
+        var first = envelope("first");
+        var second = envelope("second");
+        doThrow(new EdcException("error")).doNothing().when(delegate).dispatch(callback, first);
+        var engine = engine(1, 1, 3);
+
+        engine.dispatch(callback, first);
+        engine.dispatch(callback, second);
+
+        verify(delegate, timeout(1000)).dispatch(callback, second);
+        var inOrder = inOrder(delegate);
+        inOrder.verify(delegate, times(2)).dispatch(callback, first);
+        inOrder.verify(delegate).dispatch(callback, second);
+    }
+
+    @Test
+    void dispatch_shouldDeliverAllEvents_whenDispatchedConcurrently() throws InterruptedException {
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        var delivered = new CountDownLatch(200);
+        doAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            inFlight.decrementAndGet();
+            delivered.countDown();
+            return null;
+        }).when(delegate).dispatch(any(), any());
+        var engine = engine(1, 1, 0);
+        var producers = Executors.newFixedThreadPool(4);
+
+        try {
+            for (var i = 0; i < 200; i++) {
+                var id = "id" + i;
+                producers.execute(() -> engine.dispatch(callback, envelope(id)));
+            }
+
+            assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(maxInFlight.get()).isEqualTo(1);
+        } finally {
+            producers.shutdownNow();
+        }
+    }
+
+    @Test
+    void dispatch_shouldDropEvents_whenMaxRetriesReached() {
+        var envelope = envelope("id");
+        doThrow(new EdcException("error")).when(delegate).dispatch(callback, envelope);
+        var engine = engine(1, 1, 1);
+
+        engine.dispatch(callback, envelope);
+
+        verify(monitor, timeout(1000)).severe(any(String.class), any(EdcException.class));
+        verify(delegate, times(2)).dispatch(callback, envelope);
+    }
+
+    @Test
+    void dispatch_shouldNotDeliver_whenShutDown() {
+        workers.shutdown();
+        var engine = engine(1, 1, 0);
+
+        engine.dispatch(callback, envelope("id"));
+
+        verify(delegate, never()).dispatch(any(), any());
+        verify(delegate, never()).dispatchBatch(any(), anyList());
+        verify(monitor).warning(any(String.class));
+    }
+
+    @Test
+    void dispatch_shouldRemoveEventFromOutbox_whenDelivered() {
+        var engine = engine(1, 1, 0);
+        var envelope = envelope("id");
+
+        engine.dispatch(callback, envelope);
+
+        verify(delegate, timeout(1000)).dispatch(callback, envelope);
+        await().untilAsserted(() -> assertThat(outbox.findAll()).isEmpty());
+    }
+
+    @Test
+    void dispatch_shouldKeepEventInOutboxWithAttempts_whenRetryPending() {
+        var envelope = envelope("id");
+        doThrow(new EdcException("error")).when(delegate).dispatch(callback, envelope);
+        var engine = engine(1, 1, 3, 10_000);
+
+        engine.dispatch(callback, envelope);
+
+        await().untilAsserted(() -> assertThat(outbox.findAll()).singleElement().satisfies(entry -> {
+            assertThat(entry.getAttempts()).isEqualTo(1);
+            assertThat(entry.getCallbackAddress().getUri()).isEqualTo(callback.getUri());
+            assertThat(entry.getEventName()).isEqualTo(envelope.getPayload().name());
+        }));
+    }
+
+    @Test
+    void dispatch_shouldRemoveEventFromOutbox_whenMaxRetriesReached() {
+        var envelope = envelope("id");
+        doThrow(new EdcException("error")).when(delegate).dispatch(callback, envelope);
+        var engine = engine(1, 1, 0);
+
+        engine.dispatch(callback, envelope);
+
+        verify(monitor, timeout(1000)).severe(any(String.class), any(EdcException.class));
+        await().untilAsserted(() -> assertThat(outbox.findAll()).isEmpty());
+    }
+
+    @Test
+    void dispatch_shouldKeepEventInOutbox_whenShutDown() {
+        workers.shutdown();
+        var engine = engine(1, 1, 0);
+
+        engine.dispatch(callback, envelope("id"));
+
+        assertThat(outbox.findAll()).hasSize(1);
+    }
+
+    @Test
+    void start_shouldDeliverEventsLeftInOutbox_inOrderAndAsStored() {
+        outbox.create(outboxEntry("second", 2, 0));
+        outbox.create(outboxEntry("first", 1, 2));
+        var engine = engine(1, 1, 0);
+
+        engine.start();
+
+        await().untilAsserted(() -> assertThat(outbox.findAll()).isEmpty());
+        var inOrder = inOrder(delegate);
+        inOrder.verify(delegate).dispatch(eq(callback), argThat(envelope -> storedAs(envelope, "first")));
+        inOrder.verify(delegate).dispatch(eq(callback), argThat(envelope -> storedAs(envelope, "second")));
+    }
+
+    @Test
+    void start_shouldResumeAttempts() {
+        outbox.create(outboxEntry("id", 1, 1));
+        doThrow(new EdcException("error")).when(delegate).dispatch(any(), any());
+        var engine = engine(1, 1, 1);
+
+        engine.start();
+
+        verify(monitor, timeout(1000)).severe(any(String.class), any(EdcException.class));
+        verify(delegate).dispatch(any(), any());
+        await().untilAsserted(() -> assertThat(outbox.findAll()).isEmpty());
+    }
+
+    @Test
+    void start_shouldNotDeliverAgain_whenDeliveredBeforeRestart() {
+        var envelope = envelope("id");
+        engine(1, 1, 0).dispatch(callback, envelope);
+        verify(delegate, timeout(1000)).dispatch(callback, envelope);
+        await().untilAsserted(() -> assertThat(outbox.findAll()).isEmpty());
+
+        engine(1, 1, 0).start();
+
+        verify(delegate, times(1)).dispatch(any(), any());
+    }
+
+    private CallbackDeliveryEngine engine(int maxConcurrencyPerEndpoint, int maxBatchSize, int maxRetries) {
+        return engine(maxConcurrencyPerEndpoint, maxBatchSize, maxRetries, 10);
+    }
+
+    private CallbackDeliveryEngine engine(int maxConcurrencyPerEndpoint, int maxBatchSize, int maxRetries, long retryDelayMillis) {
+        return CallbackDeliveryEngine.Builder.newInstance()
+                .delegate(delegate)
+                .outbox(outbox)
+                .mapper(mapper)
+                .workers(workers)
+                .retryScheduler(retryScheduler)
+                .monitor(monitor)
+                .maxConcurrencyPerEndpoint(maxConcurrencyPerEndpoint)
+                .maxBatchSize(maxBatchSize)
+                .maxRetries(maxRetries)
+                .retryDelayMillis(retryDelayMillis)
+                .build();
+    }
+
+    private CallbackOutboxEntry outboxEntry(String id, long sequence, int attempts) {
+        return CallbackOutboxEntry.Builder.newInstance()
+                .id(id)
+                .callbackAddress(callback)
+                .eventName("transfer.process.completed")
+                .eventEnvelope("{\"id\":\"%s\",\"at\":10,\"payload\":{},\"type\":\"TransferProcessCompleted\"}".formatted(id))
+                .attempts(attempts)
+                .sequence(sequence)
+                .build();
+    }
+
+    private boolean storedAs(EventEnvelope<?> envelope, String id) {
+        try {
+            return envelope.getId().equals(id) && envelope.getPayload().name().equals("transfer.process.completed") &&
+                    mapper.readTree(mapper.writeValueAsString(envelope)).equals(mapper.readTree(outboxEntry(id, 0, 0).getEventEnvelope()));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private EventEnvelope<TransferProcessCompleted> envelope(String id) {
+        var event = TransferProcessCompleted.Builder.newInstance().transferProcessId(id).build();
+        return EventEnvelope.Builder.newInstance().id(id).at(10).payload(event).build();
+    }
+}
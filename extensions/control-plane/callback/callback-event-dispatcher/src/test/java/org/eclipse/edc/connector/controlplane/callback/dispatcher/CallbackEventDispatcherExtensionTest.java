@@ -14,12 +14,15 @@
 
 package org.eclipse.edc.connector.controlplane.callback.dispatcher;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.boot.system.injection.ObjectFactory;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackClient;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,6 +32,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(DependencyInjectionExtension.class)
 public class CallbackEventDispatcherExtensionTest {
@@ -41,6 +45,10 @@ public class CallbackEventDispatcherExtensionTest {
     void setUp(ServiceExtensionContext context, ObjectFactory factory) {
         context.registerService(EventRouter.class, router);
         context.registerService(CallbackClient.class, mock(CallbackClient.class));
+        context.registerService(ExecutorInstrumentation.class, ExecutorInstrumentation.noop());
+        var typeManager = mock(TypeManager.class);
+        when(typeManager.getMapper()).thenReturn(new ObjectMapper());
+        context.registerService(TypeManager.class, typeManager);
 
         extension = factory.constructInstance(CallbackEventDispatcherExtension.class);
     }
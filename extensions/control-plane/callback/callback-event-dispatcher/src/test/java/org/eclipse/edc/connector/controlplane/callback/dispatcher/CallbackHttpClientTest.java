@@ -126,6 +126,27 @@ public class CallbackHttpClientTest {
         assertThatThrownBy(() -> callbackHttpClient.dispatch(callback, event)).isInstanceOf(EdcException.class);
     }
 
+    @Test
+    public void dispatchBatch_shouldPostAllEventsInOneRequest() {
+        var callback = CallbackAddress.Builder.newInstance()
+                .events(Set.of("test"))
+                .uri(callbackUrl())
+                .build();
+
+        List<EventEnvelope<?>> events = List.of(
+                EventEnvelope.Builder.newInstance().id("test1").at(10)
+                        .payload(TransferProcessCompleted.Builder.newInstance().transferProcessId("test1").build()).build(),
+                EventEnvelope.Builder.newInstance().id("test2").at(20)
+                        .payload(TransferProcessCompleted.Builder.newInstance().transferProcessId("test2").build()).build());
+
+        server.stubFor(post("/" + CALLBACK_PATH)
+                .withRequestBody(equalToJson(typeManager.writeValueAsString(events)))
+                .willReturn(aResponse().withStatus(200).withBody("{}")));
+
+        assertThatCode(() -> callbackHttpClient.dispatchBatch(callback, events)).doesNotThrowAnyException();
+        server.verify(1, postRequestedFor(urlEqualTo("/" + CALLBACK_PATH)));
+    }
+
     private String callbackUrl() {
         return String.format("http://localhost:%d/%s", server.getPort(), CALLBACK_PATH);
     }
@@ -28,6 +28,7 @@ import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.Nullable;
@@ -68,6 +69,27 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
         });
     }
 
+    @Override
+    public Optional<Stream<Asset>> queryAssets(QuerySpec querySpec, List<List<Criterion>> selectors) {
+        Objects.requireNonNull(querySpec);
+        Objects.requireNonNull(selectors);
+
+        SqlQueryStatement statement;
+        try {
+            statement = assetStatements.createQuery(querySpec, selectors);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        return Optional.of(transactionContext.execute(() -> {
+            try {
+                return queryExecutor.query(getConnection(), true, this::mapAsset, statement.getQueryAsString(), statement.getParameters());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        }));
+    }
+
     @Override
     public @Nullable Asset findById(String assetId) {
         Objects.requireNonNull(assetId);
@@ -31,6 +31,8 @@ import org.eclipse.edc.sql.bootstrapper.SqlSchemaBootstrapper;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.util.Arrays;
+
 @Provides({ AssetIndex.class, DataAddressResolver.class })
 @Extension(value = "SQL asset index")
 public class SqlAssetIndexServiceExtension implements ServiceExtension {
@@ -38,6 +40,14 @@ public class SqlAssetIndexServiceExtension implements ServiceExtension {
     @Setting(description = "The datasource to be used", defaultValue = DataSourceRegistry.DEFAULT_DATASOURCE, key = "edc.sql.store.asset.datasource")
     private String dataSourceName;
 
+    @Setting(description = "When true, the JSON columns of the asset table are migrated to JSONB and queried with operators that can be served by an index",
+            defaultValue = "false", key = "edc.sql.store.asset.jsonb.enabled")
+    private boolean jsonbEnabled;
+
+    @Setting(description = "Comma-separated list of asset property keys that get an expression index, for the properties that are commonly filtered on",
+            required = false, key = "edc.sql.store.asset.index.properties")
+    private String indexedProperties;
+
     @Inject
     private DataSourceRegistry dataSourceRegistry;
 
@@ -64,9 +74,22 @@ public class SqlAssetIndexServiceExtension implements ServiceExtension {
         context.registerService(DataAddressResolver.class, sqlAssetLoader);
 
         sqlSchemaBootstrapper.addStatementFromResource(dataSourceName, "asset-index-schema.sql");
+        if (jsonbEnabled) {
+            sqlSchemaBootstrapper.addStatementFromResource(dataSourceName, "asset-index-jsonb-schema.sql");
+        }
+        if (indexedProperties != null) {
+            Arrays.stream(indexedProperties.split(","))
+                    .map(String::trim)
+                    .filter(property -> !property.isEmpty())
+                    .map(getDialect()::getCreatePropertyIndexStatement)
+                    .forEach(statement -> sqlSchemaBootstrapper.addStatement(dataSourceName, statement));
+        }
     }
 
     private AssetStatements getDialect() {
-        return dialect != null ? dialect : new PostgresDialectStatements();
+        if (dialect == null) {
+            dialect = new PostgresDialectStatements(jsonbEnabled);
+        }
+        return dialect;
     }
 }
@@ -67,6 +67,13 @@ public interface AssetStatements extends SqlStatements {
         return "created_at";
     }
 
+    /**
+     * Whether the JSON columns are stored as JSONB, which allows queries to use operators that can be served by an index.
+     */
+    default boolean isJsonbStorage() {
+        return false;
+    }
+
     /**
      * INSERT clause for assets.
      */
@@ -97,6 +104,14 @@ public interface AssetStatements extends SqlStatements {
      */
     String getCountVariableName();
 
+    /**
+     * CREATE INDEX statement for an expression index on the value of a top-level asset property.
+     *
+     * @param propertyKey the key of the property.
+     * @return the DDL statement.
+     */
+    String getCreatePropertyIndexStatement(String propertyKey);
+
     /**
      * Generates a SQL query using sub-select statements out of the query spec.
      *
@@ -111,4 +126,14 @@ public interface AssetStatements extends SqlStatements {
      */
     SqlQueryStatement createQuery(List<Criterion> query);
 
+    /**
+     * Generates a SQL query out of the query spec, restricted to the rows that satisfy at least one of the selectors.
+     *
+     * @param query the query spec.
+     * @param selectors the selectors, every one is a list of criteria that need to be all satisfied.
+     * @return A {@link SqlQueryStatement} that contains the SQL and statement parameters
+     * @throws IllegalArgumentException if a selector criterion cannot be translated.
+     */
+    SqlQueryStatement createQuery(QuerySpec query, List<List<Criterion>> selectors);
+
 }
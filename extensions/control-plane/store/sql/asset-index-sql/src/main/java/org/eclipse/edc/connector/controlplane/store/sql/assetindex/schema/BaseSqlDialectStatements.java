@@ -19,19 +19,33 @@ package org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema;
 import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.postgres.AssetMapping;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.translation.CriterionToWhereClauseConverterImpl;
 import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
 
 public class BaseSqlDialectStatements implements AssetStatements {
 
     protected final SqlOperatorTranslator operatorTranslator;
+    protected final boolean jsonbStorage;
 
     public BaseSqlDialectStatements(SqlOperatorTranslator operatorTranslator) {
+        this(operatorTranslator, false);
+    }
+
+    public BaseSqlDialectStatements(SqlOperatorTranslator operatorTranslator, boolean jsonbStorage) {
         this.operatorTranslator = operatorTranslator;
+        this.jsonbStorage = jsonbStorage;
+    }
+
+    @Override
+    public boolean isJsonbStorage() {
+        return jsonbStorage;
     }
 
     @Override
@@ -81,6 +95,19 @@ public class BaseSqlDialectStatements implements AssetStatements {
         return "COUNT";
     }
 
+    @Override
+    public String getCreatePropertyIndexStatement(String propertyKey) {
+        if (propertyKey.contains("'")) {
+            throw new IllegalArgumentException("Property key '%s' cannot be indexed, it contains a quote".formatted(propertyKey));
+        }
+        return format("CREATE INDEX IF NOT EXISTS %s_property_%s_idx ON %s ((%s ->> '%s'));\n",
+                getAssetTable(),
+                Integer.toHexString(propertyKey.hashCode()),
+                getAssetTable(),
+                getPropertiesColumn(),
+                propertyKey);
+    }
+
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
         return new SqlQueryStatement(getSelectAssetTemplate(), querySpec, new AssetMapping(this), operatorTranslator);
@@ -95,4 +122,29 @@ public class BaseSqlDialectStatements implements AssetStatements {
                 .build());
     }
 
+    @Override
+    public SqlQueryStatement createQuery(QuerySpec querySpec, List<List<Criterion>> selectors) {
+        var mapping = new AssetMapping(this);
+        var converter = new CriterionToWhereClauseConverterImpl(mapping, operatorTranslator);
+        var statement = new SqlQueryStatement(getSelectAssetTemplate(), querySpec, mapping, converter);
+        if (selectors.stream().anyMatch(List::isEmpty)) {
+            return statement;
+        }
+
+        var parameters = new ArrayList<>();
+        var selectorClauses = new ArrayList<String>();
+        for (var selector : selectors) {
+            var criteriaClauses = new ArrayList<String>();
+            for (var criterion : selector) {
+                var whereClause = converter.convert(criterion);
+                criteriaClauses.add(whereClause.sql());
+                parameters.addAll(whereClause.parameters());
+            }
+            selectorClauses.add(String.join(" AND ", criteriaClauses));
+        }
+        var clause = selectorClauses.isEmpty() ? "1 = 0" : selectorClauses.stream().collect(joining(") OR (", "((", "))"));
+
+        return statement.addWhereClause(clause, parameters.toArray());
+    }
+
 }
@@ -35,9 +35,9 @@ public class AssetMapping extends TranslationMapping {
     public AssetMapping(AssetStatements statements) {
         add("id", statements.getAssetIdColumn());
         add("createdAt", statements.getCreatedAtColumn());
-        add("properties", new JsonFieldTranslator(statements.getPropertiesColumn()));
-        add("privateProperties", new JsonFieldTranslator(statements.getPrivatePropertiesColumn()));
-        add("dataAddress", new JsonFieldTranslator(statements.getDataAddressColumn()));
+        add("properties", new JsonFieldTranslator(statements.getPropertiesColumn(), statements.isJsonbStorage()));
+        add("privateProperties", new JsonFieldTranslator(statements.getPrivatePropertiesColumn(), statements.isJsonbStorage()));
+        add("dataAddress", new JsonFieldTranslator(statements.getDataAddressColumn(), statements.isJsonbStorage()));
         add("participantContextId", statements.getParticipantContextIdColumn());
     }
 
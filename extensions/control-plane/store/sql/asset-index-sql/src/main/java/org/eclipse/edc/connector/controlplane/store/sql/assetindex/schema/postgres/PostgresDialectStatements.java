@@ -21,7 +21,16 @@ import org.eclipse.edc.sql.translation.PostgresqlOperatorTranslator;
 public class PostgresDialectStatements extends BaseSqlDialectStatements {
 
     public PostgresDialectStatements() {
-        super(new PostgresqlOperatorTranslator());
+        this(false);
+    }
+
+    /**
+     * Constructs the statements.
+     *
+     * @param jsonbStorage whether the JSON columns are stored as JSONB.
+     */
+    public PostgresDialectStatements(boolean jsonbStorage) {
+        super(new PostgresqlOperatorTranslator(), jsonbStorage);
     }
 
     @Override
@@ -0,0 +1,41 @@
+--
+--  Copyright (c) 2026 Cofinity-X
+--
+--  This program and the accompanying materials are made available under the
+--  terms of the Apache License, Version 2.0 which is available at
+--  https://www.apache.org/licenses/LICENSE-2.0
+--
+--  SPDX-License-Identifier: Apache-2.0
+--
+--  Contributors:
+--       Cofinity-X - initial API and implementation
+--
+
+-- THIS SCHEMA HAS BEEN WRITTEN AND TESTED ONLY FOR POSTGRES
+
+-- migrates the JSON columns of edc_asset to JSONB, unless this has already been done
+DO
+$$
+    BEGIN
+        IF (SELECT data_type
+            FROM information_schema.columns
+            WHERE table_schema = current_schema()
+              AND table_name = 'edc_asset'
+              AND column_name = 'properties') = 'json' THEN
+            ALTER TABLE edc_asset
+                ALTER COLUMN properties DROP DEFAULT,
+                ALTER COLUMN properties TYPE JSONB USING properties::jsonb,
+                ALTER COLUMN properties SET DEFAULT '{}',
+                ALTER COLUMN private_properties DROP DEFAULT,
+                ALTER COLUMN private_properties TYPE JSONB USING private_properties::jsonb,
+                ALTER COLUMN private_properties SET DEFAULT '{}',
+                ALTER COLUMN data_address DROP DEFAULT,
+                ALTER COLUMN data_address TYPE JSONB USING data_address::jsonb,
+                ALTER COLUMN data_address SET DEFAULT '{}',
+                ALTER COLUMN dataplane_metadata TYPE JSONB USING dataplane_metadata::jsonb;
+        END IF;
+    END
+$$;
+
+-- serves the containment (@>) queries on the asset properties
+CREATE INDEX IF NOT EXISTS edc_asset_properties_gin_idx ON edc_asset USING GIN (properties jsonb_path_ops);
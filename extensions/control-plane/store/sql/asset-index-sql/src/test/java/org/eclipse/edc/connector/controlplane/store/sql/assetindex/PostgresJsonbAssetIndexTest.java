@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.assetindex;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.controlplane.asset.spi.testfixtures.AssetIndexTestBase;
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.BaseSqlDialectStatements;
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.junit.testfixtures.TestUtils;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Runs the asset index tests against the JSONB storage, migrated from the JSON schema.
+ */
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class PostgresJsonbAssetIndexTest extends AssetIndexTestBase {
+
+    private final BaseSqlDialectStatements sqlStatements = new PostgresDialectStatements(true);
+
+    private SqlAssetIndex sqlAssetIndex;
+
+    @BeforeEach
+    void setUp(PostgresqlStoreSetupExtension setupExtension, QueryExecutor queryExecutor) {
+        sqlAssetIndex = new SqlAssetIndex(setupExtension.getDataSourceRegistry(), setupExtension.getDatasourceName(),
+                setupExtension.getTransactionContext(), new ObjectMapper(), sqlStatements, queryExecutor);
+
+        setupExtension.runQuery(TestUtils.getResourceFileContentAsString("asset-index-schema.sql"));
+        setupExtension.runQuery(TestUtils.getResourceFileContentAsString("asset-index-jsonb-schema.sql"));
+        setupExtension.runQuery(sqlStatements.getCreatePropertyIndexStatement("https://w3id.org/edc/v0.0.1/ns/id"));
+    }
+
+    @AfterEach
+    void tearDown(PostgresqlStoreSetupExtension setupExtension) {
+        setupExtension.runQuery("DROP TABLE " + sqlStatements.getAssetTable() + " CASCADE");
+    }
+
+    @Override
+    protected SqlAssetIndex getAssetIndex() {
+        return sqlAssetIndex;
+    }
+
+}
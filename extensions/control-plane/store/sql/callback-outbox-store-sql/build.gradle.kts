@@ -0,0 +1,29 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+plugins {
+    `java-library`
+    `maven-publish`
+}
+
+dependencies {
+    api(project(":spi:control-plane-spi"))
+    implementation(project(":core:common:lib:core-lib"))
+    implementation(project(":extensions:common:sql:sql-bootstrapper"))
+
+    testImplementation(project(":core:common:junit"))
+    testImplementation(libs.postgres)
+    testImplementation(testFixtures(project(":spi:control-plane-spi")))
+    testImplementation(testFixtures(project(":extensions:common:sql:sql-test-fixtures")))
+}
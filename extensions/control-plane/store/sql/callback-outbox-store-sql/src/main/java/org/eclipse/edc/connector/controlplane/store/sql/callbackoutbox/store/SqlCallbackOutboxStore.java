@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.store.schema.CallbackOutboxStatements;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * SQL implementation of {@link CallbackOutboxStore}.
+ */
+public class SqlCallbackOutboxStore extends AbstractSqlStore implements CallbackOutboxStore {
+
+    private final CallbackOutboxStatements statements;
+
+    public SqlCallbackOutboxStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                                  ObjectMapper objectMapper, CallbackOutboxStatements statements, QueryExecutor queryExecutor) {
+        super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
+        this.statements = Objects.requireNonNull(statements);
+    }
+
+    @Override
+    public StoreResult<Void> create(CallbackOutboxEntry entry) {
+        Objects.requireNonNull(entry);
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                if (findByIdInternal(connection, entry.getId()) != null) {
+                    return StoreResult.alreadyExists(format(ENTRY_ALREADY_EXISTS, entry.getId()));
+                }
+                queryExecutor.execute(connection, statements.getInsertTemplate(),
+                        entry.getId(),
+                        toJson(entry.getCallbackAddress()),
+                        entry.getEventName(),
+                        entry.getEventEnvelope(),
+                        entry.getAttempts(),
+                        entry.getSequence());
+                return StoreResult.success();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public StoreResult<Void> update(CallbackOutboxEntry entry) {
+        Objects.requireNonNull(entry);
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var count = queryExecutor.execute(connection, statements.getUpdateAttemptsTemplate(), entry.getAttempts(), entry.getId());
+                if (count == 0) {
+                    return StoreResult.notFound(format(ENTRY_NOT_FOUND, entry.getId()));
+                }
+                return StoreResult.success();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public StoreResult<Void> delete(String id) {
+        Objects.requireNonNull(id);
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var count = queryExecutor.execute(connection, statements.getDeleteTemplate(), id);
+                if (count == 0) {
+                    return StoreResult.notFound(format(ENTRY_NOT_FOUND, id));
+                }
+                return StoreResult.success();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public List<CallbackOutboxEntry> findAll() {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return queryExecutor.query(connection, true, this::mapResultSet, statements.getFindAllTemplate()).toList();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private CallbackOutboxEntry findByIdInternal(Connection connection, String id) {
+        return queryExecutor.single(connection, false, this::mapResultSet, statements.getFindByIdTemplate(), id);
+    }
+
+    private CallbackOutboxEntry mapResultSet(ResultSet resultSet) throws SQLException {
+        return CallbackOutboxEntry.Builder.newInstance()
+                .id(resultSet.getString(statements.getIdColumn()))
+                .callbackAddress(fromJson(resultSet.getString(statements.getCallbackAddressColumn()), CallbackAddress.class))
+                .eventName(resultSet.getString(statements.getEventNameColumn()))
+                .eventEnvelope(resultSet.getString(statements.getEventEnvelopeColumn()))
+                .attempts(resultSet.getInt(statements.getAttemptsColumn()))
+                .sequence(resultSet.getLong(statements.getSequenceColumn()))
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.store.schema;
+
+import static java.lang.String.format;
+
+public class BaseSqlDialectStatements implements CallbackOutboxStatements {
+
+    @Override
+    public String getInsertTemplate() {
+        return executeStatement()
+                .column(getIdColumn())
+                .jsonColumn(getCallbackAddressColumn())
+                .column(getEventNameColumn())
+                .jsonColumn(getEventEnvelopeColumn())
+                .column(getAttemptsColumn())
+                .column(getSequenceColumn())
+                .insertInto(getOutboxTable());
+    }
+
+    @Override
+    public String getUpdateAttemptsTemplate() {
+        return executeStatement()
+                .column(getAttemptsColumn())
+                .update(getOutboxTable(), getIdColumn());
+    }
+
+    @Override
+    public String getDeleteTemplate() {
+        return executeStatement().delete(getOutboxTable(), getIdColumn());
+    }
+
+    @Override
+    public String getFindByIdTemplate() {
+        return format("SELECT * FROM %s WHERE %s = ?", getOutboxTable(), getIdColumn());
+    }
+
+    @Override
+    public String getFindAllTemplate() {
+        return format("SELECT * FROM %s ORDER BY %s ASC", getOutboxTable(), getSequenceColumn());
+    }
+}
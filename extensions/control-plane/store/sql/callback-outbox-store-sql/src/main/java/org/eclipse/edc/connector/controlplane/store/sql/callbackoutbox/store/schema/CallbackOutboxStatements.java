@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.store.schema;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.eclipse.edc.sql.statement.SqlStatements;
+
+/**
+ * Statement templates and SQL table+column names required for the {@code CallbackOutboxStore}.
+ */
+@ExtensionPoint
+public interface CallbackOutboxStatements extends SqlStatements {
+
+    String getInsertTemplate();
+
+    String getUpdateAttemptsTemplate();
+
+    String getDeleteTemplate();
+
+    String getFindByIdTemplate();
+
+    String getFindAllTemplate();
+
+    default String getOutboxTable() {
+        return "edc_callback_outbox";
+    }
+
+    default String getIdColumn() {
+        return "id";
+    }
+
+    default String getCallbackAddressColumn() {
+        return "callback_address";
+    }
+
+    default String getEventNameColumn() {
+        return "event_name";
+    }
+
+    default String getEventEnvelopeColumn() {
+        return "event_envelope";
+    }
+
+    default String getAttemptsColumn() {
+        return "attempts";
+    }
+
+    default String getSequenceColumn() {
+        return "sequence_number";
+    }
+}
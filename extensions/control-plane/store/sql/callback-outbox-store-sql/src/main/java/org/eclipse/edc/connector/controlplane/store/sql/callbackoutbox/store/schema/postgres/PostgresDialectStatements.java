@@ -0,0 +1,29 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.store.schema.postgres;
+
+import org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.store.schema.BaseSqlDialectStatements;
+import org.eclipse.edc.sql.dialect.PostgresDialect;
+
+/**
+ * Statements and clauses specific to the Postgres dialect, such as JSON operators and functions.
+ */
+public class PostgresDialectStatements extends BaseSqlDialectStatements {
+
+    @Override
+    public String getFormatAsJsonOperator() {
+        return PostgresDialect.getJsonCastOperator();
+    }
+}
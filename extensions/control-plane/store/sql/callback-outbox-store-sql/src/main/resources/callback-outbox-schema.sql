@@ -0,0 +1,18 @@
+-- Statements are designed for and tested with Postgres only!
+
+-- table: edc_callback_outbox
+CREATE TABLE IF NOT EXISTS edc_callback_outbox
+(
+    id               VARCHAR NOT NULL,
+    callback_address JSON    NOT NULL,
+    event_name       VARCHAR NOT NULL,
+    event_envelope   JSON    NOT NULL,
+    attempts         INTEGER NOT NULL DEFAULT 0,
+    sequence_number  BIGINT  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS callback_outbox_sequence_index ON edc_callback_outbox (sequence_number);
+
+COMMENT ON COLUMN edc_callback_outbox.callback_address IS 'CallbackAddress serialized as JSON';
+COMMENT ON COLUMN edc_callback_outbox.event_envelope IS 'EventEnvelope serialized as JSON, as posted to the callback';
@@ -23,6 +23,7 @@ import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.Con
 import org.eclipse.edc.connector.controlplane.store.sql.contractnegotiation.store.schema.ContractNegotiationStatements;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.entity.ProtocolMessages;
+import org.eclipse.edc.spi.persistence.DueCondition;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -76,26 +77,33 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
 
     @Override
     public @NotNull List<ContractNegotiation> nextNotLeased(int max, Criterion... criteria) {
+        return nextNotLeased(max, DueCondition.always(), criteria);
+    }
+
+    @Override
+    public @NotNull List<ContractNegotiation> nextNotLeased(int max, DueCondition dueCondition, Criterion... criteria) {
         return transactionContext.execute(() -> {
             var filter = Arrays.stream(criteria).toList();
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).sortField("stateTimestamp").limit(max).build();
             var statement = statements.createNegotiationNextNotLeaseQuery(querySpec);
+            var dueClause = statements.createDueClause(dueCondition);
+            if (dueClause != null) {
+                statement.addWhereClause(dueClause.sql(), dueClause.parameters().toArray());
+            }
 
             try (
                     var connection = getConnection();
                     var stream = queryExecutor.query(getConnection(), true, contractNegotiationWithAgreementMapper(connection), statement.getQueryAsString(), statement.getParameters())
             ) {
-                return stream.filter(n -> lease(connection, n)).collect(toList());
+                var entities = stream.toList();
+                var leased = leaseContext.withConnection(connection).acquireLeases(entities.stream().map(ContractNegotiation::getId).toList());
+                return entities.stream().filter(n -> leased.contains(n.getId())).collect(toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
     }
 
-    private boolean lease(Connection connection, ContractNegotiation entry) {
-        return leaseContext.withConnection(connection).acquireLease(entry.getId()).succeeded();
-    }
-
     @Override
     public StoreResult<ContractNegotiation> findByIdAndLease(String id) {
         return transactionContext.execute(() -> {
@@ -99,18 +99,15 @@ public class SqlDataPlaneInstanceStore extends AbstractSqlStore implements DataP
                     var connection = getConnection();
                     var stream = queryExecutor.query(connection, true, this::mapResultSet, statement.getQueryAsString(), statement.getParameters())
             ) {
-                return stream.filter(entry -> lease(connection, entry))
-                        .collect(Collectors.toList());
+                var entities = stream.toList();
+                var leased = leaseContext.withConnection(connection).acquireLeases(entities.stream().map(DataPlaneInstance::getId).toList());
+                return entities.stream().filter(entry -> leased.contains(entry.getId())).collect(Collectors.toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
     }
 
-    private boolean lease(Connection connection, DataPlaneInstance entry) {
-        return leaseContext.withConnection(connection).acquireLease(entry.getId()).succeeded();
-    }
-
     @Override
     public StoreResult<DataPlaneInstance> findByIdAndLease(String id) {
         return transactionContext.execute(() -> {
@@ -22,6 +22,7 @@ import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.sc
 import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.spi.entity.ProtocolMessages;
+import org.eclipse.edc.spi.persistence.DueCondition;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -77,25 +78,32 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
 
     @Override
     public @NotNull List<TransferProcess> nextNotLeased(int max, Criterion... criteria) {
+        return nextNotLeased(max, DueCondition.always(), criteria);
+    }
+
+    @Override
+    public @NotNull List<TransferProcess> nextNotLeased(int max, DueCondition dueCondition, Criterion... criteria) {
         return transactionContext.execute(() -> {
             var filter = Arrays.stream(criteria).collect(toList());
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).sortField("stateTimestamp").limit(max).build();
             var statement = statements.createNextNotLeaseQuery(querySpec);
+            var dueClause = statements.createDueClause(dueCondition);
+            if (dueClause != null) {
+                statement.addWhereClause(dueClause.sql(), dueClause.parameters().toArray());
+            }
             try (
                     var connection = getConnection();
                     var stream = queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters())
             ) {
-                return stream.filter(tp -> lease(connection, tp)).collect(Collectors.toList());
+                var entities = stream.toList();
+                var leased = leaseContext.withConnection(connection).acquireLeases(entities.stream().map(TransferProcess::getId).toList());
+                return entities.stream().filter(tp -> leased.contains(tp.getId())).collect(Collectors.toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
     }
 
-    private boolean lease(Connection connection, TransferProcess entry) {
-        return leaseContext.withConnection(connection).acquireLease(entry.getId()).succeeded();
-    }
-
     @Override
     public StoreResult<TransferProcess> findByIdAndLease(String id) {
         return transactionContext.execute(() -> {
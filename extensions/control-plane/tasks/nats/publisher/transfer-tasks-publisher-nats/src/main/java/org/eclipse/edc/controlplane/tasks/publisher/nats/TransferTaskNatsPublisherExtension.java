@@ -17,16 +17,20 @@ package org.eclipse.edc.controlplane.tasks.publisher.nats;
 import io.nats.client.Nats;
 import io.nats.client.Options;
 import org.eclipse.edc.controlplane.tasks.TaskObservable;
+import org.eclipse.edc.controlplane.tasks.store.TaskStore;
 import org.eclipse.edc.controlplane.transfer.spi.tasks.TransferProcessTaskPayload;
 import org.eclipse.edc.nats.tasks.publisher.NatsTaskPublisher;
+import org.eclipse.edc.nats.tasks.publisher.NatsTaskRelay;
 import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.runtime.metamodel.annotation.Settings;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.time.Clock;
 
@@ -47,6 +51,17 @@ public class TransferTaskNatsPublisherExtension implements ServiceExtension {
     @Inject
     private TaskObservable taskObservable;
 
+    @Inject
+    private TaskStore taskStore;
+
+    @Inject
+    private TransactionContext transactionContext;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private NatsTaskRelay relay;
+
     // authentication options can be contributed from the outside (e.g. the NKey auth extension).
     // Note that the 'server' will be overwritten!
     @Inject(required = false)
@@ -66,20 +81,60 @@ public class TransferTaskNatsPublisherExtension implements ServiceExtension {
             var builder = authenticationOptions != null ? new Options.Builder(authenticationOptions) : new Options.Builder();
             var connection = Nats.connect(builder.server(natsUrl).build());
             var js = connection.jetStream();
-            var publisher = new NatsTaskPublisher(subjectPrefix, TransferProcessTaskPayload.class, js, monitor, () -> typeManager.getMapper());
+            if (natsTpPublisherConfig.outbox()) {
+                relay = NatsTaskRelay.Builder.newInstance()
+                        .name("NatsTaskRelay-" + subjectPrefix)
+                        .jetStream(js)
+                        .taskStore(taskStore)
+                        .transactionContext(transactionContext)
+                        .monitor(monitor)
+                        .clock(clock)
+                        .executorInstrumentation(executorInstrumentation)
+                        .batchSize(natsTpPublisherConfig.outboxBatchSize())
+                        .flushIntervalMillis(natsTpPublisherConfig.outboxFlushInterval())
+                        .group(TransferProcessTaskPayload.GROUP)
+                        .recoveryIntervalMillis(natsTpPublisherConfig.outboxRecoveryInterval())
+                        .build();
+            }
+            var publisher = new NatsTaskPublisher(subjectPrefix, TransferProcessTaskPayload.class, js, monitor, () -> typeManager.getMapper(), relay);
 
+            if (relay != null) {
+                relay.recoverWith(publisher);
+            }
             taskObservable.registerListener(publisher);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
+    @Override
+    public void start() {
+        if (relay != null) {
+            relay.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (relay != null) {
+            relay.stop();
+        }
+    }
+
     @Settings
     public record NatsTpPublisherConfig(
             @Setting(key = "edc.nats.tp.publisher.url", description = "The URL of the NATS server to connect to for publishing transfer process tasks.", defaultValue = "nats://localhost:4222")
             String url,
             @Setting(key = "edc.nats.tp.publisher.subject-prefix", description = "The prefix for the subjects", defaultValue = "transfers")
-            String subjectPrefix
+            String subjectPrefix,
+            @Setting(key = "edc.nats.tp.publisher.outbox", description = "When true, transfer process tasks are published asynchronously after their transaction commits, otherwise synchronously on creation", defaultValue = "true")
+            Boolean outbox,
+            @Setting(key = "edc.nats.tp.publisher.outbox.batch-size", description = "The max number of tasks published in a single batch by the outbox relay", defaultValue = "100")
+            Integer outboxBatchSize,
+            @Setting(key = "edc.nats.tp.publisher.outbox.flush-interval", description = "The max time the outbox relay waits for new tasks before publishing a batch (ms)", defaultValue = "10")
+            Long outboxFlushInterval,
+            @Setting(key = "edc.nats.tp.publisher.outbox.recovery-interval", description = "The interval at which the outbox relay looks for tasks that were not published, e.g. after a restart (ms)", defaultValue = "60000")
+            Long outboxRecoveryInterval
     ) {
     }
 }
@@ -81,6 +81,7 @@ public class NatsContractNegotiationSubscriberExtension implements ServiceExtens
                 .executorInstrumentation(executorInstrumentation)
                 .batchSize(subscriberConfig.batchSize)
                 .maxWait(subscriberConfig.maxWait)
+                .concurrency(subscriberConfig.concurrency)
                 .taskService(taskService)
                 .transactionContext(transactionContext)
                 .maxRetries(subscriberConfig.maxRetries)
@@ -134,7 +135,10 @@ public class NatsContractNegotiationSubscriberExtension implements ServiceExtens
                             "(e.g. published before its transaction committed), after which the message is dropped. It does not cap " +
                             "processor/business retries, which are bounded by edc.negotiation.send.retry.limit.",
                     defaultValue = "3")
-            Integer maxRetries
+            Integer maxRetries,
+            @Setting(key = "edc.nats.cn.subscriber.concurrency",
+                    description = "The number of messages handled concurrently. Tasks for the same contract negotiation are always handled sequentially", defaultValue = "1")
+            Integer concurrency
     ) {
     }
 }
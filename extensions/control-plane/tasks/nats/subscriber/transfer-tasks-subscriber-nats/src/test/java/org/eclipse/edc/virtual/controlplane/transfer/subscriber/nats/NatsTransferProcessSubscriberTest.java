@@ -49,9 +49,12 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess.Type.CONSUMER;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess.Type.PROVIDER;
@@ -190,6 +193,47 @@ class NatsTransferProcessSubscriberTest {
         });
     }
 
+    @Test
+    void handleMessages_concurrently_shouldKeepOrderForTheSameProcess() throws JsonProcessingException {
+        subscriber.stop();
+        subscriber = NatsTransferProcessTaskSubscriber.Builder.newInstance()
+                .url(NATS_EXTENSION.getNatsUrl())
+                .name(CONSUMER_NAME)
+                .stream(STREAM_NAME)
+                .subject("transfers.>")
+                .monitor(mock())
+                .mapperSupplier(() -> MAPPER)
+                .taskExecutor(taskManager)
+                .taskService(taskService)
+                .transactionContext(new NoopTransactionContext())
+                .clock(Clock.systemUTC())
+                .concurrency(4)
+                .build();
+
+        var processId = UUID.randomUUID().toString();
+        var payloads = List.of(
+                baseBuilder(PrepareTransfer.Builder.newInstance(), processId, INITIAL, CONSUMER).build(),
+                baseBuilder(SendTransferRequest.Builder.newInstance(), processId, REQUESTING, CONSUMER).build(),
+                baseBuilder(SignalDataflowStarted.Builder.newInstance(), processId, REQUESTED, CONSUMER).build(),
+                baseBuilder(SuspendDataFlow.Builder.newInstance(), processId, SUSPENDING, CONSUMER).build()
+        );
+        var handled = new CopyOnWriteArrayList<String>();
+        when(taskService.findById(any())).thenAnswer(i -> Task.Builder.newInstance().id(i.getArgument(0)).at(System.currentTimeMillis()).payload(payloads.get(0)).build());
+        when(taskManager.handle(any())).thenAnswer(i -> {
+            Thread.sleep(10);
+            handled.add(i.<TransferProcessTaskPayload>getArgument(0).name());
+            return StatusResult.success();
+        });
+        subscriber.start();
+
+        for (var payload : payloads) {
+            var task = Task.Builder.newInstance().at(System.currentTimeMillis()).payload(payload).build();
+            NATS_EXTENSION.publish("transfers.consumer." + payload.name(), MAPPER.writeValueAsBytes(task));
+        }
+
+        await().untilAsserted(() -> assertThat(handled).containsExactlyElementsOf(payloads.stream().map(TransferProcessTaskPayload::name).toList()));
+    }
+
     public static class StateTransitionProvider implements ArgumentsProvider {
 
 
@@ -14,12 +14,19 @@
 
 package org.eclipse.edc.catalog.cache.sql;
 
+import org.eclipse.edc.catalog.cache.sql.schema.postgres.DatasetMapping;
 import org.eclipse.edc.catalog.cache.sql.schema.postgres.FederatedCatalogMapping;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.translation.CriterionToWhereClauseConverterImpl;
 import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
+import org.eclipse.edc.sql.translation.WhereClause;
+
+import java.util.List;
 
 import static java.lang.String.format;
+import static java.util.Collections.nCopies;
+import static java.util.stream.Collectors.joining;
 
 public abstract class BaseSqlDialectStatements implements FederatedCatalogCacheStatements {
 
@@ -62,6 +69,89 @@ public abstract class BaseSqlDialectStatements implements FederatedCatalogCacheS
                 .update(getFederatedCatalogTable(), getIdColumn());
     }
 
+    @Override
+    public String getUpsertTemplate() {
+        return executeStatement()
+                .column(getIdColumn())
+                .jsonColumn(getCatalogColumn())
+                .column(getMarkedColumn())
+                .column(getHashColumn())
+                .column(getLastSeenColumn())
+                .upsertInto(getFederatedCatalogTable(), getIdColumn());
+    }
+
+    @Override
+    public String getSelectHashTemplate() {
+        return format("SELECT %s FROM %s WHERE %s = ?", getHashColumn(), getFederatedCatalogTable(), getIdColumn());
+    }
+
+    @Override
+    public String getUpdateLastSeenTemplate() {
+        return executeStatement()
+                .column(getMarkedColumn())
+                .column(getLastSeenColumn())
+                .update(getFederatedCatalogTable(), getIdColumn());
+    }
+
+    @Override
+    public String getDeleteNotSeenSinceTemplate() {
+        return format("DELETE FROM %s WHERE %s < ?", getFederatedCatalogTable(), getLastSeenColumn());
+    }
+
+    @Override
+    public String getUpsertDatasetTemplate() {
+        var conflictColumns = List.of(getDatasetCatalogIdColumn(), getDatasetIdColumn());
+        return executeStatement()
+                .column(getDatasetCatalogIdColumn())
+                .column(getDatasetIdColumn())
+                .column(getDatasetOrdinalColumn())
+                .column(getDatasetHashColumn())
+                .jsonColumn(getDatasetPropertiesColumn())
+                .jsonColumn(getDatasetColumn())
+                .upsertInto(getDatasetTable(), String.join(", ", conflictColumns), conflictColumns);
+    }
+
+    @Override
+    public String getDeleteDatasetTemplate() {
+        return format("DELETE FROM %s WHERE %s = ? AND %s = ?;", getDatasetTable(), getDatasetCatalogIdColumn(), getDatasetIdColumn());
+    }
+
+    @Override
+    public String getSelectDatasetHashesTemplate() {
+        return format("SELECT %s, %s, %s FROM %s WHERE %s = ?", getDatasetIdColumn(), getDatasetOrdinalColumn(),
+                getDatasetHashColumn(), getDatasetTable(), getDatasetCatalogIdColumn());
+    }
+
+    @Override
+    public String getSelectByIdsTemplate(int count) {
+        return format("SELECT * FROM %s WHERE %s IN (%s)", getFederatedCatalogTable(), getIdColumn(), placeholders(count));
+    }
+
+    @Override
+    public String getSelectDatasetsByCatalogIdsTemplate(int count) {
+        return format("SELECT * FROM %s WHERE %s IN (%s) ORDER BY %s, %s", getDatasetTable(), getDatasetCatalogIdColumn(),
+                placeholders(count), getDatasetCatalogIdColumn(), getDatasetOrdinalColumn());
+    }
+
+    @Override
+    public SqlQueryStatement createDatasetQuery(QuerySpec catalogQuery, QuerySpec datasetQuery) {
+        var select = format("SELECT * FROM %s", getDatasetTable());
+        var statement = new SqlQueryStatement(select, datasetQuery, new DatasetMapping(this), operatorTranslator);
+        if (datasetQuery.getSortField() == null) {
+            statement.orderBy(format("%s, %s", getDatasetCatalogIdColumn(), getDatasetOrdinalColumn()));
+        }
+
+        if (!catalogQuery.getFilterExpression().isEmpty()) {
+            var converter = new CriterionToWhereClauseConverterImpl(new FederatedCatalogMapping(this), operatorTranslator);
+            var whereClauses = catalogQuery.getFilterExpression().stream().map(converter::convert).toList();
+            var catalogSelect = format("%s WHERE %s", getSelectCatalogIdsStatement(catalogQuery),
+                    whereClauses.stream().map(WhereClause::sql).collect(joining(" AND ")));
+            var parameters = whereClauses.stream().flatMap(it -> it.parameters().stream()).toArray();
+            statement.addWhereClause(format("%s IN (%s)", getDatasetCatalogIdColumn(), catalogSelect), parameters);
+        }
+        return statement;
+    }
+
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
         var select = getSelectStatement();
@@ -72,4 +162,18 @@ public abstract class BaseSqlDialectStatements implements FederatedCatalogCacheS
     public String getSelectStatement() {
         return format("SELECT * FROM %s", getFederatedCatalogTable());
     }
+
+    /**
+     * The statement that selects the ids of the catalogs, to be filtered by the given catalog query.
+     *
+     * @param catalogQuery the catalog query.
+     * @return the select statement, without where clause.
+     */
+    protected String getSelectCatalogIdsStatement(QuerySpec catalogQuery) {
+        return format("SELECT %s FROM %s", getIdColumn(), getFederatedCatalogTable());
+    }
+
+    private String placeholders(int count) {
+        return String.join(", ", nCopies(count, "?"));
+    }
 }
@@ -36,6 +36,42 @@ public interface FederatedCatalogCacheStatements extends SqlStatements {
         return "marked";
     }
 
+    default String getHashColumn() {
+        return "hash";
+    }
+
+    default String getLastSeenColumn() {
+        return "last_seen";
+    }
+
+    default String getDatasetTable() {
+        return "edc_federated_catalog_dataset";
+    }
+
+    default String getDatasetCatalogIdColumn() {
+        return "catalog_id";
+    }
+
+    default String getDatasetIdColumn() {
+        return "dataset_id";
+    }
+
+    default String getDatasetOrdinalColumn() {
+        return "ordinal";
+    }
+
+    default String getDatasetHashColumn() {
+        return "hash";
+    }
+
+    default String getDatasetPropertiesColumn() {
+        return "properties";
+    }
+
+    default String getDatasetColumn() {
+        return "dataset";
+    }
+
     String getFindByIdTemplate();
 
     String getUpdateAsMarkedTemplate();
@@ -47,7 +83,53 @@ public interface FederatedCatalogCacheStatements extends SqlStatements {
 
     String getUpdateTemplate();
 
+    String getUpsertTemplate();
+
+    String getSelectHashTemplate();
+
+    String getUpdateLastSeenTemplate();
+
+    String getDeleteNotSeenSinceTemplate();
+
+    String getUpsertDatasetTemplate();
+
+    String getDeleteDatasetTemplate();
+
+    String getSelectDatasetHashesTemplate();
+
+    /**
+     * Select the catalogs with the given ids.
+     *
+     * @param count the number of ids.
+     * @return the select statement.
+     */
+    String getSelectByIdsTemplate(int count);
+
+    /**
+     * Select the datasets of the catalogs with the given ids, ordered by catalog and position within the catalog.
+     *
+     * @param count the number of catalog ids.
+     * @return the select statement.
+     */
+    String getSelectDatasetsByCatalogIdsTemplate(int count);
+
+    /**
+     * Query the catalogs, without considering their datasets.
+     *
+     * @param query the query, which must not contain criteria on datasets.
+     * @return the query statement.
+     */
     SqlQueryStatement createQuery(QuerySpec query);
 
+    /**
+     * Query the datasets, filtered and paginated at dataset level, that belong to the catalogs matching the catalog
+     * query.
+     *
+     * @param catalogQuery the criteria on the catalog.
+     * @param datasetQuery the criteria on the datasets, relative to the dataset, and the pagination.
+     * @return the query statement.
+     */
+    SqlQueryStatement createDatasetQuery(QuerySpec catalogQuery, QuerySpec datasetQuery);
+
     String getSelectStatement();
 }
@@ -14,32 +14,74 @@
 
 package org.eclipse.edc.catalog.cache.sql;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.eclipse.edc.catalog.spi.CatalogConstants;
 import org.eclipse.edc.catalog.spi.FederatedCatalogCache;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import static java.util.Optional.ofNullable;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toMap;
 
+/**
+ * SQL implementation of the {@link FederatedCatalogCache}.
+ * <p>
+ * The datasets of a catalog are stored one row per dataset, so that queries on datasets are filtered and paginated at
+ * dataset level and return only the matching datasets of each catalog.
+ * <p>
+ * Saving a catalog is driven by content hashes: when the catalog is unchanged since it was last saved, only its
+ * last-seen time is updated. Otherwise, only the datasets that were added, changed or moved are written, and the ones
+ * that are gone are deleted. Catalogs expire based on their last-seen time.
+ */
 public class SqlFederatedCatalogCache extends AbstractSqlStore implements FederatedCatalogCache {
 
+    private static final String DATASETS = "datasets";
+    private static final String DATASETS_PREFIX = DATASETS + ".";
+
     private final FederatedCatalogCacheStatements statements;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
 
     public SqlFederatedCatalogCache(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
                                     ObjectMapper objectMapper, QueryExecutor queryExecutor, FederatedCatalogCacheStatements statements) {
+        this(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor, statements, Clock.systemUTC());
+    }
+
+    public SqlFederatedCatalogCache(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                                    ObjectMapper objectMapper, QueryExecutor queryExecutor, FederatedCatalogCacheStatements statements,
+                                    Clock clock) {
         super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
     }
 
     @Override
@@ -51,12 +93,22 @@ public class SqlFederatedCatalogCache extends AbstractSqlStore implements Federa
                         .map(Object::toString)
                         .orElse(catalog.getId());
 
-                if (findByIdInternal(connection, id) == null) {
-                    insertInternal(connection, id, catalog);
-                } else {
-                    updateInternal(connection, id, catalog);
+                ObjectNode catalogNode = objectMapper.valueToTree(catalog);
+                catalogNode.remove(DATASETS);
+                var catalogJson = toJson(catalogNode);
+                var datasets = toDatasetRecords(catalog.getDatasets());
+
+                var catalogHash = hash(catalogJson + datasets.stream().map(DatasetRecord::hash).collect(joining()));
+                var storedHash = queryExecutor.single(connection, false, this::mapHash, statements.getSelectHashTemplate(), id);
+                var now = clock.millis();
+                if (catalogHash.equals(storedHash)) {
+                    queryExecutor.execute(connection, statements.getUpdateLastSeenTemplate(), false, now, id);
+                    return;
                 }
 
+                queryExecutor.execute(connection, statements.getUpsertTemplate(), id, catalogJson, false, catalogHash, now);
+                saveDatasets(connection, id, datasets);
+
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -67,8 +119,18 @@ public class SqlFederatedCatalogCache extends AbstractSqlStore implements Federa
     public Collection<Catalog> query(QuerySpec querySpec) {
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
+                if (isDatasetQuery(querySpec)) {
+                    return queryDatasets(connection, querySpec);
+                }
                 var query = statements.createQuery(querySpec);
-                return queryExecutor.query(connection, true, this::mapResultSet, query.getQueryAsString(), query.getParameters()).toList();
+                List<CatalogRow> catalogs;
+                try (var stream = queryExecutor.query(connection, false, this::mapCatalogRow, query.getQueryAsString(), query.getParameters())) {
+                    catalogs = stream.toList();
+                }
+                var datasets = findDatasets(connection, catalogs.stream().map(CatalogRow::id).distinct().toList());
+                return catalogs.stream()
+                        .map(row -> toCatalog(row, datasets.get(row.id())))
+                        .toList();
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -87,6 +149,17 @@ public class SqlFederatedCatalogCache extends AbstractSqlStore implements Federa
         });
     }
 
+    @Override
+    public void deleteNotSeenSince(Instant lastSeen) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.getDeleteNotSeenSinceTemplate(), lastSeen.toEpochMilli());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public void expireAll() {
         transactionContext.execute(() -> {
@@ -100,23 +173,153 @@ public class SqlFederatedCatalogCache extends AbstractSqlStore implements Federa
 
     }
 
-    private Catalog findByIdInternal(Connection connection, String id) {
-        var stmt = statements.getFindByIdTemplate();
-        return queryExecutor.single(connection, false, this::mapResultSet, stmt, id);
+    private List<DatasetRecord> toDatasetRecords(List<Dataset> datasets) {
+        // a dataset id can only appear once per catalog, the last occurrence wins
+        var current = new LinkedHashMap<String, Dataset>();
+        ofNullable(datasets).orElse(List.of()).forEach(dataset -> current.put(dataset.getId(), dataset));
+
+        var records = new ArrayList<DatasetRecord>(current.size());
+        for (var dataset : current.values()) {
+            var json = toJson(dataset);
+            records.add(new DatasetRecord(dataset.getId(), records.size(), hash(json), toJson(dataset.getProperties()), json));
+        }
+        return records;
     }
 
-    private void insertInternal(Connection connection, String id, Catalog catalog) {
-        var stmt = statements.getInsertTemplate();
-        queryExecutor.execute(connection, stmt, id, toJson(catalog), false);
+    private void saveDatasets(Connection connection, String catalogId, List<DatasetRecord> datasets) {
+        Map<String, StoredDataset> stored;
+        try (var stream = queryExecutor.query(connection, false, this::mapStoredDataset, statements.getSelectDatasetHashesTemplate(), catalogId)) {
+            stored = stream.collect(toMap(StoredDataset::id, identity()));
+        }
+
+        var upserts = new ArrayList<Object[]>();
+        for (var dataset : datasets) {
+            var existing = stored.remove(dataset.id());
+            if (existing == null || existing.ordinal() != dataset.ordinal() || !existing.hash().equals(dataset.hash())) {
+                upserts.add(new Object[]{ catalogId, dataset.id(), dataset.ordinal(), dataset.hash(), dataset.properties(), dataset.json() });
+            }
+        }
+        var deletes = stored.keySet().stream().map(datasetId -> new Object[]{ catalogId, datasetId }).toList();
+
+        queryExecutor.executeBatch(connection, statements.getUpsertDatasetTemplate(), upserts);
+        queryExecutor.executeBatch(connection, statements.getDeleteDatasetTemplate(), deletes);
     }
 
-    private void updateInternal(Connection connection, String id, Catalog catalog) {
-        var stmt = statements.getUpdateTemplate();
-        queryExecutor.execute(connection, stmt, toJson(catalog), false, id);
+    private boolean isDatasetQuery(QuerySpec querySpec) {
+        return querySpec.containsAnyLeftOperand(DATASETS_PREFIX) ||
+                (querySpec.getSortField() != null && querySpec.getSortField().startsWith(DATASETS_PREFIX));
     }
 
-    private Catalog mapResultSet(ResultSet resultSet) throws Exception {
+    private List<Catalog> queryDatasets(Connection connection, QuerySpec querySpec) {
+        var catalogCriteria = new ArrayList<Criterion>();
+        var datasetCriteria = new ArrayList<Criterion>();
+        for (var criterion : querySpec.getFilterExpression()) {
+            var leftOperand = criterion.getOperandLeft().toString();
+            if (leftOperand.startsWith(DATASETS_PREFIX)) {
+                datasetCriteria.add(criterion.withLeftOperand(leftOperand.substring(DATASETS_PREFIX.length())));
+            } else {
+                catalogCriteria.add(criterion);
+            }
+        }
+
+        var sortField = querySpec.getSortField();
+        var catalogQuery = QuerySpec.Builder.newInstance().filter(catalogCriteria).build();
+        var datasetQuery = QuerySpec.Builder.newInstance()
+                .filter(datasetCriteria)
+                .offset(querySpec.getOffset())
+                .limit(querySpec.getLimit())
+                .sortOrder(querySpec.getSortOrder())
+                .sortField(sortField != null && sortField.startsWith(DATASETS_PREFIX) ? sortField.substring(DATASETS_PREFIX.length()) : null)
+                .build();
+
+        var query = statements.createDatasetQuery(catalogQuery, datasetQuery);
+        var datasets = new LinkedHashMap<String, List<JsonNode>>();
+        try (var stream = queryExecutor.query(connection, false, this::mapDatasetRow, query.getQueryAsString(), query.getParameters())) {
+            stream.forEach(row -> datasets.computeIfAbsent(row.catalogId(), k -> new ArrayList<>()).add(row.dataset()));
+        }
+        if (datasets.isEmpty()) {
+            return List.of();
+        }
+
+        var ids = datasets.keySet().toArray();
+        Map<String, CatalogRow> catalogs;
+        try (var stream = queryExecutor.query(connection, false, this::mapCatalogRow, statements.getSelectByIdsTemplate(ids.length), ids)) {
+            catalogs = stream.collect(toMap(CatalogRow::id, identity()));
+        }
+
+        return datasets.entrySet().stream()
+                .map(entry -> ofNullable(catalogs.get(entry.getKey())).map(row -> toCatalog(row, entry.getValue())).orElse(null))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Map<String, List<JsonNode>> findDatasets(Connection connection, List<String> catalogIds) {
+        var datasets = new LinkedHashMap<String, List<JsonNode>>();
+        if (catalogIds.isEmpty()) {
+            return datasets;
+        }
+        var stmt = statements.getSelectDatasetsByCatalogIdsTemplate(catalogIds.size());
+        try (var stream = queryExecutor.query(connection, false, this::mapDatasetRow, stmt, catalogIds.toArray())) {
+            stream.forEach(row -> datasets.computeIfAbsent(row.catalogId(), k -> new ArrayList<>()).add(row.dataset()));
+        }
+        return datasets;
+    }
+
+    /**
+     * Assembles the catalog from its stored document and its dataset rows. Catalogs that were stored before the datasets
+     * were normalized still contain their datasets in the document, those are kept until the catalog gets saved again.
+     */
+    private Catalog toCatalog(CatalogRow row, List<JsonNode> datasets) {
+        var catalogNode = row.catalog();
+        if (datasets != null || !catalogNode.has(DATASETS)) {
+            var datasetsNode = catalogNode.putArray(DATASETS);
+            ofNullable(datasets).ifPresent(datasetsNode::addAll);
+        }
+        try {
+            return objectMapper.treeToValue(catalogNode, Catalog.class);
+        } catch (JsonProcessingException e) {
+            throw new EdcPersistenceException(e);
+        }
+    }
+
+    private String hash(String json) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcPersistenceException(e);
+        }
+    }
+
+    private CatalogRow mapCatalogRow(ResultSet resultSet) throws Exception {
         var json = resultSet.getString(statements.getCatalogColumn());
-        return fromJson(json, Catalog.class);
+        return new CatalogRow(resultSet.getString(statements.getIdColumn()), (ObjectNode) objectMapper.readTree(json));
+    }
+
+    private DatasetRow mapDatasetRow(ResultSet resultSet) throws Exception {
+        var json = resultSet.getString(statements.getDatasetColumn());
+        return new DatasetRow(resultSet.getString(statements.getDatasetCatalogIdColumn()), objectMapper.readTree(json));
+    }
+
+    private String mapHash(ResultSet resultSet) throws SQLException {
+        return resultSet.getString(statements.getHashColumn());
+    }
+
+    private StoredDataset mapStoredDataset(ResultSet resultSet) throws Exception {
+        return new StoredDataset(resultSet.getString(statements.getDatasetIdColumn()),
+                resultSet.getInt(statements.getDatasetOrdinalColumn()),
+                resultSet.getString(statements.getDatasetHashColumn()));
+    }
+
+    private record CatalogRow(String id, ObjectNode catalog) {
+    }
+
+    private record DatasetRow(String catalogId, JsonNode dataset) {
+    }
+
+    private record StoredDataset(String id, int ordinal, String hash) {
+    }
+
+    private record DatasetRecord(String id, int ordinal, String hash, String properties, String json) {
     }
 }
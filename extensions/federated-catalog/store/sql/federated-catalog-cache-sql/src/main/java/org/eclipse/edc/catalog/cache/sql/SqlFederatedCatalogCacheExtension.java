@@ -30,6 +30,8 @@ import org.eclipse.edc.sql.bootstrapper.SqlSchemaBootstrapper;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
+
 @Provides(FederatedCatalogCache.class)
 @Extension(value = "SQL federated catalog cache")
 public class SqlFederatedCatalogCacheExtension implements ServiceExtension {
@@ -52,11 +54,14 @@ public class SqlFederatedCatalogCacheExtension implements ServiceExtension {
     @Inject
     private SqlSchemaBootstrapper sqlSchemaBootstrapper;
 
+    @Inject
+    private Clock clock;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
         typeManager.registerTypes(Catalog.class, Dataset.class);
         var store = new SqlFederatedCatalogCache(dataSourceRegistry, dataSourceName, trxContext,
-                typeManager.getMapper(), queryExecutor, getStatementImpl());
+                typeManager.getMapper(), queryExecutor, getStatementImpl(), clock);
         context.registerService(FederatedCatalogCache.class, store);
         sqlSchemaBootstrapper.addStatementFromResource(dataSourceName, "cache-schema.sql");
     }
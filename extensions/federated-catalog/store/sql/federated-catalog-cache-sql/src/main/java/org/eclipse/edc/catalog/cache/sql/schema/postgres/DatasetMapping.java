@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.sql.schema.postgres;
+
+import org.eclipse.edc.catalog.cache.sql.FederatedCatalogCacheStatements;
+import org.eclipse.edc.sql.translation.JsonFieldTranslator;
+import org.eclipse.edc.sql.translation.TranslationMapping;
+
+/**
+ * Maps the fields of a dataset of a cached catalog onto the dataset table. The properties are stored in a dedicated
+ * {@code JSONB} column, the other fields are read from the dataset document.
+ */
+public class DatasetMapping extends TranslationMapping {
+
+    public DatasetMapping(FederatedCatalogCacheStatements statements) {
+        add("id", statements.getDatasetIdColumn());
+        add("properties", new JsonFieldTranslator(statements.getDatasetPropertiesColumn(), true));
+        add("offers", new PrefixedJsonFieldTranslator(statements.getDatasetColumn(), "offers"));
+        add("distributions", new PrefixedJsonFieldTranslator(statements.getDatasetColumn(), "distributions"));
+    }
+}
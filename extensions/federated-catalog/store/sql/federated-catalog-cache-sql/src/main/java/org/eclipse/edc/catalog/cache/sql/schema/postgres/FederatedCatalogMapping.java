@@ -24,7 +24,6 @@ public class FederatedCatalogMapping extends TranslationMapping {
         add("id", statements.getIdColumn());
         add("participantId", new JsonFieldTranslator(statements.getCatalogColumn()));
         add("properties", new PrefixedJsonFieldTranslator(statements.getCatalogColumn(), "properties"));
-        add("datasets", new JsonFieldTranslator("datasets"));
         add("dataServices", new JsonFieldTranslator("dataServices"));
     }
 }
@@ -25,7 +25,6 @@ import static org.eclipse.edc.sql.dialect.PostgresDialect.getSelectFromJsonArray
 
 public class PostgresDialectStatements extends BaseSqlDialectStatements {
 
-    public static final String DATASETS_ALIAS = "datasets";
     public static final String DATA_SERVICES_ALIAS = "dataServices";
 
     public PostgresDialectStatements() {
@@ -40,14 +39,21 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
 
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
-        if (querySpec.containsAnyLeftOperand("datasets")) {
-            var select = getSelectFromJsonArrayTemplate(getSelectStatement(), format("%s -> '%s'", getCatalogColumn(), "datasets"), DATASETS_ALIAS);
-            return new SqlQueryStatement(select, querySpec, new FederatedCatalogMapping(this), operatorTranslator);
-        } else if (querySpec.containsAnyLeftOperand("dataServices")) {
-            var select = getSelectFromJsonArrayTemplate(getSelectStatement(), format("%s -> '%s'", getCatalogColumn(), "dataServices"), DATA_SERVICES_ALIAS);
+        if (querySpec.containsAnyLeftOperand("dataServices")) {
+            var select = withDataServices(getSelectStatement());
             return new SqlQueryStatement(select, querySpec, new FederatedCatalogMapping(this), operatorTranslator);
         } else {
             return super.createQuery(querySpec);
         }
     }
+
+    @Override
+    protected String getSelectCatalogIdsStatement(QuerySpec catalogQuery) {
+        var select = super.getSelectCatalogIdsStatement(catalogQuery);
+        return catalogQuery.containsAnyLeftOperand("dataServices") ? withDataServices(select) : select;
+    }
+
+    private String withDataServices(String select) {
+        return getSelectFromJsonArrayTemplate(select, format("%s -> '%s'", getCatalogColumn(), "dataServices"), DATA_SERVICES_ALIAS);
+    }
 }
@@ -19,3 +19,25 @@ CREATE TABLE IF NOT EXISTS edc_federated_catalog
     catalog               JSON,
     marked                BOOLEAN DEFAULT FALSE
 );
+
+-- content hash of the catalog and time at which it was last saved, in epoch milliseconds
+ALTER TABLE edc_federated_catalog ADD COLUMN IF NOT EXISTS hash VARCHAR;
+ALTER TABLE edc_federated_catalog ADD COLUMN IF NOT EXISTS last_seen BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX IF NOT EXISTS edc_federated_catalog_last_seen_idx ON edc_federated_catalog (last_seen);
+
+-- datasets are stored one row per dataset, so that they can be filtered, paginated and updated individually.
+-- offers and distributions are kept in the dataset document, as they are always returned together with their dataset.
+CREATE TABLE IF NOT EXISTS edc_federated_catalog_dataset
+(
+    catalog_id            VARCHAR NOT NULL REFERENCES edc_federated_catalog (id) ON DELETE CASCADE,
+    dataset_id            VARCHAR NOT NULL,
+    ordinal               INTEGER NOT NULL,
+    hash                  VARCHAR NOT NULL,
+    properties            JSONB DEFAULT '{}',
+    dataset               JSON    NOT NULL,
+    PRIMARY KEY (catalog_id, dataset_id)
+);
+
+CREATE INDEX IF NOT EXISTS edc_federated_catalog_dataset_properties_idx
+    ON edc_federated_catalog_dataset USING GIN (properties jsonb_path_ops);
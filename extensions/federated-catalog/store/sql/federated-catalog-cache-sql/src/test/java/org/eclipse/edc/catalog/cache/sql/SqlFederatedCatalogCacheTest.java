@@ -22,13 +22,20 @@ import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.json.JacksonTypeManager;
 import org.eclipse.edc.junit.annotations.PostgresqlIntegrationTest;
 import org.eclipse.edc.junit.testfixtures.TestUtils;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @PostgresqlIntegrationTest
 @ExtendWith(PostgresqlStoreSetupExtension.class)
@@ -51,9 +58,47 @@ public class SqlFederatedCatalogCacheTest extends FederatedCatalogCacheTestBase
 
     @AfterEach
     void tearDown(PostgresqlStoreSetupExtension extension) {
+        extension.runQuery("DROP TABLE " + statements.getDatasetTable());
         extension.runQuery("DROP TABLE " + statements.getFederatedCatalogTable());
     }
 
+    @Test
+    void queryByDatasetProperty_shouldReturnOnlyMatchingDatasetsPaginated() {
+        List<Dataset> datasets = IntStream.range(0, 5)
+                .mapToObj(i -> Dataset.Builder.newInstance().id("dataset-" + i).property("type", i % 2 == 0 ? "even" : "odd").build())
+                .toList();
+        var catalog = Catalog.Builder.newInstance().id("catalog").participantId("participant").datasets(datasets).build();
+        store.save(catalog);
+
+        var query = QuerySpec.Builder.newInstance()
+                .filter(Criterion.criterion("datasets.properties.type", "=", "even"))
+                .offset(1)
+                .limit(1)
+                .build();
+        var result = store.query(query);
+
+        assertThat(result).singleElement().satisfies(c -> {
+            assertThat(c.getParticipantId()).isEqualTo("participant");
+            assertThat(c.getDatasets()).extracting(Dataset::getId).containsExactly("dataset-2");
+        });
+    }
+
+    @Test
+    void save_shouldUpdateChangedAndDeleteRemovedDatasets() {
+        var first = Dataset.Builder.newInstance().id("first").property("key", "value").build();
+        var second = Dataset.Builder.newInstance().id("second").build();
+        store.save(Catalog.Builder.newInstance().id("catalog").datasets(List.of(first, second)).build());
+
+        var changed = Dataset.Builder.newInstance().id("first").property("key", "changed").build();
+        var third = Dataset.Builder.newInstance().id("third").build();
+        store.save(Catalog.Builder.newInstance().id("catalog").datasets(List.of(third, changed)).build());
+
+        assertThat(store.query(QuerySpec.none())).singleElement().satisfies(c -> {
+            assertThat(c.getDatasets()).extracting(Dataset::getId).containsExactly("third", "first");
+            assertThat(c.getDatasets().get(1).getProperty("key")).isEqualTo("changed");
+        });
+    }
+
     @Override
     protected FederatedCatalogCache getStore() {
         return store;
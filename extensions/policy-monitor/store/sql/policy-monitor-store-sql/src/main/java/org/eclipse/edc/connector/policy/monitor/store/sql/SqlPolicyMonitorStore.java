@@ -77,18 +77,15 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                     var connection = getConnection();
                     var stream = queryExecutor.query(connection, true, this::mapEntry, statement.getQueryAsString(), statement.getParameters())
             ) {
-                return stream.filter(entry -> lease(connection, entry))
-                        .collect(Collectors.toList());
+                var entities = stream.toList();
+                var leased = leaseContext.withConnection(connection).acquireLeases(entities.stream().map(PolicyMonitorEntry::getId).toList());
+                return entities.stream().filter(entry -> leased.contains(entry.getId())).collect(Collectors.toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
     }
 
-    private boolean lease(Connection connection, PolicyMonitorEntry entry) {
-        return leaseContext.withConnection(connection).acquireLease(entry.getId()).succeeded();
-    }
-
     @Override
     public StoreResult<PolicyMonitorEntry> findByIdAndLease(String id) {
         return transactionContext.execute(() -> {
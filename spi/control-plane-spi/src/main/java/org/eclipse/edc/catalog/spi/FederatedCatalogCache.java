@@ -18,6 +18,7 @@ import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.query.QuerySpec;
 
+import java.time.Instant;
 import java.util.Collection;
 
 /**
@@ -27,7 +28,8 @@ import java.util.Collection;
 public interface FederatedCatalogCache {
 
     /**
-     * Adds an {@code ContractOffer} to the store
+     * Adds an {@code ContractOffer} to the store. Saving a catalog also records the time at which it was last seen, so
+     * saving an unchanged catalog should only update that time.
      */
     void save(Catalog catalog);
 
@@ -48,4 +50,16 @@ public interface FederatedCatalogCache {
      * Marks all entries as "expired", i.e. marks them for deletion
      */
     void expireAll();
+
+    /**
+     * Deletes all entries that have not been saved since the given instant. The default implementation falls back on
+     * the mark and sweep of {@link #deleteExpired()} and {@link #expireAll()}, which is equivalent when it is invoked
+     * once per crawl cycle with the start of the previous cycle.
+     *
+     * @param lastSeen entries that have not been saved since this instant get deleted
+     */
+    default void deleteNotSeenSince(Instant lastSeen) {
+        deleteExpired();
+        expireAll();
+    }
 }
@@ -23,6 +23,7 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 /**
@@ -52,6 +53,22 @@ public interface AssetIndex extends DataAddressResolver {
      */
     Stream<Asset> queryAssets(QuerySpec querySpec);
 
+    /**
+     * Finds the assets that are covered by a specific {@link QuerySpec} and that are selected by at least one of the
+     * given selectors, where a selector is a list of criteria that all need to be satisfied. Offset and limit of the
+     * {@link QuerySpec} are applied to the selected assets.
+     * <p>
+     * Implementations that are not able to evaluate the selectors in their backend return an empty {@link Optional},
+     * in that case the caller needs to evaluate them by itself.
+     *
+     * @param querySpec The query spec, e.g. paging, filtering, etc.
+     * @param selectors The selectors, an asset needs to satisfy at least one of them.
+     * @return the selected assets, or empty if the selectors cannot be evaluated.
+     */
+    default Optional<Stream<Asset>> queryAssets(QuerySpec querySpec, List<List<Criterion>> selectors) {
+        return Optional.empty();
+    }
+
     /**
      * Fetches the {@link Asset} with the given ID from the metadata backend.
      *
@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.controlplane.contract.spi.negotiation;
 
 import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreementVerificationMessage;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.spi.persistence.StateEntityStore;
 import org.eclipse.edc.spi.response.StatusResult;
 
 import java.util.concurrent.CompletableFuture;
@@ -121,4 +122,12 @@ public interface NegotiationProcessors {
      * @return success if succeeded, failure otherwise.
      */
     CompletableFuture<StatusResult<Void>> processTerminating(ContractNegotiation negotiation);
+
+    /**
+     * Returns processors that persist the negotiations through the passed store instead of the configured one.
+     *
+     * @param store the store.
+     * @return the processors.
+     */
+    NegotiationProcessors withStore(StateEntityStore<ContractNegotiation> store);
 }
@@ -18,6 +18,8 @@ import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
 
+import java.util.List;
+
 /**
  * Client for dispatching events to callback endpoints.
  */
@@ -25,4 +27,14 @@ public interface CallbackClient {
 
     <E extends Event> void dispatch(CallbackAddress callbackAddress, EventEnvelope<E> eventEnvelope);
 
+    /**
+     * Dispatches several events to the same callback endpoint. By default, the events are dispatched one by one.
+     *
+     * @param callbackAddress the callback endpoint.
+     * @param eventEnvelopes  the events, in the order they were published.
+     */
+    default void dispatchBatch(CallbackAddress callbackAddress, List<EventEnvelope<?>> eventEnvelopes) {
+        eventEnvelopes.forEach(eventEnvelope -> dispatch(callbackAddress, eventEnvelope));
+    }
+
 }
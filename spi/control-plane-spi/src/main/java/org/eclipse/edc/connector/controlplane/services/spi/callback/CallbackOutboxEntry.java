@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.services.spi.callback;
+
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+
+import java.util.Objects;
+
+/**
+ * An event queued for delivery to a non-transactional callback, kept in the {@link CallbackOutboxStore} until it is
+ * delivered or given up.
+ */
+public class CallbackOutboxEntry {
+
+    private String id;
+    private CallbackAddress callbackAddress;
+    private String eventName;
+    private String eventEnvelope;
+    private int attempts;
+    private long sequence;
+
+    private CallbackOutboxEntry() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public CallbackAddress getCallbackAddress() {
+        return callbackAddress;
+    }
+
+    /**
+     * The name of the event carried by the envelope.
+     */
+    public String getEventName() {
+        return eventName;
+    }
+
+    /**
+     * The event envelope, serialized as JSON.
+     */
+    public String getEventEnvelope() {
+        return eventEnvelope;
+    }
+
+    /**
+     * The number of failed delivery attempts.
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * The position of the entry in the outbox, the entries are delivered in ascending order.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Builder toBuilder() {
+        return Builder.newInstance()
+                .id(id)
+                .callbackAddress(callbackAddress)
+                .eventName(eventName)
+                .eventEnvelope(eventEnvelope)
+                .attempts(attempts)
+                .sequence(sequence);
+    }
+
+    public static class Builder {
+
+        private final CallbackOutboxEntry entry;
+
+        private Builder() {
+            entry = new CallbackOutboxEntry();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder id(String id) {
+            entry.id = id;
+            return this;
+        }
+
+        public Builder callbackAddress(CallbackAddress callbackAddress) {
+            entry.callbackAddress = callbackAddress;
+            return this;
+        }
+
+        public Builder eventName(String eventName) {
+            entry.eventName = eventName;
+            return this;
+        }
+
+        public Builder eventEnvelope(String eventEnvelope) {
+            entry.eventEnvelope = eventEnvelope;
+            return this;
+        }
+
+        public Builder attempts(int attempts) {
+            entry.attempts = attempts;
+            return this;
+        }
+
+        public Builder sequence(long sequence) {
+            entry.sequence = sequence;
+            return this;
+        }
+
+        public CallbackOutboxEntry build() {
+            Objects.requireNonNull(entry.id, "id");
+            Objects.requireNonNull(entry.callbackAddress, "callbackAddress");
+            Objects.requireNonNull(entry.eventName, "eventName");
+            Objects.requireNonNull(entry.eventEnvelope, "eventEnvelope");
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.services.spi.callback;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.result.StoreResult;
+
+import java.util.List;
+
+/**
+ * Persists the {@link CallbackOutboxEntry}s of the events that are not delivered to their non-transactional callback
+ * yet, so that they can be delivered again after a restart.
+ */
+@ExtensionPoint
+public interface CallbackOutboxStore {
+
+    String ENTRY_NOT_FOUND = "Callback outbox entry with id %s could not be found";
+    String ENTRY_ALREADY_EXISTS = "Callback outbox entry with id %s already exists";
+
+    /**
+     * Persists the entry, if it does not yet exist.
+     *
+     * @param entry the entry.
+     * @return {@link StoreResult#success()} if it could be stored, {@link StoreResult#alreadyExists(String)} if an entry with the same id already exists.
+     * @throws EdcPersistenceException if something goes wrong.
+     */
+    StoreResult<Void> create(CallbackOutboxEntry entry);
+
+    /**
+     * Updates the number of attempts of the entry.
+     *
+     * @param entry the entry.
+     * @return {@link StoreResult#success()} if it could be updated, {@link StoreResult#notFound(String)} if the entry was not found.
+     * @throws EdcPersistenceException if something goes wrong.
+     */
+    StoreResult<Void> update(CallbackOutboxEntry entry);
+
+    /**
+     * Deletes the entry, once it is delivered or given up.
+     *
+     * @param id the id of the entry.
+     * @return {@link StoreResult#success()} if it was deleted, {@link StoreResult#notFound(String)} if the entry was not found.
+     * @throws EdcPersistenceException if something goes wrong.
+     */
+    StoreResult<Void> delete(String id);
+
+    /**
+     * Returns all the entries, in ascending order of their sequence.
+     *
+     * @return the entries, might be empty, never null.
+     * @throws EdcPersistenceException if something goes wrong.
+     */
+    List<CallbackOutboxEntry> findAll();
+}
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.controlplane.transfer.spi;
 
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.spi.persistence.StateEntityStore;
 import org.eclipse.edc.spi.response.StatusResult;
 
 import java.util.concurrent.CompletableFuture;
@@ -100,4 +101,12 @@ public interface TransferProcessors {
      */
     CompletableFuture<StatusResult<Void>> processTerminating(TransferProcess process);
 
+    /**
+     * Returns processors that persist the transfer processes through the passed store instead of the configured one.
+     *
+     * @param store the store.
+     * @return the processors.
+     */
+    TransferProcessors withStore(StateEntityStore<TransferProcess> store);
+
 }
@@ -28,6 +28,7 @@ public class Task {
 
     protected long at;
     protected int retryCount;
+    protected boolean published;
 
     protected String name;
     protected String group;
@@ -59,11 +60,19 @@ public class Task {
         return retryCount;
     }
 
+    /**
+     * Whether the task has been handed over to the messaging system, as recorded by {@link org.eclipse.edc.controlplane.tasks.store.TaskStore#markPublished(String)}.
+     */
+    public boolean isPublished() {
+        return published;
+    }
+
     public Task.Builder toBuilder() {
         return Builder.newInstance()
                 .id(id)
                 .at(at)
-                .payload(payload);
+                .payload(payload)
+                .published(published);
     }
 
     public static class Builder {
@@ -98,6 +107,11 @@ public class Task {
             return this;
         }
 
+        public Task.Builder published(boolean published) {
+            task.published = published;
+            return this;
+        }
+
         public Task.Builder name(String name) {
             task.name = name;
             return this;
@@ -48,12 +48,20 @@ public interface TaskStore {
     StoreResult<Void> delete(String id);
 
     /**
-     * Updates an existing task in the store. The task is identified by its id, and all fields will be updated to match the given task.
+     * Updates an existing task in the store. The task is identified by its id, and all fields will be updated to match the given task,
+     * except the published flag, which is only set by {@link #markPublished(String)}.
      *
      * @param task the task to update
      */
     StoreResult<Void> update(Task task);
 
+    /**
+     * Marks the task with the given id as published, so that it is not picked up again by a recovery of unpublished tasks.
+     *
+     * @param id the id of the task to mark
+     */
+    StoreResult<Void> markPublished(String id);
+
     /**
      * Finds a task by its id.
      *
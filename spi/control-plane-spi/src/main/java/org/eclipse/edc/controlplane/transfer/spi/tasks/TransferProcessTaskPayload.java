@@ -18,8 +18,10 @@ import org.eclipse.edc.controlplane.tasks.ProcessTaskPayload;
 
 public abstract class TransferProcessTaskPayload extends ProcessTaskPayload {
 
+    public static final String GROUP = "transfer.process";
+
     @Override
     public String group() {
-        return "transfer.process";
+        return GROUP;
     }
 }
@@ -72,4 +72,10 @@ public interface CelExpressionEngine {
      * @return a service result containing the boolean result of the evaluation or an error
      */
     ServiceResult<Boolean> evaluateExpression(Object leftOperand, Operator operator, Object rightOperand, Map<String, Object> params);
+
+    /**
+     * Notifies the engine that the stored expressions have changed, so that it discards what it cached from the store.
+     */
+    default void invalidate() {
+    }
 }
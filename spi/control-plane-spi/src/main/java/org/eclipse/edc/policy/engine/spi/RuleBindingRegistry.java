@@ -48,4 +48,14 @@ public interface RuleBindingRegistry {
      * Returns the bindings for a rule type;
      */
     Set<String> bindings(String ruleType);
+
+    /**
+     * Returns a number that changes every time a binding gets registered, to permit caching the results that depend
+     * on the bindings. Registries that do not track their changes return -1, the default, so that nothing gets cached.
+     *
+     * @return the bindings version, or -1.
+     */
+    default long version() {
+        return -1;
+    }
 }
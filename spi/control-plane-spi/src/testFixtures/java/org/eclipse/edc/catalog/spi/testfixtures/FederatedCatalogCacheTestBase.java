@@ -26,6 +26,7 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -256,5 +257,28 @@ public abstract class FederatedCatalogCacheTestBase {
                     .doesNotContain(entry1, entry2);
 
         }
+
+        @Test
+        void deleteNotSeenSince_shouldDeleteCatalogsNotSavedSince() {
+            var entry1 = createCatalog(UUID.randomUUID().toString(), createAsset(UUID.randomUUID().toString()));
+            var entry2 = createCatalog(UUID.randomUUID().toString(), createAsset(UUID.randomUUID().toString()));
+            getStore().save(entry1);
+            getStore().save(entry2);
+
+            getStore().deleteNotSeenSince(Instant.now().plusSeconds(60));
+
+            assertThat(getStore().query(QuerySpec.none())).isEmpty();
+        }
+
+        @Test
+        void deleteNotSeenSince_shouldKeepCatalogsSavedSince() {
+            var entry = createCatalog(UUID.randomUUID().toString(), createAsset(UUID.randomUUID().toString()));
+            getStore().save(entry);
+            getStore().save(entry);
+
+            getStore().deleteNotSeenSince(Instant.now().minusSeconds(60));
+
+            assertThat(getStore().query(QuerySpec.none())).usingRecursiveFieldByFieldElementComparator().containsExactly(entry);
+        }
     }
 }
@@ -20,6 +20,7 @@ import org.assertj.core.api.Assertions;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.DataplaneMetadata;
 import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -476,6 +477,24 @@ public abstract class AssetIndexTestBase {
             assertThat(result).usingRecursiveFieldByFieldElementComparator().containsAll(reversedAssets);
         }
 
+        @Test
+        void shouldReturnAssetsAfterContinuationToken() {
+            IntStream.range(0, 5)
+                    .mapToObj(i -> createAssetBuilder("id" + i).createdAt(1000).build())
+                    .forEach(a -> getAssetIndex().create(a));
+
+            var spec = QuerySpec.Builder.newInstance()
+                    .sortField("createdAt")
+                    .sortOrder(SortOrder.ASC)
+                    .continuationToken(new ContinuationToken(1000, "id1").encode())
+                    .limit(2)
+                    .build();
+
+            var result = getAssetIndex().queryAssets(spec);
+
+            assertThat(result).extracting(Asset::getId).containsExactly("id2", "id3");
+        }
+
         @Test
         void shouldFilter_whenLikeOperator() {
             var asset1 = createAsset("id1");
@@ -530,6 +549,49 @@ public abstract class AssetIndexTestBase {
         }
     }
 
+    @Nested
+    class QueryAssetsWithSelectors {
+
+        @Test
+        void shouldReturnAssetsSelectedByAnySelector() {
+            range(1, 5).mapToObj(it -> createAsset("id" + it)).forEach(asset -> getAssetIndex().create(asset));
+            var selectors = List.of(
+                    List.of(criterion(Asset.PROPERTY_ID, "=", "id1")),
+                    List.of(criterion("keyid3", "=", "valueid3"), criterion(Asset.PROPERTY_ID, "=", "id3"))
+            );
+
+            var assetsFound = getAssetIndex().queryAssets(QuerySpec.max(), selectors);
+
+            assertThat(assetsFound).hasValueSatisfying(assets ->
+                    assertThat(assets).extracting(Asset::getId).containsExactlyInAnyOrder("id1", "id3"));
+        }
+
+        @Test
+        void shouldApplyFilterAndPaging_onSelectedAssets() {
+            range(1, 10).mapToObj(it -> createAsset("id" + it)).forEach(asset -> getAssetIndex().create(asset));
+            var selectors = List.of(List.of(criterion(Asset.PROPERTY_ID, "in", List.of("id1", "id2", "id3", "id4"))));
+            var querySpec = QuerySpec.Builder.newInstance()
+                    .filter(criterion(Asset.PROPERTY_ID, "!=", "id1"))
+                    .offset(1).limit(5)
+                    .build();
+
+            var assetsFound = getAssetIndex().queryAssets(querySpec, selectors);
+
+            assertThat(assetsFound).hasValueSatisfying(assets ->
+                    assertThat(assets).hasSize(2).extracting(Asset::getId).isSubsetOf("id2", "id3", "id4"));
+        }
+
+        @Test
+        void shouldReturnAllAssets_whenSelectorIsEmpty() {
+            range(1, 5).mapToObj(it -> createAsset("id" + it)).forEach(asset -> getAssetIndex().create(asset));
+            var selectors = List.of(List.of(criterion(Asset.PROPERTY_ID, "=", "id1")), List.<Criterion>of());
+
+            var assetsFound = getAssetIndex().queryAssets(QuerySpec.max(), selectors);
+
+            assertThat(assetsFound).hasValueSatisfying(assets -> assertThat(assets).hasSize(4));
+        }
+    }
+
     @Nested
     class FindById {
         @Test
@@ -27,6 +27,7 @@ import org.eclipse.edc.policy.model.Operator;
 import org.eclipse.edc.policy.model.Permission;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.entity.StatefulEntity;
+import org.eclipse.edc.spi.persistence.DueCondition;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -794,6 +795,20 @@ public abstract class ContractNegotiationStoreTestBase {
             assertThat(batch).hasSize(5).isSubsetOf(negotiations);
         }
 
+        @Test
+        void shouldNotReturnEntitiesWaitingForRetry() {
+            var now = clock.millis();
+            var firstAttempt = createNegotiationBuilder("first-attempt").stateCount(1).stateTimestamp(now).build();
+            var retryDue = createNegotiationBuilder("retry-due").stateCount(2).stateTimestamp(now - 1000).build();
+            var retryNotDue = createNegotiationBuilder("retry-not-due").stateCount(3).stateTimestamp(now - 1000).build();
+            List.of(firstAttempt, retryDue, retryNotDue).forEach(getContractNegotiationStore()::save);
+
+            var dueCondition = new DueCondition(now, List.of(1000L, 2000L));
+            var result = getContractNegotiationStore().nextNotLeased(10, dueCondition, hasState(REQUESTED.code()));
+
+            assertThat(result).extracting(ContractNegotiation::getId).containsExactlyInAnyOrder("first-attempt", "retry-due");
+        }
+
         @Test
         void typeFilter() {
             range(0, 5).mapToObj(it -> createNegotiationBuilder("1" + it)
@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.services.spi.callback;
+
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.result.StoreFailure.Reason.ALREADY_EXISTS;
+import static org.eclipse.edc.spi.result.StoreFailure.Reason.NOT_FOUND;
+
+public abstract class CallbackOutboxStoreTestBase {
+
+    protected abstract CallbackOutboxStore getStore();
+
+    private CallbackOutboxEntry createEntry(long sequence) {
+        return CallbackOutboxEntry.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .callbackAddress(CallbackAddress.Builder.newInstance()
+                        .uri("http://callback/" + sequence)
+                        .events(Set.of("transfer.process"))
+                        .authKey("key")
+                        .authCodeId("code")
+                        .build())
+                .eventName("transfer.process.completed")
+                .eventEnvelope("{\"id\":\"%d\",\"at\":10}".formatted(sequence))
+                .sequence(sequence)
+                .build();
+    }
+
+    @Nested
+    class Create {
+
+        @Test
+        void notExisting() {
+            var entry = createEntry(1);
+
+            var result = getStore().create(entry);
+
+            assertThat(result.succeeded()).isTrue();
+            assertThat(getStore().findAll()).singleElement().usingRecursiveComparison().isEqualTo(entry);
+        }
+
+        @Test
+        void alreadyExists() {
+            var entry = createEntry(1);
+            getStore().create(entry);
+
+            var result = getStore().create(entry);
+
+            assertThat(result.succeeded()).isFalse();
+            assertThat(result.reason()).isEqualTo(ALREADY_EXISTS);
+        }
+    }
+
+    @Nested
+    class Update {
+
+        @Test
+        void whenExists() {
+            var entry = createEntry(1);
+            getStore().create(entry);
+
+            var result = getStore().update(entry.toBuilder().attempts(2).build());
+
+            assertThat(result.succeeded()).isTrue();
+            assertThat(getStore().findAll()).singleElement().extracting(CallbackOutboxEntry::getAttempts).isEqualTo(2);
+        }
+
+        @Test
+        void notExisting() {
+            var result = getStore().update(createEntry(1));
+
+            assertThat(result.succeeded()).isFalse();
+            assertThat(result.reason()).isEqualTo(NOT_FOUND);
+        }
+    }
+
+    @Nested
+    class Delete {
+
+        @Test
+        void whenExists() {
+            var entry = createEntry(1);
+            getStore().create(entry);
+
+            var result = getStore().delete(entry.getId());
+
+            assertThat(result.succeeded()).isTrue();
+            assertThat(getStore().findAll()).isEmpty();
+        }
+
+        @Test
+        void notExisting() {
+            var result = getStore().delete("unknown");
+
+            assertThat(result.succeeded()).isFalse();
+            assertThat(result.reason()).isEqualTo(NOT_FOUND);
+        }
+    }
+
+    @Nested
+    class FindAll {
+
+        @Test
+        void shouldReturnEntriesInSequenceOrder() {
+            var third = createEntry(3);
+            var first = createEntry(1);
+            var second = createEntry(2);
+            getStore().create(third);
+            getStore().create(first);
+            getStore().create(second);
+
+            var result = getStore().findAll();
+
+            assertThat(result).extracting(CallbackOutboxEntry::getId).containsExactly(first.getId(), second.getId(), third.getId());
+        }
+
+        @Test
+        void shouldReturnEmpty_whenNoEntries() {
+            assertThat(getStore().findAll()).isEmpty();
+        }
+    }
+}
@@ -19,6 +19,7 @@ import org.awaitility.Awaitility;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.DataplaneMetadata;
 import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.spi.persistence.DueCondition;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -41,6 +42,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TestFunctions.createTransferProcess;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TestFunctions.createTransferProcessBuilder;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.COMPLETED;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.INITIAL;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.PROVISIONING;
@@ -297,6 +299,22 @@ public abstract class TransferProcessStoreTestBase {
             assertThat(elements).hasSize(10).extracting(TransferProcess::getStateTimestamp).isSorted();
         }
 
+        @Test
+        void shouldNotReturnEntitiesWaitingForRetry() {
+            var now = clock.millis();
+            var firstAttempt = createTransferProcessBuilder("first-attempt").state(STARTED.code()).stateCount(1).stateTimestamp(now).build();
+            var retryDue = createTransferProcessBuilder("retry-due").state(STARTED.code()).stateCount(2).stateTimestamp(now - 1000).build();
+            var retryNotDue = createTransferProcessBuilder("retry-not-due").state(STARTED.code()).stateCount(3).stateTimestamp(now - 1000).build();
+            var overLimitDue = createTransferProcessBuilder("over-limit-due").state(STARTED.code()).stateCount(10).stateTimestamp(now - 5000).build();
+            List.of(firstAttempt, retryDue, retryNotDue, overLimitDue).forEach(getTransferProcessStore()::save);
+
+            var dueCondition = new DueCondition(now, List.of(1000L, 2000L, 4000L));
+            var result = getTransferProcessStore().nextNotLeased(10, dueCondition, hasState(STARTED.code()));
+
+            assertThat(result).extracting(TransferProcess::getId).containsExactlyInAnyOrder("first-attempt", "retry-due", "over-limit-due");
+            assertThat(isLeasedBy("retry-not-due", CONNECTOR_NAME)).isFalse();
+        }
+
         private void delayByTenMillis(TransferProcess t) {
             try {
                 Thread.sleep(10);
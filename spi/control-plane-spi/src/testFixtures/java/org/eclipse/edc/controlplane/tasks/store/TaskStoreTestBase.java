@@ -212,6 +212,29 @@ public abstract class TaskStoreTestBase {
                     .containsExactly(task2, task1);
         }
 
+        @Test
+        void fetchForUpdate_filterByPublished() {
+            var task1 = Task.Builder.newInstance()
+                    .at(1000L)
+                    .payload(createTestPayload("process-1")).build();
+            var task2 = Task.Builder.newInstance()
+                    .at(2000L)
+                    .payload(createTestPayload("process-2")).build();
+            getStore().create(task1);
+            getStore().create(task2);
+            getStore().markPublished(task1.getId());
+
+            var query = QuerySpec.Builder.newInstance()
+                    .filter(Criterion.criterion("published", "=", false))
+                    .build();
+
+            var results = getStore().fetchForUpdate(query);
+
+            assertThat(results).hasSize(1)
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactly(task2);
+        }
+
         @Test
         void fetchForUpdate_empty() {
             var results = getStore().fetchForUpdate(QuerySpec.none());
@@ -243,6 +266,26 @@ public abstract class TaskStoreTestBase {
             assertThat(retrieved).usingRecursiveComparison().isEqualTo(updatedTask);
         }
 
+        @Test
+        void update_shouldNotResetPublished() {
+            var task = Task.Builder.newInstance()
+                    .at(System.currentTimeMillis())
+                    .payload(createTestPayload("process-1")).build();
+            getStore().create(task);
+            getStore().markPublished(task.getId());
+
+            getStore().update(Task.Builder.newInstance()
+                    .at(System.currentTimeMillis())
+                    .id(task.getId())
+                    .payload(task.getPayload())
+                    .retryCount(1)
+                    .build());
+
+            var retrieved = getStore().findById(task.getId());
+            assertThat(retrieved.isPublished()).isTrue();
+            assertThat(retrieved.getRetryCount()).isEqualTo(1);
+        }
+
         @Test
         void update_when_notFound() {
             var payload = createTestPayload("process-1");
@@ -257,6 +300,31 @@ public abstract class TaskStoreTestBase {
         }
     }
 
+    @Nested
+    class MarkPublished {
+        @Test
+        void markPublished_shouldMarkTask() {
+            var task = Task.Builder.newInstance()
+                    .at(System.currentTimeMillis())
+                    .payload(createTestPayload("process-1")).build();
+            getStore().create(task);
+
+            var result = getStore().markPublished(task.getId());
+
+            assertThat(result).isSucceeded();
+            var retrieved = getStore().findById(task.getId());
+            assertThat(retrieved.isPublished()).isTrue();
+            assertThat(retrieved).usingRecursiveComparison().ignoringFields("published").isEqualTo(task);
+        }
+
+        @Test
+        void markPublished_when_notFound() {
+            var result = getStore().markPublished("nonexistent-id");
+
+            assertThat(result).isFailed();
+        }
+    }
+
     @Nested
     class Delete {
         @Test
@@ -18,6 +18,8 @@ import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialStatus;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
 import org.eclipse.edc.spi.result.Result;
 
+import java.util.Collection;
+
 /**
  * Checks a {@link CredentialStatus} for revocation. Implementors should maintain an internal cache to limit remote calls
  * to the status list credential.
@@ -36,6 +38,20 @@ public interface RevocationListService {
      */
     Result<Void> checkValidity(CredentialStatus credential);
 
+    /**
+     * Check the "validity" of multiple credential statuses at once. Implementors should look up every referenced status list only
+     * once, and check all the indices against it.
+     *
+     * @param credentialStatuses the credential statuses.
+     * @return success if all the credential statuses are valid, failure otherwise.
+     */
+    default Result<Void> checkValidity(Collection<CredentialStatus> credentialStatuses) {
+        return credentialStatuses.stream()
+                .map(this::checkValidity)
+                .reduce(Result::merge)
+                .orElse(Result.success());
+    }
+
     /**
      * Determines the status of a credential. If a {@code credentialStatus} object exists, the service will determine the "status purpose". It can be:
      * <ul>
@@ -21,6 +21,9 @@ import org.eclipse.edc.spi.result.Result;
  * Registry that contains specific revocation status checker services per type.
  */
 public interface RevocationServiceRegistry {
+    String REVOCATION_CACHE_VALIDITY = "edc.iam.credential.revocation.cache.validity";
+    long DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS = 15 * 60 * 1000L;
+
     /**
      * Register a {@link RevocationListService} per status type
      *
@@ -31,4 +31,13 @@ public interface JwsSignerProvider {
      * @param privateKeyId         The ID of the private key, used for key lookup, e.g., in a secure vault
      */
     Result<JWSSigner> createJwsSigner(String participantContextId, String privateKeyId);
+
+    /**
+     * Discards the {@link JWSSigner}s held for the given private key ID in any participant context, so that the key
+     * gets resolved again on the next call to {@link #createJwsSigner}, e.g. after it was rotated. Does nothing by default.
+     *
+     * @param privateKeyId The ID of the private key
+     */
+    default void invalidate(String privateKeyId) {
+    }
 }
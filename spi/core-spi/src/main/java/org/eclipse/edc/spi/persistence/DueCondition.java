@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.persistence;
+
+import java.util.List;
+
+/**
+ * Describes which entities are due for processing at a given point in time.
+ * An entity that is at its first attempt in the current state is always due, while an entity that is retrying is due
+ * only once the retry delay associated to its number of failures has elapsed since its last state transition.
+ *
+ * @param now         the reference time in epoch milliseconds.
+ * @param retryDelays the delay in milliseconds to be waited after {@code n} failures, stored at index {@code n - 1}.
+ *                    The last element applies to any higher number of failures. If empty, every entity is due.
+ */
+public record DueCondition(long now, List<Long> retryDelays) {
+
+    public DueCondition {
+        retryDelays = List.copyOf(retryDelays);
+    }
+
+    /**
+     * Returns a condition that considers every entity due.
+     *
+     * @return the condition.
+     */
+    public static DueCondition always() {
+        return new DueCondition(0, List.of());
+    }
+
+    /**
+     * Tells whether an entity with the passed state count and state timestamp is due.
+     *
+     * @param stateCount     the number of times the entity transitioned into its current state.
+     * @param stateTimestamp the timestamp of the last state transition.
+     * @return true if the entity is due, false otherwise.
+     */
+    public boolean isDue(int stateCount, long stateTimestamp) {
+        var failures = stateCount - 1;
+        if (failures <= 0 || retryDelays.isEmpty()) {
+            return true;
+        }
+        return stateTimestamp <= dueBefore(failures);
+    }
+
+    /**
+     * Returns the latest state timestamp for which an entity that failed the passed number of times is due.
+     *
+     * @param failures the number of failures, must be greater than 0.
+     * @return the latest due state timestamp.
+     */
+    public long dueBefore(int failures) {
+        var index = Math.min(failures, retryDelays.size()) - 1;
+        return now - retryDelays.get(index);
+    }
+}
@@ -16,6 +16,11 @@ package org.eclipse.edc.spi.persistence;
 
 import org.eclipse.edc.spi.result.StoreResult;
 
+import java.util.Collection;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toSet;
+
 /**
  * Interface for storage implementations that need to "lease" certain entities, i.e. block them from subsequent
  * read/write access.
@@ -37,4 +42,18 @@ public interface LeaseContext {
      * @return a {@link StoreResult} indicating success or failure. Failure can happen if another holder already holds the lease.
      */
     StoreResult<Void> acquireLease(String entityId);
+
+    /**
+     * Acquires the exclusive Lock on multiple entities at once. Entities that are currently leased are skipped.
+     * Implementations should override this method if the underlying storage is able to acquire the leases in a single
+     * operation.
+     *
+     * @param entityIds The database IDs of the entities
+     * @return the IDs of the entities for which the lease was acquired.
+     */
+    default Set<String> acquireLeases(Collection<String> entityIds) {
+        return entityIds.stream()
+                .filter(entityId -> acquireLease(entityId).succeeded())
+                .collect(toSet());
+    }
 }
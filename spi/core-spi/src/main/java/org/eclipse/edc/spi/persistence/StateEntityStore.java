@@ -72,6 +72,24 @@ public interface StateEntityStore<T> {
     @NotNull
     List<T> nextNotLeased(int max, Criterion... criteria);
 
+    /**
+     * Returns a list of not leased entities that satisfy the filter criteria and that are due for processing following
+     * the passed {@link DueCondition}, so entities that are still waiting for their retry delay to expire are not
+     * fetched and leased.
+     * <p>
+     * The same requirements of {@link #nextNotLeased(int, Criterion...)} apply. The default implementation ignores the
+     * {@link DueCondition}, so the caller should not rely on it for correctness but only to avoid unnecessary work.
+     *
+     * @param max          The maximum amount of result items.
+     * @param dueCondition The condition that establishes which entities are due.
+     * @param criteria     The selection criteria.
+     * @return A list of entities (at most _max_) that are due and satisfy the selection criteria.
+     */
+    @NotNull
+    default List<T> nextNotLeased(int max, DueCondition dueCondition, Criterion... criteria) {
+        return nextNotLeased(max, criteria);
+    }
+
     /**
      * Find the entity by the passed id and lease it.
      * If the entity is already leased, will return a failure.
@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.query;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * Position of the last entity of a page, used for keyset pagination: the next page contains the entities that sort
+ * after the sort value and id of this token. The token is passed around in its encoded, opaque form through
+ * {@link QuerySpec#getContinuationToken()}.
+ *
+ * @param sortValue the value of the sort field of the last entity. Only strings, numbers and booleans are supported.
+ * @param id        the id of the last entity, used as tie-breaker between entities with the same sort value.
+ */
+public record ContinuationToken(@Nullable Object sortValue, String id) {
+
+    /**
+     * The field used as tie-breaker between entities with the same sort value.
+     */
+    public static final String ID_FIELD = "id";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public ContinuationToken {
+        Objects.requireNonNull(id, "id");
+    }
+
+    /**
+     * Decodes a token obtained through {@link #encode()}.
+     *
+     * @param token the encoded token.
+     * @return the token.
+     * @throws IllegalArgumentException if the token is malformed.
+     */
+    public static ContinuationToken decode(String token) {
+        List<?> values;
+        try {
+            values = MAPPER.readValue(Base64.getUrlDecoder().decode(token), List.class);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new IllegalArgumentException(format("Invalid continuation token %s", token), e);
+        }
+        if (values.size() != 2 || !(values.get(1) instanceof String id)) {
+            throw new IllegalArgumentException(format("Invalid continuation token %s", token));
+        }
+        return new ContinuationToken(values.get(0), id);
+    }
+
+    /**
+     * Whether an entity with the given sort value and id sorts after the position of this token, and so belongs to the
+     * next page. The sort value of the token is converted to the type of the one of the entity, see
+     * {@link #sortValueAs(Class)}: numbers are compared by value, and values of different types are compared as text.
+     *
+     * @param sortValue the value of the sort field of the entity.
+     * @param id        the id of the entity.
+     * @param sortOrder the sort order of the query.
+     * @return whether the entity comes after the token, false if one of the sort values is null.
+     * @throws IllegalArgumentException if the sort value of the token is not a constant of the enum of the entity one.
+     */
+    public boolean precedes(@Nullable Object sortValue, @Nullable Object id, SortOrder sortOrder) {
+        if (sortValue == null || this.sortValue == null) {
+            return false;
+        }
+
+        var tokenValue = sortValue instanceof Enum<?> constant ? sortValueAs(constant.getDeclaringClass()) : this.sortValue;
+        var result = compare(sortValue, tokenValue);
+        if (result == 0) {
+            result = String.valueOf(id).compareTo(this.id);
+        }
+        return sortOrder == SortOrder.ASC ? result > 0 : result < 0;
+    }
+
+    /**
+     * Returns the sort value converted to the type of the sort field. As the token is encoded as JSON, the value of an
+     * enum field is decoded as the name of the constant.
+     *
+     * @param type the type of the sort field.
+     * @return the converted sort value.
+     * @throws IllegalArgumentException if the sort value cannot be converted to the type.
+     */
+    public @Nullable Object sortValueAs(Class<?> type) {
+        if (type.isEnum() && sortValue instanceof String name) {
+            return toEnum(type, name);
+        }
+        return sortValue;
+    }
+
+    /**
+     * Encodes the token into an opaque, URL-safe string.
+     *
+     * @return the encoded token.
+     */
+    public String encode() {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(new Object[]{ sortValue, id }));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(format("Cannot encode continuation token with sort value %s", sortValue), e);
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static int compare(Object value, Object tokenValue) {
+        if (value instanceof Number number && tokenValue instanceof Number tokenNumber) {
+            return new BigDecimal(number.toString()).compareTo(new BigDecimal(tokenNumber.toString()));
+        }
+        var type = value instanceof Enum<?> constant ? constant.getDeclaringClass() : value.getClass();
+        if (value instanceof Comparable comparable && type.isInstance(tokenValue)) {
+            return comparable.compareTo(tokenValue);
+        }
+        // e.g. asset properties, whose tokens are compared as text by the SQL stores
+        return value.toString().compareTo(tokenValue.toString());
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Enum<?> toEnum(Class enumType, String name) {
+        try {
+            return Enum.valueOf(enumType, name);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(format("Invalid continuation token, %s is not a %s", name, enumType.getSimpleName()), e);
+        }
+    }
+}
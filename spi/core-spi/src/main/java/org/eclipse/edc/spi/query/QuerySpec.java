@@ -36,11 +36,13 @@ public class QuerySpec {
     public static final String EDC_QUERY_SPEC_FILTER_EXPRESSION = EDC_NAMESPACE + "filterExpression";
     public static final String EDC_QUERY_SPEC_SORT_ORDER = EDC_NAMESPACE + "sortOrder";
     public static final String EDC_QUERY_SPEC_SORT_FIELD = EDC_NAMESPACE + "sortField";
+    public static final String EDC_QUERY_SPEC_CONTINUATION_TOKEN = EDC_NAMESPACE + "continuationToken";
     private final List<Criterion> filterExpression = new ArrayList<>();
     private int offset = 0;
     private int limit = 50;
     private SortOrder sortOrder = SortOrder.ASC;
     private String sortField;
+    private String continuationToken;
 
     public static QuerySpec none() {
         return new QuerySpec();
@@ -57,6 +59,14 @@ public class QuerySpec {
         return sortField;
     }
 
+    /**
+     * The encoded {@link ContinuationToken} of the last entity of the previous page. When set, the query returns the
+     * entities that sort after it, instead of skipping {@link #getOffset()} entities.
+     */
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
     public int getOffset() {
         return offset;
     }
@@ -91,12 +101,13 @@ public class QuerySpec {
                 .limit(limit)
                 .filter(filterExpression)
                 .sortOrder(sortOrder)
-                .sortField(sortField);
+                .sortField(sortField)
+                .continuationToken(continuationToken);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField);
+        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField, continuationToken);
     }
 
     @Override
@@ -108,7 +119,8 @@ public class QuerySpec {
             return false;
         }
         QuerySpec querySpec = (QuerySpec) o;
-        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField);
+        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField) &&
+                Objects.equals(continuationToken, querySpec.continuationToken);
     }
 
     @Override
@@ -119,6 +131,7 @@ public class QuerySpec {
                 ", filterExpression=" + filterExpression +
                 ", sortOrder=" + sortOrder +
                 ", sortField=" + sortField +
+                ", continuationToken=" + continuationToken +
                 '}';
     }
 
@@ -164,6 +177,11 @@ public class QuerySpec {
             return this;
         }
 
+        public Builder continuationToken(String continuationToken) {
+            querySpec.continuationToken = continuationToken;
+            return this;
+        }
+
         public Builder filter(Criterion criterion) {
             querySpec.filterExpression.add(criterion);
             return this;
@@ -183,6 +201,14 @@ public class QuerySpec {
             if (querySpec.limit <= 0) {
                 throw new IllegalArgumentException("limit");
             }
+            if (querySpec.continuationToken != null) {
+                if (querySpec.sortField == null) {
+                    throw new IllegalArgumentException("continuationToken requires a sortField");
+                }
+                if (querySpec.offset != 0) {
+                    throw new IllegalArgumentException("continuationToken cannot be combined with an offset");
+                }
+            }
             return querySpec;
         }
 
@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2026 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.query;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContinuationTokenTest {
+
+    @Test
+    void encode_shouldRoundTrip() {
+        var token = new ContinuationToken("name", "id");
+
+        assertThat(ContinuationToken.decode(token.encode())).isEqualTo(token);
+    }
+
+    @Test
+    void encode_shouldRoundTrip_whenSortValueIsNumberOrNull() {
+        assertThat(ContinuationToken.decode(new ContinuationToken(1700000000000L, "id").encode()).sortValue()).isEqualTo(1700000000000L);
+        assertThat(ContinuationToken.decode(new ContinuationToken(null, "id").encode()).sortValue()).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "not base64!", "bm90IGpzb24", "WyJvbmx5LXNvcnQtdmFsdWUiXQ" })
+    void decode_shouldThrow_whenMalformed(String token) {
+        assertThatThrownBy(() -> ContinuationToken.decode(token)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decode_shouldThrow_whenIdIsNotString() {
+        var token = Base64.getUrlEncoder().encodeToString("[\"value\", 1]".getBytes());
+
+        assertThatThrownBy(() -> ContinuationToken.decode(token)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void precedes_shouldCompareBySortValueThenId() {
+        var token = new ContinuationToken("b", "2");
+
+        assertThat(token.precedes("c", "1", SortOrder.ASC)).isTrue();
+        assertThat(token.precedes("b", "3", SortOrder.ASC)).isTrue();
+        assertThat(token.precedes("b", "2", SortOrder.ASC)).isFalse();
+        assertThat(token.precedes("a", "9", SortOrder.ASC)).isFalse();
+        assertThat(token.precedes("a", "9", SortOrder.DESC)).isTrue();
+    }
+
+    @Test
+    void precedes_shouldCompareNumbersByValue() {
+        var token = ContinuationToken.decode(new ContinuationToken(10L, "id").encode());
+
+        assertThat(token.precedes(9.5d, "id", SortOrder.ASC)).isFalse();
+        assertThat(token.precedes(11, "id", SortOrder.ASC)).isTrue();
+    }
+
+    @Test
+    void precedes_shouldConvertEnumSortValue() {
+        var token = ContinuationToken.decode(new ContinuationToken(SortOrder.ASC, "id").encode());
+
+        assertThat(token.precedes(SortOrder.DESC, "id", SortOrder.ASC)).isTrue();
+        assertThat(token.sortValueAs(SortOrder.class)).isEqualTo(SortOrder.ASC);
+    }
+
+    @Test
+    void precedes_shouldThrow_whenSortValueIsNotEnumConstant() {
+        var token = new ContinuationToken("UNKNOWN", "id");
+
+        assertThatThrownBy(() -> token.precedes(SortOrder.ASC, "id", SortOrder.ASC)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void precedes_shouldCompareAsText_whenTypesDiffer() {
+        var token = new ContinuationToken(5, "id");
+
+        assertThat(token.precedes("6", "id", SortOrder.ASC)).isTrue();
+    }
+
+    @Test
+    void precedes_shouldBeFalse_whenSortValueIsNull() {
+        assertThat(new ContinuationToken(null, "id").precedes("a", "id", SortOrder.ASC)).isFalse();
+        assertThat(new ContinuationToken("a", "id").precedes(null, "id", SortOrder.ASC)).isFalse();
+    }
+}
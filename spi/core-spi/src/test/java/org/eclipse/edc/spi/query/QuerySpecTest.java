@@ -31,6 +31,18 @@ class QuerySpecTest {
         assertThatThrownBy(() -> QuerySpec.Builder.newInstance().offset(-10).build()).isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void verifyIllegalArguments_continuationToken() {
+        assertThatThrownBy(() -> QuerySpec.Builder.newInstance().continuationToken("token").build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QuerySpec.Builder.newInstance().continuationToken("token").sortField("createdAt").offset(10).build())
+                .isInstanceOf(IllegalArgumentException.class);
+
+        var spec = QuerySpec.Builder.newInstance().continuationToken("token").sortField("createdAt").build();
+
+        assertThat(spec.toBuilder().build()).isEqualTo(spec);
+    }
+
     @Test
     void verifyDefaults() {
         var spec = QuerySpec.Builder.newInstance().build();